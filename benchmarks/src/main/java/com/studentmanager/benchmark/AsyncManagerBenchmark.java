@@ -0,0 +1,115 @@
+package com.studentmanager.benchmark;
+
+import com.studentmanager.AsyncLog;
+import com.studentmanager.AsyncStudentManager;
+import com.studentmanager.StudentManager;
+import com.studentmanager.report.ConsoleReportGenerator;
+import com.studentmanager.repository.ConcurrentStudentRepository;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark de {@link AsyncStudentManager} frente a {@link StudentManager}. Cada operación agrega
+ * y luego remueve mil estudiantes. El gestor síncrono imprime cada "Student added." en una salida
+ * estándar redirigida a un archivo con vaciado por línea, como una consola; el asíncrono envía los
+ * mensajes a un {@link AsyncLog} sobre el mismo tipo de archivo y espera todos los futuros.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class AsyncManagerBenchmark {
+  private static final int BATCH = 1_000;
+
+  @Param({"1", "4"})
+  int threads;
+
+  private Path dir;
+  private PrintStream originalOut;
+  private PrintStream console;
+  private Writer logFile;
+  private AsyncLog log;
+  private ExecutorService executor;
+  private StudentManager manager;
+  private AsyncStudentManager asyncManager;
+
+  /** Redirige la salida estándar y crea ambos gestores sobre repositorios concurrentes. */
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    dir = Files.createTempDirectory("async-benchmark");
+    originalOut = System.out;
+    console = new PrintStream(new FileOutputStream(dir.resolve("sync.log").toFile()), true);
+    System.setOut(console);
+    logFile =
+        new OutputStreamWriter(
+            new FileOutputStream(dir.resolve("async.log").toFile()), StandardCharsets.UTF_8);
+    log = new AsyncLog(logFile);
+    executor = Executors.newFixedThreadPool(threads);
+    manager = new StudentManager(new ConcurrentStudentRepository(), new ConsoleReportGenerator());
+    asyncManager =
+        new AsyncStudentManager(
+            new ConcurrentStudentRepository(), new ConsoleReportGenerator(), executor, log);
+  }
+
+  /** Restaura la salida estándar y borra los archivos. */
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    log.close();
+    executor.shutdown();
+    System.setOut(originalOut);
+    console.close();
+    logFile.close();
+    Files.delete(dir.resolve("sync.log"));
+    Files.delete(dir.resolve("async.log"));
+    Files.delete(dir);
+  }
+
+  /** Agrega y remueve el lote con el gestor síncrono. */
+  @Benchmark
+  public void sync() {
+    for (int i = 0; i < BATCH; i++) {
+      manager.addStudent(Rosters.name(i), Rosters.grade(i));
+    }
+    for (int i = 0; i < BATCH; i++) {
+      manager.removeStudent(Rosters.name(i), Rosters.grade(i));
+    }
+  }
+
+  /** Agrega y remueve el lote con el gestor asíncrono, sin esperar entre operaciones. */
+  @Benchmark
+  public void async() {
+    CompletableFuture<?>[] pending = new CompletableFuture<?>[2 * BATCH];
+    for (int i = 0; i < BATCH; i++) {
+      pending[i] = asyncManager.addStudentAsync(Rosters.name(i), Rosters.grade(i));
+    }
+    for (int i = 0; i < BATCH; i++) {
+      pending[BATCH + i] = asyncManager.removeStudentAsync(Rosters.name(i), Rosters.grade(i));
+    }
+    CompletableFuture.allOf(pending).join();
+  }
+}
@@ -0,0 +1,30 @@
+package com.studentmanager.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Punto de entrada del jar de benchmarks. Acepta las mismas opciones de línea de comandos que JMH
+ * (por ejemplo {@code -p size=1000 RepositoryBenchmark}) y agrega siempre el perfilador de
+ * asignaciones {@code gc}, de modo que cada resultado incluye los bytes asignados por operación.
+ */
+public final class BenchmarkRunner {
+
+  private BenchmarkRunner() {}
+
+  /**
+   * Ejecuta los benchmarks seleccionados.
+   *
+   * @param args opciones de línea de comandos de JMH
+   * @throws CommandLineOptionException si las opciones no son válidas
+   * @throws RunnerException            si la ejecución falla
+   */
+  public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+    CommandLineOptions options = new CommandLineOptions(args);
+    new Runner(new OptionsBuilder().parent(options).addProfiler(GCProfiler.class).build()).run();
+  }
+}
@@ -0,0 +1,117 @@
+package com.studentmanager.benchmark;
+
+import com.studentmanager.model.Student;
+import com.studentmanager.repository.CachingStudentRepository;
+import com.studentmanager.repository.EvictionPolicy;
+import com.studentmanager.repository.MappedFileStudentRepository;
+import com.studentmanager.repository.StudentRepository;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark de {@link CachingStudentRepository} sobre un {@link MappedFileStudentRepository}, cuya
+ * búsqueda por nombre recorre el archivo. Las consultas siguen una distribución de Zipf sobre los
+ * nombres, como las de un sistema real, intercaladas con recorridos de nombres que se consultan
+ * una sola vez. Al terminar se imprime la tasa de aciertos de cada política.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class CacheBenchmark {
+  private static final int LOOKUPS = 1 << 16;
+  private static final double ZIPF_EXPONENT = 1.0;
+
+  @Param({"10000", "100000"})
+  int size;
+
+  @Param({"NONE", "LRU", "TINY_LFU"})
+  String policy;
+
+  @Param({"1000"})
+  int cacheSize;
+
+  private Path dir;
+  private MappedFileStudentRepository backend;
+  private StudentRepository repository;
+  private String[] names;
+  private int cursor;
+
+  /** Crea el archivo, elige la política y precalcula la secuencia de consultas. */
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    dir = Files.createTempDirectory("cache-benchmark");
+    backend = new MappedFileStudentRepository(dir.resolve("students.dat"));
+    for (int i = 0; i < size; i++) {
+      backend.add(new Student("Student " + i, Rosters.grade(i)));
+    }
+    repository =
+        "NONE".equals(policy)
+            ? backend
+            : new CachingStudentRepository(backend, cacheSize, EvictionPolicy.valueOf(policy));
+
+    double[] cumulative = new double[size];
+    double total = 0;
+    for (int rank = 0; rank < size; rank++) {
+      total += 1 / Math.pow(rank + 1, ZIPF_EXPONENT);
+      cumulative[rank] = total;
+    }
+    Random random = new Random(42);
+    // Popular names are spread over the file instead of sitting at its start
+    int[] students = new int[size];
+    for (int i = 0; i < size; i++) {
+      int j = random.nextInt(i + 1);
+      students[i] = students[j];
+      students[j] = i;
+    }
+    names = new String[LOOKUPS];
+    int scan = 0;
+    for (int i = 0; i < LOOKUPS; i++) {
+      if (i % 8 == 7) {
+        // One-off lookups, e.g. a batch job touching every student once
+        names[i] = "Student " + (size - 1 - scan++ % size);
+      } else {
+        int rank = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+        names[i] = "Student " + students[rank < 0 ? -rank - 1 : rank];
+      }
+    }
+  }
+
+  /** Imprime la tasa de aciertos y libera el archivo. */
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    if (repository instanceof CachingStudentRepository) {
+      System.out.println(policy + ": " + ((CachingStudentRepository) repository).stats());
+    }
+    backend.close();
+    Files.deleteIfExists(dir.resolve("students.dat"));
+    Files.deleteIfExists(dir);
+  }
+
+  /** Mide una búsqueda por nombre. */
+  @Benchmark
+  public Student findByName() {
+    String name = names[cursor];
+    cursor = (cursor + 1) & (LOOKUPS - 1);
+    return repository.findByName(name);
+  }
+}
@@ -0,0 +1,154 @@
+package com.studentmanager.benchmark;
+
+import com.studentmanager.model.Student;
+import com.studentmanager.repository.DatabaseStudentRepository;
+import com.studentmanager.repository.InMemoryStudentRepository;
+import com.studentmanager.repository.StudentRepository;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark de {@link DatabaseStudentRepository} sobre H2 embebida, en memoria y en archivo,
+ * comparado con {@link InMemoryStudentRepository}. Mide consultas indexadas y la carga de mil
+ * estudiantes con inserciones individuales y con un lote JDBC.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class DatabaseBenchmark {
+  private static final int LOAD_SIZE = 1_000;
+
+  @Param({"10000", "100000"})
+  int size;
+
+  @Param({"IN_MEMORY", "H2_MEMORY", "H2_FILE"})
+  String backend;
+
+  private Path dir;
+  private StudentRepository repository;
+  private List<Student> load;
+  private int databases;
+  private int cursor;
+
+  /** Crea el directorio de las bases en archivo y prepara el lote de carga. */
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    dir = Files.createTempDirectory("database-benchmark");
+    load = new ArrayList<>(LOAD_SIZE);
+    for (int i = 0; i < LOAD_SIZE; i++) {
+      load.add(new Student("Loaded " + i, i % 100));
+    }
+  }
+
+  /**
+   * Crea un repositorio nuevo en cada iteración para que las cargas no lo agranden sin límite. Las
+   * bases en memoria se descartan al cerrar su pool.
+   */
+  @Setup(Level.Iteration)
+  public void fill() {
+    close();
+    String database = "students" + databases++;
+    switch (backend) {
+      case "IN_MEMORY":
+        repository = new InMemoryStudentRepository();
+        break;
+      case "H2_MEMORY":
+        repository = new DatabaseStudentRepository("jdbc:h2:mem:" + database);
+        break;
+      default:
+        repository = new DatabaseStudentRepository("jdbc:h2:" + dir.resolve(database));
+        break;
+    }
+    List<Student> students = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      students.add(Rosters.student(i));
+    }
+    repository.addAll(students);
+  }
+
+  /** Cierra el repositorio y borra los archivos. */
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    close();
+    try (Stream<Path> files = Files.walk(dir)) {
+      files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+    }
+  }
+
+  private void close() {
+    if (repository instanceof DatabaseStudentRepository) {
+      ((DatabaseStudentRepository) repository).close();
+    }
+  }
+
+  private int nextExisting() {
+    cursor = cursor + 1 == size ? 0 : cursor + 1;
+    return cursor;
+  }
+
+  /**
+   * Mide la búsqueda exacta por nombre.
+   *
+   * @return el estudiante encontrado
+   */
+  @Benchmark
+  public Student findByName() {
+    return repository.findByName(Rosters.name(nextExisting()));
+  }
+
+  /**
+   * Mide la posición de una calificación en el ranking.
+   *
+   * @return la posición
+   */
+  @Benchmark
+  public int rankOf() {
+    return repository.rankOf(Rosters.grade(nextExisting()));
+  }
+
+  /**
+   * Mide los diez mejores estudiantes.
+   *
+   * @return los estudiantes
+   */
+  @Benchmark
+  public List<Student> findTopByGrade() {
+    return repository.findTopByGrade(10);
+  }
+
+  /** Mide la carga de mil estudiantes con una inserción por estudiante. */
+  @Benchmark
+  public void addIndividually() {
+    for (Student student : load) {
+      repository.add(student);
+    }
+  }
+
+  /** Mide la carga de mil estudiantes con un solo lote. */
+  @Benchmark
+  public void addAll() {
+    repository.addAll(load);
+  }
+}
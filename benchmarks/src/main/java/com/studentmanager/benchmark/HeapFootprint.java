@@ -0,0 +1,72 @@
+package com.studentmanager.benchmark;
+
+import com.studentmanager.model.Student;
+import com.studentmanager.repository.ConcurrentStudentRepository;
+import com.studentmanager.repository.InMemoryStudentRepository;
+import com.studentmanager.repository.SnapshotStudentRepository;
+import com.studentmanager.repository.StudentRepository;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.function.Supplier;
+
+/**
+ * Mide el heap retenido por estudiante en cada repositorio en memoria. Cada estudiante se crea con
+ * una copia propia de su nombre, como los leídos de un archivo o de una solicitud, y se informa la
+ * diferencia de heap usado después de forzar recolecciones, antes y después de llenar el
+ * repositorio. Una primera pasada sin informar descarta la basura del arranque. Conviene
+ * ejecutarlo con un heap fijo y holgado y con el recolector paralelo, porque G1 puede retener el
+ * repositorio anterior durante las recolecciones explícitas. Uso:
+ *
+ * <pre>
+ * java -Xms2g -Xmx2g -XX:+UseParallelGC -cp benchmarks/target/benchmarks.jar \
+ *     com.studentmanager.benchmark.HeapFootprint [estudiantes=1000000]
+ * </pre>
+ */
+public final class HeapFootprint {
+  private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+  private HeapFootprint() {}
+
+  /**
+   * Ejecuta la medición.
+   *
+   * @param args el número de estudiantes, opcional
+   */
+  public static void main(String[] args) {
+    int students = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+    System.out.printf(
+        "%d students, %d distinct names%n", students, Math.min(students, Rosters.DISTINCT_NAMES));
+    measure(null, InMemoryStudentRepository::new, students);
+    measure("InMemoryStudentRepository", InMemoryStudentRepository::new, students);
+    measure("ConcurrentStudentRepository", ConcurrentStudentRepository::new, students);
+    measure("SnapshotStudentRepository", SnapshotStudentRepository::new, students);
+  }
+
+  /**
+   * Llena un repositorio nuevo y mide el heap que retiene.
+   *
+   * @param label    el nombre a informar, o null para una pasada de calentamiento
+   * @param factory  crea el repositorio
+   * @param students el número de estudiantes
+   */
+  private static void measure(String label, Supplier<StudentRepository> factory, int students) {
+    long before = usedAfterGc();
+    StudentRepository repository = factory.get();
+    for (int i = 0; i < students; i++) {
+      // A fresh copy of the name, as if it had just been parsed
+      repository.add(new Student(new String(Rosters.name(i).toCharArray()), Rosters.grade(i)));
+    }
+    long after = usedAfterGc();
+    if (label != null) {
+      System.out.printf(
+          "%-28s %8.1f bytes/student%n", label, (after - before) / (double) repository.count());
+    }
+  }
+
+  private static long usedAfterGc() {
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return MEMORY.getHeapMemoryUsage().getUsed();
+  }
+}
@@ -0,0 +1,191 @@
+package com.studentmanager.benchmark;
+
+import com.studentmanager.http.StudentHttpServer;
+import com.studentmanager.model.Student;
+import com.studentmanager.repository.ConcurrentStudentRepository;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Prueba de carga de {@link StudentHttpServer}. Varios clientes envían solicitudes sin pausa
+ * durante un tiempo fijo, con una mezcla de listados de una página (70%), altas (20%) y bajas de
+ * estudiantes agregados antes (10%), y al final se informan las solicitudes por segundo y los
+ * percentiles de latencia. Las solicitudes del calentamiento no se cuentan.
+ *
+ * <p>Sin URL se levanta un servicio local sobre un repositorio concurrente con los estudiantes
+ * iniciales indicados. Uso:
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.studentmanager.benchmark.HttpLoadTest \
+ *     [clientes=16] [segundos=10] [calentamiento=3] [estudiantes=100000] [hilos=8] [url]
+ * </pre>
+ */
+public final class HttpLoadTest {
+  private static final int PAGE_SIZE = 20;
+  private static final AtomicBoolean FAILED = new AtomicBoolean();
+
+  private HttpLoadTest() {}
+
+  /**
+   * Ejecuta la prueba de carga.
+   *
+   * @param args clientes, segundos, calentamiento, estudiantes, hilos del servicio y URL, todos
+   *     opcionales
+   * @throws Exception si la prueba no puede completarse
+   */
+  public static void main(String[] args) throws Exception {
+    int clients = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+    int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+    int warmup = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+    int students = args.length > 3 ? Integer.parseInt(args[3]) : 100_000;
+    int threads = args.length > 4 ? Integer.parseInt(args[4]) : 8;
+    StudentHttpServer.enableNoDelay();
+    StudentHttpServer server = null;
+    String url;
+    if (args.length > 5) {
+      url = args[5];
+    } else {
+      ConcurrentStudentRepository repository = new ConcurrentStudentRepository();
+      Rosters.fill(repository, students);
+      server = new StudentHttpServer(repository, new InetSocketAddress("localhost", 0), threads);
+      server.start();
+      url = "http://localhost:" + server.getPort() + StudentHttpServer.PATH;
+    }
+
+    HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    long start = System.nanoTime();
+    long measureFrom = start + warmup * 1_000_000_000L;
+    long end = measureFrom + seconds * 1_000_000_000L;
+    ExecutorService pool = Executors.newFixedThreadPool(clients);
+    List<Future<Recorder>> futures = new ArrayList<>();
+    for (int c = 0; c < clients; c++) {
+      int id = c;
+      futures.add(pool.submit(() -> run(client, url, id, students, measureFrom, end)));
+    }
+    Recorder total = new Recorder();
+    for (Future<Recorder> future : futures) {
+      total.addAll(future.get());
+    }
+    pool.shutdown();
+    if (server != null) {
+      server.close();
+    }
+    total.print(clients, seconds);
+  }
+
+  private static Recorder run(
+      HttpClient client, String url, int id, int students, long measureFrom, long end)
+      throws Exception {
+    Random random = new Random(id);
+    Recorder recorder = new Recorder();
+    List<Student> added = new ArrayList<>();
+    int sequence = 0;
+    long now;
+    while ((now = System.nanoTime()) < end) {
+      int dice = random.nextInt(10);
+      HttpRequest request;
+      if (dice < 7) {
+        int offset = random.nextInt(Math.max(1, students - PAGE_SIZE));
+        request =
+            HttpRequest.newBuilder(URI.create(url + "?offset=" + offset + "&limit=" + PAGE_SIZE))
+                .GET()
+                .build();
+      } else if (dice < 9 || added.isEmpty()) {
+        Student student = new Student("Load " + id + "-" + sequence, sequence++ % 100);
+        added.add(student);
+        request =
+            HttpRequest.newBuilder(URI.create(url))
+                .POST(
+                    HttpRequest.BodyPublishers.ofString(
+                        "{\"name\":\""
+                            + student.getName()
+                            + "\",\"grade\":"
+                            + student.getGrade()
+                            + "}"))
+                .build();
+      } else {
+        Student student = added.remove(added.size() - 1);
+        request =
+            HttpRequest.newBuilder(
+                    URI.create(
+                        url
+                            + "?name="
+                            + URLEncoder.encode(student.getName(), StandardCharsets.UTF_8)
+                            + "&grade="
+                            + student.getGrade()))
+                .DELETE()
+                .build();
+      }
+      boolean error;
+      try {
+        error = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() >= 500;
+      } catch (IOException e) {
+        if (FAILED.compareAndSet(false, true)) {
+          System.err.println("First failed request: " + e);
+        }
+        error = true;
+      }
+      long latency = System.nanoTime() - now;
+      if (now >= measureFrom) {
+        recorder.record(latency, error);
+      }
+    }
+    return recorder;
+  }
+
+  /** Latencias registradas por un cliente. */
+  private static final class Recorder {
+    private long[] latencies = new long[1 << 12];
+    private int count;
+    private int errors;
+
+    private void record(long nanos, boolean error) {
+      if (count == latencies.length) {
+        latencies = Arrays.copyOf(latencies, count * 2);
+      }
+      latencies[count++] = nanos;
+      if (error) {
+        errors++;
+      }
+    }
+
+    private void addAll(Recorder other) {
+      for (int i = 0; i < other.count; i++) {
+        record(other.latencies[i], false);
+      }
+      errors += other.errors;
+    }
+
+    private void print(int clients, int seconds) {
+      Arrays.sort(latencies, 0, count);
+      System.out.printf(
+          "clients=%d requests=%d errors=%d throughput=%.0f req/s%n",
+          clients, count, errors, count / (double) seconds);
+      System.out.printf(
+          "latency p50=%.3f ms p99=%.3f ms max=%.3f ms%n",
+          percentile(50), percentile(99), count == 0 ? 0 : latencies[count - 1] / 1e6);
+    }
+
+    private double percentile(double p) {
+      if (count == 0) {
+        return 0;
+      }
+      int position = Math.max(1, (int) Math.ceil(p / 100 * count)) - 1;
+      return latencies[position] / 1e6;
+    }
+  }
+}
@@ -0,0 +1,193 @@
+package com.studentmanager.benchmark;
+
+import com.studentmanager.model.Student;
+import com.studentmanager.repository.ConcurrentStudentRepository;
+import com.studentmanager.repository.InMemoryStudentRepository;
+import com.studentmanager.repository.SnapshotStudentRepository;
+import com.studentmanager.repository.StudentRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark de throughput con una mezcla de lecturas y escrituras sobre un repositorio compartido.
+ * Cada operación es, según el porcentaje de escrituras, un alta o una baja de un estudiante propio
+ * del hilo, o una lectura: búsqueda por nombre (90% de las lecturas), conteo (5%) o {@code
+ * findAll()} (5%). Compara {@link SnapshotStudentRepository}, {@link ConcurrentStudentRepository}
+ * y un {@link InMemoryStudentRepository} protegido por un {@link ReentrantReadWriteLock}, donde los
+ * lectores esperan a los escritores.
+ *
+ * <p>El número de hilos se elige con la opción {@code -t} de JMH:
+ *
+ * <pre>
+ * for t in 1 4 16 64; do java -jar benchmarks/target/benchmarks.jar ReadWriteMixBenchmark -t $t; done
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ReadWriteMixBenchmark {
+  private static final int SIZE = 10_000;
+
+  /** Repositorio compartido por todos los hilos. */
+  @State(Scope.Benchmark)
+  public static class Shared {
+    @Param({"SNAPSHOT", "CONCURRENT", "RW_LOCK"})
+    String implementation;
+
+    @Param({"1", "10"})
+    int writePercent;
+
+    StudentRepository repository;
+    final AtomicInteger threads = new AtomicInteger();
+
+    /** Crea y llena el repositorio. */
+    @Setup
+    public void setUp() {
+      switch (implementation) {
+        case "SNAPSHOT":
+          repository = new SnapshotStudentRepository();
+          break;
+        case "CONCURRENT":
+          repository = new ConcurrentStudentRepository();
+          break;
+        default:
+          repository = new LockedStudentRepository(new InMemoryStudentRepository());
+          break;
+      }
+      List<Student> students = new ArrayList<>(SIZE);
+      for (int i = 0; i < SIZE; i++) {
+        students.add(Rosters.student(i));
+      }
+      repository.addAll(students);
+    }
+  }
+
+  /** Estado de cada hilo: su generador y el estudiante propio que agrega y remueve. */
+  @State(Scope.Thread)
+  public static class Worker {
+    SplittableRandom random;
+    Student own;
+    boolean added;
+
+    /**
+     * Prepara el estado del hilo.
+     *
+     * @param shared el estado compartido, que numera los hilos
+     */
+    @Setup
+    public void setUp(Shared shared) {
+      int id = shared.threads.getAndIncrement();
+      random = new SplittableRandom(id);
+      own = new Student("Writer " + id, id);
+    }
+  }
+
+  /**
+   * Ejecuta una operación de la mezcla.
+   *
+   * @param shared el repositorio compartido
+   * @param worker el estado del hilo
+   * @return un valor derivado de la operación, para que no se descarte
+   */
+  @Benchmark
+  public int mixed(Shared shared, Worker worker) {
+    StudentRepository repository = shared.repository;
+    int dice = worker.random.nextInt(100);
+    if (dice < shared.writePercent) {
+      if (worker.added) {
+        repository.remove(worker.own.getName(), worker.own.getGrade());
+      } else {
+        repository.add(worker.own);
+      }
+      worker.added = !worker.added;
+      return 0;
+    }
+    int read = worker.random.nextInt(100);
+    if (read < 90) {
+      Student found = repository.findByName(Rosters.name(worker.random.nextInt(SIZE)));
+      return found == null ? 0 : 1;
+    }
+    if (read < 95) {
+      return repository.count();
+    }
+    return repository.findAll().size();
+  }
+
+  /** Repositorio en memoria protegido por un bloqueo de lectura y escritura. */
+  private static final class LockedStudentRepository implements StudentRepository {
+    private final StudentRepository delegate;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private LockedStudentRepository(StudentRepository delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void add(Student student) {
+      lock.writeLock().lock();
+      try {
+        delegate.add(student);
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+
+    @Override
+    public List<Student> findAll() {
+      lock.readLock().lock();
+      try {
+        return new ArrayList<>(delegate.findAll());
+      } finally {
+        lock.readLock().unlock();
+      }
+    }
+
+    @Override
+    public Student findByName(String name) {
+      lock.readLock().lock();
+      try {
+        return delegate.findByName(name);
+      } finally {
+        lock.readLock().unlock();
+      }
+    }
+
+    @Override
+    public int count() {
+      lock.readLock().lock();
+      try {
+        return delegate.count();
+      } finally {
+        lock.readLock().unlock();
+      }
+    }
+
+    @Override
+    public boolean remove(String name, double grade) {
+      lock.writeLock().lock();
+      try {
+        return delegate.remove(name, grade);
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+  }
+}
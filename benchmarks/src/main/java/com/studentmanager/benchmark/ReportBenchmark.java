@@ -0,0 +1,115 @@
+package com.studentmanager.benchmark;
+
+import com.studentmanager.StudentManager;
+import com.studentmanager.model.Student;
+import com.studentmanager.report.AnalyticsReportGenerator;
+import com.studentmanager.report.ConsoleReportGenerator;
+import com.studentmanager.report.CsvReportGenerator;
+import com.studentmanager.report.JsonLinesReportGenerator;
+import com.studentmanager.report.ParallelReportGenerator;
+import com.studentmanager.report.ReportDestination;
+import com.studentmanager.repository.InMemoryStudentRepository;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.channels.Channels;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks de generación de reportes: {@link ConsoleReportGenerator#generate}, {@link
+ * ParallelReportGenerator#generate}, las exportaciones CSV y JSON Lines, el resumen analítico y
+ * {@link StudentManager#listStudents()}. Toda la salida va a destinos descartables para medir el
+ * formateo y la escritura sin depender de la terminal ni del disco.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx16g"})
+@State(Scope.Benchmark)
+public class ReportBenchmark {
+  @Param({"1000", "100000", "1000000", "10000000"})
+  int size;
+
+  private PrintStream originalOut;
+  private StudentManager manager;
+  private ConsoleReportGenerator generator;
+  private ParallelReportGenerator parallelGenerator;
+  private CsvReportGenerator csvGenerator;
+  private AnalyticsReportGenerator analyticsGenerator;
+  private JsonLinesReportGenerator jsonLinesGenerator;
+  private List<Student> students;
+
+  /** Prepara los datos y redirige la salida estándar. */
+  @Setup(Level.Trial)
+  public void setUp() {
+    InMemoryStudentRepository repository = new InMemoryStudentRepository();
+    Rosters.fill(repository, size);
+    students = repository.findAll();
+    generator = new ConsoleReportGenerator();
+    parallelGenerator = new ParallelReportGenerator();
+    ReportDestination discard =
+        ReportDestination.channel(Channels.newChannel(OutputStream.nullOutputStream()));
+    csvGenerator = new CsvReportGenerator(discard);
+    jsonLinesGenerator = new JsonLinesReportGenerator(discard);
+    analyticsGenerator = new AnalyticsReportGenerator();
+    manager = new StudentManager(repository, generator);
+    originalOut = System.out;
+    System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+  }
+
+  /** Restaura la salida estándar. */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    System.setOut(originalOut);
+  }
+
+  /** Mide la generación del reporte de consola a partir de una lista ya materializada. */
+  @Benchmark
+  public void consoleReport() {
+    generator.generate(students);
+  }
+
+  /** Mide la generación del mismo reporte formateado en paralelo sobre el pool común. */
+  @Benchmark
+  public void parallelReport() {
+    parallelGenerator.generate(students);
+  }
+
+  /** Mide la exportación CSV codificada en UTF-8. */
+  @Benchmark
+  public void csvReport() {
+    csvGenerator.generate(students);
+  }
+
+  /** Mide la exportación JSON Lines codificada en UTF-8. */
+  @Benchmark
+  public void jsonLinesReport() {
+    jsonLinesGenerator.generate(students);
+  }
+
+  /** Mide el reporte de resumen: histograma, cuartiles y conteos en una sola pasada. */
+  @Benchmark
+  public void analyticsReport() {
+    analyticsGenerator.generate(students);
+  }
+
+  /** Mide el listado completo a través del gestor. */
+  @Benchmark
+  public void listStudents() {
+    manager.listStudents();
+  }
+}
@@ -0,0 +1,120 @@
+package com.studentmanager.benchmark;
+
+import com.studentmanager.model.Student;
+import com.studentmanager.repository.InMemoryStudentRepository;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks de las operaciones de {@link InMemoryStudentRepository} para tamaños de lista entre
+ * mil y diez millones de estudiantes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx16g"})
+@State(Scope.Benchmark)
+public class RepositoryBenchmark {
+  @Param({"1000", "100000", "1000000", "10000000"})
+  int size;
+
+  private InMemoryStudentRepository repository;
+  private int cursor;
+
+  /** Llena el repositorio una vez por prueba. */
+  @Setup(Level.Trial)
+  public void setUp() {
+    repository = new InMemoryStudentRepository();
+    Rosters.fill(repository, size);
+  }
+
+  /** Estado con un repositorio que se reconstruye en cada iteración para medir inserciones. */
+  @State(Scope.Benchmark)
+  public static class Growing {
+    @Param({"1000", "100000", "1000000", "10000000"})
+    int size;
+
+    InMemoryStudentRepository repository;
+    int next;
+
+    /** Reconstruye el repositorio para que las inserciones no lo agranden sin límite. */
+    @Setup(Level.Iteration)
+    public void setUp() {
+      repository = new InMemoryStudentRepository();
+      Rosters.fill(repository, size);
+      next = size;
+    }
+  }
+
+  private int nextExisting() {
+    cursor = cursor + 1 == size ? 0 : cursor + 1;
+    return cursor;
+  }
+
+  /**
+   * Mide la inserción de un estudiante nuevo.
+   *
+   * @param state el repositorio en crecimiento
+   */
+  @Benchmark
+  public void add(Growing state) {
+    state.repository.add(Rosters.student(state.next++));
+  }
+
+  /**
+   * Mide la búsqueda exacta por nombre.
+   *
+   * @return el estudiante encontrado
+   */
+  @Benchmark
+  public Student findByName() {
+    return repository.findByName(Rosters.name(nextExisting()));
+  }
+
+  /**
+   * Mide una eliminación seguida de la reinserción del mismo estudiante, para mantener el tamaño.
+   *
+   * @return si el estudiante fue eliminado
+   */
+  @Benchmark
+  public boolean removeAndAdd() {
+    int i = nextExisting();
+    boolean removed = repository.remove(Rosters.name(i), Rosters.grade(i));
+    repository.add(Rosters.student(i));
+    return removed;
+  }
+
+  /**
+   * Mide {@code findAll} sobre un repositorio sin cambios (instantánea compartida).
+   *
+   * @return la lista de estudiantes
+   */
+  @Benchmark
+  public List<Student> findAll() {
+    return repository.findAll();
+  }
+
+  /**
+   * Mide {@code findAll} justo después de una mutación, que obliga a reconstruir la instantánea.
+   *
+   * @return la lista de estudiantes
+   */
+  @Benchmark
+  public List<Student> findAllAfterMutation() {
+    removeAndAdd();
+    return repository.findAll();
+  }
+}
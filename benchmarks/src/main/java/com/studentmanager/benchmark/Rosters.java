@@ -0,0 +1,66 @@
+package com.studentmanager.benchmark;
+
+import com.studentmanager.model.Student;
+import com.studentmanager.repository.StudentRepository;
+
+/**
+ * Generador determinista de listas de estudiantes para los benchmarks. Los nombres se repiten cada
+ * {@value #DISTINCT_NAMES} estudiantes, como ocurre en listas reales, y cada par (nombre,
+ * calificación) es único para que las eliminaciones afecten exactamente a un estudiante.
+ */
+final class Rosters {
+  /** Número de nombres distintos en una lista generada. */
+  static final int DISTINCT_NAMES = 100_000;
+
+  private static final String[] NAMES = new String[DISTINCT_NAMES];
+
+  static {
+    for (int i = 0; i < DISTINCT_NAMES; i++) {
+      NAMES[i] = "Student " + i;
+    }
+  }
+
+  private Rosters() {}
+
+  /**
+   * Crea el i-ésimo estudiante de la lista generada.
+   *
+   * @param i el índice del estudiante
+   * @return un estudiante nuevo
+   */
+  static Student student(int i) {
+    return new Student(name(i), grade(i));
+  }
+
+  /**
+   * Obtiene el nombre del i-ésimo estudiante sin crear objetos.
+   *
+   * @param i el índice del estudiante
+   * @return su nombre
+   */
+  static String name(int i) {
+    return NAMES[i % DISTINCT_NAMES];
+  }
+
+  /**
+   * Obtiene la calificación del i-ésimo estudiante.
+   *
+   * @param i el índice del estudiante
+   * @return su calificación
+   */
+  static double grade(int i) {
+    return i / DISTINCT_NAMES + (i % 100) / 100.0;
+  }
+
+  /**
+   * Llena un repositorio con los primeros {@code size} estudiantes de la lista generada.
+   *
+   * @param repository el repositorio a llenar
+   * @param size       el número de estudiantes
+   */
+  static void fill(StudentRepository repository, int size) {
+    for (int i = 0; i < size; i++) {
+      repository.add(student(i));
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package com.studentmanager.benchmark;
+
+import com.studentmanager.model.Student;
+import com.studentmanager.repository.ConcurrentStudentRepository;
+import com.studentmanager.repository.InMemoryStudentRepository;
+import com.studentmanager.repository.StudentRepository;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark de las búsquedas por prefijo y por distancia de edición. Compara el índice de
+ * {@link InMemoryStudentRepository} con el recorrido completo que usa por defecto
+ * {@link ConcurrentStudentRepository}, sobre nombres y apellidos con tildes generados a partir de
+ * sílabas.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class SearchBenchmark {
+  private static final String[] FIRST = {
+    "José", "María", "Ana", "Luis", "Ángel", "Lucía", "Jorge", "Sofía", "Raúl", "Elena"
+  };
+  private static final String[] SYLLABLES = {
+    "gar", "cí", "a", "mar", "tí", "nez", "ló", "pez", "ro", "drí", "guez", "fer", "nán", "dez",
+    "san", "chez", "ra", "mí", "rez", "gó", "mez", "ji", "mé", "no", "ruiz", "al", "va", "ro"
+  };
+  private static final int QUERIES = 1024;
+  private static final int LIMIT = 20;
+
+  @Param({"100000", "1000000"})
+  int size;
+
+  @Param({"INDEX", "SCAN"})
+  String implementation;
+
+  private StudentRepository repository;
+  private String[] prefixes;
+  private String[] typos;
+  private int cursor;
+
+  /** Llena el repositorio y prepara consultas con prefijos y errores de tipeo. */
+  @Setup(Level.Trial)
+  public void setUp() {
+    repository =
+        "INDEX".equals(implementation)
+            ? new InMemoryStudentRepository()
+            : new ConcurrentStudentRepository();
+    Random random = new Random(42);
+    String[] surnames = new String[size];
+    for (int i = 0; i < size; i++) {
+      StringBuilder surname = new StringBuilder();
+      int syllables = 2 + random.nextInt(3);
+      for (int s = 0; s < syllables; s++) {
+        surname.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+      }
+      surname.setCharAt(0, Character.toUpperCase(surname.charAt(0)));
+      surnames[i] = surname.toString();
+      repository.add(new Student(FIRST[i % FIRST.length] + " " + surnames[i], i % 100));
+    }
+    prefixes = new String[QUERIES];
+    typos = new String[QUERIES];
+    for (int i = 0; i < QUERIES; i++) {
+      String surname = surnames[random.nextInt(size)];
+      prefixes[i] = surname.substring(0, Math.min(surname.length(), 6));
+      char[] chars = surname.toLowerCase().toCharArray();
+      chars[random.nextInt(chars.length)] = 'x';
+      typos[i] = new String(chars);
+    }
+  }
+
+  private int next() {
+    cursor = (cursor + 1) & (QUERIES - 1);
+    return cursor;
+  }
+
+  /**
+   * Mide una búsqueda por prefijo de apellido.
+   *
+   * @return los estudiantes encontrados
+   */
+  @Benchmark
+  public List<Student> findByNamePrefix() {
+    return repository.findByNamePrefix(prefixes[next()], LIMIT);
+  }
+
+  /**
+   * Mide una búsqueda de apellido con un error de tipeo.
+   *
+   * @return los estudiantes encontrados
+   */
+  @Benchmark
+  public List<Student> findBySimilarName() {
+    return repository.findBySimilarName(typos[next()], 1, LIMIT);
+  }
+}
@@ -0,0 +1,86 @@
+package com.studentmanager.benchmark;
+
+import com.studentmanager.model.Student;
+import com.studentmanager.repository.ConcurrentStudentRepository;
+import com.studentmanager.repository.ShardedStudentRepository;
+import com.studentmanager.repository.StudentRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark de {@link ShardedStudentRepository} con particiones {@link ConcurrentStudentRepository}
+ * consultadas en un pool de un hilo por partición. Mide una búsqueda por nombre, que va a una sola
+ * partición, y dos consultas que recorren todas: las estadísticas y los mejores diez. Con una
+ * partición mide el costo de la capa de reparto sin paralelismo.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class ShardBenchmark {
+  @Param({"100000"})
+  int size;
+
+  @Param({"1", "4", "16"})
+  int shards;
+
+  private ExecutorService executor;
+  private ShardedStudentRepository repository;
+  private int cursor;
+
+  /** Crea las particiones y las llena. */
+  @Setup(Level.Trial)
+  public void setUp() {
+    executor = Executors.newFixedThreadPool(shards);
+    List<StudentRepository> parts = new ArrayList<>(shards);
+    for (int i = 0; i < shards; i++) {
+      parts.add(new ConcurrentStudentRepository());
+    }
+    repository = new ShardedStudentRepository(parts, executor);
+    List<Student> students = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      students.add(Rosters.student(i));
+    }
+    repository.addAll(students);
+  }
+
+  /** Detiene el pool de las particiones. */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Benchmark
+  public Student findByName() {
+    cursor = (cursor + 7919) % size;
+    return repository.findByName(Rosters.name(cursor));
+  }
+
+  @Benchmark
+  public double statistics() {
+    return repository.statistics().getMean();
+  }
+
+  @Benchmark
+  public List<Student> topTen() {
+    return repository.findTopByGrade(10);
+  }
+}
@@ -0,0 +1,109 @@
+package com.studentmanager;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Registro de mensajes que escribe en un hilo propio, para que quien informa no espere a la
+ * consola. {@link #log(String)} solo encola el mensaje; el hilo del registro toma todos los
+ * mensajes pendientes de una vez, los escribe en orden y vacía el destino una sola vez por lote.
+ *
+ * <p>Si el destino falla, los mensajes de ese lote se descartan y el registro sigue funcionando.
+ * {@link #close()} escribe los mensajes pendientes antes de terminar; encolar y cerrar se excluyen
+ * mutuamente, así que ningún mensaje aceptado queda detrás de la marca de fin sin escribirse.
+ */
+public final class AsyncLog implements AutoCloseable {
+  /** Marca el final de la cola; se compara por identidad. */
+  private static final String END = new String("");
+
+  private final Writer out;
+  private final BlockingQueue<String> queue = new LinkedBlockingQueue<>();
+  private final Thread worker;
+  private final Object lock = new Object();
+  private boolean closed;
+
+  /** Crea un registro que escribe en la salida estándar. */
+  public AsyncLog() {
+    this(new OutputStreamWriter(System.out, Charset.defaultCharset()));
+  }
+
+  /**
+   * Crea un registro que escribe en el destino indicado. El destino se vacía después de cada lote
+   * pero nunca se cierra.
+   *
+   * @param out el destino de los mensajes
+   * @throws IllegalArgumentException si el destino es nulo
+   */
+  public AsyncLog(Writer out) {
+    if (out == null) {
+      throw new IllegalArgumentException("Output cannot be null");
+    }
+    this.out = out;
+    this.worker = new Thread(this::drain, "student-log");
+    worker.setDaemon(true);
+    worker.start();
+  }
+
+  /**
+   * Encola un mensaje, que se escribirá seguido de un salto de línea.
+   *
+   * @param message el mensaje
+   * @throws IllegalStateException si el registro ya fue cerrado
+   */
+  public void log(String message) {
+    String line = String.valueOf(message);
+    synchronized (lock) {
+      if (closed) {
+        throw new IllegalStateException("Log is closed");
+      }
+      queue.add(line);
+    }
+  }
+
+  /** Escribe los mensajes pendientes y detiene el hilo del registro. */
+  @Override
+  public void close() {
+    synchronized (lock) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      queue.add(END);
+    }
+    try {
+      worker.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void drain() {
+    List<String> batch = new ArrayList<>();
+    boolean running = true;
+    while (running) {
+      try {
+        batch.add(queue.take());
+      } catch (InterruptedException e) {
+        return;
+      }
+      queue.drainTo(batch);
+      running = !batch.removeIf(message -> message == END);
+      try {
+        for (String message : batch) {
+          out.write(message);
+          out.write(System.lineSeparator());
+        }
+        out.flush();
+      } catch (IOException e) {
+        // The destination failed; the batch is dropped and logging goes on
+      }
+      batch.clear();
+    }
+  }
+}
@@ -0,0 +1,276 @@
+package com.studentmanager;
+
+import com.studentmanager.model.Student;
+import com.studentmanager.report.ReportGenerator;
+import com.studentmanager.repository.ConcurrentStudentRepository;
+import com.studentmanager.repository.NameKey;
+import com.studentmanager.repository.StudentRepository;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Versión asíncrona de {@link StudentManager}: cada operación se ejecuta en un {@link Executor}
+ * configurable y devuelve un {@link CompletableFuture} en lugar de bloquear a quien llama. Los
+ * mensajes de consola, como "Student added.", se envían a un {@link AsyncLog} y no se escriben en
+ * el hilo de la operación.
+ *
+ * <p>Las operaciones sobre un mismo estudiante se ejecutan en el orden en que se pidieron: todas
+ * las que usan nombres iguales sin distinguir mayúsculas forman una fila, y cada una empieza solo
+ * cuando terminó la anterior, aunque haya fallado. Las operaciones sobre estudiantes distintos no
+ * se esperan entre sí y corren en paralelo según el ejecutor. Los listados forman su propia fila,
+ * porque los generadores de reportes no son seguros para hilos, y ven el repositorio tal como está
+ * al recorrerlo, sin esperar a las altas o bajas pendientes.
+ *
+ * <p>Como el repositorio se usa desde varios hilos a la vez, debe ser seguro para hilos, como
+ * {@link ConcurrentStudentRepository}. Los errores del repositorio completan el futuro
+ * excepcionalmente; los argumentos inválidos que impiden encolar la operación se lanzan al
+ * llamar.
+ *
+ * <p>Después de {@link #close()} las operaciones nuevas se rechazan al llamar con {@link
+ * IllegalStateException}, y las que estaban encoladas pero no habían empezado fallan con la misma
+ * excepción sin tocar el repositorio.
+ */
+public class AsyncStudentManager implements AutoCloseable {
+  /** Fila de los listados; no coincide con ninguna clave de nombre. */
+  private static final Object LIST_LANE = new Object();
+
+  private final StudentRepository repository;
+  private final ReportGenerator reportGenerator;
+  private final Executor executor;
+  private final AsyncLog log;
+  private final boolean ownsLog;
+  private final Map<Object, CompletableFuture<Void>> lanes = new ConcurrentHashMap<>();
+  private final ReadWriteLock gate = new ReentrantReadWriteLock();
+  private volatile boolean closed;
+
+  /**
+   * Crea un gestor que ejecuta las operaciones en el pool común y registra en la salida estándar.
+   *
+   * @param repository      el repositorio, que debe ser seguro para hilos
+   * @param reportGenerator el generador de reportes
+   */
+  public AsyncStudentManager(StudentRepository repository, ReportGenerator reportGenerator) {
+    this(repository, reportGenerator, ForkJoinPool.commonPool(), new AsyncLog(), true);
+  }
+
+  /**
+   * Crea un gestor con el ejecutor y el registro indicados. Ninguno de los dos se cierra con
+   * {@link #close()}.
+   *
+   * @param repository      el repositorio, que debe ser seguro para hilos
+   * @param reportGenerator el generador de reportes
+   * @param executor        el ejecutor de las operaciones
+   * @param log             el registro de mensajes
+   * @throws IllegalArgumentException si algún argumento es nulo
+   */
+  public AsyncStudentManager(
+      StudentRepository repository,
+      ReportGenerator reportGenerator,
+      Executor executor,
+      AsyncLog log) {
+    this(repository, reportGenerator, executor, log, false);
+  }
+
+  private AsyncStudentManager(
+      StudentRepository repository,
+      ReportGenerator reportGenerator,
+      Executor executor,
+      AsyncLog log,
+      boolean ownsLog) {
+    if (repository == null || reportGenerator == null || executor == null || log == null) {
+      throw new IllegalArgumentException("Arguments cannot be null");
+    }
+    this.repository = repository;
+    this.reportGenerator = reportGenerator;
+    this.executor = executor;
+    this.log = log;
+    this.ownsLog = ownsLog;
+  }
+
+  /**
+   * Agrega un estudiante con el nombre y calificación dados.
+   *
+   * @param name  el nombre del estudiante
+   * @param grade la calificación del estudiante
+   * @return un futuro que se completa cuando el estudiante fue agregado
+   * @throws IllegalArgumentException si el estudiante no es válido
+   * @throws IllegalStateException    si el gestor está cerrado
+   */
+  public CompletableFuture<Void> addStudentAsync(String name, double grade) {
+    Student student = new Student(name, grade);
+    return submit(
+        NameKey.fold(name),
+        () -> {
+          repository.add(student);
+          log.log("Student added.");
+          return null;
+        });
+  }
+
+  /**
+   * Remueve un estudiante por nombre y calificación.
+   *
+   * @param name  el nombre del estudiante
+   * @param grade la calificación del estudiante
+   * @return un futuro con true si fue removido, false en caso contrario
+   * @throws IllegalArgumentException si el nombre es nulo
+   * @throws IllegalStateException    si el gestor está cerrado
+   */
+  public CompletableFuture<Boolean> removeStudentAsync(String name, double grade) {
+    return submit(requireName(name), () -> repository.remove(name, grade));
+  }
+
+  /**
+   * Cambia la calificación de un estudiante identificado por nombre y calificación actual.
+   *
+   * @param name     el nombre del estudiante
+   * @param oldGrade la calificación actual del estudiante
+   * @param newGrade la calificación nueva
+   * @return un futuro con true si fue actualizado, false en caso contrario
+   * @throws IllegalArgumentException si el nombre es nulo
+   * @throws IllegalStateException    si el gestor está cerrado
+   */
+  public CompletableFuture<Boolean> updateGradeAsync(
+      String name, double oldGrade, double newGrade) {
+    return submit(requireName(name), () -> repository.updateGrade(name, oldGrade, newGrade));
+  }
+
+  /**
+   * Lista todos los estudiantes usando el generador de reportes configurado.
+   *
+   * @return un futuro que se completa cuando el reporte fue generado
+   * @throws IllegalStateException si el gestor está cerrado
+   */
+  public CompletableFuture<Void> listStudentsAsync() {
+    return submit(
+        LIST_LANE,
+        () -> {
+          reportGenerator.generateStream(repository.stream());
+          return null;
+        });
+  }
+
+  /**
+   * Lista una página de estudiantes usando el generador de reportes configurado.
+   *
+   * @param offset cuántos estudiantes omitir desde el inicio
+   * @param limit  cuántos estudiantes listar como máximo
+   * @return un futuro que se completa cuando el reporte fue generado
+   * @throws IllegalArgumentException si offset o limit son negativos
+   * @throws IllegalStateException    si el gestor está cerrado
+   */
+  public CompletableFuture<Void> listStudentsAsync(int offset, int limit) {
+    if (offset < 0 || limit < 0) {
+      throw new IllegalArgumentException("Offset and limit cannot be negative");
+    }
+    return submit(
+        LIST_LANE,
+        () -> {
+          reportGenerator.generateStream(repository.stream().skip(offset).limit(limit));
+          return null;
+        });
+  }
+
+  /**
+   * Rechaza las operaciones nuevas y las encoladas que aún no empezaron, espera a las que están en
+   * curso y cierra el registro si lo creó este gestor, después de escribir los mensajes pendientes.
+   * Conviene esperar los futuros de las operaciones antes de cerrar.
+   */
+  @Override
+  public void close() {
+    Lock closing = gate.writeLock();
+    closing.lock();
+    try {
+      closed = true;
+    } finally {
+      closing.unlock();
+    }
+    if (ownsLog) {
+      log.close();
+    }
+  }
+
+  /**
+   * Encola una operación al final de su fila. El turno de la fila es un futuro interno, así que
+   * cancelar el futuro devuelto no adelanta a la operación siguiente.
+   *
+   * @param lane      la fila de la operación
+   * @param operation la operación
+   * @param <T>       el tipo del resultado
+   * @return el futuro con el resultado de la operación
+   */
+  private <T> CompletableFuture<T> submit(Object lane, Supplier<T> operation) {
+    ensureOpen();
+    CompletableFuture<T> result = new CompletableFuture<>();
+    CompletableFuture<Void> turn = new CompletableFuture<>();
+    CompletableFuture<Void> previous = lanes.put(lane, turn);
+    Runnable task =
+        () -> {
+          try {
+            result.complete(run(operation));
+          } catch (RuntimeException | Error e) {
+            result.completeExceptionally(e);
+          } finally {
+            lanes.remove(lane, turn);
+            turn.complete(null);
+          }
+        };
+    if (previous == null) {
+      dispatch(task, result, turn, lane);
+    } else {
+      previous.whenComplete((ignored, failure) -> dispatch(task, result, turn, lane));
+    }
+    return result;
+  }
+
+  /**
+   * Ejecuta una operación mientras el gestor no se cierra; {@link #close()} espera a que termine.
+   *
+   * @param operation la operación
+   * @param <T>       el tipo del resultado
+   * @return el resultado de la operación
+   * @throws IllegalStateException si el gestor se cerró antes de que la operación empezara
+   */
+  private <T> T run(Supplier<T> operation) {
+    Lock running = gate.readLock();
+    running.lock();
+    try {
+      ensureOpen();
+      return operation.get();
+    } finally {
+      running.unlock();
+    }
+  }
+
+  private void ensureOpen() {
+    if (closed) {
+      throw new IllegalStateException("Manager is closed");
+    }
+  }
+
+  /** Envía la tarea al ejecutor; si la rechaza, falla la operación y libera la fila. */
+  private void dispatch(
+      Runnable task, CompletableFuture<?> result, CompletableFuture<Void> turn, Object lane) {
+    try {
+      executor.execute(task);
+    } catch (RuntimeException e) {
+      result.completeExceptionally(e);
+      lanes.remove(lane, turn);
+      turn.complete(null);
+    }
+  }
+
+  private static String requireName(String name) {
+    if (name == null) {
+      throw new IllegalArgumentException("Name cannot be null");
+    }
+    return NameKey.fold(name);
+  }
+}
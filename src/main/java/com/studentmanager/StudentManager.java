@@ -1,10 +1,17 @@
 package com.studentmanager;
 
+import com.studentmanager.importer.ImportResult;
+import com.studentmanager.importer.StudentImporter;
 import com.studentmanager.model.Student;
 import com.studentmanager.report.ConsoleReportGenerator;
 import com.studentmanager.report.ReportGenerator;
 import com.studentmanager.repository.InMemoryStudentRepository;
+import com.studentmanager.repository.StudentKey;
 import com.studentmanager.repository.StudentRepository;
+import com.studentmanager.stats.GradeSummary;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
 
 /**
  * Clase principal de gestión que coordina las operaciones de estudiantes. Esta
@@ -44,9 +51,55 @@ public class StudentManager {
     System.out.println("Student added.");
   }
 
-  /** Lista todos los estudiantes usando el generador de reportes configurado. */
+  /**
+   * Agrega un lote de estudiantes e imprime un único mensaje. Si algún estudiante es nulo no se
+   * agrega ninguno.
+   *
+   * @param students los estudiantes a agregar
+   */
+  public void addStudents(Collection<Student> students) {
+    repository.addAll(students);
+    System.out.println(students.size() + " students added.");
+  }
+
+  /**
+   * Importa estudiantes de forma masiva desde un archivo CSV o JSON Lines. A diferencia de {@link
+   * #addStudent(String, double)}, no imprime un mensaje por estudiante sino un único resumen.
+   *
+   * @param file el archivo a importar
+   * @return el resultado con los estudiantes aceptados y las filas rechazadas
+   */
+  public ImportResult importStudents(Path file) {
+    ImportResult result = new StudentImporter(repository).importFile(file);
+    System.out.println(
+        "Imported "
+            + result.getAccepted()
+            + " students, "
+            + result.getRejected().size()
+            + " rows rejected.");
+    return result;
+  }
+
+  /**
+   * Lista todos los estudiantes usando el generador de reportes configurado. Los estudiantes se
+   * recorren con {@link StudentRepository#stream()} en lugar de materializar la lista completa.
+   */
   public void listStudents() {
-    reportGenerator.generate(repository.findAll());
+    reportGenerator.generateStream(repository.stream());
+  }
+
+  /**
+   * Lista una página de estudiantes usando el generador de reportes configurado.
+   *
+   * @param offset cuántos estudiantes omitir desde el inicio
+   * @param limit  cuántos estudiantes listar como máximo
+   * @throws IllegalArgumentException si offset o limit son negativos
+   */
+  public void listStudents(int offset, int limit) {
+    if (offset < 0 || limit < 0) {
+      throw new IllegalArgumentException("Offset and limit cannot be negative");
+    }
+    reportGenerator.generateStream(repository.stream().skip(offset).limit(limit));
   }
 
   /**
@@ -60,6 +113,47 @@ public class StudentManager {
     return repository.remove(name, grade);
   }
 
+  /**
+   * Cambia la calificación de un estudiante identificado por nombre y calificación actual.
+   *
+   * @param name     el nombre del estudiante
+   * @param oldGrade la calificación actual del estudiante
+   * @param newGrade la calificación nueva
+   * @return true si fue actualizado, false en caso contrario
+   */
+  public boolean updateGrade(String name, double oldGrade, double newGrade) {
+    return repository.updateGrade(name, oldGrade, newGrade);
+  }
+
+  /**
+   * Remueve un lote de estudiantes por nombre y calificación.
+   *
+   * @param keys las claves de los estudiantes a remover
+   * @return por cada clave, en orden, si removió al menos un estudiante
+   */
+  public Map<StudentKey, Boolean> removeStudents(Collection<StudentKey> keys) {
+    return repository.removeAll(keys);
+  }
+
+  /**
+   * Cambia la calificación de un lote de estudiantes.
+   *
+   * @param updates la calificación nueva por clave de estudiante
+   * @return por cada clave, en orden, si actualizó al menos un estudiante
+   */
+  public Map<StudentKey, Boolean> updateGrades(Map<StudentKey, Double> updates) {
+    return repository.updateGrades(updates);
+  }
+
+  /**
+   * Obtiene las estadísticas actuales de calificaciones.
+   *
+   * @return el resumen de calificaciones del repositorio
+   */
+  public GradeSummary getStatistics() {
+    return repository.statistics();
+  }
+
   /**
    * Método principal demostrando el uso.
    *
@@ -0,0 +1,501 @@
+package com.studentmanager.http;
+
+import com.studentmanager.importer.StudentImporter;
+import com.studentmanager.model.NamePool;
+import com.studentmanager.model.Student;
+import com.studentmanager.report.JsonLinesReportGenerator;
+import com.studentmanager.report.ReportDestination;
+import com.studentmanager.repository.ConcurrentStudentRepository;
+import com.studentmanager.repository.RepositoryException;
+import com.studentmanager.repository.StudentRepository;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Servicio HTTP que expone el alta, el listado y la baja de estudiantes de un StudentRepository
+ * sobre el {@link HttpServer} del JDK. Todas las rutas están bajo {@code /students}:
+ *
+ * <ul>
+ *   <li>{@code GET /students?offset=0&limit=100} lista los estudiantes en JSON Lines, el mismo
+ *       formato de {@link JsonLinesReportGenerator}; los parámetros son opcionales.
+ *   <li>{@code POST /students} agrega los estudiantes del cuerpo, un objeto {@code {"name": ...,
+ *       "grade": ...}} por línea, en lotes de {@value #BATCH_SIZE}; responde 201 con {@code
+ *       {"added": n}}. Un cuerpo mayor que el límite del servicio responde 413. Si el cuerpo tiene
+ *       una línea inválida o excede el límite después del primer lote, los lotes anteriores ya
+ *       quedaron agregados y el mensaje de error indica cuántos estudiantes son.
+ *   <li>{@code DELETE /students?name=Ana&grade=90} remueve los estudiantes que coinciden;
+ *       responde 204, o 404 si no había ninguno.
+ * </ul>
+ *
+ * <p>El hilo del servidor solo acepta conexiones, lee encabezados y entrega cada solicitud a un
+ * pool acotado de hilos con una cola acotada. Cuando la cola se llena, el mismo hilo del servidor
+ * responde 503 con {@code Retry-After}, de modo que la sobrecarga se informa a los clientes en
+ * lugar de acumularse en memoria o de detener la aceptación de conexiones. El cuerpo de un {@code
+ * POST} se lee a través de un flujo acotado y se agrega por lotes, así que una carga ocupa a lo
+ * sumo un lote de estudiantes en memoria. Los listados se transmiten en bloques a medida que se
+ * recorre {@link StudentRepository#stream()}, con los búferes de codificación de cada hilo
+ * reutilizados entre solicitudes, así que un listado completo no se materializa en memoria.
+ *
+ * <p>El servidor del JDK no desactiva el algoritmo de Nagle, y los encabezados y el cuerpo se
+ * escriben por separado, así que cada respuesta puede esperar el ACK retrasado del cliente,
+ * alrededor de 40 ms. Conviene iniciar la JVM con {@code -Dsun.net.httpserver.nodelay=true} o
+ * llamar a {@link #enableNoDelay()} antes de crear el primer servidor. El listado salta los
+ * primeros {@code offset} estudiantes recorriéndolos, así que su costo crece con el desplazamiento.
+ *
+ * <p>Las solicitudes inválidas responden 400, los métodos no soportados 405, los cuerpos demasiado
+ * grandes 413, las solicitudes rechazadas por sobrecarga 503 y los fallos del almacenamiento 500,
+ * con el mensaje como texto plano. El repositorio se usa desde varios hilos a la vez, por lo que
+ * debe ser seguro para hilos, como {@link ConcurrentStudentRepository}.
+ */
+@SuppressWarnings("PMD.GodClass")
+public class StudentHttpServer implements AutoCloseable {
+  /** Ruta de los recursos de estudiantes. */
+  public static final String PATH = "/students";
+
+  /** Tamaño máximo por defecto del cuerpo de un {@code POST}, en bytes. */
+  public static final long DEFAULT_MAX_BODY_BYTES = 16L << 20;
+
+  /** Número de estudiantes de un {@code POST} que se agregan al repositorio por cada lote. */
+  public static final int BATCH_SIZE = 1_000;
+
+  private static final String NO_DELAY = "sun.net.httpserver.nodelay";
+  private static final int QUEUED_PER_THREAD = 64;
+  private static final String JSON_LINES = "application/x-ndjson; charset=utf-8";
+
+  private final StudentRepository repository;
+  private final HttpServer server;
+  private final ThreadPoolExecutor executor;
+  private final ThreadLocal<ListWriter> writers;
+  private final long maxBodyBytes;
+
+  /**
+   * Crea un servicio sin iniciarlo, con el tamaño máximo de cuerpo por defecto.
+   *
+   * @param repository el repositorio, que debe ser seguro para hilos
+   * @param address    la dirección donde escuchar; el puerto 0 elige uno libre
+   * @param threads    el número de hilos que atienden solicitudes
+   * @throws IllegalArgumentException si el repositorio o la dirección son nulos, o el número de
+   *                                  hilos no es positivo
+   * @throws UncheckedIOException     si no se puede abrir el puerto
+   */
+  public StudentHttpServer(StudentRepository repository, InetSocketAddress address, int threads) {
+    this(repository, address, threads, DEFAULT_MAX_BODY_BYTES);
+  }
+
+  /**
+   * Crea un servicio sin iniciarlo.
+   *
+   * @param repository   el repositorio, que debe ser seguro para hilos
+   * @param address      la dirección donde escuchar; el puerto 0 elige uno libre
+   * @param threads      el número de hilos que atienden solicitudes
+   * @param maxBodyBytes el tamaño máximo del cuerpo de un {@code POST}, en bytes
+   * @throws IllegalArgumentException si el repositorio o la dirección son nulos, o el número de
+   *                                  hilos o el tamaño máximo no son positivos
+   * @throws UncheckedIOException     si no se puede abrir el puerto
+   */
+  public StudentHttpServer(
+      StudentRepository repository, InetSocketAddress address, int threads, long maxBodyBytes) {
+    if (repository == null || address == null) {
+      throw new IllegalArgumentException("Repository and address cannot be null");
+    }
+    if (threads < 1) {
+      throw new IllegalArgumentException("Threads must be positive");
+    }
+    if (maxBodyBytes < 1) {
+      throw new IllegalArgumentException("Maximum body size must be positive");
+    }
+    this.repository = repository;
+    this.maxBodyBytes = maxBodyBytes;
+    this.writers = ThreadLocal.withInitial(ListWriter::new);
+    this.executor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            0,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(threads * QUEUED_PER_THREAD),
+            new WorkerFactory(),
+            new ThreadPoolExecutor.AbortPolicy());
+    try {
+      this.server = HttpServer.create(address, 0);
+    } catch (IOException e) {
+      executor.shutdown();
+      throw new UncheckedIOException("Cannot listen on " + address, e);
+    }
+    // No server executor: the server thread itself runs dispatch, which hands off to the pool
+    server.createContext(PATH, this::dispatch);
+  }
+
+  /** Empieza a aceptar solicitudes. */
+  public void start() {
+    server.start();
+  }
+
+  /**
+   * Obtiene el puerto en el que escucha el servicio, útil si se creó con el puerto 0.
+   *
+   * @return el puerto
+   */
+  public int getPort() {
+    return server.getAddress().getPort();
+  }
+
+  /** Deja de aceptar solicitudes y espera brevemente a que terminen las que están en curso. */
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdown();
+    try {
+      executor.awaitTermination(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Entrega una solicitud al pool desde el hilo del servidor, o responde 503 si la cola está llena.
+   *
+   * @param exchange la solicitud
+   * @throws IOException si no se puede enviar el rechazo
+   */
+  private void dispatch(HttpExchange exchange) throws IOException {
+    try {
+      executor.execute(() -> serve(exchange));
+    } catch (RejectedExecutionException e) {
+      try {
+        exchange.getResponseHeaders().set("Retry-After", "1");
+        sendText(exchange, 503, "Server busy");
+      } finally {
+        exchange.close();
+      }
+    }
+  }
+
+  private void serve(HttpExchange exchange) {
+    try {
+      handle(exchange);
+    } catch (IOException e) {
+      // The client went away before the response was sent
+    }
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    try {
+      if (!PATH.equals(exchange.getRequestURI().getPath())) {
+        sendText(exchange, 404, "Not found");
+        return;
+      }
+      Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+      switch (exchange.getRequestMethod()) {
+        case "GET":
+          list(exchange, query);
+          break;
+        case "POST":
+          add(exchange);
+          break;
+        case "DELETE":
+          remove(exchange, query);
+          break;
+        default:
+          exchange.getResponseHeaders().set("Allow", "GET, POST, DELETE");
+          sendText(exchange, 405, "Method not allowed");
+          break;
+      }
+    } catch (IllegalArgumentException e) {
+      sendError(exchange, 400, e.getMessage());
+    } catch (PayloadTooLargeException e) {
+      sendError(exchange, 413, e.getMessage());
+    } catch (RepositoryException e) {
+      sendError(exchange, 500, e.getMessage());
+    } catch (UncheckedIOException e) {
+      // The client went away while the list was being streamed
+    } finally {
+      exchange.close();
+    }
+  }
+
+  private void list(HttpExchange exchange, Map<String, String> query) throws IOException {
+    long offset = parseCount(query, "offset", 0);
+    long limit = parseCount(query, "limit", Long.MAX_VALUE);
+    exchange.getResponseHeaders().set("Content-Type", JSON_LINES);
+    exchange.sendResponseHeaders(200, 0);
+    try (OutputStream body = exchange.getResponseBody()) {
+      writers.get().write(Channels.newChannel(body), repository.stream().skip(offset).limit(limit));
+    }
+  }
+
+  private void add(HttpExchange exchange) throws IOException {
+    String declared = exchange.getRequestHeaders().getFirst("Content-Length");
+    if (declared != null && Long.parseLong(declared.trim()) > maxBodyBytes) {
+      throw new PayloadTooLargeException(maxBodyBytes, 0);
+    }
+    List<Student> batch = new ArrayList<>();
+    NamePool names = new NamePool(); // Shares repeated names within one upload
+    int added = 0;
+    try (BufferedReader body =
+        new BufferedReader(
+            new InputStreamReader(
+                new BoundedInputStream(exchange.getRequestBody(), maxBodyBytes),
+                StandardCharsets.UTF_8))) {
+      String line;
+      int number = 0;
+      while ((line = body.readLine()) != null) {
+        number++;
+        if (line.trim().isEmpty()) {
+          continue;
+        }
+        try {
+          batch.add(StudentImporter.parseJson(line, names));
+        } catch (IllegalArgumentException e) {
+          throw new IllegalArgumentException(
+              "Line " + number + ": " + e.getMessage() + alreadyAdded(added), e);
+        }
+        if (batch.size() == BATCH_SIZE) {
+          repository.addAll(batch);
+          added += batch.size();
+          batch.clear();
+        }
+      }
+    } catch (PayloadTooLargeException e) {
+      throw new PayloadTooLargeException(maxBodyBytes, added, e);
+    }
+    repository.addAll(batch);
+    added += batch.size();
+    exchange.getResponseHeaders().set("Content-Type", JSON_LINES);
+    send(exchange, 201, "{\"added\":" + added + "}\n");
+  }
+
+  private static String alreadyAdded(int added) {
+    return added == 0 ? "" : " (" + added + " students before it were added)";
+  }
+
+  private void remove(HttpExchange exchange, Map<String, String> query) throws IOException {
+    String name = query.get("name");
+    if (name == null) {
+      throw new IllegalArgumentException("Missing name");
+    }
+    if (repository.remove(name, parseGrade(query.get("grade")))) {
+      // A 204 finishes the exchange at once, and the server drops the connection unless the
+      // request body was consumed first
+      exchange.getRequestBody().close();
+      exchange.sendResponseHeaders(204, -1);
+    } else {
+      sendText(exchange, 404, "No student matched");
+    }
+  }
+
+  private static Map<String, String> parseQuery(String rawQuery) {
+    Map<String, String> query = new HashMap<>();
+    if (rawQuery == null) {
+      return query;
+    }
+    for (String pair : rawQuery.split("&")) {
+      int equals = pair.indexOf('=');
+      String key = equals < 0 ? pair : pair.substring(0, equals);
+      String value = equals < 0 ? "" : pair.substring(equals + 1);
+      query.putIfAbsent(
+          URLDecoder.decode(key, StandardCharsets.UTF_8),
+          URLDecoder.decode(value, StandardCharsets.UTF_8));
+    }
+    return query;
+  }
+
+  private static long parseCount(Map<String, String> query, String key, long defaultValue) {
+    String text = query.get(key);
+    if (text == null) {
+      return defaultValue;
+    }
+    try {
+      long value = Long.parseLong(text);
+      if (value >= 0) {
+        return value;
+      }
+    } catch (NumberFormatException e) {
+      // Reported below
+    }
+    throw new IllegalArgumentException(key + " must be a non-negative integer");
+  }
+
+  private static double parseGrade(String text) {
+    if (text == null) {
+      throw new IllegalArgumentException("Missing grade");
+    }
+    try {
+      return Double.parseDouble(text);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Grade is not a number: " + text, e);
+    }
+  }
+
+  /** Informa un error si todavía no se enviaron los encabezados; si no, solo corta la respuesta. */
+  private static void sendError(HttpExchange exchange, int status, String message)
+      throws IOException {
+    if (exchange.getResponseCode() == -1) {
+      sendText(exchange, status, message);
+    }
+  }
+
+  private static void sendText(HttpExchange exchange, int status, String message)
+      throws IOException {
+    exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+    send(exchange, status, message + "\n");
+  }
+
+  private static void send(HttpExchange exchange, int status, String body) throws IOException {
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+
+  /**
+   * Generador JSON Lines de un hilo, reutilizado entre solicitudes para no asignar sus búferes en
+   * cada listado. El destino apunta al cuerpo de la respuesta en curso.
+   */
+  private static final class ListWriter implements ReportDestination {
+    private final JsonLinesReportGenerator generator;
+    private WritableByteChannel target;
+
+    private ListWriter() {
+      this.generator = new JsonLinesReportGenerator(this);
+    }
+
+    private void write(WritableByteChannel body, Stream<Student> students) {
+      target = body;
+      try {
+        generator.generateStream(students);
+      } finally {
+        target = null;
+      }
+    }
+
+    @Override
+    public WritableByteChannel open() throws IOException {
+      return ReportDestination.channel(target).open();
+    }
+  }
+
+  /** Flujo que deja de leer el cuerpo de una solicitud cuando supera el tamaño máximo. */
+  private static final class BoundedInputStream extends FilterInputStream {
+    private final long limit;
+    private long remaining;
+
+    private BoundedInputStream(InputStream in, long limit) {
+      super(in);
+      this.limit = limit;
+      this.remaining = limit;
+    }
+
+    @Override
+    public int read() throws IOException {
+      int b = super.read();
+      if (b >= 0) {
+        consumed(1);
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+      // Reads at most one byte past the limit, enough to tell that it was exceeded
+      int bounded = remaining < length ? (int) remaining + 1 : length;
+      int read = super.read(buffer, offset, bounded);
+      if (read > 0) {
+        consumed(read);
+      }
+      return read;
+    }
+
+    private void consumed(int count) throws PayloadTooLargeException {
+      remaining -= count;
+      if (remaining < 0) {
+        throw new PayloadTooLargeException(limit, 0);
+      }
+    }
+  }
+
+  /** Indica que el cuerpo de una solicitud supera el tamaño máximo; se responde con 413. */
+  private static final class PayloadTooLargeException extends IOException {
+    private static final long serialVersionUID = 1L;
+
+    private PayloadTooLargeException(long limit, int added) {
+      super("Request body exceeds " + limit + " bytes" + alreadyAdded(added));
+    }
+
+    private PayloadTooLargeException(long limit, int added, Throwable cause) {
+      super("Request body exceeds " + limit + " bytes" + alreadyAdded(added), cause);
+    }
+  }
+
+  /** Crea los hilos del pool con nombres reconocibles y sin impedir que la JVM termine. */
+  private static final class WorkerFactory implements ThreadFactory {
+    private final AtomicInteger created = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable task) {
+      Thread thread = new Thread(task, "student-http-" + created.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+
+  /**
+   * Inicia el servicio sobre un repositorio concurrente en memoria y lo mantiene activo hasta que
+   * la JVM empieza a terminar.
+   *
+   * @param args el puerto opcional, 8080 por defecto
+   * @throws InterruptedException si el hilo principal se interrumpe mientras espera
+   */
+  public static void main(String[] args) throws InterruptedException {
+    enableNoDelay();
+    int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+    CountDownLatch stopping = new CountDownLatch(1);
+    Runtime.getRuntime()
+        .addShutdownHook(new Thread(stopping::countDown, "student-http-shutdown"));
+    try (StudentHttpServer server =
+        new StudentHttpServer(
+            new ConcurrentStudentRepository(),
+            new InetSocketAddress(port),
+            Runtime.getRuntime().availableProcessors() * 2)) {
+      server.start();
+      System.out.println("Listening on http://localhost:" + server.getPort() + PATH);
+      stopping.await();
+    }
+  }
+
+  /**
+   * Desactiva el algoritmo de Nagle en los servidores HTTP del JDK que se creen a partir de ahora,
+   * salvo que la propiedad ya se haya fijado. Debe llamarse antes de crear el primer servidor de la
+   * JVM, porque el JDK lee la propiedad una sola vez.
+   */
+  public static void enableNoDelay() {
+    if (System.getProperty(NO_DELAY) == null) {
+      System.setProperty(NO_DELAY, "true");
+    }
+  }
+}
@@ -0,0 +1,89 @@
+package com.studentmanager.importer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resultado de una importación masiva: cuántos estudiantes se aceptaron y qué filas se rechazaron
+ * con su motivo.
+ */
+public class ImportResult {
+  private int accepted;
+  private final List<RejectedRow> rejected;
+
+  /** Crea un resultado vacío. */
+  ImportResult() {
+    this.rejected = new ArrayList<>();
+  }
+
+  void addAccepted(int count) {
+    accepted += count;
+  }
+
+  void addRejected(long lineNumber, String reason) {
+    // Rows rejected by the repository are reported when their batch is flushed, after later lines
+    int index = rejected.size();
+    while (index > 0 && rejected.get(index - 1).lineNumber > lineNumber) {
+      index--;
+    }
+    rejected.add(index, new RejectedRow(lineNumber, reason));
+  }
+
+  /**
+   * Obtiene el número de estudiantes importados.
+   *
+   * @return el número de filas aceptadas
+   */
+  public int getAccepted() {
+    return accepted;
+  }
+
+  /**
+   * Obtiene las filas rechazadas en el orden del archivo.
+   *
+   * @return lista no modificable de filas rechazadas
+   */
+  public List<RejectedRow> getRejected() {
+    return Collections.unmodifiableList(rejected);
+  }
+
+  @Override
+  public String toString() {
+    return "ImportResult{accepted=" + accepted + ", rejected=" + rejected.size() + "}";
+  }
+
+  /** Una fila del archivo que no pudo importarse. */
+  public static final class RejectedRow {
+    private final long lineNumber;
+    private final String reason;
+
+    RejectedRow(long lineNumber, String reason) {
+      this.lineNumber = lineNumber;
+      this.reason = reason;
+    }
+
+    /**
+     * Obtiene el número de línea (comenzando en 1) de la fila rechazada.
+     *
+     * @return el número de línea
+     */
+    public long getLineNumber() {
+      return lineNumber;
+    }
+
+    /**
+     * Obtiene el motivo del rechazo.
+     *
+     * @return el motivo
+     */
+    public String getReason() {
+      return reason;
+    }
+
+    @Override
+    public String toString() {
+      return "line " + lineNumber + ": " + reason;
+    }
+  }
+}
@@ -0,0 +1,143 @@
+package com.studentmanager.importer;
+
+/** Cursor mínimo sobre un objeto JSON plano de una sola línea. */
+final class JsonCursor {
+  private final String text;
+  private int pos;
+
+  /**
+   * Crea un cursor al comienzo de la línea.
+   *
+   * @param text la línea a recorrer
+   */
+  JsonCursor(String text) {
+    this.text = text;
+  }
+
+  private void skipWhitespace() {
+    while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+      pos++;
+    }
+  }
+
+  boolean tryConsume(char c) {
+    skipWhitespace();
+    if (pos < text.length() && text.charAt(pos) == c) {
+      pos++;
+      return true;
+    }
+    return false;
+  }
+
+  void expect(char c) {
+    if (!tryConsume(c)) {
+      throw new IllegalArgumentException("Malformed JSON: expected '" + c + "' at " + pos);
+    }
+  }
+
+  void expectEnd() {
+    skipWhitespace();
+    if (pos != text.length()) {
+      throw new IllegalArgumentException("Malformed JSON: trailing content at " + pos);
+    }
+  }
+
+  String readString() {
+    expect('"');
+    StringBuilder value = new StringBuilder();
+    while (pos < text.length()) {
+      char c = text.charAt(pos++);
+      if (c == '"') {
+        return value.toString();
+      }
+      if (c != '\\') {
+        value.append(c);
+        continue;
+      }
+      if (pos >= text.length()) {
+        break;
+      }
+      char escaped = text.charAt(pos++);
+      switch (escaped) {
+        case 'b':
+          value.append('\b');
+          break;
+        case 'f':
+          value.append('\f');
+          break;
+        case 'n':
+          value.append('\n');
+          break;
+        case 'r':
+          value.append('\r');
+          break;
+        case 't':
+          value.append('\t');
+          break;
+        case 'u':
+          value.append(readUnicodeEscape());
+          break;
+        default:
+          value.append(escaped);
+          break;
+      }
+    }
+    throw new IllegalArgumentException("Malformed JSON: unterminated string");
+  }
+
+  /**
+   * Lee los cuatro dígitos hexadecimales que siguen a un escape Unicode.
+   *
+   * @return el carácter escapado
+   * @throws IllegalArgumentException si no siguen exactamente cuatro dígitos hexadecimales
+   */
+  private char readUnicodeEscape() {
+    if (pos + 4 > text.length()) {
+      throw new IllegalArgumentException("Malformed JSON: bad unicode escape");
+    }
+    int code = 0;
+    for (int end = pos + 4; pos < end; pos++) {
+      char c = text.charAt(pos);
+      int digit;
+      if (c >= '0' && c <= '9') {
+        digit = c - '0';
+      } else if (c >= 'a' && c <= 'f') {
+        digit = c - 'a' + 10;
+      } else if (c >= 'A' && c <= 'F') {
+        digit = c - 'A' + 10;
+      } else {
+        throw new IllegalArgumentException("Malformed JSON: bad unicode escape");
+      }
+      code = code * 16 + digit;
+    }
+    return (char) code;
+  }
+
+  String readNumber() {
+    skipWhitespace();
+    int start = pos;
+    while (pos < text.length() && "+-.eE0123456789".indexOf(text.charAt(pos)) >= 0) {
+      pos++;
+    }
+    if (start == pos) {
+      throw new IllegalArgumentException("Malformed JSON: expected number at " + pos);
+    }
+    return text.substring(start, pos);
+  }
+
+  void skipScalar() {
+    skipWhitespace();
+    if (pos < text.length() && text.charAt(pos) == '"') {
+      readString();
+      return;
+    }
+    int start = pos;
+    while (pos < text.length() && Character.isLetterOrDigit(text.charAt(pos))
+        || pos < text.length() && "+-.".indexOf(text.charAt(pos)) >= 0) {
+      pos++;
+    }
+    if (start == pos) {
+      throw new IllegalArgumentException("Malformed JSON: unsupported value at " + pos);
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package com.studentmanager.importer;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Lector de registros de texto separados por {@code \n}, {@code \r} o {@code \r\n}. En modo CSV un
+ * campo que empieza con comillas dobles al comienzo del registro puede contener saltos de línea,
+ * que se conservan tal cual hasta la comilla que lo cierra.
+ */
+final class RecordReader {
+  private static final int START = 0;
+  private static final int PLAIN = 1;
+  private static final int QUOTED = 2;
+  private static final int CLOSING = 3;
+
+  private final Reader in;
+  private final boolean quotes;
+  private final char[] buffer = new char[8192];
+  private final StringBuilder record = new StringBuilder();
+  private int pos;
+  private int limit;
+  private long lines;
+  private long start;
+
+  /**
+   * Crea un lector de registros.
+   *
+   * @param in     el texto a leer
+   * @param quotes si un nombre entre comillas puede abarcar varias líneas
+   */
+  RecordReader(Reader in, boolean quotes) {
+    this.in = in;
+    this.quotes = quotes;
+  }
+
+  /**
+   * Lee el siguiente registro, sin su separador final.
+   *
+   * @return el registro, o null al final del texto
+   * @throws IOException si falla la lectura
+   */
+  String next() throws IOException {
+    if (!fill()) {
+      return null;
+    }
+    record.setLength(0);
+    start = lines + 1;
+    int state = quotes ? START : PLAIN;
+    while (fill()) {
+      char c = buffer[pos++];
+      if (c == '\n' || c == '\r') {
+        boolean crlf = c == '\r' && fill() && buffer[pos] == '\n';
+        if (state != QUOTED) {
+          lines++;
+          if (crlf) {
+            pos++;
+          }
+          return record.toString();
+        }
+        if (!crlf) {
+          lines++;
+        }
+      } else {
+        state = advance(state, c);
+      }
+      record.append(c);
+    }
+    return record.toString();
+  }
+
+  /**
+   * Obtiene la línea donde empieza el último registro leído.
+   *
+   * @return el número de línea, contando desde 1
+   */
+  long line() {
+    return start;
+  }
+
+  private static int advance(int state, char c) {
+    switch (state) {
+      case START:
+        if (c == '"') {
+          return QUOTED;
+        }
+        return c == ' ' || c == '\t' ? START : PLAIN;
+      case QUOTED:
+        return c == '"' ? CLOSING : QUOTED;
+      case CLOSING:
+        return c == '"' ? QUOTED : PLAIN;
+      default:
+        return PLAIN;
+    }
+  }
+
+  private boolean fill() throws IOException {
+    if (pos < limit) {
+      return true;
+    }
+    limit = Math.max(0, in.read(buffer, 0, buffer.length));
+    pos = 0;
+    return limit > 0;
+  }
+}
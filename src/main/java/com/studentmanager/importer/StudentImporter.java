@@ -0,0 +1,288 @@
+package com.studentmanager.importer;
+
+import com.studentmanager.model.NamePool;
+import com.studentmanager.model.Student;
+import com.studentmanager.repository.RepositoryException;
+import com.studentmanager.repository.StudentRepository;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Importador masivo de estudiantes desde archivos CSV o JSON Lines. Lee el archivo de forma
+ * continua con un lector con búfer de NIO, valida cada fila con las mismas reglas que el
+ * constructor de {@link Student} y agrega los estudiantes válidos al repositorio en lotes mediante
+ * {@link StudentRepository#addAll}, sin imprimir nada por registro.
+ *
+ * <p>Formato CSV: una fila {@code nombre,calificación} por línea, con una cabecera opcional {@code
+ * name,grade}; los nombres que contienen comas o saltos de línea pueden ir entre comillas dobles, y
+ * en ese caso la fila puede ocupar varias líneas y se informa con la línea donde empieza. Formato
+ * JSON Lines: un objeto {@code {"name": "...", "grade": 85.5}} por línea. Las líneas en blanco se
+ * ignoran.
+ *
+ * <p>Las filas que el repositorio rechaza con {@link IllegalArgumentException} al agregarlas, por
+ * ejemplo un nombre demasiado largo para el repositorio en archivo, se informan como rechazadas
+ * igual que las filas mal formadas: el lote afectado se reintenta fila por fila. Para saber qué
+ * filas de ese lote ya se guardaron se compara {@link StudentRepository#count()} antes y después,
+ * por lo que nadie más debe escribir en el repositorio durante la importación.
+ *
+ * <p>Los nombres leídos pasan por un {@link NamePool}, de modo que los estudiantes importados con
+ * el mismo nombre comparten una sola cadena en lugar de retener una copia por fila.
+ */
+@SuppressWarnings("PMD.GodClass")
+public class StudentImporter {
+  /** Tamaño de lote por defecto. */
+  public static final int DEFAULT_BATCH_SIZE = 10_000;
+
+  private final StudentRepository repository;
+  private final int batchSize;
+  private final NamePool names;
+
+  /**
+   * Crea un importador con el tamaño de lote por defecto.
+   *
+   * @param repository el repositorio destino
+   */
+  public StudentImporter(StudentRepository repository) {
+    this(repository, DEFAULT_BATCH_SIZE);
+  }
+
+  /**
+   * Crea un importador.
+   *
+   * @param repository el repositorio destino
+   * @param batchSize  número de estudiantes por cada llamada a {@code addAll}
+   */
+  public StudentImporter(StudentRepository repository, int batchSize) {
+    this(repository, batchSize, new NamePool());
+  }
+
+  /**
+   * Crea un importador que deduplica los nombres con el conjunto indicado, que puede compartirse
+   * entre importadores para que varias importaciones reutilicen los mismos nombres.
+   *
+   * @param repository el repositorio destino
+   * @param batchSize  número de estudiantes por cada llamada a {@code addAll}
+   * @param names      el conjunto de nombres canónicos
+   */
+  public StudentImporter(StudentRepository repository, int batchSize, NamePool names) {
+    if (repository == null) {
+      throw new IllegalArgumentException("Repository cannot be null");
+    }
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("Batch size must be positive");
+    }
+    if (names == null) {
+      throw new IllegalArgumentException("Name pool cannot be null");
+    }
+    this.repository = repository;
+    this.batchSize = batchSize;
+    this.names = names;
+  }
+
+  /**
+   * Importa un archivo eligiendo el formato por su extensión: {@code .jsonl} o {@code .json} para
+   * JSON Lines y CSV en cualquier otro caso.
+   *
+   * @param file el archivo a importar
+   * @return el resultado de la importación
+   */
+  public ImportResult importFile(Path file) {
+    String name = String.valueOf(file.getFileName()).toLowerCase(Locale.ROOT);
+    return name.endsWith(".jsonl") || name.endsWith(".json")
+        ? importJsonLines(file)
+        : importCsv(file);
+  }
+
+  /**
+   * Importa un archivo CSV.
+   *
+   * @param file el archivo a importar
+   * @return el resultado de la importación
+   */
+  public ImportResult importCsv(Path file) {
+    return importLines(file, true);
+  }
+
+  /**
+   * Importa un archivo JSON Lines.
+   *
+   * @param file el archivo a importar
+   * @return el resultado de la importación
+   */
+  public ImportResult importJsonLines(Path file) {
+    return importLines(file, false);
+  }
+
+  private ImportResult importLines(Path file, boolean csv) {
+    ImportResult result = new ImportResult();
+    List<Student> batch = new ArrayList<>(Math.min(batchSize, DEFAULT_BATCH_SIZE));
+    long[] lines = new long[Math.min(batchSize, DEFAULT_BATCH_SIZE)];
+    try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+      RecordReader records = new RecordReader(reader, csv);
+      String line;
+      while ((line = records.next()) != null) {
+        long lineNumber = records.line();
+        if (line.trim().isEmpty() || (csv && lineNumber == 1 && isCsvHeader(line))) {
+          continue;
+        }
+        try {
+          batch.add(csv ? parseCsv(line, names) : parseJson(line, names));
+        } catch (IllegalArgumentException e) {
+          result.addRejected(lineNumber, e.getMessage());
+          continue;
+        }
+        if (batch.size() > lines.length) {
+          lines = Arrays.copyOf(lines, Math.min(batchSize, lines.length * 2));
+        }
+        lines[batch.size() - 1] = lineNumber;
+        if (batch.size() == batchSize) {
+          flush(batch, lines, result);
+        }
+      }
+    } catch (IOException e) {
+      throw new RepositoryException("Cannot read import file " + file, e);
+    }
+    flush(batch, lines, result);
+    return result;
+  }
+
+  /**
+   * Agrega un lote al repositorio. Si el repositorio rechaza alguna fila, las filas que no llegó a
+   * guardar se agregan una por una y las rechazadas se informan con su número de línea.
+   *
+   * @param batch  el lote a agregar, que queda vacío
+   * @param lines  el número de línea de cada fila del lote
+   * @param result el resultado donde contabilizar las filas
+   */
+  private void flush(List<Student> batch, long[] lines, ImportResult result) {
+    if (batch.isEmpty()) {
+      return;
+    }
+    int before = repository.count();
+    try {
+      repository.addAll(batch);
+      result.addAccepted(batch.size());
+    } catch (IllegalArgumentException e) {
+      // A non-atomic addAll may have stored the rows before the rejected one
+      int stored = Math.max(0, Math.min(repository.count() - before, batch.size()));
+      result.addAccepted(stored);
+      for (int i = stored; i < batch.size(); i++) {
+        try {
+          repository.add(batch.get(i));
+          result.addAccepted(1);
+        } catch (IllegalArgumentException rejected) {
+          result.addRejected(lines[i], rejected.getMessage());
+        }
+      }
+    }
+    batch.clear();
+  }
+
+  private static boolean isCsvHeader(String line) {
+    return line.replace(" ", "").equalsIgnoreCase("name,grade");
+  }
+
+  /**
+   * Interpreta una fila CSV {@code nombre,calificación}.
+   *
+   * @param line  la línea a interpretar
+   * @param names el conjunto de nombres canónicos
+   * @return el estudiante validado
+   * @throws IllegalArgumentException si la fila no es válida
+   */
+  static Student parseCsv(String line, NamePool names) {
+    String name;
+    int comma;
+    String trimmed = line.trim();
+    if (trimmed.startsWith("\"")) {
+      StringBuilder quoted = new StringBuilder();
+      int i = 1;
+      while (true) {
+        if (i >= trimmed.length()) {
+          throw new IllegalArgumentException("Unterminated quoted name");
+        }
+        char c = trimmed.charAt(i++);
+        if (c == '"') {
+          if (i < trimmed.length() && trimmed.charAt(i) == '"') {
+            quoted.append('"');
+            i++;
+          } else {
+            break;
+          }
+        } else {
+          quoted.append(c);
+        }
+      }
+      name = quoted.toString();
+      comma = trimmed.indexOf(',', i);
+      if (comma < 0 || !trimmed.substring(i, comma).trim().isEmpty()) {
+        throw new IllegalArgumentException("Expected 2 columns: name,grade");
+      }
+    } else {
+      comma = trimmed.indexOf(',');
+      if (comma < 0) {
+        throw new IllegalArgumentException("Expected 2 columns: name,grade");
+      }
+      name = trimmed.substring(0, comma).trim();
+    }
+    String grade = trimmed.substring(comma + 1).trim();
+    if (grade.indexOf(',') >= 0) {
+      throw new IllegalArgumentException("Expected 2 columns: name,grade");
+    }
+    return new Student(names.intern(name), parseGrade(grade));
+  }
+
+  /**
+   * Interpreta un objeto JSON de una línea con los campos {@code name} y {@code grade}.
+   *
+   * @param line  la línea a interpretar
+   * @param names el conjunto de nombres canónicos
+   * @return el estudiante validado
+   * @throws IllegalArgumentException si la línea no es válida
+   */
+  public static Student parseJson(String line, NamePool names) {
+    JsonCursor cursor = new JsonCursor(line);
+    String name = null;
+    String grade = null;
+    cursor.expect('{');
+    if (!cursor.tryConsume('}')) {
+      do {
+        String key = cursor.readString();
+        cursor.expect(':');
+        if ("name".equals(key)) {
+          name = cursor.readString();
+        } else if ("grade".equals(key)) {
+          grade = cursor.readNumber();
+        } else {
+          cursor.skipScalar();
+        }
+      } while (cursor.tryConsume(','));
+      cursor.expect('}');
+    }
+    cursor.expectEnd();
+    if (grade == null) {
+      throw new IllegalArgumentException("Missing grade");
+    }
+    return new Student(names.intern(name), parseGrade(grade));
+  }
+
+  private static double parseGrade(String text) {
+    double grade;
+    try {
+      grade = Double.parseDouble(text);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Grade is not a number: " + text, e);
+    }
+    if (Double.isNaN(grade) || Double.isInfinite(grade)) {
+      throw new IllegalArgumentException("Grade is not a number: " + text);
+    }
+    return grade;
+  }
+}
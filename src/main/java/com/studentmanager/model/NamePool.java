@@ -0,0 +1,59 @@
+package com.studentmanager.model;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Conjunto de nombres canónicos para deduplicar los nombres de estudiantes. Las listas reales
+ * repiten mucho los mismos nombres, y cada {@link String} leído de un archivo es un objeto nuevo
+ * con su propio arreglo de caracteres; al pasar cada nombre por {@link #intern(String)} todos los
+ * estudiantes con el mismo nombre comparten una única instancia y las copias leídas se descartan
+ * de inmediato.
+ *
+ * <p>Lo usan {@link com.studentmanager.importer.StudentImporter}, la carga de estudiantes por HTTP
+ * y la recuperación de {@link com.studentmanager.repository.JournaledStudentRepository} al crear
+ * los estudiantes, y {@link com.studentmanager.repository.ConcurrentStudentRepository} y {@link
+ * com.studentmanager.repository.SnapshotStudentRepository} tienen uno propio por el que pasan los
+ * nombres de todos los estudiantes que guardan. Un conjunto puede compartirse entre varios
+ * repositorios e importadores para que todos usen las mismas cadenas.
+ *
+ * <p>A diferencia de {@link String#intern()}, el conjunto pertenece a quien lo crea y se libera con
+ * él. Los nombres no se eliminan nunca del conjunto, ni siquiera cuando ya ningún estudiante los
+ * usa. Esta clase es segura para hilos.
+ */
+public final class NamePool {
+  private final ConcurrentMap<String, String> names;
+
+  /** Crea un conjunto vacío. */
+  public NamePool() {
+    this.names = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Obtiene la instancia canónica de un nombre, registrándolo si es la primera vez que aparece.
+   *
+   * @param name el nombre
+   * @return una cadena igual a {@code name} compartida por todas las llamadas con ese nombre, o
+   *         null si el nombre es nulo
+   */
+  public String intern(String name) {
+    if (name == null) {
+      return null;
+    }
+    String canonical = names.get(name);
+    if (canonical != null) {
+      return canonical;
+    }
+    canonical = names.putIfAbsent(name, name);
+    return canonical == null ? name : canonical;
+  }
+
+  /**
+   * Obtiene el número de nombres distintos registrados.
+   *
+   * @return la cantidad de nombres
+   */
+  public int size() {
+    return names.size();
+  }
+}
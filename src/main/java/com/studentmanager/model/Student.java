@@ -2,7 +2,7 @@ package com.studentmanager.model;
 
 /**
  * Representa un estudiante con nombre y calificación. Esta clase sigue SRP
- * manejando solo datos del estudiante.
+ * manejando solo datos del estudiante. Su variante inmutable es {@link StudentRecord}.
  */
 public class Student {
   private final String name;
@@ -14,17 +14,14 @@ public class Student {
    * @param name  el nombre del estudiante
    * @param grade la calificación del estudiante
    * @throws IllegalArgumentException si el nombre es nulo o vacío, o la
-   *                                  calificación es negativa
+   *                                  calificación es negativa, NaN o infinita
    */
   public Student(String name, double grade) {
     if (name == null || name.trim().isEmpty()) {
       throw new IllegalArgumentException("Name cannot be null or empty");
     }
-    if (grade < 0) {
-      throw new IllegalArgumentException("Grade cannot be negative");
-    }
     this.name = name;
-    this.grade = grade;
+    this.grade = checkGrade(grade);
   }
 
   /**
@@ -46,16 +43,33 @@ public class Student {
   }
 
   /**
-   * Establece la calificación del estudiante.
+   * Establece la calificación del estudiante. Los repositorios no observan este cambio: para
+   * modificar la calificación de un estudiante almacenado use {@code updateGrade} del repositorio.
    *
    * @param grade la nueva calificación
-   * @throws IllegalArgumentException si la calificación es negativa
+   * @throws IllegalArgumentException si la calificación es negativa, NaN o infinita
+   * @throws UnsupportedOperationException si el estudiante es un {@link StudentRecord}
    */
   public void setGrade(double grade) {
+    this.grade = checkGrade(grade);
+  }
+
+  /**
+   * Verifica una calificación con las reglas de esta clase. Es la única validación de
+   * calificaciones: la usan también los repositorios antes de aplicar un cambio.
+   *
+   * @param grade la calificación
+   * @return la misma calificación
+   * @throws IllegalArgumentException si la calificación es negativa, NaN o infinita
+   */
+  public static double checkGrade(double grade) {
+    if (Double.isNaN(grade) || Double.isInfinite(grade)) {
+      throw new IllegalArgumentException("Grade must be a finite number");
+    }
     if (grade < 0) {
       throw new IllegalArgumentException("Grade cannot be negative");
     }
-    this.grade = grade;
+    return grade;
   }
 
   @Override
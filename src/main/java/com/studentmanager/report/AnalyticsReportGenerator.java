@@ -0,0 +1,175 @@
+package com.studentmanager.report;
+
+import com.studentmanager.model.Student;
+import com.studentmanager.stats.GradeDistribution;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Generador de reportes de resumen: en lugar de listar filas muestra promedio, mínimo y máximo,
+ * cuartiles, aprobados y reprobados, calificaciones por letra y un histograma por decenas.
+ *
+ * <p>Todo se calcula en una sola pasada acumulando una {@link GradeDistribution}. Las listas de al
+ * menos {@value #PARALLEL_THRESHOLD} estudiantes se recorren con un flujo paralelo en el que cada
+ * hilo acumula su propia distribución y al final se combinan; los flujos recibidos en {@link
+ * #generateStream(Stream)} se recorren en paralelo solo si ya lo son.
+ */
+public class AnalyticsReportGenerator implements ReportGenerator {
+  /** Calificación mínima aprobatoria por defecto. */
+  public static final double DEFAULT_PASS_MARK = 60.0;
+
+  /** Tamaño de lista a partir del cual la distribución se acumula en paralelo. */
+  public static final int PARALLEL_THRESHOLD = 100_000;
+
+  private static final String LINE_SEPARATOR = System.lineSeparator();
+  private static final int BAR_WIDTH = 40;
+  private static final String[] LETTERS = {"A", "B", "C", "D", "F"};
+  private static final double[] LETTER_FLOORS = {90, 80, 70, 60, 0};
+
+  private final Writer out;
+  private final double passMark;
+
+  /** Crea un generador que escribe en la salida estándar con la nota aprobatoria por defecto. */
+  public AnalyticsReportGenerator() {
+    this(null, DEFAULT_PASS_MARK);
+  }
+
+  /**
+   * Crea un generador que escribe en el destino indicado con la nota aprobatoria por defecto.
+   *
+   * @param out el destino del reporte, o null para usar la salida estándar
+   */
+  public AnalyticsReportGenerator(Writer out) {
+    this(out, DEFAULT_PASS_MARK);
+  }
+
+  /**
+   * Crea un generador que escribe en el destino indicado. El destino se vacía al final de cada
+   * reporte pero nunca se cierra.
+   *
+   * @param out      el destino del reporte, o null para usar la salida estándar
+   * @param passMark la calificación mínima aprobatoria
+   * @throws IllegalArgumentException si la nota aprobatoria está fuera de la escala
+   */
+  public AnalyticsReportGenerator(Writer out, double passMark) {
+    if (!(passMark >= 0 && passMark <= GradeDistribution.MAX_GRADE)) {
+      throw new IllegalArgumentException("Pass mark must be between 0 and 100: " + passMark);
+    }
+    this.out = out;
+    this.passMark = passMark;
+  }
+
+  @Override
+  public void generate(List<Student> students) {
+    if (students == null) {
+      write(new GradeDistribution());
+      return;
+    }
+    write(
+        distribution(
+            students.size() >= PARALLEL_THRESHOLD
+                ? students.parallelStream()
+                : students.stream()));
+  }
+
+  @Override
+  public void generateStream(Stream<Student> students) {
+    write(students == null ? new GradeDistribution() : distribution(students));
+  }
+
+  /**
+   * Acumula la distribución de un flujo. En flujos paralelos cada hilo llena su propia distribución
+   * y luego se combinan.
+   *
+   * @param students el flujo de estudiantes
+   * @return la distribución de sus calificaciones
+   */
+  static GradeDistribution distribution(Stream<Student> students) {
+    return students.collect(
+        GradeDistribution::new,
+        (distribution, student) -> distribution.add(student.getGrade()),
+        GradeDistribution::combine);
+  }
+
+  /**
+   * Escribe el reporte de una distribución.
+   *
+   * @param distribution la distribución a reportar
+   */
+  private void write(GradeDistribution distribution) {
+    StringBuilder text = new StringBuilder(1024);
+    if (distribution.getCount() == 0) {
+      ReportFormat.appendEmpty(text);
+    } else {
+      render(text, distribution);
+    }
+    Writer target = out != null ? out : new OutputStreamWriter(System.out);
+    try {
+      target.append(text);
+      target.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot write student report", e);
+    }
+  }
+
+  private void render(StringBuilder text, GradeDistribution distribution) {
+    long count = distribution.getCount();
+    text.append("=== Grade Analytics ===").append(LINE_SEPARATOR);
+    text.append("Students: ").append(count).append(LINE_SEPARATOR);
+    text.append(
+            String.format(
+                Locale.ROOT,
+                "Mean: %.2f, Min: %s, Max: %s",
+                distribution.getMean(),
+                distribution.getMin(),
+                distribution.getMax()))
+        .append(LINE_SEPARATOR);
+    text.append("Quartiles: Q1 ")
+        .append(distribution.percentile(25))
+        .append(", Median ")
+        .append(distribution.percentile(50))
+        .append(", Q3 ")
+        .append(distribution.percentile(75))
+        .append(LINE_SEPARATOR);
+    long passed = distribution.countAtLeast(passMark);
+    text.append("Passed (>= ")
+        .append(passMark)
+        .append("): ")
+        .append(passed)
+        .append(", Failed: ")
+        .append(count - passed)
+        .append(LINE_SEPARATOR);
+
+    text.append("Letter grades:").append(LINE_SEPARATOR);
+    double upper = Double.POSITIVE_INFINITY;
+    for (int i = 0; i < LETTERS.length; i++) {
+      long letterCount = distribution.countBetween(LETTER_FLOORS[i], upper);
+      text.append("  ").append(LETTERS[i]).append(": ").append(letterCount).append(LINE_SEPARATOR);
+      upper = LETTER_FLOORS[i];
+    }
+
+    text.append("Histogram:").append(LINE_SEPARATOR);
+    long[] buckets = new long[10];
+    long largest = 0;
+    for (int i = 0; i < buckets.length; i++) {
+      double to = i == buckets.length - 1 ? Double.POSITIVE_INFINITY : (i + 1) * 10;
+      buckets[i] = distribution.countBetween(i * 10, to);
+      largest = Math.max(largest, buckets[i]);
+    }
+    for (int i = 0; i < buckets.length; i++) {
+      text.append(
+          String.format(
+              Locale.ROOT, "  %3d-%-3s ", i * 10, i == buckets.length - 1 ? "100" : (i + 1) * 10));
+      int bar = largest == 0 ? 0 : (int) Math.round((double) buckets[i] * BAR_WIDTH / largest);
+      for (int j = 0; j < bar; j++) {
+        text.append('#');
+      }
+      text.append(' ').append(buckets[i]).append(LINE_SEPARATOR);
+    }
+  }
+}
@@ -0,0 +1,156 @@
+package com.studentmanager.report;
+
+import com.studentmanager.model.Student;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Base de los generadores que escriben reportes en UTF-8 sobre un {@link ReportDestination}. Las
+ * subclases solo definen el formato del encabezado, de cada fila y del pie.
+ *
+ * <p>Las filas se agregan a un búfer de caracteres reutilizable que, al llenarse, se codifica en un
+ * {@link ByteBuffer} también reutilizable y se escribe en el canal, sin crear cadenas ni arreglos
+ * de bytes intermedios por fila. Los caracteres que no pueden codificarse (sustitutos sin pareja)
+ * se reemplazan. Por los búferes compartidos, una instancia no debe usarse desde varios hilos a
+ * la vez.
+ */
+public abstract class ChannelReportGenerator implements ReportGenerator {
+  /** Cantidad de caracteres acumulados que provoca una escritura al canal. */
+  static final int FLUSH_THRESHOLD = 32 * 1024;
+
+  private final ReportDestination destination;
+  private final StringBuilder buffer;
+  private final ByteBuffer bytes;
+  private final CharsetEncoder encoder;
+  private char[] chars;
+
+  /**
+   * Crea un generador que escribe en el destino indicado.
+   *
+   * @param destination el destino del reporte
+   * @throws IllegalArgumentException si el destino es nulo
+   */
+  protected ChannelReportGenerator(ReportDestination destination) {
+    if (destination == null) {
+      throw new IllegalArgumentException("Destination cannot be null");
+    }
+    this.destination = destination;
+    this.buffer = new StringBuilder(FLUSH_THRESHOLD + 256);
+    // Heap buffers let the UTF-8 encoder use its array fast path
+    this.bytes = ByteBuffer.allocate(64 * 1024);
+    this.chars = new char[FLUSH_THRESHOLD + 256];
+    this.encoder =
+        StandardCharsets.UTF_8
+            .newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+  }
+
+  @Override
+  public void generate(List<Student> students) {
+    write(students == null ? Collections.emptyIterator() : students.iterator());
+  }
+
+  @Override
+  public void generateStream(Stream<Student> students) {
+    write(students == null ? Collections.emptyIterator() : students.iterator());
+  }
+
+  /**
+   * Agrega el encabezado del reporte.
+   *
+   * @param out el búfer de destino
+   */
+  protected abstract void appendHeader(StringBuilder out);
+
+  /**
+   * Agrega una fila del reporte.
+   *
+   * @param out     el búfer de destino
+   * @param student el estudiante a formatear
+   */
+  protected abstract void appendRow(StringBuilder out, Student student);
+
+  /**
+   * Agrega el pie del reporte.
+   *
+   * @param out   el búfer de destino
+   * @param total el número de estudiantes reportados
+   */
+  protected abstract void appendFooter(StringBuilder out, long total);
+
+  /**
+   * Escribe el reporte completo en un canal nuevo del destino y lo cierra.
+   *
+   * @param students los estudiantes a reportar
+   */
+  private void write(Iterator<Student> students) {
+    try (WritableByteChannel channel = destination.open()) {
+      encoder.reset();
+      appendHeader(buffer);
+      long total = 0;
+      while (students.hasNext()) {
+        appendRow(buffer, students.next());
+        total++;
+        if (buffer.length() >= FLUSH_THRESHOLD) {
+          encode(channel, false);
+        }
+      }
+      appendFooter(buffer, total);
+      encode(channel, true);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot write student report", e);
+    } finally {
+      buffer.setLength(0);
+      bytes.clear();
+    }
+  }
+
+  /**
+   * Codifica el contenido del búfer de caracteres y lo escribe en el canal.
+   *
+   * @param channel el canal de destino
+   * @param last    true si es el último bloque del reporte
+   * @throws IOException si la escritura falla
+   */
+  private void encode(WritableByteChannel channel, boolean last) throws IOException {
+    int length = buffer.length();
+    if (chars.length < length) {
+      chars = new char[length];
+    }
+    buffer.getChars(0, length, chars, 0);
+    CharBuffer input = CharBuffer.wrap(chars, 0, length);
+    CoderResult result;
+    do {
+      result = encoder.encode(input, bytes, last);
+      drain(channel);
+    } while (result.isOverflow());
+    if (last) {
+      while (encoder.flush(bytes).isOverflow()) {
+        drain(channel);
+      }
+      drain(channel);
+    }
+    // An unpaired high surrogate at the end stays for the next block
+    buffer.delete(0, input.position());
+  }
+
+  private void drain(WritableByteChannel channel) throws IOException {
+    bytes.flip();
+    while (bytes.hasRemaining()) {
+      channel.write(bytes);
+    }
+    bytes.clear();
+  }
+}
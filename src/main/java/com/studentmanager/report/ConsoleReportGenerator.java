@@ -1,27 +1,110 @@
 package com.studentmanager.report;
 
 import com.studentmanager.model.Student;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Implementación de consola de ReportGenerator. Esta clase sigue SRP manejando
  * solo formato de
  * salida a consola. Puede coexistir con otras implementaciones como
  * HTMLReportGenerator (OCP).
+ *
+ * <p>Las filas se formatean en un búfer de caracteres reutilizable (los números se agregan
+ * directamente al búfer, sin crear cadenas intermedias) y se escriben al destino en bloques de
+ * {@value #FLUSH_THRESHOLD} caracteres, en lugar de una escritura sincronizada con vaciado
+ * automático por cada fila. Por el búfer compartido, una instancia no debe usarse desde varios
+ * hilos a la vez.
  */
 public class ConsoleReportGenerator implements ReportGenerator {
+  /** Cantidad de caracteres acumulados que provoca una escritura al destino. */
+  static final int FLUSH_THRESHOLD = 64 * 1024;
+
+  private final Writer out;
+  private final StringBuilder buffer;
+  private final char[] chunk;
+
+  /** Crea un generador que escribe en la salida estándar vigente al generar cada reporte. */
+  public ConsoleReportGenerator() {
+    this(null);
+  }
+
+  /**
+   * Crea un generador que escribe en el destino indicado. El destino se vacía al final de cada
+   * reporte pero nunca se cierra.
+   *
+   * @param out el destino del reporte, o null para usar la salida estándar
+   */
+  public ConsoleReportGenerator(Writer out) {
+    this.out = out;
+    this.buffer = new StringBuilder(FLUSH_THRESHOLD + 256);
+    this.chunk = new char[FLUSH_THRESHOLD + 256];
+  }
 
   @Override
   public void generate(List<Student> students) {
-    if (students == null || students.isEmpty()) {
-      System.out.println("No students to display.");
-      return;
-    }
+    write(students == null ? null : students.iterator());
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Las filas se formatean y escriben a medida que se consumen, y el total se cuenta durante el
+   * recorrido, así que la memoria usada no depende del número de estudiantes.
+   */
+  @Override
+  public void generateStream(Stream<Student> students) {
+    write(students == null ? null : students.iterator());
+  }
 
-    System.out.println("=== Student Report ===");
-    for (Student student : students) {
-      System.out.println("Student: " + student.getName() + ", Grade: " + student.getGrade());
+  /**
+   * Escribe el reporte de los estudiantes que produce el iterador.
+   *
+   * @param students el iterador de estudiantes, o null si no hay estudiantes
+   */
+  private void write(Iterator<Student> students) {
+    Writer target = out != null ? out : new OutputStreamWriter(System.out);
+    try {
+      if (students == null || !students.hasNext()) {
+        ReportFormat.appendEmpty(buffer);
+      } else {
+        ReportFormat.appendHeader(buffer);
+        long total = 0;
+        while (students.hasNext()) {
+          ReportFormat.appendRow(buffer, students.next());
+          total++;
+          if (buffer.length() >= FLUSH_THRESHOLD) {
+            drain(target);
+          }
+        }
+        ReportFormat.appendFooter(buffer, total);
+      }
+      drain(target);
+      target.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot write student report", e);
+    } finally {
+      buffer.setLength(0);
     }
-    System.out.println("Total students: " + students.size());
+  }
+
+  /**
+   * Escribe el contenido del búfer en el destino y lo vacía, reutilizando el arreglo de
+   * caracteres intermedio salvo que una fila excepcionalmente larga no quepa en él.
+   *
+   * @param target el destino
+   * @throws IOException si la escritura falla
+   */
+  private void drain(Writer target) throws IOException {
+    int length = buffer.length();
+    char[] chars = length <= chunk.length ? chunk : new char[length];
+    buffer.getChars(0, length, chars, 0);
+    target.write(chars, 0, length);
+    buffer.setLength(0);
   }
 }
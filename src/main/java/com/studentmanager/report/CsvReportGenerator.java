@@ -0,0 +1,66 @@
+package com.studentmanager.report;
+
+import com.studentmanager.model.Student;
+
+/**
+ * Generador de reportes en formato CSV con encabezado {@code name,grade}, el mismo formato que lee
+ * {@link com.studentmanager.importer.StudentImporter}. Los nombres con comas, comillas, saltos de
+ * línea o espacios en los extremos se escriben entre comillas dobles, duplicando las comillas
+ * internas.
+ */
+public class CsvReportGenerator extends ChannelReportGenerator {
+  /**
+   * Crea un generador CSV que escribe en el destino indicado.
+   *
+   * @param destination el destino del reporte
+   */
+  public CsvReportGenerator(ReportDestination destination) {
+    super(destination);
+  }
+
+  @Override
+  protected void appendHeader(StringBuilder out) {
+    out.append("name,grade\n");
+  }
+
+  @Override
+  protected void appendRow(StringBuilder out, Student student) {
+    appendName(out, student.getName());
+    out.append(',').append(student.getGrade()).append('\n');
+  }
+
+  @Override
+  protected void appendFooter(StringBuilder out, long total) {
+    // CSV has no footer
+  }
+
+  private static void appendName(StringBuilder out, String name) {
+    if (!needsQuotes(name)) {
+      out.append(name);
+      return;
+    }
+    out.append('"');
+    for (int i = 0; i < name.length(); i++) {
+      char c = name.charAt(i);
+      if (c == '"') {
+        out.append('"');
+      }
+      out.append(c);
+    }
+    out.append('"');
+  }
+
+  private static boolean needsQuotes(String name) {
+    if (Character.isWhitespace(name.charAt(0))
+        || Character.isWhitespace(name.charAt(name.length() - 1))) {
+      return true;
+    }
+    for (int i = 0; i < name.length(); i++) {
+      char c = name.charAt(i);
+      if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+        return true;
+      }
+    }
+    return false;
+  }
+}
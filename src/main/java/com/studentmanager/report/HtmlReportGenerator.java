@@ -0,0 +1,69 @@
+package com.studentmanager.report;
+
+import com.studentmanager.model.Student;
+
+/**
+ * Generador de reportes en formato HTML: un documento completo con una tabla de nombres y
+ * calificaciones y el total de estudiantes. Los nombres se escapan para que no puedan inyectar
+ * marcado.
+ */
+public class HtmlReportGenerator extends ChannelReportGenerator {
+  /**
+   * Crea un generador HTML que escribe en el destino indicado.
+   *
+   * @param destination el destino del reporte
+   */
+  public HtmlReportGenerator(ReportDestination destination) {
+    super(destination);
+  }
+
+  @Override
+  protected void appendHeader(StringBuilder out) {
+    out.append("<!DOCTYPE html>\n")
+        .append("<html>\n<head>\n<meta charset=\"utf-8\">\n")
+        .append("<title>Student Report</title>\n</head>\n<body>\n")
+        .append("<h1>Student Report</h1>\n")
+        .append("<table>\n<thead><tr><th>Name</th><th>Grade</th></tr></thead>\n<tbody>\n");
+  }
+
+  @Override
+  protected void appendRow(StringBuilder out, Student student) {
+    out.append("<tr><td>");
+    appendEscaped(out, student.getName());
+    out.append("</td><td>").append(student.getGrade()).append("</td></tr>\n");
+  }
+
+  @Override
+  protected void appendFooter(StringBuilder out, long total) {
+    out.append("</tbody>\n</table>\n")
+        .append("<p>Total students: ")
+        .append(total)
+        .append("</p>\n</body>\n</html>\n");
+  }
+
+  private static void appendEscaped(StringBuilder out, String text) {
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      switch (c) {
+        case '&':
+          out.append("&amp;");
+          break;
+        case '<':
+          out.append("&lt;");
+          break;
+        case '>':
+          out.append("&gt;");
+          break;
+        case '"':
+          out.append("&quot;");
+          break;
+        case '\'':
+          out.append("&#39;");
+          break;
+        default:
+          out.append(c);
+          break;
+      }
+    }
+  }
+}
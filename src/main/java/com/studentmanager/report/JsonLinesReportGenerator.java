@@ -0,0 +1,68 @@
+package com.studentmanager.report;
+
+import com.studentmanager.model.Student;
+
+/**
+ * Generador de reportes en formato JSON Lines: un objeto {@code {"name": ..., "grade": ...}} por
+ * línea, el mismo formato que lee {@link com.studentmanager.importer.StudentImporter}.
+ */
+public class JsonLinesReportGenerator extends ChannelReportGenerator {
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  /**
+   * Crea un generador JSON Lines que escribe en el destino indicado.
+   *
+   * @param destination el destino del reporte
+   */
+  public JsonLinesReportGenerator(ReportDestination destination) {
+    super(destination);
+  }
+
+  @Override
+  protected void appendHeader(StringBuilder out) {
+    // JSON Lines has no header
+  }
+
+  @Override
+  protected void appendRow(StringBuilder out, Student student) {
+    out.append("{\"name\":\"");
+    appendEscaped(out, student.getName());
+    out.append("\",\"grade\":");
+    out.append(student.getGrade()).append("}\n");
+  }
+
+  @Override
+  protected void appendFooter(StringBuilder out, long total) {
+    // JSON Lines has no footer
+  }
+
+  private static void appendEscaped(StringBuilder out, String text) {
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      switch (c) {
+        case '"':
+          out.append("\\\"");
+          break;
+        case '\\':
+          out.append("\\\\");
+          break;
+        case '\n':
+          out.append("\\n");
+          break;
+        case '\r':
+          out.append("\\r");
+          break;
+        case '\t':
+          out.append("\\t");
+          break;
+        default:
+          if (c < 0x20) {
+            out.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+          } else {
+            out.append(c);
+          }
+          break;
+      }
+    }
+  }
+}
@@ -0,0 +1,217 @@
+package com.studentmanager.report;
+
+import com.studentmanager.model.Student;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Stream;
+
+/**
+ * Implementación de ReportGenerator que formatea el reporte en paralelo. Los estudiantes se dividen
+ * en bloques consecutivos que se formatean como tareas de un {@link ForkJoinPool}, y los bloques se
+ * escriben al destino en su orden original, así que la salida es idéntica a la de {@link
+ * ConsoleReportGenerator}.
+ *
+ * <p>Como máximo hay dos bloques en vuelo por hilo del pool: el hilo que llama escribe el bloque
+ * más antiguo mientras los siguientes se formatean, y solo entonces envía uno nuevo, reutilizando
+ * el búfer del bloque ya escrito. La memoria usada depende del tamaño del bloque y del
+ * paralelismo, no del tamaño del reporte. Con {@link #generateStream(Stream)} el flujo se consume
+ * en el hilo que llama y solo el formateo se reparte.
+ */
+public class ParallelReportGenerator implements ReportGenerator {
+  /** Número de estudiantes por bloque por defecto. */
+  public static final int DEFAULT_CHUNK_SIZE = 8192;
+
+  /** Estimación de caracteres por fila usada para dimensionar el búfer de cada bloque. */
+  private static final int ROW_CAPACITY = 48;
+
+  private final Writer out;
+  private final ForkJoinPool pool;
+  private final int chunkSize;
+  private final int window;
+
+  /** Crea un generador que escribe en la salida estándar usando el pool común. */
+  public ParallelReportGenerator() {
+    this(null);
+  }
+
+  /**
+   * Crea un generador que escribe en el destino indicado usando el pool común.
+   *
+   * @param out el destino del reporte, o null para usar la salida estándar
+   */
+  public ParallelReportGenerator(Writer out) {
+    this(out, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+  }
+
+  /**
+   * Crea un generador con el pool y el tamaño de bloque indicados. El destino se vacía al final de
+   * cada reporte pero nunca se cierra.
+   *
+   * @param out       el destino del reporte, o null para usar la salida estándar
+   * @param pool      el pool donde se formatean los bloques
+   * @param chunkSize el número de estudiantes por bloque
+   * @throws IllegalArgumentException si el pool es nulo o el tamaño de bloque no es positivo
+   */
+  public ParallelReportGenerator(Writer out, ForkJoinPool pool, int chunkSize) {
+    if (pool == null) {
+      throw new IllegalArgumentException("Pool cannot be null");
+    }
+    if (chunkSize < 1) {
+      throw new IllegalArgumentException("Chunk size must be positive");
+    }
+    this.out = out;
+    this.pool = pool;
+    this.chunkSize = chunkSize;
+    this.window = 2 * pool.getParallelism();
+  }
+
+  @Override
+  public void generate(List<Student> students) {
+    write(students == null ? Collections.emptyIterator() : new ListChunks(students));
+  }
+
+  @Override
+  public void generateStream(Stream<Student> students) {
+    write(students == null ? Collections.emptyIterator() : new IteratorChunks(students.iterator()));
+  }
+
+  /**
+   * Formatea los bloques en el pool y los escribe en orden.
+   *
+   * @param chunks los bloques de estudiantes, en orden
+   */
+  private void write(Iterator<List<Student>> chunks) {
+    Writer target = out != null ? out : new OutputStreamWriter(System.out);
+    Deque<ForkJoinTask<StringBuilder>> pending = new ArrayDeque<>(window);
+    Deque<StringBuilder> spare = new ArrayDeque<>(window);
+    try {
+      StringBuilder text = new StringBuilder();
+      if (chunks.hasNext()) {
+        ReportFormat.appendHeader(text);
+        target.append(text);
+        long total = 0;
+        char[] chars = new char[0];
+        while (chunks.hasNext() || !pending.isEmpty()) {
+          while (pending.size() < window && chunks.hasNext()) {
+            List<Student> chunk = chunks.next();
+            total += chunk.size();
+            StringBuilder buffer =
+                spare.isEmpty() ? new StringBuilder(chunkSize * ROW_CAPACITY) : spare.pop();
+            pending.add(pool.submit(() -> format(chunk, buffer)));
+          }
+          StringBuilder formatted = pending.poll().get();
+          if (chars.length < formatted.length()) {
+            chars = new char[formatted.length()];
+          }
+          formatted.getChars(0, formatted.length(), chars, 0);
+          target.write(chars, 0, formatted.length());
+          formatted.setLength(0);
+          spare.push(formatted);
+        }
+        text.setLength(0);
+        ReportFormat.appendFooter(text, total);
+        target.append(text);
+      } else {
+        ReportFormat.appendEmpty(text);
+        target.append(text);
+      }
+      target.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot write student report", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IllegalStateException("Cannot format student report", e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Report generation interrupted", e);
+    } finally {
+      for (ForkJoinTask<StringBuilder> task : pending) {
+        task.cancel(false);
+      }
+    }
+  }
+
+  /**
+   * Formatea las filas de un bloque.
+   *
+   * @param chunk los estudiantes del bloque
+   * @param text  un búfer vacío, reutilizado entre bloques del mismo reporte
+   * @return el búfer con el texto del bloque
+   */
+  private static StringBuilder format(List<Student> chunk, StringBuilder text) {
+    for (Student student : chunk) {
+      ReportFormat.appendRow(text, student);
+    }
+    return text;
+  }
+
+  /** Divide una lista en vistas consecutivas, sin copiarla. */
+  private final class ListChunks implements Iterator<List<Student>> {
+    private final List<Student> students;
+    private int from;
+
+    private ListChunks(List<Student> students) {
+      this.students = students;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return from < students.size();
+    }
+
+    @Override
+    public List<Student> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      int to = Math.min(students.size(), from + chunkSize);
+      List<Student> chunk = students.subList(from, to);
+      from = to;
+      return chunk;
+    }
+  }
+
+  /** Agrupa los estudiantes de un iterador en bloques a medida que se piden. */
+  private final class IteratorChunks implements Iterator<List<Student>> {
+    private final Iterator<Student> students;
+
+    private IteratorChunks(Iterator<Student> students) {
+      this.students = students;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return students.hasNext();
+    }
+
+    @Override
+    public List<Student> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      List<Student> chunk = new ArrayList<>(chunkSize);
+      while (chunk.size() < chunkSize && students.hasNext()) {
+        chunk.add(students.next());
+      }
+      return chunk;
+    }
+  }
+}
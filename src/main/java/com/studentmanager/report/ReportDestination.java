@@ -0,0 +1,101 @@
+package com.studentmanager.report;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Destino de bytes de un reporte. Cada llamada a {@link #open()} entrega un canal nuevo para un
+ * único reporte, que el generador cierra al terminar; cerrar el canal completa la compresión o
+ * libera el archivo según corresponda.
+ */
+public interface ReportDestination {
+  /**
+   * Abre el canal donde se escribirá un reporte.
+   *
+   * @return el canal de escritura
+   * @throws IOException si el destino no puede abrirse
+   */
+  WritableByteChannel open() throws IOException;
+
+  /**
+   * Crea un destino que escribe en un archivo, reemplazando su contenido en cada reporte.
+   *
+   * @param file el archivo de destino
+   * @return el destino
+   */
+  static ReportDestination file(Path file) {
+    return file(file, false);
+  }
+
+  /**
+   * Crea un destino que escribe en un archivo, opcionalmente comprimido con gzip al vuelo.
+   *
+   * @param file el archivo de destino
+   * @param gzip true para comprimir la salida
+   * @return el destino
+   * @throws IllegalArgumentException si el archivo es nulo
+   */
+  static ReportDestination file(Path file, boolean gzip) {
+    if (file == null) {
+      throw new IllegalArgumentException("File cannot be null");
+    }
+    return () -> {
+      FileChannel channel =
+          FileChannel.open(
+              file,
+              StandardOpenOption.CREATE,
+              StandardOpenOption.WRITE,
+              StandardOpenOption.TRUNCATE_EXISTING);
+      if (!gzip) {
+        return channel;
+      }
+      try {
+        return Channels.newChannel(
+            new GZIPOutputStream(Channels.newOutputStream(channel), 64 * 1024));
+      } catch (IOException | RuntimeException e) {
+        channel.close();
+        throw e;
+      }
+    };
+  }
+
+  /**
+   * Crea un destino que escribe en un canal existente, por ejemplo el cuerpo de una respuesta HTTP.
+   * Cerrar el canal entregado no cierra el canal original, que sigue siendo responsabilidad de
+   * quien lo creó.
+   *
+   * @param channel el canal de destino
+   * @return el destino
+   * @throws IllegalArgumentException si el canal es nulo
+   */
+  static ReportDestination channel(WritableByteChannel channel) {
+    if (channel == null) {
+      throw new IllegalArgumentException("Channel cannot be null");
+    }
+    return () ->
+        new WritableByteChannel() {
+          private boolean open = true;
+
+          @Override
+          public int write(ByteBuffer source) throws IOException {
+            return channel.write(source);
+          }
+
+          @Override
+          public boolean isOpen() {
+            return open && channel.isOpen();
+          }
+
+          @Override
+          public void close() {
+            open = false;
+          }
+        };
+  }
+}
@@ -0,0 +1,57 @@
+package com.studentmanager.report;
+
+import com.studentmanager.model.Student;
+
+/**
+ * Formato de texto compartido por los generadores de reportes de texto plano, para que la salida
+ * sea idéntica sin importar si se genera en uno o varios hilos.
+ */
+final class ReportFormat {
+  static final String LINE_SEPARATOR = System.lineSeparator();
+
+  private ReportFormat() {}
+
+  /**
+   * Agrega el mensaje de reporte vacío.
+   *
+   * @param buffer el búfer de destino
+   */
+  static void appendEmpty(StringBuilder buffer) {
+    buffer.append("No students to display.").append(LINE_SEPARATOR);
+  }
+
+  /**
+   * Agrega el encabezado del reporte.
+   *
+   * @param buffer el búfer de destino
+   */
+  static void appendHeader(StringBuilder buffer) {
+    buffer.append("=== Student Report ===").append(LINE_SEPARATOR);
+  }
+
+  /**
+   * Agrega una fila del reporte. La calificación se agrega directamente al búfer, sin crear
+   * cadenas intermedias.
+   *
+   * @param buffer  el búfer de destino
+   * @param student el estudiante a formatear
+   */
+  static void appendRow(StringBuilder buffer, Student student) {
+    buffer
+        .append("Student: ")
+        .append(student.getName())
+        .append(", Grade: ")
+        .append(student.getGrade())
+        .append(LINE_SEPARATOR);
+  }
+
+  /**
+   * Agrega el pie del reporte con el total de estudiantes.
+   *
+   * @param buffer el búfer de destino
+   * @param total  el número de estudiantes reportados
+   */
+  static void appendFooter(StringBuilder buffer, long total) {
+    buffer.append("Total students: ").append(total).append(LINE_SEPARATOR);
+  }
+}
@@ -2,6 +2,8 @@ package com.studentmanager.report;
 
 import com.studentmanager.model.Student;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Interfaz para generar reportes de estudiantes. Esta interfaz sigue OCP
@@ -15,4 +17,16 @@ public interface ReportGenerator {
    * @param students la lista de estudiantes a reportar
    */
   void generate(List<Student> students);
+
+  /**
+   * Genera un reporte consumiendo los estudiantes de forma incremental, por ejemplo desde {@link
+   * com.studentmanager.repository.StudentRepository#stream()}. La implementación por defecto
+   * materializa el flujo y delega en {@link #generate(List)}; las implementaciones que escriben
+   * fila por fila la sobrescriben para usar memoria constante sin importar el tamaño del reporte.
+   *
+   * @param students el flujo de estudiantes a reportar, o null si no hay estudiantes
+   */
+  default void generateStream(Stream<Student> students) {
+    generate(students == null ? null : students.collect(Collectors.toList()));
+  }
 }
@@ -0,0 +1,257 @@
+package com.studentmanager.repository;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Mapa acotado con desalojo LRU o W-TinyLFU. Con {@link EvictionPolicy#LRU} todas las entradas
+ * viven en una única lista de uso reciente. Con {@link EvictionPolicy#TINY_LFU} la lista se divide
+ * en una ventana del 1% de la capacidad y una región principal segmentada en prueba (20%) y
+ * protegida (80%): las entradas que salen de la ventana compiten con la más antigua de prueba y se
+ * queda la de mayor frecuencia estimada, y una entrada de prueba que vuelve a usarse pasa a la
+ * protegida. Todas las operaciones cuestan O(1). Esta clase no es segura para hilos.
+ *
+ * @param <K> el tipo de las claves
+ * @param <V> el tipo de los valores
+ */
+final class BoundedCache<K, V> {
+  private static final int WINDOW = 0;
+  private static final int PROBATION = 1;
+  private static final int PROTECTED = 2;
+
+  private final Map<K, Node<K, V>> data;
+  private final FrequencySketch sketch;
+  private final int maximumSize;
+  private final int maxWindow;
+  private final int maxProtected;
+  private final Queue<K, V> window;
+  private final Queue<K, V> probation;
+  private final Queue<K, V> protectedQueue;
+  private long evictions;
+
+  /**
+   * Crea una caché vacía.
+   *
+   * @param maximumSize el número máximo de entradas
+   * @param policy      la política de desalojo
+   */
+  BoundedCache(int maximumSize, EvictionPolicy policy) {
+    this.data = new HashMap<>();
+    this.maximumSize = maximumSize;
+    this.window = new Queue<>();
+    this.probation = new Queue<>();
+    this.protectedQueue = new Queue<>();
+    if (policy == EvictionPolicy.LRU) {
+      this.sketch = null;
+      this.maxWindow = maximumSize;
+      this.maxProtected = 0;
+    } else {
+      this.sketch = new FrequencySketch(maximumSize);
+      this.maxWindow = Math.max(1, maximumSize / 100);
+      this.maxProtected = (int) ((maximumSize - maxWindow) * 0.8);
+    }
+  }
+
+  /**
+   * Obtiene el valor de una clave y registra el acceso.
+   *
+   * @param key la clave
+   * @return el valor, o null si la clave no está en la caché
+   */
+  V get(K key) {
+    if (sketch != null) {
+      sketch.increment(key);
+    }
+    Node<K, V> node = data.get(key);
+    if (node == null) {
+      return null;
+    }
+    touch(node);
+    return node.value;
+  }
+
+  /**
+   * Guarda el valor de una clave, desalojando otra entrada si la caché está llena. El acceso no se
+   * registra de nuevo, porque quien guarda un valor acaba de consultarlo con {@link #get}.
+   *
+   * @param key   la clave
+   * @param value el valor
+   */
+  void put(K key, V value) {
+    Node<K, V> node = data.get(key);
+    if (node != null) {
+      node.value = value;
+      touch(node);
+      return;
+    }
+    node = new Node<>(key, value);
+    data.put(key, node);
+    window.addLast(node);
+    if (window.size > maxWindow) {
+      admit(window.removeFirst());
+    }
+  }
+
+  /**
+   * Descarta la entrada de una clave, si existe.
+   *
+   * @param key la clave
+   */
+  void invalidate(K key) {
+    Node<K, V> node = data.remove(key);
+    if (node != null) {
+      queueOf(node).remove(node);
+    }
+  }
+
+  /** Descarta todas las entradas. */
+  void clear() {
+    data.clear();
+    window.reset();
+    probation.reset();
+    protectedQueue.reset();
+  }
+
+  /**
+   * Obtiene el número de entradas.
+   *
+   * @return la cantidad de entradas
+   */
+  int size() {
+    return data.size();
+  }
+
+  /**
+   * Obtiene el número de entradas desalojadas por falta de espacio.
+   *
+   * @return la cantidad de desalojos
+   */
+  long evictionCount() {
+    return evictions;
+  }
+
+  private void touch(Node<K, V> node) {
+    if (node.region == PROBATION) {
+      probation.remove(node);
+      node.region = PROTECTED;
+      protectedQueue.addLast(node);
+      if (protectedQueue.size > maxProtected) {
+        Node<K, V> demoted = protectedQueue.removeFirst();
+        demoted.region = PROBATION;
+        probation.addLast(demoted);
+      }
+    } else {
+      Queue<K, V> queue = queueOf(node);
+      queue.remove(node);
+      queue.addLast(node);
+    }
+  }
+
+  /**
+   * Decide si una entrada que sale de la ventana entra a la región principal.
+   *
+   * @param candidate la entrada más antigua de la ventana, ya quitada de ella
+   */
+  private void admit(Node<K, V> candidate) {
+    if (sketch == null) {
+      evict(candidate);
+      return;
+    }
+    candidate.region = PROBATION;
+    if (data.size() <= maximumSize) {
+      probation.addLast(candidate);
+      return;
+    }
+    Queue<K, V> victims = probation.size > 0 ? probation : protectedQueue;
+    Node<K, V> victim = victims.first();
+    if (victim != null && sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+      victims.remove(victim);
+      evict(victim);
+      probation.addLast(candidate);
+    } else {
+      evict(candidate);
+    }
+  }
+
+  private void evict(Node<K, V> node) {
+    data.remove(node.key);
+    evictions++;
+  }
+
+  private Queue<K, V> queueOf(Node<K, V> node) {
+    switch (node.region) {
+      case PROBATION:
+        return probation;
+      case PROTECTED:
+        return protectedQueue;
+      default:
+        return window;
+    }
+  }
+
+  /** Entrada de la caché, enlazada en la lista de su región. */
+  private static final class Node<K, V> {
+    private final K key;
+    private V value;
+    private int region;
+    private Node<K, V> prev;
+    private Node<K, V> next;
+
+    private Node(K key, V value) {
+      this.key = key;
+      this.value = value;
+      this.region = WINDOW;
+    }
+  }
+
+  /** Lista doblemente enlazada intrusiva, de la entrada más antigua a la más reciente. */
+  private static final class Queue<K, V> {
+    private Node<K, V> head;
+    private Node<K, V> tail;
+    private int size;
+
+    private Node<K, V> first() {
+      return head;
+    }
+
+    private void addLast(Node<K, V> node) {
+      node.prev = tail;
+      node.next = null;
+      if (tail == null) {
+        head = node;
+      } else {
+        tail.next = node;
+      }
+      tail = node;
+      size++;
+    }
+
+    private Node<K, V> removeFirst() {
+      Node<K, V> node = head;
+      remove(node);
+      return node;
+    }
+
+    private void remove(Node<K, V> node) {
+      if (node.prev == null) {
+        head = node.next;
+      } else {
+        node.prev.next = node.next;
+      }
+      if (node.next == null) {
+        tail = node.prev;
+      } else {
+        node.next.prev = node.prev;
+      }
+      node.prev = null;
+      node.next = null;
+      size--;
+    }
+
+    private void reset() {
+      head = null;
+      tail = null;
+      size = 0;
+    }
+  }
+}
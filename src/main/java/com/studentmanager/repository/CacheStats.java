@@ -0,0 +1,84 @@
+package com.studentmanager.repository;
+
+/** Contadores de una caché en un momento dado. Es inmutable. */
+public final class CacheStats {
+  private final long hitCount;
+  private final long missCount;
+  private final long evictionCount;
+  private final int size;
+
+  /**
+   * Crea una instantánea de contadores.
+   *
+   * @param hitCount      las consultas respondidas por la caché
+   * @param missCount     las consultas que llegaron al repositorio
+   * @param evictionCount las entradas desalojadas por falta de espacio
+   * @param size          las entradas actuales
+   */
+  CacheStats(long hitCount, long missCount, long evictionCount, int size) {
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+    this.evictionCount = evictionCount;
+    this.size = size;
+  }
+
+  /**
+   * Obtiene el número de consultas respondidas por la caché.
+   *
+   * @return los aciertos
+   */
+  public long getHitCount() {
+    return hitCount;
+  }
+
+  /**
+   * Obtiene el número de consultas que llegaron al repositorio.
+   *
+   * @return los fallos
+   */
+  public long getMissCount() {
+    return missCount;
+  }
+
+  /**
+   * Obtiene el número de entradas desalojadas por falta de espacio. Las invalidaciones por
+   * mutaciones no se cuentan.
+   *
+   * @return los desalojos
+   */
+  public long getEvictionCount() {
+    return evictionCount;
+  }
+
+  /**
+   * Obtiene el número de entradas en la caché.
+   *
+   * @return el tamaño actual
+   */
+  public int getSize() {
+    return size;
+  }
+
+  /**
+   * Calcula la proporción de consultas respondidas por la caché.
+   *
+   * @return la tasa de aciertos entre 0 y 1, o 0 si no hubo consultas
+   */
+  public double getHitRate() {
+    long requests = hitCount + missCount;
+    return requests == 0 ? 0 : (double) hitCount / requests;
+  }
+
+  @Override
+  public String toString() {
+    return "CacheStats{hits="
+        + hitCount
+        + ", misses="
+        + missCount
+        + ", evictions="
+        + evictionCount
+        + ", size="
+        + size
+        + "}";
+  }
+}
@@ -0,0 +1,235 @@
+package com.studentmanager.repository;
+
+import com.studentmanager.model.Student;
+import com.studentmanager.model.StudentRecord;
+import com.studentmanager.stats.GradeSummary;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Decorador que guarda en una caché acotada los resultados de {@link #findByName(String)}, para
+ * que los nombres consultados con frecuencia no lleguen al almacenamiento en cada consulta. Está
+ * pensado para repositorios lentos, como los respaldados por archivos, en los que buscar un nombre
+ * recorre los datos.
+ *
+ * <p>Las entradas se agrupan por nombre plegado (insensible a mayúsculas) y cada grupo guarda el
+ * resultado de cada variante consultada, incluidos los nombres inexistentes, como copias
+ * inmutables; cada acierto devuelve un estudiante nuevo, así que modificarlo no altera la caché ni
+ * el repositorio. Toda mutación descarta los grupos de los nombres que toca antes de retornar,
+ * incluso si el delegado falla, por lo que una consulta nunca devuelve un resultado anterior a una
+ * mutación hecha a través del decorador. Las mutaciones hechas directamente sobre el delegado no
+ * se detectan. El resto de las consultas se delegan sin caché.
+ *
+ * <p>El tamaño máximo se mide en grupos de nombres y la entrada a desalojar se elige según la
+ * {@link EvictionPolicy} configurada. {@link #stats()} informa aciertos, fallos y desalojos. Esta
+ * clase no es segura para hilos.
+ */
+public class CachingStudentRepository implements StudentRepository {
+  private final StudentRepository delegate;
+  private final BoundedCache<String, Map<String, StudentRecord>> cache;
+  private long hits;
+  private long misses;
+
+  /**
+   * Crea un decorador con desalojo W-TinyLFU.
+   *
+   * @param delegate    el repositorio decorado
+   * @param maximumSize el número máximo de nombres en caché
+   */
+  public CachingStudentRepository(StudentRepository delegate, int maximumSize) {
+    this(delegate, maximumSize, EvictionPolicy.TINY_LFU);
+  }
+
+  /**
+   * Crea un decorador con la política de desalojo indicada.
+   *
+   * @param delegate    el repositorio decorado
+   * @param maximumSize el número máximo de nombres en caché
+   * @param policy      la política de desalojo
+   * @throws IllegalArgumentException si el delegado o la política son nulos, o el tamaño no es
+   *                                  positivo
+   */
+  public CachingStudentRepository(
+      StudentRepository delegate, int maximumSize, EvictionPolicy policy) {
+    if (delegate == null || policy == null) {
+      throw new IllegalArgumentException("Delegate and policy cannot be null");
+    }
+    if (maximumSize < 1) {
+      throw new IllegalArgumentException("Maximum size must be positive");
+    }
+    this.delegate = delegate;
+    this.cache = new BoundedCache<>(maximumSize, policy);
+  }
+
+  @Override
+  public void add(Student student) {
+    try {
+      delegate.add(student);
+    } finally {
+      if (student != null) {
+        invalidate(student.getName());
+      }
+    }
+  }
+
+  @Override
+  public void addAll(Collection<Student> students) {
+    try {
+      delegate.addAll(students);
+    } finally {
+      if (students != null) {
+        for (Student student : students) {
+          if (student != null) {
+            invalidate(student.getName());
+          }
+        }
+      }
+    }
+  }
+
+  @Override
+  public List<Student> findAll() {
+    return delegate.findAll();
+  }
+
+  @Override
+  public Stream<Student> stream() {
+    return delegate.stream();
+  }
+
+  @Override
+  public Student findByName(String name) {
+    if (name == null) {
+      return delegate.findByName(null);
+    }
+    String key = NameKey.fold(name);
+    Map<String, StudentRecord> variants = cache.get(key);
+    if (variants != null && variants.containsKey(name)) {
+      hits++;
+      StudentRecord record = variants.get(name);
+      return record == null ? null : record.toStudent();
+    }
+    misses++;
+    Student student = delegate.findByName(name);
+    if (variants == null) {
+      variants = new HashMap<>(2);
+      cache.put(key, variants);
+    }
+    variants.put(name, student == null ? null : StudentRecord.of(student));
+    return student;
+  }
+
+  @Override
+  public int count() {
+    return delegate.count();
+  }
+
+  @Override
+  public List<Student> findByNamePrefix(String prefix, int limit) {
+    return delegate.findByNamePrefix(prefix, limit);
+  }
+
+  @Override
+  public List<Student> findBySimilarName(String name, int maxDistance, int limit) {
+    return delegate.findBySimilarName(name, maxDistance, limit);
+  }
+
+  @Override
+  public boolean remove(String name, double grade) {
+    try {
+      return delegate.remove(name, grade);
+    } finally {
+      invalidate(name);
+    }
+  }
+
+  @Override
+  public Map<StudentKey, Boolean> removeAll(Collection<StudentKey> keys) {
+    try {
+      return delegate.removeAll(keys);
+    } finally {
+      invalidateKeys(keys);
+    }
+  }
+
+  @Override
+  public boolean updateGrade(String name, double oldGrade, double newGrade) {
+    try {
+      return delegate.updateGrade(name, oldGrade, newGrade);
+    } finally {
+      invalidate(name);
+    }
+  }
+
+  @Override
+  public Map<StudentKey, Boolean> updateGrades(Map<StudentKey, Double> updates) {
+    try {
+      return delegate.updateGrades(updates);
+    } finally {
+      if (updates != null) {
+        invalidateKeys(updates.keySet());
+      }
+    }
+  }
+
+  @Override
+  public GradeSummary statistics() {
+    return delegate.statistics();
+  }
+
+  @Override
+  public List<Student> findByGradeRange(double min, double max) {
+    return delegate.findByGradeRange(min, max);
+  }
+
+  @Override
+  public List<Student> findTopByGrade(int k) {
+    return delegate.findTopByGrade(k);
+  }
+
+  @Override
+  public int rankOf(double grade) {
+    return delegate.rankOf(grade);
+  }
+
+  @Override
+  public double gradePercentile(double percentile) {
+    return delegate.gradePercentile(percentile);
+  }
+
+  /**
+   * Obtiene los contadores actuales de la caché.
+   *
+   * @return la instantánea de contadores
+   */
+  public CacheStats stats() {
+    return new CacheStats(hits, misses, cache.evictionCount(), cache.size());
+  }
+
+  /**
+   * Descarta todas las entradas, por ejemplo tras modificar el delegado directamente. Los
+   * contadores se conservan.
+   */
+  public void invalidateAll() {
+    cache.clear();
+  }
+
+  private void invalidate(String name) {
+    if (name != null) {
+      cache.invalidate(NameKey.fold(name));
+    }
+  }
+
+  private void invalidateKeys(Collection<StudentKey> keys) {
+    if (keys != null) {
+      for (StudentKey key : keys) {
+        if (key != null) {
+          invalidate(key.getName());
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package com.studentmanager.repository;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Lector secuencial de un archivo por bloques, para recuperar archivos de cualquier tamaño sin
+ * cargarlos completos en el heap. {@link #ensure(int)} garantiza que el búfer tenga disponibles
+ * los bytes de un elemento completo antes de leerlo.
+ */
+final class ChunkReader {
+  private final FileChannel channel;
+  private final long size;
+  private ByteBuffer chunk;
+  private long chunkStart;
+  private long filePosition;
+
+  /**
+   * Crea un lector desde el comienzo del archivo.
+   *
+   * @param channel   el archivo a leer
+   * @param chunkSize el tamaño inicial del bloque
+   * @throws IOException si el tamaño del archivo no puede leerse
+   */
+  ChunkReader(FileChannel channel, int chunkSize) throws IOException {
+    this.channel = channel;
+    this.size = channel.size();
+    this.chunk = ByteBuffer.allocate(chunkSize);
+    this.chunk.limit(0);
+  }
+
+  /** Posición en el archivo del próximo byte por consumir. */
+  long position() {
+    return chunkStart + chunk.position();
+  }
+
+  /** Bytes del archivo que quedan por consumir. */
+  long available() {
+    return size - position();
+  }
+
+  /** Búfer con los bytes por consumir; puede cambiar tras {@link #ensure(int)}. */
+  ByteBuffer buffer() {
+    return chunk;
+  }
+
+  /**
+   * Garantiza que el búfer tenga al menos {@code bytes} bytes por consumir, leyendo el bloque
+   * siguiente y agrandando el búfer si hace falta.
+   *
+   * @param bytes los bytes necesarios
+   * @return false si el archivo termina antes
+   * @throws IOException si el archivo no puede leerse
+   */
+  boolean ensure(int bytes) throws IOException {
+    if (chunk.remaining() >= bytes) {
+      return true;
+    }
+    if (available() < bytes) {
+      return false;
+    }
+    long start = position();
+    if (chunk.capacity() < bytes) {
+      chunk = ByteBuffer.allocate(bytes).put(chunk);
+    } else {
+      chunk.compact();
+    }
+    chunkStart = start;
+    while (chunk.position() < bytes) {
+      int read = channel.read(chunk, filePosition);
+      if (read < 0) {
+        break;
+      }
+      filePosition += read;
+    }
+    chunk.flip();
+    return chunk.remaining() >= bytes;
+  }
+}
@@ -0,0 +1,320 @@
+package com.studentmanager.repository;
+
+import com.studentmanager.model.Student;
+import com.studentmanager.stats.GradeSummary;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Implementación columnar de StudentRepository. En lugar de guardar un objeto {@link Student} por
+ * registro, almacena las calificaciones en un arreglo primitivo {@code double[]} y los nombres
+ * codificados por diccionario en un {@code int[]}, de modo que cada estudiante ocupa 12 bytes más
+ * la entrada de diccionario de su nombre (compartida por los duplicados).
+ *
+ * <p>Los objetos Student se materializan bajo demanda en cada consulta y son copias: modificar su
+ * calificación no afecta al repositorio. Las agregaciones sobre calificaciones recorren el arreglo
+ * primitivo de forma secuencial sin crear objetos. El diccionario de nombres no se reduce al
+ * eliminar estudiantes.
+ */
+public class ColumnarStudentRepository implements StudentRepository {
+  private static final int INITIAL_CAPACITY = 16;
+
+  private double[] grades;
+  private int[] nameIds;
+  private int size;
+
+  private final List<String> dictionary;
+  private final Map<String, Integer> dictionaryIds;
+  private final Map<String, List<Integer>> foldedIds;
+
+  /** Crea un nuevo repositorio columnar vacío. */
+  public ColumnarStudentRepository() {
+    this.grades = new double[INITIAL_CAPACITY];
+    this.nameIds = new int[INITIAL_CAPACITY];
+    this.dictionary = new ArrayList<>();
+    this.dictionaryIds = new HashMap<>();
+    this.foldedIds = new HashMap<>();
+  }
+
+  @Override
+  public void add(Student student) {
+    if (student == null) {
+      throw new IllegalArgumentException("Student cannot be null");
+    }
+    ensureCapacity(size + 1);
+    append(student);
+  }
+
+  @Override
+  public void addAll(Collection<Student> students) {
+    if (students == null) {
+      throw new IllegalArgumentException("Students cannot be null");
+    }
+    for (Student student : students) {
+      if (student == null) {
+        throw new IllegalArgumentException("Student cannot be null");
+      }
+    }
+    ensureCapacity(size + students.size());
+    for (Student student : students) {
+      append(student);
+    }
+  }
+
+  @Override
+  public List<Student> findAll() {
+    List<Student> all = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      all.add(materialize(i));
+    }
+    return all;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Cada estudiante se materializa como copia al momento de consumirlo.
+   */
+  @Override
+  public Stream<Student> stream() {
+    return IntStream.range(0, size).mapToObj(this::materialize);
+  }
+
+  @Override
+  public Student findByName(String name) {
+    if (name == null) {
+      return null;
+    }
+    Integer id = dictionaryIds.get(name);
+    if (id == null) {
+      return null;
+    }
+    int target = id;
+    for (int i = 0; i < size; i++) {
+      if (nameIds[i] == target) {
+        return materialize(i);
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public int count() {
+    return size;
+  }
+
+  @Override
+  public boolean remove(String name, double grade) {
+    if (name == null || name.trim().isEmpty()) {
+      return false;
+    }
+    List<Integer> candidates = foldedIds.get(NameKey.fold(name));
+    if (candidates == null) {
+      return false;
+    }
+    int[] matching = new int[candidates.size()];
+    int matchingCount = 0;
+    for (int id : candidates) {
+      if (dictionary.get(id).equalsIgnoreCase(name)) {
+        matching[matchingCount++] = id;
+      }
+    }
+    // Single compacting pass that preserves insertion order
+    int kept = 0;
+    for (int i = 0; i < size; i++) {
+      if (!(grades[i] == grade && contains(matching, matchingCount, nameIds[i]))) {
+        grades[kept] = grades[i];
+        nameIds[kept] = nameIds[i];
+        kept++;
+      }
+    }
+    boolean removed = kept < size;
+    size = kept;
+    return removed;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Todo el lote se resuelve en una sola pasada de compactación, en lugar de una por clave.
+   */
+  @Override
+  public Map<StudentKey, Boolean> removeAll(Collection<StudentKey> keys) {
+    KeyMatcher.checkKeys(keys);
+    Map<StudentKey, Boolean> results = KeyMatcher.results(keys);
+    KeyMatcher matcher = new KeyMatcher(results.keySet());
+    int kept = 0;
+    for (int i = 0; i < size; i++) {
+      StudentKey key = matcher.match(dictionary.get(nameIds[i]), grades[i]);
+      if (key == null) {
+        grades[kept] = grades[i];
+        nameIds[kept] = nameIds[i];
+        kept++;
+      } else {
+        results.put(key, Boolean.TRUE);
+      }
+    }
+    size = kept;
+    return results;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Los identificadores de los nombres coincidentes se resuelven una vez en el diccionario, y
+   * la pasada sobre las columnas solo compara enteros y calificaciones, sin materializar filas.
+   */
+  @Override
+  public boolean updateGrade(String name, double oldGrade, double newGrade) {
+    Student.checkGrade(newGrade);
+    if (name == null || name.trim().isEmpty()) {
+      return false;
+    }
+    List<Integer> candidates = foldedIds.get(NameKey.fold(name));
+    if (candidates == null) {
+      return false;
+    }
+    int[] matching = new int[candidates.size()];
+    int matchingCount = 0;
+    for (int id : candidates) {
+      if (dictionary.get(id).equalsIgnoreCase(name)) {
+        matching[matchingCount++] = id;
+      }
+    }
+    boolean updated = false;
+    for (int i = 0; i < size; i++) {
+      if (grades[i] == oldGrade && contains(matching, matchingCount, nameIds[i])) {
+        grades[i] = newGrade;
+        updated = true;
+      }
+    }
+    return updated;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Las calificaciones se cambian en su lugar en una sola pasada, conservando el orden.
+   */
+  @Override
+  public Map<StudentKey, Boolean> updateGrades(Map<StudentKey, Double> updates) {
+    KeyMatcher.checkUpdates(updates);
+    Map<StudentKey, Boolean> results = KeyMatcher.results(updates.keySet());
+    KeyMatcher matcher = new KeyMatcher(results.keySet());
+    for (int i = 0; i < size; i++) {
+      StudentKey key = matcher.match(dictionary.get(nameIds[i]), grades[i]);
+      if (key != null) {
+        grades[i] = updates.get(key);
+        results.put(key, Boolean.TRUE);
+      }
+    }
+    return results;
+  }
+
+  @Override
+  public GradeSummary statistics() {
+    return GradeSummary.of(grades, size);
+  }
+
+  /**
+   * Calcula el promedio de las calificaciones; equivale a {@code statistics().getMean()}.
+   *
+   * @return el promedio, o 0 si el repositorio está vacío
+   */
+  public double averageGrade() {
+    return statistics().getMean();
+  }
+
+  /**
+   * Obtiene la calificación mínima; equivale a {@code statistics().getMin()}.
+   *
+   * @return la calificación mínima, o NaN si el repositorio está vacío
+   */
+  public double minGrade() {
+    return statistics().getMin();
+  }
+
+  /**
+   * Obtiene la calificación máxima; equivale a {@code statistics().getMax()}.
+   *
+   * @return la calificación máxima, o NaN si el repositorio está vacío
+   */
+  public double maxGrade() {
+    return statistics().getMax();
+  }
+
+  /**
+   * Agranda las columnas para que quepan al menos el número de filas indicado.
+   *
+   * @param required el número mínimo de filas
+   */
+  private void ensureCapacity(int required) {
+    if (required > grades.length) {
+      int capacity = Math.max(required, grades.length * 2);
+      grades = Arrays.copyOf(grades, capacity);
+      nameIds = Arrays.copyOf(nameIds, capacity);
+    }
+  }
+
+  /**
+   * Escribe un estudiante en la siguiente fila libre; la capacidad ya debe estar reservada.
+   *
+   * @param student el estudiante a escribir
+   */
+  private void append(Student student) {
+    grades[size] = student.getGrade();
+    nameIds[size] = encode(student.getName());
+    size++;
+  }
+
+  /**
+   * Obtiene el identificador de diccionario de un nombre, registrándolo si es nuevo.
+   *
+   * @param name el nombre a codificar
+   * @return el identificador del nombre
+   */
+  private int encode(String name) {
+    Integer id = dictionaryIds.get(name);
+    if (id != null) {
+      return id;
+    }
+    int newId = dictionary.size();
+    dictionary.add(name);
+    dictionaryIds.put(name, newId);
+    foldedIds.computeIfAbsent(NameKey.fold(name), k -> new ArrayList<>(1)).add(newId);
+    return newId;
+  }
+
+  /**
+   * Indica si un identificador está entre los primeros elementos de un arreglo.
+   *
+   * @param ids   el arreglo de identificadores
+   * @param count cuántos elementos del arreglo son válidos
+   * @param id    el identificador buscado
+   * @return true si el identificador está presente
+   */
+  private static boolean contains(int[] ids, int count, int id) {
+    for (int i = 0; i < count; i++) {
+      if (ids[i] == id) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Construye un Student a partir de la fila indicada.
+   *
+   * @param row el índice de la fila
+   * @return una copia del estudiante almacenado
+   */
+  private Student materialize(int row) {
+    return new Student(dictionary.get(nameIds[row]), grades[row]);
+  }
+}
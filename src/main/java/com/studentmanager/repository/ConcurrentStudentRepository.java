@@ -0,0 +1,265 @@
+package com.studentmanager.repository;
+
+import com.studentmanager.model.NamePool;
+import com.studentmanager.model.Student;
+import com.studentmanager.model.StudentRecord;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Implementación de StudentRepository segura para hilos. Los estudiantes se agrupan por nombre
+ * plegado (insensible a mayúsculas) en un {@link ConcurrentHashMap}, cuyo bloqueo por segmento
+ * hace que las escrituras sobre nombres distintos no compitan entre sí.
+ *
+ * <p>Cada grupo es un arreglo inmutable que se reemplaza completo en cada mutación, por lo que
+ * {@link #findByName(String)} y {@link #findAll()} nunca toman bloqueos. El conteo se actualiza
+ * dentro de la misma sección crítica que modifica el grupo, de modo que {@link #count()} siempre
+ * refleja operaciones completas. Los lotes de bajas y de cambios de calificación resuelven cada
+ * nombre en una sola sección crítica de su grupo, aunque no son atómicos entre grupos distintos.
+ * {@link #findAll()} no garantiza el orden de inserción.
+ *
+ * <p>El repositorio guarda y devuelve {@link StudentRecord}, que es inmutable: los lectores de
+ * cualquier hilo pueden usar los estudiantes devueltos sin copiarlos, y un cambio de calificación
+ * reemplaza al estudiante por uno nuevo. Al agregar, el nombre pasa por el {@link NamePool} del
+ * repositorio, de modo que todos los estudiantes con el mismo nombre comparten una sola cadena.
+ */
+public class ConcurrentStudentRepository implements StudentRepository {
+  private static final Student[] EMPTY = new Student[0];
+
+  private final ConcurrentMap<String, Student[]> buckets;
+  private final AtomicInteger size;
+  private final NamePool names;
+
+  /** Crea un nuevo repositorio concurrente vacío con su propio conjunto de nombres. */
+  public ConcurrentStudentRepository() {
+    this(new NamePool());
+  }
+
+  /**
+   * Crea un nuevo repositorio concurrente vacío que deduplica los nombres con el conjunto
+   * indicado, que puede compartirse con otros repositorios o con un importador.
+   *
+   * @param names el conjunto de nombres canónicos
+   * @throws IllegalArgumentException si el conjunto es nulo
+   */
+  public ConcurrentStudentRepository(NamePool names) {
+    if (names == null) {
+      throw new IllegalArgumentException("Name pool cannot be null");
+    }
+    this.buckets = new ConcurrentHashMap<>();
+    this.size = new AtomicInteger();
+    this.names = names;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Se guarda una versión inmutable del estudiante con el nombre canónico, no el objeto
+   * recibido.
+   */
+  @Override
+  public void add(Student student) {
+    if (student == null) {
+      throw new IllegalArgumentException("Student cannot be null");
+    }
+    StudentRecord record = new StudentRecord(names.intern(student.getName()), student.getGrade());
+    buckets.compute(
+        NameKey.fold(record.getName()),
+        (key, bucket) -> {
+          Student[] current = bucket == null ? EMPTY : bucket;
+          Student[] next = Arrays.copyOf(current, current.length + 1);
+          next[current.length] = record;
+          size.incrementAndGet();
+          return next;
+        });
+  }
+
+  @Override
+  public List<Student> findAll() {
+    List<Student> all = new ArrayList<>(size.get());
+    for (Student[] bucket : buckets.values()) {
+      all.addAll(Arrays.asList(bucket));
+    }
+    return all;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>El recorrido es débilmente consistente: puede ejecutarse en paralelo con mutaciones de
+   * otros hilos, sin fallar, y refleja cada grupo de nombres tal como estaba al visitarlo.
+   */
+  @Override
+  public Stream<Student> stream() {
+    return buckets.values().stream().flatMap(Arrays::stream);
+  }
+
+  @Override
+  public Student findByName(String name) {
+    if (name == null) {
+      return null;
+    }
+    Student[] bucket = buckets.get(NameKey.fold(name));
+    if (bucket == null) {
+      return null;
+    }
+    for (Student student : bucket) {
+      if (student.getName().equals(name)) {
+        return student;
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public int count() {
+    return size.get();
+  }
+
+  @Override
+  public boolean remove(String name, double grade) {
+    if (name == null || name.trim().isEmpty()) {
+      return false;
+    }
+    boolean[] removed = new boolean[1];
+    buckets.computeIfPresent(
+        NameKey.fold(name),
+        (key, bucket) -> {
+          Student[] kept = new Student[bucket.length];
+          int keptCount = 0;
+          for (Student student : bucket) {
+            if (student.getName().equalsIgnoreCase(name) && student.getGrade() == grade) {
+              removed[0] = true;
+            } else {
+              kept[keptCount++] = student;
+            }
+          }
+          size.addAndGet(keptCount - bucket.length);
+          if (keptCount == 0) {
+            return null;
+          }
+          return keptCount == bucket.length ? bucket : Arrays.copyOf(kept, keptCount);
+        });
+    return removed[0];
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Los estudiantes coincidentes se reemplazan por copias inmutables con la calificación nueva
+   * dentro de la sección crítica de su grupo, así que el cambio es atómico respecto de otras
+   * escrituras sobre el mismo nombre, los lectores nunca ven un estudiante modificado a medias y
+   * el resto del repositorio no se toca.
+   */
+  @Override
+  public boolean updateGrade(String name, double oldGrade, double newGrade) {
+    Student.checkGrade(newGrade);
+    if (name == null || name.trim().isEmpty()) {
+      return false;
+    }
+    boolean[] updated = new boolean[1];
+    buckets.computeIfPresent(
+        NameKey.fold(name),
+        (key, bucket) -> {
+          Student[] next = bucket;
+          for (int i = 0; i < bucket.length; i++) {
+            Student student = bucket[i];
+            if (student.getName().equalsIgnoreCase(name) && student.getGrade() == oldGrade) {
+              if (next == bucket) {
+                next = bucket.clone();
+              }
+              next[i] = new StudentRecord(student.getName(), newGrade);
+              updated[0] = true;
+            }
+          }
+          return next;
+        });
+    return updated[0];
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Cada grupo de nombres afectado se filtra una sola vez dentro de su sección crítica, con el
+   * conteo actualizado en la misma sección.
+   */
+  @Override
+  public Map<StudentKey, Boolean> removeAll(Collection<StudentKey> keys) {
+    KeyMatcher.checkKeys(keys);
+    Map<StudentKey, Boolean> results = KeyMatcher.results(keys);
+    KeyMatcher matcher = new KeyMatcher(results.keySet());
+    for (String folded : foldedNames(results.keySet())) {
+      buckets.computeIfPresent(
+          folded,
+          (key, bucket) -> {
+            Student[] kept = new Student[bucket.length];
+            int keptCount = 0;
+            for (Student student : bucket) {
+              StudentKey match = matcher.match(student.getName(), student.getGrade());
+              if (match == null) {
+                kept[keptCount++] = student;
+              } else {
+                results.put(match, Boolean.TRUE);
+              }
+            }
+            size.addAndGet(keptCount - bucket.length);
+            if (keptCount == 0) {
+              return null;
+            }
+            return keptCount == bucket.length ? bucket : Arrays.copyOf(kept, keptCount);
+          });
+    }
+    return results;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Como en {@link #updateGrade(String, double, double)}, los estudiantes coincidentes se
+   * reemplazan por copias dentro de la sección crítica de su grupo: el conteo no cambia en ningún
+   * momento y un estudiante igual que otro hilo agrega mientras tanto nunca se pierde.
+   */
+  @Override
+  public Map<StudentKey, Boolean> updateGrades(Map<StudentKey, Double> updates) {
+    KeyMatcher.checkUpdates(updates);
+    Map<StudentKey, Boolean> results = KeyMatcher.results(updates.keySet());
+    KeyMatcher matcher = new KeyMatcher(updates.keySet());
+    for (String folded : foldedNames(updates.keySet())) {
+      buckets.computeIfPresent(
+          folded,
+          (key, bucket) -> {
+            Student[] next = bucket;
+            for (int i = 0; i < bucket.length; i++) {
+              Student student = bucket[i];
+              StudentKey match = matcher.match(student.getName(), student.getGrade());
+              if (match != null) {
+                if (next == bucket) {
+                  next = bucket.clone();
+                }
+                next[i] = new StudentRecord(student.getName(), updates.get(match));
+                results.put(match, Boolean.TRUE);
+              }
+            }
+            return next;
+          });
+    }
+    return results;
+  }
+
+  private static Set<String> foldedNames(Collection<StudentKey> keys) {
+    Set<String> names = new LinkedHashSet<>();
+    for (StudentKey key : keys) {
+      names.add(NameKey.fold(key.getName()));
+    }
+    return names;
+  }
+}
@@ -0,0 +1,176 @@
+package com.studentmanager.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Pool acotado de conexiones JDBC. Las conexiones se abren a demanda hasta el máximo configurado y
+ * se reutilizan en orden LIFO, de modo que las más usadas se mantienen calientes; cuando todas
+ * están prestadas, {@link #borrow()} espera a que se devuelva una. Cada conexión guarda sus
+ * sentencias preparadas por texto SQL, así que cada sentencia se prepara una sola vez por conexión.
+ *
+ * <p>Una conexión que falló se devuelve con {@link #discard(Pooled)} en lugar de {@link
+ * #release(Pooled)} y se reemplaza por una nueva en el próximo préstamo. Esta clase es segura para
+ * hilos.
+ */
+final class ConnectionPool implements AutoCloseable {
+  private final String url;
+  private final String user;
+  private final String password;
+  private final Semaphore permits;
+  private final Deque<Pooled> idle;
+  private boolean closed;
+
+  /**
+   * Crea un pool vacío; las conexiones se abren en el primer préstamo que las necesita.
+   *
+   * @param url            la URL JDBC de la base de datos
+   * @param user           el usuario, o null si la URL no lo requiere
+   * @param password       la contraseña, o null si la URL no la requiere
+   * @param maxConnections el número máximo de conexiones abiertas
+   * @throws IllegalArgumentException si la URL es nula o el máximo no es positivo
+   */
+  ConnectionPool(String url, String user, String password, int maxConnections) {
+    if (url == null) {
+      throw new IllegalArgumentException("URL cannot be null");
+    }
+    if (maxConnections < 1) {
+      throw new IllegalArgumentException("Pool size must be positive");
+    }
+    this.url = url;
+    this.user = user;
+    this.password = password;
+    this.permits = new Semaphore(maxConnections, true);
+    this.idle = new ArrayDeque<>(maxConnections);
+  }
+
+  /**
+   * Toma una conexión del pool, esperando si todas están en uso.
+   *
+   * @return la conexión prestada, que debe devolverse con {@link #release(Pooled)} o {@link
+   *     #discard(Pooled)}
+   * @throws RepositoryException si el pool está cerrado, la espera se interrumpe o no se puede
+   *                             abrir una conexión
+   */
+  Pooled borrow() {
+    try {
+      permits.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RepositoryException("Interrupted while waiting for a connection", e);
+    }
+    Pooled pooled;
+    synchronized (this) {
+      if (closed) {
+        permits.release();
+        throw new RepositoryException("Connection pool is closed");
+      }
+      pooled = idle.pollFirst();
+    }
+    if (pooled != null) {
+      return pooled;
+    }
+    try {
+      return new Pooled(DriverManager.getConnection(url, user, password));
+    } catch (SQLException e) {
+      permits.release();
+      throw new RepositoryException("Cannot open database connection to " + url, e);
+    }
+  }
+
+  /**
+   * Devuelve una conexión sana al pool.
+   *
+   * @param pooled la conexión prestada
+   */
+  void release(Pooled pooled) {
+    boolean keep;
+    synchronized (this) {
+      keep = !closed;
+      if (keep) {
+        idle.addFirst(pooled);
+      }
+    }
+    if (!keep) {
+      pooled.discard();
+    }
+    permits.release();
+  }
+
+  /**
+   * Devuelve una conexión que falló; se cierra y deja su lugar a una nueva.
+   *
+   * @param pooled la conexión prestada
+   */
+  void discard(Pooled pooled) {
+    pooled.discard();
+    permits.release();
+  }
+
+  /** Cierra las conexiones libres; las prestadas se cierran al devolverse. */
+  @Override
+  public void close() {
+    Pooled[] toClose;
+    synchronized (this) {
+      closed = true;
+      toClose = idle.toArray(new Pooled[0]);
+      idle.clear();
+    }
+    for (Pooled pooled : toClose) {
+      pooled.discard();
+    }
+  }
+
+  /** Conexión del pool con su caché de sentencias preparadas. */
+  static final class Pooled {
+    private final Connection connection;
+    private final Map<String, PreparedStatement> statements;
+
+    private Pooled(Connection connection) {
+      this.connection = connection;
+      this.statements = new HashMap<>();
+    }
+
+    /**
+     * Obtiene la conexión subyacente.
+     *
+     * @return la conexión JDBC
+     */
+    Connection connection() {
+      return connection;
+    }
+
+    /**
+     * Obtiene la sentencia preparada para un texto SQL, preparándola la primera vez.
+     *
+     * @param sql el texto SQL
+     * @return la sentencia, con los parámetros de su uso anterior aún asignados
+     * @throws SQLException si la sentencia no puede prepararse
+     */
+    PreparedStatement prepare(String sql) throws SQLException {
+      PreparedStatement cached = statements.get(sql);
+      if (cached != null) {
+        return cached;
+      }
+      PreparedStatement statement = connection.prepareStatement(sql);
+      statements.put(sql, statement);
+      return statement;
+    }
+
+    private void discard() {
+      try {
+        connection.close(); // Also closes its statements
+      } catch (SQLException e) {
+        // The connection is being dropped anyway
+      }
+      statements.clear();
+    }
+  }
+}
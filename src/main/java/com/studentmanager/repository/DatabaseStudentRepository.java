@@ -0,0 +1,487 @@
+package com.studentmanager.repository;
+
+import com.studentmanager.model.Student;
+import com.studentmanager.stats.GradeSummary;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Implementación de StudentRepository sobre una base de datos relacional accedida por JDBC. Los
+ * estudiantes se guardan en la tabla {@code students}, que se crea si no existe, con una columna
+ * de identidad que conserva el orden de inserción, el nombre, su clave plegada para las
+ * coincidencias sin mayúsculas y la calificación. Los índices sobre el nombre, sobre la clave
+ * plegada y la calificación, y sobre la calificación y el nombre resuelven las búsquedas, las
+ * eliminaciones y las consultas de ranking sin recorrer la tabla. Está probada con H2 embebida y
+ * usa solo SQL estándar.
+ *
+ * <p>Las operaciones toman una conexión de un pool acotado, y cada conexión reutiliza sus
+ * sentencias preparadas. Las operaciones por lote se ejecutan en una transacción con lotes JDBC,
+ * así que se aplican completas o no se aplica ninguna. Los objetos Student devueltos son copias:
+ * modificar su calificación no cambia la base de datos. Los errores de la base de datos se
+ * informan como {@link RepositoryException} y la conexión que falló se descarta, por lo que una
+ * base de datos H2 en memoria debe abrirse con {@code DB_CLOSE_DELAY=-1} para no perderse al
+ * cerrarse su última conexión. Esta clase es segura para hilos.
+ */
+@SuppressWarnings("PMD.GodClass")
+public class DatabaseStudentRepository implements StudentRepository, AutoCloseable {
+  /** Número de conexiones del pool cuando no se indica otro. */
+  public static final int DEFAULT_POOL_SIZE = 4;
+
+  private static final int BATCH_SIZE = 1_000;
+
+  private static final String[] SCHEMA = {
+    "CREATE TABLE IF NOT EXISTS students ("
+        + "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+        + "name VARCHAR(1000) NOT NULL, "
+        + "name_key VARCHAR(1000) NOT NULL, "
+        + "grade DOUBLE PRECISION NOT NULL)",
+    "CREATE INDEX IF NOT EXISTS students_name ON students (name)",
+    "CREATE INDEX IF NOT EXISTS students_name_key ON students (name_key, grade)",
+    "CREATE INDEX IF NOT EXISTS students_grade ON students (grade, name)"
+  };
+  private static final String INSERT =
+      "INSERT INTO students (name, name_key, grade) VALUES (?, ?, ?)";
+  private static final String SELECT_ALL = "SELECT name, grade FROM students ORDER BY id";
+  private static final String SELECT_BY_NAME =
+      "SELECT name, grade FROM students WHERE name = ? ORDER BY id FETCH FIRST 1 ROWS ONLY";
+  private static final String SELECT_IDS_BY_KEY =
+      "SELECT id FROM students WHERE name_key = ? AND grade = ?";
+  private static final String COUNT = "SELECT COUNT(*) FROM students";
+  private static final String DELETE_BY_KEY =
+      "DELETE FROM students WHERE name_key = ? AND grade = ?";
+  private static final String UPDATE_BY_KEY =
+      "UPDATE students SET grade = ? WHERE name_key = ? AND grade = ?";
+  private static final String UPDATE_BY_ID = "UPDATE students SET grade = ? WHERE id = ?";
+  private static final String STATISTICS =
+      "SELECT COUNT(*), AVG(grade), VAR_POP(grade), MIN(grade), MAX(grade) FROM students";
+  private static final String SELECT_GRADE_RANGE =
+      "SELECT name, grade FROM students WHERE grade >= ? AND grade <= ? "
+          + "ORDER BY grade DESC, name";
+  private static final String SELECT_TOP =
+      "SELECT name, grade FROM students ORDER BY grade DESC, name FETCH FIRST ? ROWS ONLY";
+  private static final String COUNT_ABOVE = "SELECT COUNT(*) FROM students WHERE grade > ?";
+  private static final String SELECT_GRADE_AT =
+      "SELECT grade FROM students ORDER BY grade OFFSET ? ROWS FETCH FIRST 1 ROWS ONLY";
+
+  private final ConnectionPool pool;
+
+  /**
+   * Abre un repositorio sobre la base de datos indicada, sin credenciales y con {@value
+   * #DEFAULT_POOL_SIZE} conexiones.
+   *
+   * @param url la URL JDBC, por ejemplo {@code jdbc:h2:./students}
+   * @throws RepositoryException si no se puede conectar o crear la tabla
+   */
+  public DatabaseStudentRepository(String url) {
+    this(url, null, null, DEFAULT_POOL_SIZE);
+  }
+
+  /**
+   * Abre un repositorio sobre la base de datos indicada y crea la tabla y sus índices si no
+   * existen.
+   *
+   * @param url      la URL JDBC
+   * @param user     el usuario, o null si la URL no lo requiere
+   * @param password la contraseña, o null si la URL no la requiere
+   * @param poolSize el número máximo de conexiones abiertas
+   * @throws IllegalArgumentException si la URL es nula o el tamaño del pool no es positivo
+   * @throws RepositoryException      si no se puede conectar o crear la tabla
+   */
+  public DatabaseStudentRepository(String url, String user, String password, int poolSize) {
+    this.pool = new ConnectionPool(url, user, password, poolSize);
+    try {
+      execute(
+          "create student table",
+          pooled -> {
+            try (Statement statement = pooled.connection().createStatement()) {
+              for (String ddl : SCHEMA) {
+                statement.execute(ddl);
+              }
+            }
+            return null;
+          });
+    } catch (RuntimeException e) {
+      pool.close();
+      throw e;
+    }
+  }
+
+  @Override
+  public void add(Student student) {
+    if (student == null) {
+      throw new IllegalArgumentException("Student cannot be null");
+    }
+    execute(
+        "add student",
+        pooled -> {
+          PreparedStatement insert = pooled.prepare(INSERT);
+          bindInsert(insert, student);
+          insert.executeUpdate();
+          return null;
+        });
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Las inserciones se envían en lotes JDBC de {@value #BATCH_SIZE} filas dentro de una sola
+   * transacción.
+   */
+  @Override
+  public void addAll(Collection<Student> students) {
+    if (students == null) {
+      throw new IllegalArgumentException("Students cannot be null");
+    }
+    for (Student student : students) {
+      if (student == null) {
+        throw new IllegalArgumentException("Student cannot be null");
+      }
+    }
+    if (students.isEmpty()) {
+      return;
+    }
+    transaction(
+        "add students",
+        pooled -> {
+          PreparedStatement insert = pooled.prepare(INSERT);
+          int pending = 0;
+          for (Student student : students) {
+            bindInsert(insert, student);
+            insert.addBatch();
+            if (++pending == BATCH_SIZE) {
+              insert.executeBatch();
+              pending = 0;
+            }
+          }
+          if (pending > 0) {
+            insert.executeBatch();
+          }
+          return null;
+        });
+  }
+
+  @Override
+  public List<Student> findAll() {
+    return execute("read students", pooled -> read(pooled.prepare(SELECT_ALL)));
+  }
+
+  @Override
+  public Student findByName(String name) {
+    if (name == null) {
+      return null;
+    }
+    return execute(
+        "find student",
+        pooled -> {
+          PreparedStatement select = pooled.prepare(SELECT_BY_NAME);
+          select.setString(1, name);
+          List<Student> found = read(select);
+          return found.isEmpty() ? null : found.get(0);
+        });
+  }
+
+  @Override
+  public int count() {
+    return execute("count students", pooled -> (int) queryLong(pooled.prepare(COUNT)));
+  }
+
+  @Override
+  public boolean remove(String name, double grade) {
+    if (name == null || name.trim().isEmpty() || Double.isNaN(grade)) {
+      return false;
+    }
+    return execute(
+        "remove student",
+        pooled -> {
+          PreparedStatement delete = pooled.prepare(DELETE_BY_KEY);
+          bindKey(delete, 1, name, grade);
+          return delete.executeUpdate() > 0;
+        });
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Las eliminaciones se envían en un solo lote JDBC dentro de una transacción.
+   */
+  @Override
+  public Map<StudentKey, Boolean> removeAll(Collection<StudentKey> keys) {
+    KeyMatcher.checkKeys(keys);
+    Map<StudentKey, Boolean> results = KeyMatcher.results(keys);
+    List<StudentKey> batched = new ArrayList<>(results.size());
+    for (StudentKey key : results.keySet()) {
+      if (!Double.isNaN(key.getGrade())) {
+        batched.add(key);
+      }
+    }
+    if (batched.isEmpty()) {
+      return results;
+    }
+    int[] counts =
+        transaction(
+            "remove students",
+            pooled -> {
+              PreparedStatement delete = pooled.prepare(DELETE_BY_KEY);
+              for (StudentKey key : batched) {
+                bindKey(delete, 1, key.getName(), key.getGrade());
+                delete.addBatch();
+              }
+              return delete.executeBatch();
+            });
+    for (int i = 0; i < counts.length; i++) {
+      results.put(batched.get(i), counts[i] > 0);
+    }
+    return results;
+  }
+
+  @Override
+  public boolean updateGrade(String name, double oldGrade, double newGrade) {
+    Student.checkGrade(newGrade);
+    if (name == null || name.trim().isEmpty() || Double.isNaN(oldGrade)) {
+      return false;
+    }
+    return execute(
+        "update grade",
+        pooled -> {
+          PreparedStatement update = pooled.prepare(UPDATE_BY_KEY);
+          update.setDouble(1, newGrade + 0.0);
+          bindKey(update, 2, name, oldGrade);
+          return update.executeUpdate() > 0;
+        });
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Las filas de cada clave se resuelven antes de modificar ninguna y los cambios se envían en
+   * un solo lote JDBC dentro de una transacción, conservando el orden de inserción.
+   */
+  @Override
+  public Map<StudentKey, Boolean> updateGrades(Map<StudentKey, Double> updates) {
+    KeyMatcher.checkUpdates(updates);
+    Map<StudentKey, Boolean> results = KeyMatcher.results(updates.keySet());
+    transaction(
+        "update grades",
+        pooled -> {
+          PreparedStatement select = pooled.prepare(SELECT_IDS_BY_KEY);
+          PreparedStatement update = pooled.prepare(UPDATE_BY_ID);
+          Set<Long> claimed = new HashSet<>();
+          for (Map.Entry<StudentKey, Double> entry : updates.entrySet()) {
+            StudentKey key = entry.getKey();
+            if (Double.isNaN(key.getGrade())) {
+              continue;
+            }
+            bindKey(select, 1, key.getName(), key.getGrade());
+            try (ResultSet rows = select.executeQuery()) {
+              while (rows.next()) {
+                long id = rows.getLong(1);
+                if (claimed.add(id)) {
+                  update.setDouble(1, entry.getValue() + 0.0);
+                  update.setLong(2, id);
+                  update.addBatch();
+                  results.put(key, Boolean.TRUE);
+                }
+              }
+            }
+          }
+          if (!claimed.isEmpty()) {
+            update.executeBatch();
+          }
+          return null;
+        });
+    return results;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Los agregados se calculan en la base de datos sin transferir las filas.
+   */
+  @Override
+  public GradeSummary statistics() {
+    return execute(
+        "compute statistics",
+        pooled -> {
+          try (ResultSet row = pooled.prepare(STATISTICS).executeQuery()) {
+            row.next();
+            long count = row.getLong(1);
+            return count == 0
+                ? GradeSummary.EMPTY
+                : new GradeSummary(
+                    count, row.getDouble(2), row.getDouble(3), row.getDouble(4), row.getDouble(5));
+          }
+        });
+  }
+
+  @Override
+  public List<Student> findByGradeRange(double min, double max) {
+    return execute(
+        "find students by grade",
+        pooled -> {
+          PreparedStatement select = pooled.prepare(SELECT_GRADE_RANGE);
+          select.setDouble(1, min + 0.0);
+          select.setDouble(2, max + 0.0);
+          return read(select);
+        });
+  }
+
+  @Override
+  public List<Student> findTopByGrade(int k) {
+    if (k < 0) {
+      throw new IllegalArgumentException("k cannot be negative");
+    }
+    if (k == 0) {
+      return new ArrayList<>();
+    }
+    return execute(
+        "find top students",
+        pooled -> {
+          PreparedStatement select = pooled.prepare(SELECT_TOP);
+          select.setInt(1, k);
+          return read(select);
+        });
+  }
+
+  @Override
+  public int rankOf(double grade) {
+    if (Double.isNaN(grade)) {
+      return 1;
+    }
+    return execute(
+        "rank grade",
+        pooled -> {
+          PreparedStatement select = pooled.prepare(COUNT_ABOVE);
+          select.setDouble(1, grade + 0.0);
+          return (int) queryLong(select) + 1;
+        });
+  }
+
+  @Override
+  public double gradePercentile(double percentile) {
+    GradeRanking.percentilePosition(percentile, 0); // Reject bad input before borrowing
+    return execute(
+        "compute percentile",
+        pooled -> {
+          int position =
+              GradeRanking.percentilePosition(percentile, (int) queryLong(pooled.prepare(COUNT)));
+          if (position < 0) {
+            return Double.NaN;
+          }
+          PreparedStatement select = pooled.prepare(SELECT_GRADE_AT);
+          select.setInt(1, position);
+          try (ResultSet row = select.executeQuery()) {
+            return row.next() ? row.getDouble(1) : Double.NaN;
+          }
+        });
+  }
+
+  /** Cierra las conexiones del pool. */
+  @Override
+  public void close() {
+    pool.close();
+  }
+
+  /** Trabajo JDBC sobre una conexión prestada del pool. */
+  private interface Work<T> {
+    T run(ConnectionPool.Pooled pooled) throws SQLException;
+  }
+
+  /**
+   * Ejecuta un trabajo con una conexión del pool. Si falla, la conexión se descarta.
+   *
+   * @param action la acción, para el mensaje de error
+   * @param work   el trabajo
+   * @return el resultado del trabajo
+   * @throws RepositoryException si la base de datos informa un error
+   */
+  private <T> T execute(String action, Work<T> work) {
+    ConnectionPool.Pooled pooled = pool.borrow();
+    boolean healthy = false;
+    try {
+      T result = work.run(pooled);
+      healthy = true;
+      return result;
+    } catch (SQLException e) {
+      throw new RepositoryException("Cannot " + action, e);
+    } finally {
+      if (healthy) {
+        pool.release(pooled);
+      } else {
+        pool.discard(pooled);
+      }
+    }
+  }
+
+  /**
+   * Ejecuta un trabajo dentro de una transacción, que se revierte si el trabajo falla.
+   *
+   * @param action la acción, para el mensaje de error
+   * @param work   el trabajo
+   * @return el resultado del trabajo
+   * @throws RepositoryException si la base de datos informa un error
+   */
+  private <T> T transaction(String action, Work<T> work) {
+    return execute(
+        action,
+        pooled -> {
+          Connection connection = pooled.connection();
+          connection.setAutoCommit(false);
+          T result;
+          try {
+            result = work.run(pooled);
+            connection.commit();
+          } catch (SQLException | RuntimeException e) {
+            try {
+              connection.rollback();
+            } catch (SQLException suppressed) {
+              e.addSuppressed(suppressed);
+            }
+            throw e;
+          }
+          connection.setAutoCommit(true);
+          return result;
+        });
+  }
+
+  private static void bindInsert(PreparedStatement insert, Student student) throws SQLException {
+    insert.setString(1, student.getName());
+    insert.setString(2, NameKey.fold(student.getName()));
+    insert.setDouble(3, student.getGrade() + 0.0);
+  }
+
+  /**
+   * Asigna los parámetros de una coincidencia por nombre sin mayúsculas y calificación exacta.
+   * Las calificaciones se suman a 0.0 para unificar -0.0 y 0.0, que {@code ==} considera iguales.
+   */
+  private static void bindKey(PreparedStatement statement, int first, String name, double grade)
+      throws SQLException {
+    statement.setString(first, NameKey.fold(name));
+    statement.setDouble(first + 1, grade + 0.0);
+  }
+
+  private static List<Student> read(PreparedStatement select) throws SQLException {
+    List<Student> students = new ArrayList<>();
+    try (ResultSet rows = select.executeQuery()) {
+      while (rows.next()) {
+        students.add(new Student(rows.getString(1), rows.getDouble(2)));
+      }
+    }
+    return students;
+  }
+
+  private static long queryLong(PreparedStatement select) throws SQLException {
+    try (ResultSet row = select.executeQuery()) {
+      row.next();
+      return row.getLong(1);
+    }
+  }
+}
@@ -0,0 +1,14 @@
+package com.studentmanager.repository;
+
+/** Política con la que {@link CachingStudentRepository} elige qué entrada desalojar. */
+public enum EvictionPolicy {
+  /** Desaloja la entrada usada hace más tiempo. Simple, pero un recorrido masivo vacía la caché. */
+  LRU,
+
+  /**
+   * W-TinyLFU: las entradas nuevas pasan por una ventana LRU pequeña y solo ingresan a la región
+   * principal (LRU segmentada) si su frecuencia estimada supera a la de la entrada que
+   * desplazarían. Retiene mejor los nombres consultados con frecuencia y resiste los recorridos.
+   */
+  TINY_LFU
+}
@@ -0,0 +1,98 @@
+package com.studentmanager.repository;
+
+/**
+ * Estimador aproximado de la frecuencia de acceso de cada clave, usado por la política de
+ * admisión TinyLFU de {@link BoundedCache}. Es un count-min sketch con contadores de 4 bits: cada
+ * clave incrementa cuatro contadores y su frecuencia estimada es el menor de ellos, de modo que
+ * las colisiones solo pueden sobreestimarla.
+ *
+ * <p>Cuando el número de incrementos alcanza diez veces la capacidad de la caché todos los
+ * contadores se reducen a la mitad, así que la historia antigua pierde peso y una clave que fue
+ * popular deja de proteger su lugar si ya no se usa. La memoria es de 8 bytes por cada entrada de
+ * la caché, redondeado a potencia de dos.
+ */
+final class FrequencySketch {
+  private static final long[] SEEDS = {
+    0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+  };
+  private static final long RESET_MASK = 0x7777777777777777L;
+  private static final int MAX_FREQUENCY = 15;
+
+  private final long[] table;
+  private final int mask;
+  private final int sampleSize;
+  private int additions;
+
+  /**
+   * Crea un estimador dimensionado para una caché.
+   *
+   * @param maximumSize la capacidad de la caché
+   */
+  FrequencySketch(int maximumSize) {
+    int size = Integer.highestOneBit(Math.max(16, maximumSize) - 1) << 1;
+    this.table = new long[size];
+    this.mask = size - 1;
+    this.sampleSize = 10 * Math.max(16, maximumSize);
+  }
+
+  /**
+   * Estima cuántas veces se registró una clave en la ventana reciente.
+   *
+   * @param key la clave
+   * @return la frecuencia estimada, entre 0 y 15
+   */
+  int frequency(Object key) {
+    int hash = spread(key.hashCode());
+    int frequency = MAX_FREQUENCY;
+    for (int i = 0; i < SEEDS.length; i++) {
+      long word = table[indexOf(hash, i)];
+      frequency = Math.min(frequency, (int) ((word >>> shiftOf(hash, i)) & 0xF));
+    }
+    return frequency;
+  }
+
+  /**
+   * Registra un acceso a una clave.
+   *
+   * @param key la clave
+   */
+  void increment(Object key) {
+    int hash = spread(key.hashCode());
+    boolean added = false;
+    for (int i = 0; i < SEEDS.length; i++) {
+      int index = indexOf(hash, i);
+      int shift = shiftOf(hash, i);
+      if (((table[index] >>> shift) & 0xF) < MAX_FREQUENCY) {
+        table[index] += 1L << shift;
+        added = true;
+      }
+    }
+    if (added && ++additions == sampleSize) {
+      reset();
+    }
+  }
+
+  /** Reduce todos los contadores a la mitad. */
+  private void reset() {
+    for (int i = 0; i < table.length; i++) {
+      table[i] = (table[i] >>> 1) & RESET_MASK;
+    }
+    additions /= 2;
+  }
+
+  private int indexOf(int hash, int i) {
+    long h = (hash + SEEDS[i]) * SEEDS[i];
+    h += h >>> 32;
+    return (int) h & mask;
+  }
+
+  /** Elige uno de los 16 contadores de 4 bits de la palabra, distinto para cada función. */
+  private static int shiftOf(int hash, int i) {
+    return ((hash >>> (i << 3)) & 0xF) << 2;
+  }
+
+  private static int spread(int hash) {
+    int h = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+    return (h >>> 16) ^ h;
+  }
+}
@@ -0,0 +1,235 @@
+package com.studentmanager.repository;
+
+import com.studentmanager.model.Student;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Índice ordenado por calificación implementado como un treap de estadísticas de orden: cada nodo
+ * guarda el tamaño de su subárbol, lo que permite responder rangos, top-k, rangos de posición y
+ * percentiles en O(log n + k) esperado.
+ *
+ * <p>El orden es calificación descendente, luego nombre ascendente y por último el número de
+ * secuencia de inserción, que desempata estudiantes idénticos. Para eliminar una entrada se debe
+ * indicar la calificación con la que fue indexada. Esta clase no es segura para hilos.
+ */
+final class GradeIndex {
+  private final Random priorities = new Random(0x5EED);
+  private Entry root;
+
+  /**
+   * Indexa un estudiante con su calificación actual.
+   *
+   * @param student el estudiante
+   * @param seq     el número de secuencia que lo distingue de duplicados
+   */
+  void insert(Student student, long seq) {
+    Entry entry = new Entry(student, student.getGrade(), seq, priorities.nextInt());
+    Entry[] parts = split(root, entry);
+    root = merge(merge(parts[0], entry), parts[1]);
+  }
+
+  /**
+   * Quita un estudiante del índice.
+   *
+   * @param student el estudiante
+   * @param grade   la calificación con la que fue indexado
+   * @param seq     su número de secuencia
+   */
+  void delete(Student student, double grade, long seq) {
+    root = delete(root, grade, student.getName(), seq);
+  }
+
+  private static Entry delete(Entry node, double grade, String name, long seq) {
+    if (node == null) {
+      return null;
+    }
+    int cmp = compare(grade, name, seq, node);
+    if (cmp == 0) {
+      return merge(node.left, node.right);
+    }
+    if (cmp < 0) {
+      node.left = delete(node.left, grade, name, seq);
+    } else {
+      node.right = delete(node.right, grade, name, seq);
+    }
+    update(node);
+    return node;
+  }
+
+  /**
+   * Obtiene el número de estudiantes indexados.
+   *
+   * @return el tamaño del índice
+   */
+  int size() {
+    return size(root);
+  }
+
+  private static int size(Entry node) {
+    return node == null ? 0 : node.size;
+  }
+
+  /**
+   * Busca los estudiantes con calificación en el rango cerrado dado.
+   *
+   * @param min la calificación mínima
+   * @param max la calificación máxima
+   * @return los estudiantes de mayor a menor calificación
+   */
+  List<Student> range(double min, double max) {
+    List<Student> result = new ArrayList<>();
+    collectRange(root, min, max, result);
+    return result;
+  }
+
+  /**
+   * Obtiene los k estudiantes de mayor calificación.
+   *
+   * @param k cuántos estudiantes devolver
+   * @return hasta k estudiantes de mayor a menor calificación
+   */
+  List<Student> top(int k) {
+    List<Student> result = new ArrayList<>(Math.min(k, size()));
+    collectTop(root, k, result);
+    return result;
+  }
+
+  /**
+   * Cuenta los estudiantes con calificación estrictamente mayor a la dada.
+   *
+   * @param grade la calificación de referencia
+   * @return cuántos estudiantes la superan
+   */
+  int countAbove(double grade) {
+    int count = 0;
+    Entry node = root;
+    while (node != null) {
+      if (Double.compare(node.grade, grade) > 0) {
+        count += size(node.left) + 1;
+        node = node.right;
+      } else {
+        node = node.left;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Obtiene el estudiante en la posición dada del orden del índice.
+   *
+   * @param position la posición, comenzando en 0 para la mayor calificación
+   * @return el estudiante en esa posición
+   */
+  Student select(int position) {
+    Entry node = root;
+    int remaining = position;
+    while (node != null) {
+      int leftSize = size(node.left);
+      if (remaining < leftSize) {
+        node = node.left;
+      } else if (remaining == leftSize) {
+        return node.student;
+      } else {
+        remaining -= leftSize + 1;
+        node = node.right;
+      }
+    }
+    throw new IndexOutOfBoundsException("Position: " + position);
+  }
+
+  private static int compare(double grade, String name, long seq, Entry entry) {
+    int byGrade = Double.compare(entry.grade, grade);
+    if (byGrade != 0) {
+      return byGrade;
+    }
+    int byName = name.compareTo(entry.student.getName());
+    return byName == 0 ? Long.compare(seq, entry.seq) : byName;
+  }
+
+  /** Divide el árbol en las entradas anteriores y posteriores a la clave de {@code pivot}. */
+  private static Entry[] split(Entry node, Entry pivot) {
+    if (node == null) {
+      return new Entry[2];
+    }
+    if (compare(pivot.grade, pivot.student.getName(), pivot.seq, node) > 0) {
+      Entry[] parts = split(node.right, pivot);
+      node.right = parts[0];
+      update(node);
+      parts[0] = node;
+      return parts;
+    }
+    Entry[] parts = split(node.left, pivot);
+    node.left = parts[1];
+    update(node);
+    parts[1] = node;
+    return parts;
+  }
+
+  private static Entry merge(Entry left, Entry right) {
+    if (left == null) {
+      return right;
+    }
+    if (right == null) {
+      return left;
+    }
+    if (left.priority > right.priority) {
+      left.right = merge(left.right, right);
+      update(left);
+      return left;
+    }
+    right.left = merge(left, right.left);
+    update(right);
+    return right;
+  }
+
+  private static void collectRange(Entry node, double min, double max, List<Student> result) {
+    if (node == null) {
+      return;
+    }
+    if (Double.compare(node.grade, max) > 0) {
+      collectRange(node.right, min, max, result);
+    } else if (Double.compare(node.grade, min) < 0) {
+      collectRange(node.left, min, max, result);
+    } else {
+      collectRange(node.left, min, max, result);
+      result.add(node.student);
+      collectRange(node.right, min, max, result);
+    }
+  }
+
+  private static void collectTop(Entry node, int k, List<Student> result) {
+    if (node == null || result.size() >= k) {
+      return;
+    }
+    collectTop(node.left, k, result);
+    if (result.size() < k) {
+      result.add(node.student);
+      collectTop(node.right, k, result);
+    }
+  }
+
+  private static void update(Entry node) {
+    node.size = size(node.left) + size(node.right) + 1;
+  }
+
+  /** Nodo del treap. */
+  private static final class Entry {
+    private final Student student;
+    private final double grade;
+    private final long seq;
+    private final int priority;
+    private int size;
+    private Entry left;
+    private Entry right;
+
+    private Entry(Student student, double grade, long seq, int priority) {
+      this.student = student;
+      this.grade = grade;
+      this.seq = seq;
+      this.priority = priority;
+      this.size = 1;
+    }
+  }
+}
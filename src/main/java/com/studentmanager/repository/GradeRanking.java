@@ -0,0 +1,34 @@
+package com.studentmanager.repository;
+
+import com.studentmanager.model.Student;
+import java.util.Comparator;
+
+/**
+ * Reglas compartidas de ordenamiento por calificación para las consultas de rango, top-k, posición
+ * y percentil de {@link StudentRepository}.
+ */
+final class GradeRanking {
+  /** Orden de calificación descendente y, a igual calificación, nombre ascendente. */
+  static final Comparator<Student> ORDER =
+      Comparator.comparingDouble(Student::getGrade).reversed().thenComparing(Student::getName);
+
+  private GradeRanking() {}
+
+  /**
+   * Calcula la posición del percentil por el método del rango más cercano.
+   *
+   * @param percentile el percentil, entre 0 y 100
+   * @param count      el número de calificaciones
+   * @return la posición (desde 0) en orden ascendente, o -1 si no hay calificaciones
+   * @throws IllegalArgumentException si el percentil está fuera de rango
+   */
+  static int percentilePosition(double percentile, int count) {
+    if (!(percentile >= 0 && percentile <= 100)) {
+      throw new IllegalArgumentException("Percentile must be between 0 and 100");
+    }
+    if (count == 0) {
+      return -1;
+    }
+    return Math.max(1, (int) Math.ceil(percentile / 100 * count)) - 1;
+  }
+}
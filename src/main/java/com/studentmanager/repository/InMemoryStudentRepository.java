@@ -1,8 +1,25 @@
 package com.studentmanager.repository;
 
 import com.studentmanager.model.Student;
+import com.studentmanager.model.StudentRecord;
+import com.studentmanager.stats.GradeStatistics;
+import com.studentmanager.stats.GradeSummary;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Implementación en memoria de StudentRepository. Esta clase sigue SRP
@@ -10,13 +27,49 @@ import java.util.List;
  * almacenamiento de datos. Puede ser reemplazada con otras implementaciones
  * (ej., DatabaseStudentRepository) sin
  * afectar el código cliente (LSP).
+ *
+ * <p>Los estudiantes se mantienen en una lista doblemente enlazada que conserva el orden de
+ * inserción, y un índice hash por nombre plegado (insensible a mayúsculas) apunta a los nodos de
+ * cada grupo de nombres duplicados. Así {@link #findByName(String)} y {@link #remove(String,
+ * double)} cuestan O(1) más el tamaño del grupo, en lugar de recorrer todo el repositorio.
+ *
+ * <p>{@link #findAll()} devuelve una instantánea no modificable que se comparte entre lecturas
+ * sucesivas y solo se reconstruye tras la siguiente mutación, de modo que listar repetidamente un
+ * repositorio sin cambios no asigna memoria.
+ *
+ * <p>Las estadísticas de calificaciones se mantienen de forma incremental en cada {@code add},
+ * {@code remove}, {@code updateGrade} y {@code updateGrades}, por lo que {@link #statistics()}
+ * responde en tiempo constante. De la misma forma se mantiene un índice ordenado por calificación
+ * que responde las consultas de rango, top-k, posición y percentil en O(log n + k). Cada nodo
+ * recuerda la calificación con la que fue indexado; un cambio hecho directamente con {@link
+ * Student#setGrade(double)} sobre un estudiante almacenado no se refleja en los índices ni en las
+ * estadísticas.
+ *
+ * <p>Cada nombre plegado distinto se registra además en un trie compacto por su forma de búsqueda
+ * (sin tildes ni mayúsculas) y por cada sufijo que empieza en una palabra. Las búsquedas por
+ * prefijo y por distancia de edición recorren solo la parte del trie que puede coincidir, así que
+ * su costo depende del número de nombres distintos que coinciden y no del tamaño del repositorio.
+ * El trie se actualiza al aparecer un nombre nuevo y al removerse el último estudiante con ese
+ * nombre.
  */
+@SuppressWarnings("PMD.GodClass")
 public class InMemoryStudentRepository implements StudentRepository {
-  private final List<Student> students;
+  private final Map<String, List<Node>> nameIndex;
+  private final NameTrie searchIndex;
+  private final GradeStatistics statistics;
+  private final GradeIndex gradeIndex;
+  private Node head;
+  private Node tail;
+  private int size;
+  private List<Student> snapshot;
+  private long nextSeq;
 
   /** Crea un nuevo repositorio en memoria. */
   public InMemoryStudentRepository() {
-    this.students = new ArrayList<>();
+    this.nameIndex = new HashMap<>();
+    this.searchIndex = new NameTrie();
+    this.statistics = new GradeStatistics();
+    this.gradeIndex = new GradeIndex();
   }
 
   @Override
@@ -24,12 +77,98 @@ public class InMemoryStudentRepository implements StudentRepository {
     if (student == null) {
       throw new IllegalArgumentException("Student cannot be null");
     }
-    students.add(student);
+    link(student);
+  }
+
+  @Override
+  public void addAll(Collection<Student> students) {
+    if (students == null) {
+      throw new IllegalArgumentException("Students cannot be null");
+    }
+    for (Student student : students) {
+      if (student == null) {
+        throw new IllegalArgumentException("Student cannot be null");
+      }
+    }
+    for (Student student : students) {
+      link(student);
+    }
+  }
+
+  /**
+   * Enlaza un estudiante al final de la lista y lo registra en los índices y las estadísticas.
+   *
+   * @param student el estudiante a enlazar
+   */
+  private void link(Student student) {
+    Node node = new Node(student, nextSeq++);
+    if (tail == null) {
+      head = node;
+    } else {
+      tail.next = node;
+      node.prev = tail;
+    }
+    tail = node;
+    size++;
+    snapshot = null;
+    String key = NameKey.fold(student.getName());
+    List<Node> bucket = nameIndex.get(key);
+    if (bucket == null) {
+      bucket = new ArrayList<>(1);
+      nameIndex.put(key, bucket);
+      for (String suffix : NameSearch.suffixes(NameSearch.normalize(key))) {
+        searchIndex.add(suffix, key);
+      }
+    }
+    bucket.add(node);
+    statistics.add(node.grade);
+    gradeIndex.insert(student, node.seq);
   }
 
   @Override
   public List<Student> findAll() {
-    return new ArrayList<>(students); // Return copy to prevent external modification
+    if (snapshot == null) {
+      List<Student> copy = new ArrayList<>(size);
+      for (Node node = head; node != null; node = node.next) {
+        copy.add(node.student);
+      }
+      snapshot = Collections.unmodifiableList(copy); // Read-only to prevent external modification
+    }
+    return snapshot;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Si la instantánea de {@link #findAll()} está vigente se recorre esa; si no, se recorre la
+   * lista enlazada directamente, sin construir una instantánea nueva.
+   */
+  @Override
+  public Stream<Student> stream() {
+    if (snapshot != null) {
+      return snapshot.stream();
+    }
+    Iterator<Student> cursor =
+        new Iterator<Student>() {
+          private Node next = head;
+
+          @Override
+          public boolean hasNext() {
+            return next != null;
+          }
+
+          @Override
+          public Student next() {
+            if (next == null) {
+              throw new NoSuchElementException();
+            }
+            Student student = next.student;
+            next = next.next;
+            return student;
+          }
+        };
+    return StreamSupport.stream(
+        Spliterators.spliterator(cursor, size, Spliterator.ORDERED | Spliterator.NONNULL), false);
   }
 
   @Override
@@ -37,12 +176,109 @@ public class InMemoryStudentRepository implements StudentRepository {
     if (name == null) {
       return null;
     }
-    return students.stream().filter(s -> s.getName().equals(name)).findFirst().orElse(null);
+    List<Node> bucket = nameIndex.get(NameKey.fold(name));
+    if (bucket == null) {
+      return null;
+    }
+    for (Node node : bucket) {
+      if (node.student.getName().equals(name)) {
+        return node.student;
+      }
+    }
+    return null;
   }
 
   @Override
   public int count() {
-    return students.size();
+    return size;
+  }
+
+  @Override
+  public List<Student> findByNamePrefix(String prefix, int limit) {
+    NameSearch.check(prefix, limit);
+    List<Student> result = new ArrayList<>();
+    if (limit == 0) {
+      return result;
+    }
+    Set<String> seen = new HashSet<>();
+    searchIndex.visitPrefix(
+        NameSearch.normalize(prefix),
+        (suffix, key, distance) -> !seen.add(key) || collect(key, result, limit));
+    return result;
+  }
+
+  @Override
+  public List<Student> findBySimilarName(String name, int maxDistance, int limit) {
+    NameSearch.check(name, limit);
+    NameSearch.checkDistance(maxDistance);
+    // Keys arrive in suffix order, so the first match of a name is its best suffix at that distance
+    Map<String, Integer> distances = new HashMap<>();
+    Map<String, String> suffixes = new HashMap<>();
+    searchIndex.visitSimilar(
+        NameSearch.normalize(name),
+        maxDistance,
+        (suffix, key, distance) -> {
+          Integer best = distances.get(key);
+          if (best == null || distance < best) {
+            distances.put(key, distance);
+            suffixes.put(key, suffix);
+          }
+          return true;
+        });
+    List<String> keys = new ArrayList<>(distances.keySet());
+    keys.sort(
+        Comparator.<String>comparingInt(distances::get)
+            .thenComparing(suffixes::get)
+            .thenComparing(Comparator.naturalOrder()));
+    List<Student> result = new ArrayList<>();
+    for (int i = 0; i < keys.size() && result.size() < limit; i++) {
+      collect(keys.get(i), result, limit);
+    }
+    return result;
+  }
+
+  /**
+   * Agrega los estudiantes de un nombre plegado, en orden de inserción, hasta llegar al límite.
+   *
+   * @return false si se llegó al límite
+   */
+  private boolean collect(String key, List<Student> result, int limit) {
+    for (Node node : nameIndex.get(key)) {
+      result.add(node.student);
+      if (result.size() == limit) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public GradeSummary statistics() {
+    return statistics.summary();
+  }
+
+  @Override
+  public List<Student> findByGradeRange(double min, double max) {
+    return gradeIndex.range(min, max);
+  }
+
+  @Override
+  public List<Student> findTopByGrade(int k) {
+    if (k < 0) {
+      throw new IllegalArgumentException("k cannot be negative");
+    }
+    return gradeIndex.top(k);
+  }
+
+  @Override
+  public int rankOf(double grade) {
+    return gradeIndex.countAbove(grade) + 1;
+  }
+
+  @Override
+  public double gradePercentile(double percentile) {
+    int position = GradeRanking.percentilePosition(percentile, size);
+    return position < 0 ? Double.NaN : gradeIndex.select(size - 1 - position).getGrade();
   }
 
   @Override
@@ -50,6 +286,154 @@ public class InMemoryStudentRepository implements StudentRepository {
     if (name == null || name.trim().isEmpty()) {
       return false;
     }
-    return students.removeIf(s -> s.getName().equalsIgnoreCase(name) && s.getGrade() == grade);
+    String key = NameKey.fold(name);
+    List<Node> bucket = nameIndex.get(key);
+    if (bucket == null) {
+      return false;
+    }
+    boolean removed = false;
+    for (Iterator<Node> it = bucket.iterator(); it.hasNext(); ) {
+      Node node = it.next();
+      Student student = node.student;
+      if (student.getName().equalsIgnoreCase(name) && student.getGrade() == grade) {
+        it.remove();
+        unlink(node);
+        removed = true;
+      }
+    }
+    if (bucket.isEmpty()) {
+      nameIndex.remove(key);
+      for (String suffix : NameSearch.suffixes(NameSearch.normalize(key))) {
+        searchIndex.remove(suffix, key);
+      }
+    }
+    return removed;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Los estudiantes se buscan en el índice por nombre y la calificación se cambia en su lugar,
+   * reubicando cada uno en el índice por calificación y ajustando las estadísticas. Cuesta O(1)
+   * más el tamaño del grupo de nombres, más O(log n) por estudiante actualizado, y los estudiantes
+   * conservan su posición.
+   */
+  @Override
+  public boolean updateGrade(String name, double oldGrade, double newGrade) {
+    Student.checkGrade(newGrade);
+    if (name == null || name.trim().isEmpty()) {
+      return false;
+    }
+    List<Node> bucket = nameIndex.get(NameKey.fold(name));
+    if (bucket == null) {
+      return false;
+    }
+    boolean updated = false;
+    for (Node node : bucket) {
+      Student student = node.student;
+      if (student.getName().equalsIgnoreCase(name) && student.getGrade() == oldGrade) {
+        regrade(node, newGrade);
+        updated = true;
+      }
+    }
+    return updated;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Las calificaciones se cambian en su lugar, así que los estudiantes conservan su posición, y
+   * cada cambio reubica al estudiante en los índices. Cada clave cuesta O(1) más el tamaño de su
+   * grupo de nombres.
+   */
+  @Override
+  public Map<StudentKey, Boolean> updateGrades(Map<StudentKey, Double> updates) {
+    KeyMatcher.checkUpdates(updates);
+    Map<StudentKey, Boolean> results = KeyMatcher.results(updates.keySet());
+    // Collect every change before applying any, so that one update cannot feed another
+    Map<Node, Double> changes = new IdentityHashMap<>();
+    for (StudentKey key : results.keySet()) {
+      List<Node> bucket = nameIndex.get(NameKey.fold(key.getName()));
+      if (bucket == null) {
+        continue;
+      }
+      for (Node node : bucket) {
+        Student student = node.student;
+        if (key.matches(student.getName(), student.getGrade()) && !changes.containsKey(node)) {
+          changes.put(node, updates.get(key));
+          results.put(key, Boolean.TRUE);
+        }
+      }
+    }
+    for (Map.Entry<Node, Double> change : changes.entrySet()) {
+      regrade(change.getKey(), change.getValue());
+    }
+    return results;
+  }
+
+  /**
+   * Cambia la calificación de un estudiante almacenado, o lo reemplaza por una copia si es un
+   * {@link StudentRecord}, y lo reubica en el índice por calificación y en las estadísticas.
+   *
+   * @param node     el nodo del estudiante
+   * @param newGrade la calificación nueva
+   */
+  private void regrade(Node node, double newGrade) {
+    Student previous = node.student;
+    if (previous instanceof StudentRecord) {
+      // An immutable student is replaced instead of modified, so the listing is stale
+      node.student = ((StudentRecord) previous).withGrade(newGrade);
+      snapshot = null;
+    } else {
+      previous.setGrade(newGrade);
+    }
+    if (Double.compare(node.grade, newGrade) == 0) {
+      return;
+    }
+    statistics.replace(node.grade, newGrade);
+    gradeIndex.delete(previous, node.grade, node.seq);
+    node.grade = newGrade;
+    gradeIndex.insert(node.student, node.seq);
+  }
+
+  /**
+   * Desenlaza un nodo de la lista de orden de inserción y lo quita de los índices y las
+   * estadísticas.
+   *
+   * @param node el nodo a desenlazar
+   */
+  private void unlink(Node node) {
+    if (node.prev == null) {
+      head = node.next;
+    } else {
+      node.prev.next = node.next;
+    }
+    if (node.next == null) {
+      tail = node.prev;
+    } else {
+      node.next.prev = node.prev;
+    }
+    size--;
+    snapshot = null;
+    statistics.remove(node.grade);
+    gradeIndex.delete(node.student, node.grade, node.seq);
+  }
+
+  /**
+   * Nodo de la lista enlazada que conserva el orden de inserción. Guarda la calificación con la que
+   * su estudiante está registrado en el índice y en las estadísticas.
+   */
+  private static final class Node {
+    private Student student;
+    private final long seq;
+    private double grade;
+    private Node prev;
+    private Node next;
+
+    private Node(Student student, long seq) {
+      this.student = student;
+      this.seq = seq;
+      this.grade = student.getGrade();
+    }
   }
 }
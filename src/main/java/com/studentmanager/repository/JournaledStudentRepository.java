@@ -0,0 +1,714 @@
+package com.studentmanager.repository;
+
+import com.studentmanager.model.NamePool;
+import com.studentmanager.model.Student;
+import com.studentmanager.stats.GradeSummary;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Decorador de StudentRepository que da durabilidad a las mutaciones mediante un registro de
+ * escritura anticipada (WAL) de solo anexado, sin reescribir todo el conjunto de datos en cada
+ * cambio.
+ *
+ * <p>Cada mutación se anexa al archivo {@value #JOURNAL_FILE} como un registro con longitud y suma
+ * CRC32 antes de aplicarse al delegado; un lote de altas, de bajas o de cambios de calificación se
+ * registra como un único registro para reproducirse con la misma semántica. Las escrituras se
+ * acumulan en un búfer y se sincronizan a disco ({@code fsync}) en grupo cada {@code syncInterval}
+ * mutaciones; con un intervalo de 1 cada registro es durable antes de aplicarse, y con intervalos
+ * mayores un fallo puede perder como máximo las últimas {@code syncInterval - 1} mutaciones. Cada
+ * {@code checkpointInterval} mutaciones el contenido completo se compacta en la instantánea
+ * {@value #SNAPSHOT_FILE} y el registro se vacía.
+ *
+ * <p>La instantánea y el registro llevan un número de generación en su cabecera. Una compactación
+ * instala la instantánea con la generación siguiente y recién después reinicia el registro con esa
+ * generación, así que si el proceso cae entre ambos pasos la recuperación descarta el registro
+ * anterior en lugar de reaplicar mutaciones que la instantánea ya contiene.
+ *
+ * <p>Al construirse, el decorador recupera el estado leyendo por bloques la instantánea y la cola
+ * del registro y aplicándolas sobre el repositorio delegado, que debe estar vacío. Un registro
+ * final incompleto o corrupto (escritura interrumpida) se descarta, y un registro que el delegado
+ * rechazó con {@link IllegalArgumentException} se rechaza también al reproducirlo. Si una escritura
+ * del registro falla, el repositorio rechaza las mutaciones siguientes con {@link
+ * RepositoryException} hasta que se vuelva a abrir, porque ya no puede saber qué llegó al disco.
+ * Los cambios hechos directamente con {@link Student#setGrade(double)} no se registran. Esta clase
+ * no es segura para hilos.
+ */
+@SuppressWarnings("PMD.GodClass")
+public class JournaledStudentRepository implements StudentRepository, Closeable {
+  /** Nombre del archivo del registro de escritura anticipada. */
+  public static final String JOURNAL_FILE = "journal.wal";
+
+  /** Nombre del archivo de instantánea. */
+  public static final String SNAPSHOT_FILE = "snapshot.dat";
+
+  private static final int SNAPSHOT_MAGIC = 0x534E4150; // "SNAP"
+  private static final int JOURNAL_MAGIC = 0x4A524E4C; // "JRNL"
+  private static final int JOURNAL_HEADER_SIZE = Integer.BYTES + Long.BYTES;
+  private static final int SNAPSHOT_HEADER_SIZE = Integer.BYTES * 2 + Long.BYTES;
+  private static final int MIN_PAYLOAD = 1 + Integer.BYTES;
+  private static final byte OP_ADD = 1;
+  private static final byte OP_REMOVE = 2;
+  private static final byte OP_UPDATE = 3;
+  private static final byte OP_REMOVE_ALL = 4;
+  private static final byte OP_ADD_ALL = 5;
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final int DEFAULT_CHECKPOINT_INTERVAL = 100_000;
+
+  private final StudentRepository delegate;
+  private final Path directory;
+  private final int syncInterval;
+  private final int checkpointInterval;
+  private final ByteBuffer buffer;
+  private final CRC32 crc;
+  private FileChannel journal;
+  private long generation;
+  private boolean failed;
+  private int unsynced;
+  private int sinceCheckpoint;
+
+  /**
+   * Crea un repositorio con registro que sincroniza cada mutación.
+   *
+   * @param delegate  el repositorio vacío donde se mantiene el estado
+   * @param directory el directorio del registro y la instantánea
+   */
+  public JournaledStudentRepository(StudentRepository delegate, Path directory) {
+    this(delegate, directory, 1, DEFAULT_CHECKPOINT_INTERVAL);
+  }
+
+  /**
+   * Crea un repositorio con registro y recupera el estado persistido.
+   *
+   * @param delegate           el repositorio vacío donde se mantiene el estado
+   * @param directory          el directorio del registro y la instantánea
+   * @param syncInterval       número de mutaciones agrupadas por cada {@code fsync}
+   * @param checkpointInterval número de mutaciones entre compactaciones automáticas
+   * @throws RepositoryException si el estado persistido no puede leerse
+   */
+  public JournaledStudentRepository(
+      StudentRepository delegate, Path directory, int syncInterval, int checkpointInterval) {
+    if (delegate == null || directory == null) {
+      throw new IllegalArgumentException("Delegate and directory cannot be null");
+    }
+    if (syncInterval < 1 || checkpointInterval < 1) {
+      throw new IllegalArgumentException("Intervals must be positive");
+    }
+    this.delegate = delegate;
+    this.directory = directory;
+    this.syncInterval = syncInterval;
+    this.checkpointInterval = checkpointInterval;
+    this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    this.crc = new CRC32();
+    try {
+      Files.createDirectories(directory);
+      // Recovered students with the same name share one string instead of one copy per record
+      NamePool names = new NamePool();
+      generation = loadSnapshot(names);
+      Path path = directory.resolve(JOURNAL_FILE);
+      boolean created = !Files.exists(path);
+      journal =
+          FileChannel.open(
+              path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      long validLength = replayJournal(names);
+      if (validLength < 0) {
+        resetJournal();
+      } else {
+        journal.truncate(validLength);
+        journal.position(validLength);
+      }
+      if (created) {
+        syncDirectory();
+      }
+    } catch (RepositoryException e) {
+      closeQuietly();
+      throw e;
+    } catch (IOException | RuntimeException e) {
+      closeQuietly();
+      throw new RepositoryException("Cannot recover journal in " + directory, e);
+    }
+  }
+
+  @Override
+  public void add(Student student) {
+    if (student == null) {
+      throw new IllegalArgumentException("Student cannot be null");
+    }
+    ensureWritable();
+    writeRecord(OP_ADD, student.getName(), student.getGrade());
+    logged(1);
+    delegate.add(student);
+    applied(1);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>El lote se registra como un único registro que se reproduce con {@code addAll} sobre el
+   * delegado. Si el delegado rechaza un estudiante a mitad de un lote no atómico, la recuperación
+   * vuelve a rechazarlo en el mismo punto, así que los estudiantes que no llegaron a agregarse
+   * tampoco reaparecen al reabrir.
+   */
+  @Override
+  public void addAll(Collection<Student> students) {
+    if (students == null) {
+      throw new IllegalArgumentException("Students cannot be null");
+    }
+    List<StudentKey> batch = new ArrayList<>(students.size());
+    for (Student student : students) {
+      if (student == null) {
+        throw new IllegalArgumentException("Student cannot be null");
+      }
+      batch.add(StudentKey.of(student.getName(), student.getGrade()));
+    }
+    if (batch.isEmpty()) {
+      delegate.addAll(students);
+      return;
+    }
+    ensureWritable();
+    writeBatchRecord(OP_ADD_ALL, batch, null);
+    logged(batch.size());
+    delegate.addAll(students);
+    applied(batch.size());
+  }
+
+  @Override
+  public List<Student> findAll() {
+    return delegate.findAll();
+  }
+
+  @Override
+  public Stream<Student> stream() {
+    return delegate.stream();
+  }
+
+  @Override
+  public Student findByName(String name) {
+    return delegate.findByName(name);
+  }
+
+  @Override
+  public int count() {
+    return delegate.count();
+  }
+
+  @Override
+  public List<Student> findByNamePrefix(String prefix, int limit) {
+    return delegate.findByNamePrefix(prefix, limit);
+  }
+
+  @Override
+  public List<Student> findBySimilarName(String name, int maxDistance, int limit) {
+    return delegate.findBySimilarName(name, maxDistance, limit);
+  }
+
+  @Override
+  public GradeSummary statistics() {
+    return delegate.statistics();
+  }
+
+  @Override
+  public List<Student> findByGradeRange(double min, double max) {
+    return delegate.findByGradeRange(min, max);
+  }
+
+  @Override
+  public List<Student> findTopByGrade(int k) {
+    return delegate.findTopByGrade(k);
+  }
+
+  @Override
+  public int rankOf(double grade) {
+    return delegate.rankOf(grade);
+  }
+
+  @Override
+  public double gradePercentile(double percentile) {
+    return delegate.gradePercentile(percentile);
+  }
+
+  @Override
+  public boolean remove(String name, double grade) {
+    if (name == null || name.trim().isEmpty()) {
+      return false;
+    }
+    ensureWritable();
+    writeRecord(OP_REMOVE, name, grade);
+    logged(1);
+    boolean removed = delegate.remove(name, grade);
+    applied(1);
+    return removed;
+  }
+
+  @Override
+  public Map<StudentKey, Boolean> removeAll(Collection<StudentKey> keys) {
+    KeyMatcher.checkKeys(keys);
+    if (keys.isEmpty()) {
+      return delegate.removeAll(keys);
+    }
+    ensureWritable();
+    List<StudentKey> batch = new ArrayList<>(keys);
+    writeBatchRecord(OP_REMOVE_ALL, batch, null);
+    logged(batch.size());
+    Map<StudentKey, Boolean> results = delegate.removeAll(keys);
+    applied(batch.size());
+    return results;
+  }
+
+  @Override
+  public boolean updateGrade(String name, double oldGrade, double newGrade) {
+    Student.checkGrade(newGrade);
+    if (name == null || name.trim().isEmpty()) {
+      return false;
+    }
+    ensureWritable();
+    StudentKey key = StudentKey.of(name, oldGrade);
+    writeBatchRecord(
+        OP_UPDATE, Collections.singletonList(key), Collections.singletonMap(key, newGrade));
+    logged(1);
+    boolean updated = delegate.updateGrade(name, oldGrade, newGrade);
+    applied(1);
+    return updated;
+  }
+
+  @Override
+  public Map<StudentKey, Boolean> updateGrades(Map<StudentKey, Double> updates) {
+    KeyMatcher.checkUpdates(updates);
+    if (updates.isEmpty()) {
+      return delegate.updateGrades(updates);
+    }
+    ensureWritable();
+    writeBatchRecord(OP_UPDATE, new ArrayList<>(updates.keySet()), updates);
+    logged(updates.size());
+    Map<StudentKey, Boolean> results = delegate.updateGrades(updates);
+    applied(updates.size());
+    return results;
+  }
+
+  /** Escribe y sincroniza a disco las mutaciones pendientes del grupo actual. */
+  public void sync() {
+    ensureWritable();
+    try {
+      flushBuffer();
+      journal.force(false);
+      unsynced = 0;
+    } catch (IOException e) {
+      throw failure("Cannot sync journal", e);
+    }
+  }
+
+  /**
+   * Compacta el estado actual en una nueva instantánea y vacía el registro. La instantánea se
+   * escribe en un archivo temporal con la generación siguiente y se renombra de forma atómica, así
+   * que un fallo a mitad de camino deja intacta la anterior; el registro se reinicia solo después
+   * de instalarla.
+   */
+  public void checkpoint() {
+    sync();
+    long next = generation + 1;
+    Path temp = directory.resolve(SNAPSHOT_FILE + ".tmp");
+    try (FileChannel out =
+        FileChannel.open(
+            temp,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      List<Student> students = delegate.findAll();
+      ByteBuffer chunk = ByteBuffer.allocateDirect(BUFFER_SIZE);
+      chunk.putInt(SNAPSHOT_MAGIC).putLong(next).putInt(students.size());
+      for (Student student : students) {
+        byte[] name = student.getName().getBytes(StandardCharsets.UTF_8);
+        if (chunk.remaining() < Integer.BYTES + name.length + Double.BYTES) {
+          drain(out, chunk);
+          if (chunk.capacity() < Integer.BYTES + name.length + Double.BYTES) {
+            chunk = ByteBuffer.allocate(Integer.BYTES + name.length + Double.BYTES);
+          }
+        }
+        chunk.putInt(name.length).put(name).putDouble(student.getGrade());
+      }
+      drain(out, chunk);
+      out.force(true);
+    } catch (IOException e) {
+      throw new RepositoryException("Cannot write snapshot in " + directory, e);
+    }
+    try {
+      Files.move(
+          temp,
+          directory.resolve(SNAPSHOT_FILE),
+          StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+      syncDirectory();
+      // From here on the snapshot is authoritative and the old journal is stale
+      generation = next;
+      resetJournal();
+      sinceCheckpoint = 0;
+    } catch (IOException e) {
+      throw failure("Cannot install snapshot in " + directory, e);
+    }
+  }
+
+  @Override
+  public void close() {
+    if (!journal.isOpen()) {
+      return;
+    }
+    try {
+      if (!failed) {
+        sync();
+      }
+    } finally {
+      closeQuietly();
+    }
+  }
+
+  /**
+   * Anexa un registro de alta o baja al búfer del registro, sin sincronizar.
+   *
+   * @param op    el tipo de operación
+   * @param name  el nombre del estudiante
+   * @param grade la calificación del estudiante
+   */
+  private void writeRecord(byte op, String name, double grade) {
+    byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+    int payloadLength = 1 + Double.BYTES + nameBytes.length;
+    ByteBuffer target = beginRecord(payloadLength);
+    int payloadStart = target.position();
+    target.put(op).putDouble(grade).put(nameBytes);
+    endRecord(target, payloadStart, payloadLength);
+  }
+
+  /**
+   * Anexa un lote de claves como un único registro, sin sincronizar. Cada entrada guarda la
+   * calificación de la clave, la calificación nueva si el lote es de cambios, y el nombre.
+   *
+   * @param op      {@link #OP_UPDATE}, {@link #OP_REMOVE_ALL} o {@link #OP_ADD_ALL}
+   * @param keys    las claves del lote, en orden
+   * @param updates las calificaciones nuevas por clave, o null en un lote de bajas o de altas
+   */
+  private void writeBatchRecord(byte op, List<StudentKey> keys, Map<StudentKey, Double> updates) {
+    int gradesPerEntry = updates == null ? 1 : 2;
+    List<byte[]> names = new ArrayList<>(keys.size());
+    int payloadLength = 1 + Integer.BYTES;
+    for (StudentKey key : keys) {
+      byte[] name = key.getName().getBytes(StandardCharsets.UTF_8);
+      names.add(name);
+      payloadLength += Double.BYTES * gradesPerEntry + Integer.BYTES + name.length;
+    }
+    ByteBuffer target = beginRecord(payloadLength);
+    int payloadStart = target.position();
+    target.put(op).putInt(keys.size());
+    for (int i = 0; i < keys.size(); i++) {
+      StudentKey key = keys.get(i);
+      target.putDouble(key.getGrade());
+      if (updates != null) {
+        target.putDouble(updates.get(key));
+      }
+      target.putInt(names.get(i).length).put(names.get(i));
+    }
+    endRecord(target, payloadStart, payloadLength);
+  }
+
+  /**
+   * Reserva espacio para un registro y escribe su longitud. Si el registro no cabe en el búfer
+   * compartido, que es directo, se usa uno temporal de su tamaño en el heap.
+   *
+   * @param payloadLength la longitud del contenido del registro
+   * @return el búfer donde escribir el contenido
+   */
+  private ByteBuffer beginRecord(int payloadLength) {
+    int recordLength = Integer.BYTES * 2 + payloadLength;
+    try {
+      if (buffer.remaining() < recordLength) {
+        flushBuffer();
+      }
+    } catch (IOException e) {
+      throw failure("Cannot append to journal", e);
+    }
+    ByteBuffer target =
+        buffer.remaining() < recordLength ? ByteBuffer.allocate(recordLength) : buffer;
+    return target.putInt(payloadLength);
+  }
+
+  /**
+   * Completa un registro con su suma de verificación. Un registro demasiado grande para el búfer
+   * compartido se escribe de inmediato en el archivo.
+   *
+   * @param target        el búfer devuelto por {@link #beginRecord(int)}
+   * @param payloadStart  la posición donde empieza el contenido
+   * @param payloadLength la longitud del contenido
+   */
+  private void endRecord(ByteBuffer target, int payloadStart, int payloadLength) {
+    target.putInt(checksum(target, payloadStart, payloadLength));
+    if (!target.isDirect()) {
+      try {
+        drain(journal, target);
+      } catch (IOException e) {
+        throw failure("Cannot append to journal", e);
+      }
+    }
+  }
+
+  /**
+   * Contabiliza mutaciones ya anexadas y sincroniza el grupo si corresponde, antes de aplicarlas.
+   * Un lote cuenta todas sus mutaciones pero provoca a lo sumo una sincronización.
+   *
+   * @param mutations el número de mutaciones anexadas
+   */
+  private void logged(int mutations) {
+    unsynced += mutations;
+    if (unsynced >= syncInterval) {
+      sync();
+    }
+  }
+
+  /**
+   * Contabiliza mutaciones ya aplicadas al delegado y compacta si corresponde.
+   *
+   * @param mutations el número de mutaciones aplicadas
+   */
+  private void applied(int mutations) {
+    sinceCheckpoint += mutations;
+    if (sinceCheckpoint >= checkpointInterval) {
+      checkpoint();
+    }
+  }
+
+  private void ensureWritable() {
+    if (failed) {
+      throw new RepositoryException(
+          "Journal in " + directory + " failed; reopen the repository to recover");
+    }
+    if (!journal.isOpen()) {
+      throw new IllegalStateException("Repository is closed");
+    }
+  }
+
+  /**
+   * Marca el registro como inutilizable tras un fallo de escritura: el búfer y el archivo pueden
+   * haber quedado a medio escribir, así que no se aceptan más mutaciones.
+   *
+   * @param message el mensaje de la excepción
+   * @param cause   el error de E/S
+   * @return la excepción a lanzar
+   */
+  private RepositoryException failure(String message, IOException cause) {
+    failed = true;
+    return new RepositoryException(message, cause);
+  }
+
+  /**
+   * Vacía el registro y escribe su cabecera con la generación actual.
+   *
+   * @throws IOException si el registro no puede escribirse
+   */
+  private void resetJournal() throws IOException {
+    buffer.clear();
+    journal.truncate(0);
+    ByteBuffer header = ByteBuffer.allocate(JOURNAL_HEADER_SIZE);
+    header.putInt(JOURNAL_MAGIC).putLong(generation);
+    journal.position(0);
+    drain(journal, header);
+    journal.force(true);
+    unsynced = 0;
+  }
+
+  /**
+   * Sincroniza el directorio para que un archivo creado o renombrado sobreviva a un corte de
+   * energía. En plataformas donde un directorio no puede abrirse, como Windows, no hace nada.
+   *
+   * @throws IOException si el directorio no puede sincronizarse
+   */
+  private void syncDirectory() throws IOException {
+    FileChannel channel;
+    try {
+      channel = FileChannel.open(directory, StandardOpenOption.READ);
+    } catch (IOException e) {
+      return;
+    }
+    try (channel) {
+      channel.force(true);
+    }
+  }
+
+  private void closeQuietly() {
+    if (journal == null) {
+      return;
+    }
+    try {
+      journal.close();
+    } catch (IOException e) {
+      // Nothing else to release
+    }
+  }
+
+  private void flushBuffer() throws IOException {
+    drain(journal, buffer);
+  }
+
+  private static void drain(FileChannel channel, ByteBuffer source) throws IOException {
+    source.flip();
+    while (source.hasRemaining()) {
+      channel.write(source);
+    }
+    source.clear();
+  }
+
+  private int checksum(ByteBuffer source, int start, int length) {
+    ByteBuffer payload = source.duplicate();
+    payload.position(start).limit(start + length);
+    crc.reset();
+    crc.update(payload);
+    return (int) crc.getValue();
+  }
+
+  /**
+   * Carga la instantánea en el delegado.
+   *
+   * @param names el conjunto de nombres canónicos de la recuperación
+   * @return la generación de la instantánea, o 0 si no existe
+   * @throws IOException si la instantánea no puede leerse
+   */
+  private long loadSnapshot(NamePool names) throws IOException {
+    Path snapshot = directory.resolve(SNAPSHOT_FILE);
+    if (!Files.exists(snapshot)) {
+      return 0;
+    }
+    try (FileChannel in = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+      ChunkReader reader = new ChunkReader(in, BUFFER_SIZE);
+      if (!reader.ensure(SNAPSHOT_HEADER_SIZE)
+          || reader.buffer().getInt() != SNAPSHOT_MAGIC) {
+        throw new RepositoryException("Not a snapshot file: " + snapshot);
+      }
+      long snapshotGeneration = reader.buffer().getLong();
+      int count = reader.buffer().getInt();
+      for (int i = 0; i < count; i++) {
+        if (!reader.ensure(Integer.BYTES)) {
+          throw new RepositoryException("Truncated snapshot file: " + snapshot);
+        }
+        int length = reader.buffer().getInt();
+        if (length < 0 || !reader.ensure(length + Double.BYTES)) {
+          throw new RepositoryException("Truncated snapshot file: " + snapshot);
+        }
+        String name = names.intern(readString(reader.buffer(), length));
+        delegate.add(new Student(name, reader.buffer().getDouble()));
+      }
+      return snapshotGeneration;
+    }
+  }
+
+  /**
+   * Reproduce el registro sobre el delegado si pertenece a la generación de la instantánea.
+   *
+   * @param names el conjunto de nombres canónicos de la recuperación
+   * @return la longitud en bytes de la parte válida del registro, o -1 si el registro está vacío o
+   *         es anterior a la instantánea y debe reiniciarse
+   * @throws IOException si el registro no puede leerse
+   */
+  private long replayJournal(NamePool names) throws IOException {
+    ChunkReader reader = new ChunkReader(journal, BUFFER_SIZE);
+    if (!reader.ensure(JOURNAL_HEADER_SIZE)) {
+      // Empty, or a reset interrupted before its header reached the disk
+      return -1;
+    }
+    if (reader.buffer().getInt() != JOURNAL_MAGIC) {
+      throw new RepositoryException("Not a journal file: " + directory.resolve(JOURNAL_FILE));
+    }
+    long journalGeneration = reader.buffer().getLong();
+    if (journalGeneration < generation) {
+      // A checkpoint installed the snapshot but crashed before resetting the journal
+      return -1;
+    }
+    if (journalGeneration > generation) {
+      throw new RepositoryException("Journal is newer than the snapshot in " + directory);
+    }
+    while (reader.ensure(Integer.BYTES)) {
+      long start = reader.position();
+      int payloadLength = reader.buffer().getInt();
+      if (payloadLength < MIN_PAYLOAD
+          || payloadLength > reader.available() - Integer.BYTES
+          || !reader.ensure(payloadLength + Integer.BYTES)) {
+        return start;
+      }
+      ByteBuffer data = reader.buffer();
+      int payloadStart = data.position();
+      int stored = data.getInt(payloadStart + payloadLength);
+      if (checksum(data, payloadStart, payloadLength) != stored
+          || !replayRecord(data, payloadLength, names)) {
+        return start;
+      }
+      data.position(payloadStart + payloadLength + Integer.BYTES);
+    }
+    return reader.position();
+  }
+
+  /**
+   * Aplica al delegado el registro que empieza en la posición actual del búfer.
+   *
+   * @param data          el búfer posicionado al comienzo del contenido
+   * @param payloadLength la longitud del contenido
+   * @param names         el conjunto de nombres canónicos de la recuperación
+   * @return false si el tipo de operación es desconocido
+   */
+  private boolean replayRecord(ByteBuffer data, int payloadLength, NamePool names) {
+    byte op = data.get();
+    try {
+      if (op == OP_ADD || op == OP_REMOVE) {
+        double grade = data.getDouble();
+        String name = readString(data, payloadLength - 1 - Double.BYTES);
+        if (op == OP_ADD) {
+          delegate.add(new Student(names.intern(name), grade));
+        } else {
+          delegate.remove(name, grade);
+        }
+      } else if (op == OP_UPDATE || op == OP_REMOVE_ALL || op == OP_ADD_ALL) {
+        int count = data.getInt();
+        List<StudentKey> keys = new ArrayList<>(count);
+        Map<StudentKey, Double> updates = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+          double grade = data.getDouble();
+          double newGrade = op == OP_UPDATE ? data.getDouble() : grade;
+          StudentKey key = StudentKey.of(readString(data, data.getInt()), grade);
+          keys.add(key);
+          updates.put(key, newGrade);
+        }
+        if (op == OP_UPDATE) {
+          delegate.updateGrades(updates);
+        } else if (op == OP_REMOVE_ALL) {
+          delegate.removeAll(keys);
+        } else {
+          List<Student> students = new ArrayList<>(count);
+          for (StudentKey key : keys) {
+            students.add(new Student(names.intern(key.getName()), key.getGrade()));
+          }
+          delegate.addAll(students);
+        }
+      } else {
+        return false;
+      }
+    } catch (IllegalArgumentException e) {
+      // The delegate rejected this mutation when it was first applied, too; it never took effect
+    }
+    return true;
+  }
+
+  private static String readString(ByteBuffer data, int length) {
+    byte[] bytes = new byte[length];
+    data.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
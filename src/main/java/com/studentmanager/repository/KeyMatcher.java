@@ -0,0 +1,119 @@
+package com.studentmanager.repository;
+
+import com.studentmanager.model.Student;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Índice de un lote de claves por calificación, para resolver en O(1) esperado a qué clave del lote
+ * corresponde cada estudiante durante un único recorrido del repositorio. Si varias claves
+ * coinciden con un estudiante gana la primera del lote, como si las claves se aplicaran en orden.
+ * También agrupa la validación de argumentos común a las operaciones por lote.
+ */
+final class KeyMatcher {
+  private final Map<Double, List<StudentKey>> byGrade;
+
+  /**
+   * Indexa las claves.
+   *
+   * @param keys las claves en orden de prioridad
+   */
+  KeyMatcher(Collection<StudentKey> keys) {
+    this.byGrade = new HashMap<>();
+    for (StudentKey key : keys) {
+      if (!Double.isNaN(key.getGrade())) {
+        byGrade.computeIfAbsent(normalize(key.getGrade()), g -> new ArrayList<>(1)).add(key);
+      }
+    }
+  }
+
+  /**
+   * Indica si alguna clave tiene la calificación dada, para descartar registros sin leer el
+   * nombre.
+   *
+   * @param grade la calificación del estudiante
+   * @return true si alguna clave podría coincidir
+   */
+  boolean mayMatch(double grade) {
+    return byGrade.containsKey(normalize(grade));
+  }
+
+  /**
+   * Busca la primera clave que coincide con un estudiante.
+   *
+   * @param name  el nombre del estudiante
+   * @param grade la calificación del estudiante
+   * @return la clave, o null si ninguna coincide
+   */
+  StudentKey match(String name, double grade) {
+    List<StudentKey> candidates = byGrade.get(normalize(grade));
+    if (candidates != null) {
+      for (StudentKey key : candidates) {
+        if (key.matches(name, grade)) {
+          return key;
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Verifica un lote de claves antes de aplicar cualquier cambio.
+   *
+   * @param keys las claves
+   * @throws IllegalArgumentException si el lote o alguna clave es nulo
+   */
+  static void checkKeys(Collection<StudentKey> keys) {
+    if (keys == null) {
+      throw new IllegalArgumentException("Keys cannot be null");
+    }
+    for (StudentKey key : keys) {
+      if (key == null) {
+        throw new IllegalArgumentException("Key cannot be null");
+      }
+    }
+  }
+
+  /**
+   * Verifica un lote de cambios de calificación antes de aplicar cualquiera.
+   *
+   * @param updates las calificaciones nuevas por clave
+   * @throws IllegalArgumentException si el lote, una clave o una calificación es nula, o alguna
+   *                                  calificación es negativa, NaN o infinita
+   */
+  static void checkUpdates(Map<StudentKey, Double> updates) {
+    if (updates == null) {
+      throw new IllegalArgumentException("Updates cannot be null");
+    }
+    checkKeys(updates.keySet());
+    for (Double grade : updates.values()) {
+      if (grade == null) {
+        throw new IllegalArgumentException("Grade cannot be null");
+      }
+      Student.checkGrade(grade);
+    }
+  }
+
+  /**
+   * Crea el mapa de resultados de un lote con todas las claves en false, en orden.
+   *
+   * @param keys las claves del lote
+   * @return el mapa de resultados
+   */
+  static Map<StudentKey, Boolean> results(Collection<StudentKey> keys) {
+    Map<StudentKey, Boolean> results = new LinkedHashMap<>();
+    for (StudentKey key : keys) {
+      results.put(key, Boolean.FALSE);
+    }
+    return results;
+  }
+
+  /** Unifica 0.0 y -0.0, que son iguales con {@code ==} pero distintos como {@link Double}. */
+  private static Double normalize(double grade) {
+    return grade + 0.0;
+  }
+}
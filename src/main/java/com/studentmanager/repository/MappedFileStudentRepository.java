@@ -0,0 +1,456 @@
+package com.studentmanager.repository;
+
+import com.studentmanager.model.Student;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Implementación persistente de StudentRepository sobre un archivo mapeado en memoria mediante
+ * {@link FileChannel#map}. Los datos viven fuera del heap, en la caché de páginas del sistema
+ * operativo, así que el repositorio puede contener más estudiantes de los que cabrían en el heap
+ * sin generar presión sobre el recolector de basura.
+ *
+ * <p>El archivo se compone de registros de ancho fijo de {@value #RECORD_SIZE} bytes. El primero
+ * es la cabecera (número mágico, versión, ranuras usadas, estudiantes vivos y primera ranura
+ * libre); cada registro siguiente guarda un indicador de estado, la longitud del nombre, la
+ * calificación y hasta {@value #MAX_NAME_BYTES} bytes del nombre en UTF-8. Abrir un archivo
+ * existente solo lee la cabecera, por lo que el arranque es inmediato sin importar su tamaño.
+ *
+ * <p>Las eliminaciones marcan el registro como borrado y lo encadenan en una lista de ranuras
+ * libres guardada en el propio archivo; las altas reutilizan primero esas ranuras, así que el
+ * archivo no crece por encima del máximo de estudiantes vivos que haya tenido. Por eso un
+ * estudiante agregado después de una eliminación puede aparecer antes que otros más antiguos en
+ * {@link #findAll()}. Los objetos Student devueltos son copias: modificar su calificación no
+ * cambia el archivo. Después de {@link #close()} cualquier operación lanza {@link
+ * IllegalStateException}. Esta clase no es segura para hilos.
+ */
+@SuppressWarnings("PMD.GodClass")
+public class MappedFileStudentRepository implements StudentRepository, Closeable {
+  /** Tamaño en bytes de cada registro y de la cabecera. */
+  public static final int RECORD_SIZE = 128;
+
+  /** Longitud máxima de un nombre codificado en UTF-8. */
+  public static final int MAX_NAME_BYTES = RECORD_SIZE - 16;
+
+  private static final int MAGIC = 0x5354444D; // "STDM"
+  private static final int VERSION = 1;
+  private static final int DEFAULT_SEGMENT_SIZE = 1 << 30;
+  private static final long INITIAL_BYTES = 64L * RECORD_SIZE;
+
+  private static final int HEADER_SLOTS_OFFSET = 8;
+  private static final int HEADER_LIVE_OFFSET = 12;
+  private static final int HEADER_FREE_OFFSET = 16;
+  private static final int STATUS_OFFSET = 0;
+  private static final int NAME_LENGTH_OFFSET = 2;
+  private static final int NEXT_FREE_OFFSET = 4;
+  private static final int GRADE_OFFSET = 8;
+  private static final int NAME_OFFSET = 16;
+  private static final byte LIVE = 1;
+  private static final byte DELETED = 0;
+
+  private final FileChannel channel;
+  private final int segmentSize;
+  private final List<MappedByteBuffer> segments;
+  private long mappedBytes;
+  private int slots;
+  private int live;
+  /** Primera ranura libre más uno; 0 si no hay ranuras libres. */
+  private int freeHead;
+
+  /**
+   * Abre (o crea) un repositorio sobre el archivo indicado.
+   *
+   * @param file la ruta del archivo de datos
+   * @throws RepositoryException si el archivo no puede abrirse o no tiene el formato esperado
+   */
+  public MappedFileStudentRepository(Path file) {
+    this(file, DEFAULT_SEGMENT_SIZE);
+  }
+
+  /**
+   * Abre (o crea) un repositorio con un tamaño de segmento de mapeo específico.
+   *
+   * @param file        la ruta del archivo de datos
+   * @param segmentSize bytes por segmento mapeado; debe ser múltiplo de {@link #RECORD_SIZE}
+   */
+  MappedFileStudentRepository(Path file, int segmentSize) {
+    if (segmentSize <= 0 || segmentSize % RECORD_SIZE != 0) {
+      throw new IllegalArgumentException("Segment size must be a multiple of " + RECORD_SIZE);
+    }
+    this.segmentSize = segmentSize;
+    this.segments = new ArrayList<>();
+    try {
+      this.channel =
+          FileChannel.open(
+              file,
+              StandardOpenOption.CREATE,
+              StandardOpenOption.READ,
+              StandardOpenOption.WRITE);
+    } catch (IOException e) {
+      throw new RepositoryException("Cannot open student file " + file, e);
+    }
+    try {
+      long existing = channel.size();
+      if (existing > 0) {
+        validateHeader(file);
+      }
+      remap(Math.max(existing, INITIAL_BYTES));
+      MappedByteBuffer header = segments.get(0);
+      if (existing == 0) {
+        header.putInt(0, MAGIC);
+        header.putInt(4, VERSION);
+        writeHeader();
+      } else {
+        slots = header.getInt(HEADER_SLOTS_OFFSET);
+        live = header.getInt(HEADER_LIVE_OFFSET);
+        freeHead = header.getInt(HEADER_FREE_OFFSET);
+        validateCounts(file, existing);
+      }
+    } catch (RepositoryException e) {
+      closeQuietly();
+      throw e;
+    } catch (IOException | RuntimeException e) {
+      closeQuietly();
+      throw new RepositoryException("Cannot map student file " + file, e);
+    }
+  }
+
+  @Override
+  public void add(Student student) {
+    if (student == null) {
+      throw new IllegalArgumentException("Student cannot be null");
+    }
+    ensureOpen();
+    byte[] name = student.getName().getBytes(StandardCharsets.UTF_8);
+    if (name.length > MAX_NAME_BYTES) {
+      throw new IllegalArgumentException(
+          "Name cannot exceed " + MAX_NAME_BYTES + " bytes in UTF-8");
+    }
+    long offset;
+    if (freeHead > 0) {
+      offset = recordOffset(freeHead - 1);
+      freeHead = segmentFor(offset).getInt(positionFor(offset) + NEXT_FREE_OFFSET);
+    } else {
+      offset = recordOffset(slots);
+      if (offset + RECORD_SIZE > mappedBytes) {
+        remap(Math.max(mappedBytes * 2, offset + RECORD_SIZE));
+      }
+      slots++;
+    }
+    MappedByteBuffer segment = segmentFor(offset);
+    int position = positionFor(offset);
+    segment.put(position + STATUS_OFFSET, LIVE);
+    segment.putShort(position + NAME_LENGTH_OFFSET, (short) name.length);
+    segment.putDouble(position + GRADE_OFFSET, student.getGrade());
+    for (int i = 0; i < name.length; i++) {
+      segment.put(position + NAME_OFFSET + i, name[i]);
+    }
+    live++;
+    writeHeader();
+  }
+
+  @Override
+  public List<Student> findAll() {
+    ensureOpen();
+    List<Student> all = new ArrayList<>(live);
+    for (int slot = 0; slot < slots; slot++) {
+      long offset = recordOffset(slot);
+      if (isLive(offset)) {
+        all.add(materialize(offset));
+      }
+    }
+    return all;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Los registros se leen del archivo mapeado a medida que se consumen, así que recorrer un
+   * archivo de cualquier tamaño usa memoria constante.
+   */
+  @Override
+  public Stream<Student> stream() {
+    ensureOpen();
+    return IntStream.range(0, slots)
+        .mapToLong(MappedFileStudentRepository::recordOffset)
+        .filter(this::isLive)
+        .mapToObj(this::materialize);
+  }
+
+  @Override
+  public Student findByName(String name) {
+    ensureOpen();
+    if (name == null) {
+      return null;
+    }
+    byte[] target = name.getBytes(StandardCharsets.UTF_8);
+    if (target.length > MAX_NAME_BYTES) {
+      return null;
+    }
+    for (int slot = 0; slot < slots; slot++) {
+      long offset = recordOffset(slot);
+      if (isLive(offset) && nameEquals(offset, target)) {
+        return materialize(offset);
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public int count() {
+    ensureOpen();
+    return live;
+  }
+
+  @Override
+  public boolean remove(String name, double grade) {
+    ensureOpen();
+    if (name == null || name.trim().isEmpty()) {
+      return false;
+    }
+    boolean removed = false;
+    for (int slot = 0; slot < slots; slot++) {
+      long offset = recordOffset(slot);
+      if (isLive(offset)
+          && gradeAt(offset) == grade
+          && nameAt(offset).equalsIgnoreCase(name)) {
+        release(slot);
+        removed = true;
+      }
+    }
+    if (removed) {
+      writeHeader();
+    }
+    return removed;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Todo el lote se resuelve en un solo recorrido del archivo; el nombre de un registro solo se
+   * decodifica si su calificación coincide con alguna clave.
+   */
+  @Override
+  public Map<StudentKey, Boolean> removeAll(Collection<StudentKey> keys) {
+    KeyMatcher.checkKeys(keys);
+    ensureOpen();
+    Map<StudentKey, Boolean> results = KeyMatcher.results(keys);
+    KeyMatcher matcher = new KeyMatcher(results.keySet());
+    boolean removed = false;
+    for (int slot = 0; slot < slots; slot++) {
+      StudentKey key = liveMatch(matcher, recordOffset(slot));
+      if (key != null) {
+        release(slot);
+        results.put(key, Boolean.TRUE);
+        removed = true;
+      }
+    }
+    if (removed) {
+      writeHeader();
+    }
+    return results;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Las calificaciones se reescriben en su lugar en un solo recorrido del archivo.
+   */
+  @Override
+  public Map<StudentKey, Boolean> updateGrades(Map<StudentKey, Double> updates) {
+    KeyMatcher.checkUpdates(updates);
+    ensureOpen();
+    Map<StudentKey, Boolean> results = KeyMatcher.results(updates.keySet());
+    KeyMatcher matcher = new KeyMatcher(results.keySet());
+    for (int slot = 0; slot < slots; slot++) {
+      long offset = recordOffset(slot);
+      StudentKey key = liveMatch(matcher, offset);
+      if (key != null) {
+        segmentFor(offset).putDouble(positionFor(offset) + GRADE_OFFSET, updates.get(key));
+        results.put(key, Boolean.TRUE);
+      }
+    }
+    return results;
+  }
+
+  /** Fuerza la escritura a disco de los cambios pendientes. */
+  public void flush() {
+    ensureOpen();
+    for (MappedByteBuffer segment : segments) {
+      segment.force();
+    }
+  }
+
+  /** Cierra el archivo después de forzar los cambios pendientes; cerrar dos veces no hace nada. */
+  @Override
+  public void close() {
+    if (!channel.isOpen()) {
+      return;
+    }
+    try {
+      flush();
+    } finally {
+      closeQuietly();
+    }
+  }
+
+  /**
+   * Vuelve a mapear el archivo para cubrir al menos el número de bytes indicado.
+   *
+   * @param bytes el tamaño mínimo a mapear
+   */
+  private void remap(long bytes) {
+    long size = (bytes + RECORD_SIZE - 1) / RECORD_SIZE * RECORD_SIZE;
+    segments.clear();
+    try {
+      for (long start = 0; start < size; start += segmentSize) {
+        long length = Math.min(segmentSize, size - start);
+        segments.add(channel.map(FileChannel.MapMode.READ_WRITE, start, length));
+      }
+    } catch (IOException e) {
+      throw new RepositoryException("Cannot grow student file", e);
+    }
+    mappedBytes = size;
+  }
+
+  /**
+   * Verifica la cabecera de un archivo existente antes de mapearlo, para no alterar archivos
+   * ajenos.
+   *
+   * @param file la ruta del archivo, usada en el mensaje de error
+   * @throws IOException si la cabecera no puede leerse
+   */
+  private void validateHeader(Path file) throws IOException {
+    ByteBuffer header = ByteBuffer.allocate(RECORD_SIZE);
+    while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+      // Keep reading until the header is complete or the file ends
+    }
+    if (header.hasRemaining() || header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+      throw new RepositoryException("Not a student data file: " + file);
+    }
+  }
+
+  /**
+   * Comprueba que los contadores de la cabecera sean coherentes con el tamaño del archivo, para
+   * no leer fuera del mapeo si el archivo fue truncado o la cabecera está dañada.
+   *
+   * @param file  la ruta del archivo, usada en el mensaje de error
+   * @param bytes el tamaño actual del archivo
+   */
+  private void validateCounts(Path file, long bytes) {
+    if (slots < 0
+        || recordOffset(slots) > bytes
+        || live < 0
+        || live > slots
+        || freeHead < 0
+        || freeHead > slots) {
+      throw new RepositoryException("Corrupt student file header: " + file);
+    }
+  }
+
+  private void ensureOpen() {
+    if (!channel.isOpen()) {
+      throw new IllegalStateException("Repository is closed");
+    }
+  }
+
+  /**
+   * Marca una ranura como borrada y la agrega al comienzo de la lista de ranuras libres. No
+   * escribe la cabecera, para que los lotes la escriban una sola vez.
+   *
+   * @param slot la ranura a liberar
+   */
+  private void release(int slot) {
+    long offset = recordOffset(slot);
+    MappedByteBuffer segment = segmentFor(offset);
+    int position = positionFor(offset);
+    segment.put(position + STATUS_OFFSET, DELETED);
+    segment.putInt(position + NEXT_FREE_OFFSET, freeHead);
+    freeHead = slot + 1;
+    live--;
+  }
+
+  private void writeHeader() {
+    MappedByteBuffer header = segments.get(0);
+    header.putInt(HEADER_SLOTS_OFFSET, slots);
+    header.putInt(HEADER_LIVE_OFFSET, live);
+    header.putInt(HEADER_FREE_OFFSET, freeHead);
+  }
+
+  private static long recordOffset(int slot) {
+    return (slot + 1L) * RECORD_SIZE;
+  }
+
+  private MappedByteBuffer segmentFor(long offset) {
+    return segments.get((int) (offset / segmentSize));
+  }
+
+  private int positionFor(long offset) {
+    return (int) (offset % segmentSize);
+  }
+
+  private boolean isLive(long offset) {
+    return segmentFor(offset).get(positionFor(offset) + STATUS_OFFSET) == LIVE;
+  }
+
+  private double gradeAt(long offset) {
+    return segmentFor(offset).getDouble(positionFor(offset) + GRADE_OFFSET);
+  }
+
+  private String nameAt(long offset) {
+    MappedByteBuffer segment = segmentFor(offset);
+    int position = positionFor(offset);
+    byte[] name = new byte[segment.getShort(position + NAME_LENGTH_OFFSET)];
+    for (int i = 0; i < name.length; i++) {
+      name[i] = segment.get(position + NAME_OFFSET + i);
+    }
+    return new String(name, StandardCharsets.UTF_8);
+  }
+
+  private boolean nameEquals(long offset, byte[] target) {
+    MappedByteBuffer segment = segmentFor(offset);
+    int position = positionFor(offset);
+    if (segment.getShort(position + NAME_LENGTH_OFFSET) != target.length) {
+      return false;
+    }
+    for (int i = 0; i < target.length; i++) {
+      if (segment.get(position + NAME_OFFSET + i) != target[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private StudentKey liveMatch(KeyMatcher matcher, long offset) {
+    if (!isLive(offset)) {
+      return null;
+    }
+    double grade = gradeAt(offset);
+    return matcher.mayMatch(grade) ? matcher.match(nameAt(offset), grade) : null;
+  }
+
+  private Student materialize(long offset) {
+    return new Student(nameAt(offset), gradeAt(offset));
+  }
+
+  private void closeQuietly() {
+    segments.clear();
+    try {
+      channel.close();
+    } catch (IOException e) {
+      // Nothing left to release
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package com.studentmanager.repository;
+
+/**
+ * Utilidades para derivar claves de índice a partir de nombres de estudiantes. La clave plegada
+ * respeta exactamente la semántica de {@link String#equalsIgnoreCase(String)}: dos nombres son
+ * iguales ignorando mayúsculas si y solo si sus claves plegadas son iguales.
+ */
+public final class NameKey {
+
+  private NameKey() {}
+
+  /**
+   * Pliega un nombre a su forma canónica insensible a mayúsculas.
+   *
+   * @param name el nombre a plegar
+   * @return la clave plegada
+   */
+  public static String fold(String name) {
+    char[] chars = null;
+    for (int i = 0; i < name.length(); i++) {
+      char c = name.charAt(i);
+      char folded = Character.toLowerCase(Character.toUpperCase(c));
+      if (folded != c) {
+        if (chars == null) {
+          chars = name.toCharArray();
+        }
+        chars[i] = folded;
+      }
+    }
+    return chars == null ? name : new String(chars);
+  }
+}
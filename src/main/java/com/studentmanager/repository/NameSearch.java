@@ -0,0 +1,221 @@
+package com.studentmanager.repository;
+
+import com.studentmanager.model.Student;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reglas comunes de la búsqueda aproximada de nombres. Un nombre se compara por su forma de
+ * búsqueda, sin tildes ni diacríticos, en minúsculas y con los espacios colapsados ({@code "  José
+ * GARCÍA"} es {@code "jose garcia"}), y por cada uno de sus sufijos que empiezan en una palabra
+ * ({@code "jose garcia"} y {@code "garcia"}), de modo que una búsqueda por apellido también
+ * encuentra el nombre completo.
+ *
+ * <p>Los resultados se ordenan por distancia de edición (cero en las búsquedas por prefijo), luego
+ * por el sufijo coincidente más pequeño, luego por nombre plegado y por último por orden de
+ * inserción. Los métodos {@code scan*} implementan la búsqueda recorriendo todos los estudiantes y
+ * son la referencia que los índices deben reproducir.
+ */
+final class NameSearch {
+
+  private NameSearch() {}
+
+  /**
+   * Calcula la forma de búsqueda de un nombre.
+   *
+   * @param name el nombre
+   * @return el nombre sin diacríticos, en minúsculas y con los espacios colapsados
+   */
+  static String normalize(String name) {
+    String decomposed = Normalizer.normalize(name, Normalizer.Form.NFD);
+    StringBuilder out = new StringBuilder(decomposed.length());
+    boolean pendingSpace = false;
+    for (int i = 0; i < decomposed.length(); i++) {
+      char c = decomposed.charAt(i);
+      if (Character.getType(c) == Character.NON_SPACING_MARK) {
+        continue;
+      }
+      if (Character.isWhitespace(c)) {
+        pendingSpace = out.length() > 0;
+        continue;
+      }
+      if (pendingSpace) {
+        out.append(' ');
+        pendingSpace = false;
+      }
+      out.append(Character.toLowerCase(Character.toUpperCase(c)));
+    }
+    return out.toString();
+  }
+
+  /**
+   * Obtiene los sufijos indexados de una forma de búsqueda: la forma completa y cada sufijo que
+   * empieza después de un espacio.
+   *
+   * @param normalized la forma de búsqueda
+   * @return los sufijos, del más largo al más corto
+   */
+  static List<String> suffixes(String normalized) {
+    List<String> suffixes = new ArrayList<>(2);
+    suffixes.add(normalized);
+    for (int i = normalized.indexOf(' '); i >= 0; i = normalized.indexOf(' ', i + 1)) {
+      suffixes.add(normalized.substring(i + 1));
+    }
+    return suffixes;
+  }
+
+  /**
+   * Calcula la distancia de Levenshtein entre dos cadenas, abandonando el cálculo en cuanto supera
+   * un máximo.
+   *
+   * @param a           la primera cadena
+   * @param b           la segunda cadena
+   * @param maxDistance la distancia máxima de interés
+   * @return la distancia, o {@code maxDistance + 1} si es mayor que el máximo
+   */
+  static int distance(String a, String b, int maxDistance) {
+    if (Math.abs(a.length() - b.length()) > maxDistance) {
+      return maxDistance + 1;
+    }
+    int[] previous = new int[b.length() + 1];
+    int[] current = new int[b.length() + 1];
+    for (int j = 0; j <= b.length(); j++) {
+      previous[j] = j;
+    }
+    for (int i = 1; i <= a.length(); i++) {
+      current[0] = i;
+      int rowMin = i;
+      char c = a.charAt(i - 1);
+      for (int j = 1; j <= b.length(); j++) {
+        int cost = c == b.charAt(j - 1) ? 0 : 1;
+        current[j] =
+            Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+        rowMin = Math.min(rowMin, current[j]);
+      }
+      if (rowMin > maxDistance) {
+        return maxDistance + 1;
+      }
+      int[] swap = previous;
+      previous = current;
+      current = swap;
+    }
+    return Math.min(previous[b.length()], maxDistance + 1);
+  }
+
+  /**
+   * Verifica los argumentos de una búsqueda.
+   *
+   * @param query la consulta
+   * @param limit el número máximo de resultados
+   * @throws IllegalArgumentException si la consulta es nula o el límite es negativo
+   */
+  static void check(String query, int limit) {
+    if (query == null) {
+      throw new IllegalArgumentException("Query cannot be null");
+    }
+    if (limit < 0) {
+      throw new IllegalArgumentException("Limit cannot be negative");
+    }
+  }
+
+  /**
+   * Busca por prefijo recorriendo todos los estudiantes.
+   *
+   * @param students los estudiantes, en orden de inserción
+   * @param prefix   el prefijo buscado
+   * @param limit    el número máximo de resultados
+   * @return los estudiantes encontrados, en el orden de búsqueda
+   */
+  static List<Student> scanPrefix(Stream<Student> students, String prefix, int limit) {
+    check(prefix, limit);
+    String query = normalize(prefix);
+    return rank(
+        students.map(
+            student -> {
+              String best = null;
+              for (String suffix : suffixes(normalize(NameKey.fold(student.getName())))) {
+                if (suffix.startsWith(query) && (best == null || suffix.compareTo(best) < 0)) {
+                  best = suffix;
+                }
+              }
+              return best == null ? null : new Match(student, 0, best);
+            }),
+        limit);
+  }
+
+  /**
+   * Busca por distancia de edición recorriendo todos los estudiantes.
+   *
+   * @param students    los estudiantes, en orden de inserción
+   * @param name        el nombre buscado
+   * @param maxDistance la distancia de edición máxima
+   * @param limit       el número máximo de resultados
+   * @return los estudiantes encontrados, en el orden de búsqueda
+   */
+  static List<Student> scanSimilar(
+      Stream<Student> students, String name, int maxDistance, int limit) {
+    check(name, limit);
+    checkDistance(maxDistance);
+    String query = normalize(name);
+    return rank(
+        students.map(
+            student -> {
+              Match best = null;
+              for (String suffix : suffixes(normalize(NameKey.fold(student.getName())))) {
+                int distance = distance(suffix, query, maxDistance);
+                if (distance <= maxDistance) {
+                  Match match = new Match(student, distance, suffix);
+                  if (best == null || Match.ORDER.compare(match, best) < 0) {
+                    best = match;
+                  }
+                }
+              }
+              return best;
+            }),
+        limit);
+  }
+
+  /**
+   * Verifica la distancia máxima de una búsqueda aproximada.
+   *
+   * @param maxDistance la distancia máxima
+   * @throws IllegalArgumentException si la distancia es negativa
+   */
+  static void checkDistance(int maxDistance) {
+    if (maxDistance < 0) {
+      throw new IllegalArgumentException("Distance cannot be negative");
+    }
+  }
+
+  private static List<Student> rank(Stream<Match> matches, int limit) {
+    return matches
+        .filter(match -> match != null)
+        .sorted(Match.ORDER)
+        .limit(limit)
+        .map(match -> match.student)
+        .collect(Collectors.toList());
+  }
+
+  /** Coincidencia de un estudiante con su mejor sufijo. */
+  private static final class Match {
+    // Stable sort keeps insertion order among equal matches
+    private static final Comparator<Match> ORDER =
+        Comparator.<Match>comparingInt(match -> match.distance)
+            .thenComparing(match -> match.suffix)
+            .thenComparing(match -> NameKey.fold(match.student.getName()));
+
+    private final Student student;
+    private final int distance;
+    private final String suffix;
+
+    private Match(Student student, int distance, String suffix) {
+      this.student = student;
+      this.distance = distance;
+      this.suffix = suffix;
+    }
+  }
+}
@@ -0,0 +1,345 @@
+package com.studentmanager.repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Trie compacto (radix) que asocia claves de búsqueda con valores. Cada arista guarda una
+ * secuencia de caracteres en lugar de uno solo, así que el número de nodos es proporcional al de
+ * claves y no a su longitud total. Los hijos se mantienen ordenados por su primer carácter y los
+ * valores de cada clave ordenados, de modo que los recorridos entregan las claves en orden
+ * lexicográfico.
+ *
+ * <p>Agregar o quitar una clave cuesta O(longitud × log alfabeto). La búsqueda por prefijo cuesta
+ * la longitud del prefijo más lo que se recorre hasta que el visitante se detiene, y la búsqueda
+ * por distancia de edición solo desciende por las ramas cuyo prefijo aún puede quedar dentro de la
+ * distancia máxima. Esta clase no es segura para hilos.
+ */
+@SuppressWarnings("PMD.GodClass")
+final class NameTrie {
+  private final Node root;
+
+  /** Crea un trie vacío. */
+  NameTrie() {
+    this.root = new Node("");
+  }
+
+  /** Recibe los pares visitados en orden. */
+  interface Visitor {
+    /**
+     * Recibe un valor asociado a una clave.
+     *
+     * @param key      la clave
+     * @param value    el valor
+     * @param distance la distancia de edición a la consulta, o 0 en búsquedas por prefijo
+     * @return false para detener el recorrido
+     */
+    boolean visit(String key, String value, int distance);
+  }
+
+  /**
+   * Asocia un valor a una clave. Asociar dos veces el mismo par no tiene efecto.
+   *
+   * @param key   la clave
+   * @param value el valor
+   */
+  void add(String key, String value) {
+    Node node = root;
+    int pos = 0;
+    while (pos < key.length()) {
+      int index = node.indexOf(key.charAt(pos));
+      if (index < 0) {
+        node.insertChild(-index - 1, new Node(key.substring(pos)));
+        node = node.children[-index - 1];
+        pos = key.length();
+        break;
+      }
+      Node child = node.children[index];
+      int common = commonPrefix(child.label, key, pos);
+      if (common < child.label.length()) {
+        child = split(node, index, common);
+      }
+      node = child;
+      pos += common;
+    }
+    node.addValue(value);
+  }
+
+  /**
+   * Quita un valor de una clave, eliminando o fusionando los nodos que queden vacíos.
+   *
+   * @param key   la clave
+   * @param value el valor
+   */
+  void remove(String key, String value) {
+    List<Node> path = new ArrayList<>();
+    Node node = root;
+    int pos = 0;
+    while (pos < key.length()) {
+      int index = node.indexOf(key.charAt(pos));
+      if (index < 0) {
+        return;
+      }
+      Node child = node.children[index];
+      if (!key.startsWith(child.label, pos)) {
+        return;
+      }
+      path.add(node);
+      node = child;
+      pos += child.label.length();
+    }
+    if (!node.removeValue(value) || node.values != null) {
+      return;
+    }
+    for (int i = path.size() - 1; i >= 0; i--) {
+      Node parent = path.get(i);
+      if (node.childCount == 0) {
+        parent.removeChild(parent.indexOf(node.label.charAt(0)));
+      } else if (node.childCount == 1) {
+        Node only = node.children[0];
+        only.label = node.label + only.label;
+        parent.children[parent.indexOf(node.label.charAt(0))] = only;
+        return;
+      } else {
+        return;
+      }
+      // path starts at the root, which is kept even when it has no values
+      if (parent.values != null || i == 0) {
+        return;
+      }
+      node = parent;
+    }
+  }
+
+  /**
+   * Visita en orden las claves que empiezan con un prefijo.
+   *
+   * @param prefix  el prefijo
+   * @param visitor el visitante, que puede detener el recorrido
+   */
+  void visitPrefix(String prefix, Visitor visitor) {
+    Node node = root;
+    StringBuilder key = new StringBuilder(prefix.length() + 16);
+    int pos = 0;
+    while (pos < prefix.length()) {
+      int index = node.indexOf(prefix.charAt(pos));
+      if (index < 0) {
+        return;
+      }
+      Node child = node.children[index];
+      int common = commonPrefix(child.label, prefix, pos);
+      if (common < child.label.length() && pos + common < prefix.length()) {
+        return;
+      }
+      key.append(child.label);
+      node = child;
+      pos += common;
+    }
+    visitSubtree(node, key, visitor);
+  }
+
+  /**
+   * Visita en orden las claves a distancia de edición de la consulta no mayor que la indicada.
+   *
+   * @param query       la consulta
+   * @param maxDistance la distancia máxima
+   * @param visitor     el visitante, que puede detener el recorrido
+   */
+  void visitSimilar(String query, int maxDistance, Visitor visitor) {
+    int[] first = new int[query.length() + 1];
+    for (int j = 0; j < first.length; j++) {
+      first[j] = j;
+    }
+    List<int[]> rows = new ArrayList<>();
+    rows.add(first);
+    if (root.values != null
+        && first[query.length()] <= maxDistance
+        && !visitValues(root, "", first[query.length()], visitor)) {
+      return;
+    }
+    StringBuilder key = new StringBuilder();
+    for (int i = 0; i < root.childCount; i++) {
+      if (!visitSimilar(root.children[i], query, maxDistance, key, rows, visitor)) {
+        return;
+      }
+    }
+  }
+
+  private boolean visitSimilar(
+      Node node,
+      String query,
+      int maxDistance,
+      StringBuilder key,
+      List<int[]> rows,
+      Visitor visitor) {
+    int depth = key.length();
+    int m = query.length();
+    for (int k = 0; k < node.label.length(); k++) {
+      char c = node.label.charAt(k);
+      int[] previous = rows.get(key.length());
+      if (rows.size() <= key.length() + 1) {
+        rows.add(new int[m + 1]);
+      }
+      int[] current = rows.get(key.length() + 1);
+      current[0] = previous[0] + 1;
+      int rowMin = current[0];
+      for (int j = 1; j <= m; j++) {
+        int cost = query.charAt(j - 1) == c ? 0 : 1;
+        current[j] =
+            Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+        rowMin = Math.min(rowMin, current[j]);
+      }
+      key.append(c);
+      if (rowMin > maxDistance) {
+        key.setLength(depth);
+        return true;
+      }
+    }
+    boolean more = true;
+    int distance = rows.get(key.length())[m];
+    if (node.values != null && distance <= maxDistance) {
+      more = visitValues(node, key.toString(), distance, visitor);
+    }
+    for (int i = 0; more && i < node.childCount; i++) {
+      more = visitSimilar(node.children[i], query, maxDistance, key, rows, visitor);
+    }
+    key.setLength(depth);
+    return more;
+  }
+
+  private boolean visitSubtree(Node node, StringBuilder key, Visitor visitor) {
+    if (node.values != null && !visitValues(node, key.toString(), 0, visitor)) {
+      return false;
+    }
+    for (int i = 0; i < node.childCount; i++) {
+      Node child = node.children[i];
+      int length = key.length();
+      key.append(child.label);
+      boolean more = visitSubtree(child, key, visitor);
+      key.setLength(length);
+      if (!more) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean visitValues(Node node, String key, int distance, Visitor visitor) {
+    for (String value : node.values) {
+      if (!visitor.visit(key, value, distance)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Divide la arista de un hijo en dos, insertando un nodo intermedio.
+   *
+   * @return el nodo intermedio
+   */
+  private static Node split(Node parent, int index, int at) {
+    Node child = parent.children[index];
+    Node middle = new Node(child.label.substring(0, at));
+    child.label = child.label.substring(at);
+    middle.insertChild(0, child);
+    parent.children[index] = middle;
+    return middle;
+  }
+
+  private static int commonPrefix(String label, String key, int from) {
+    int max = Math.min(label.length(), key.length() - from);
+    int i = 0;
+    while (i < max && label.charAt(i) == key.charAt(from + i)) {
+      i++;
+    }
+    return i;
+  }
+
+  /** Nodo del trie: la arista que llega a él, sus hijos ordenados y los valores de su clave. */
+  private static final class Node {
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private String label;
+    private Node[] children;
+    private int childCount;
+    private String[] values;
+
+    private Node(String label) {
+      this.label = label;
+      this.children = NO_CHILDREN;
+    }
+
+    /** Busca un hijo por el primer carácter de su arista, como {@link Arrays#binarySearch}. */
+    private int indexOf(char first) {
+      int low = 0;
+      int high = childCount - 1;
+      while (low <= high) {
+        int mid = (low + high) >>> 1;
+        char c = children[mid].label.charAt(0);
+        if (c < first) {
+          low = mid + 1;
+        } else if (c > first) {
+          high = mid - 1;
+        } else {
+          return mid;
+        }
+      }
+      return -(low + 1);
+    }
+
+    private void insertChild(int index, Node child) {
+      if (childCount == children.length) {
+        children = Arrays.copyOf(children, Math.max(2, childCount * 2));
+      }
+      System.arraycopy(children, index, children, index + 1, childCount - index);
+      children[index] = child;
+      childCount++;
+    }
+
+    private void removeChild(int index) {
+      System.arraycopy(children, index + 1, children, index, childCount - index - 1);
+      children[--childCount] = null;
+      if (childCount == 0) {
+        children = NO_CHILDREN;
+      }
+    }
+
+    private void addValue(String value) {
+      if (values == null) {
+        values = new String[] {value};
+        return;
+      }
+      int index = Arrays.binarySearch(values, value);
+      if (index < 0) {
+        index = -index - 1;
+        String[] grown = new String[values.length + 1];
+        System.arraycopy(values, 0, grown, 0, index);
+        grown[index] = value;
+        System.arraycopy(values, index, grown, index + 1, values.length - index);
+        values = grown;
+      }
+    }
+
+    /** Quita un valor; deja {@code values} en null si era el último. */
+    private boolean removeValue(String value) {
+      if (values == null) {
+        return false;
+      }
+      int index = Arrays.binarySearch(values, value);
+      if (index < 0) {
+        return false;
+      }
+      if (values.length == 1) {
+        values = null;
+      } else {
+        String[] shrunk = new String[values.length - 1];
+        System.arraycopy(values, 0, shrunk, 0, index);
+        System.arraycopy(values, index + 1, shrunk, index, values.length - index - 1);
+        values = shrunk;
+      }
+      return true;
+    }
+  }
+}
@@ -0,0 +1,28 @@
+package com.studentmanager.repository;
+
+/**
+ * Excepción no verificada que señala un fallo del almacenamiento subyacente de un repositorio (por
+ * ejemplo, un error de E/S en un archivo o de una base de datos).
+ */
+public class RepositoryException extends RuntimeException {
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Crea una nueva excepción de repositorio.
+   *
+   * @param message el mensaje de error
+   */
+  public RepositoryException(String message) {
+    super(message);
+  }
+
+  /**
+   * Crea una nueva excepción de repositorio con su causa.
+   *
+   * @param message el mensaje de error
+   * @param cause   la causa original
+   */
+  public RepositoryException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
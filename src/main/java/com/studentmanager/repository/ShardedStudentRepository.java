@@ -0,0 +1,446 @@
+package com.studentmanager.repository;
+
+import com.studentmanager.model.Student;
+import com.studentmanager.stats.GradeSummary;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+/**
+ * Implementación de StudentRepository que reparte los estudiantes entre varios repositorios
+ * independientes, las particiones, según el hash de su nombre plegado. Todos los estudiantes con
+ * nombres iguales sin distinguir mayúsculas viven en la misma partición, así que las operaciones
+ * por nombre ({@link #add(Student)}, {@link #findByName(String)}, {@link #remove(String, double)}
+ * y {@link #updateGrade(String, double, double)}) van a una sola partición y las escrituras sobre
+ * particiones distintas no compiten entre sí.
+ *
+ * <p>Las operaciones sobre todo el conjunto consultan las particiones en paralelo en el ejecutor
+ * indicado y combinan los resultados: {@link #count()} suma los conteos, {@link #statistics()}
+ * combina los resúmenes, las consultas de ranking mezclan los resultados ya ordenados de cada
+ * partición, el percentil se busca por bisección sobre los rangos de las particiones y las
+ * búsquedas de nombres vuelven a ordenar los candidatos de cada partición. Los lotes se dividen
+ * por partición y cada parte se aplica en paralelo, pero un lote no es atómico entre particiones.
+ *
+ * <p>{@link #findAll()} y {@link #stream()} devuelven las particiones una tras otra, cada una en
+ * su propio orden, por lo que el orden de inserción solo se conserva dentro de cada partición. Las
+ * particiones pueden ser de cualquier tipo, incluso en archivo o en otra base de datos; para que
+ * el repositorio sea seguro para hilos, cada partición debe serlo.
+ */
+@SuppressWarnings("PMD.GodClass")
+public class ShardedStudentRepository implements StudentRepository {
+  private final List<StudentRepository> shards;
+  private final Executor executor;
+
+  /**
+   * Crea un repositorio con las particiones indicadas que las consulta en el pool común.
+   *
+   * @param shards las particiones, en un orden que no debe cambiar entre ejecuciones
+   * @throws IllegalArgumentException si la lista es nula o vacía, o contiene una partición nula
+   */
+  public ShardedStudentRepository(List<? extends StudentRepository> shards) {
+    this(shards, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Crea un repositorio con las particiones y el ejecutor indicados.
+   *
+   * @param shards   las particiones, en un orden que no debe cambiar entre ejecuciones
+   * @param executor el ejecutor donde se consultan las particiones en paralelo
+   * @throws IllegalArgumentException si la lista es nula o vacía, contiene una partición nula, o
+   *                                  el ejecutor es nulo
+   */
+  public ShardedStudentRepository(List<? extends StudentRepository> shards, Executor executor) {
+    if (shards == null || shards.isEmpty()) {
+      throw new IllegalArgumentException("Shards cannot be null or empty");
+    }
+    if (executor == null) {
+      throw new IllegalArgumentException("Executor cannot be null");
+    }
+    List<StudentRepository> copy = new ArrayList<>(shards);
+    if (copy.contains(null)) {
+      throw new IllegalArgumentException("Shard cannot be null");
+    }
+    this.shards = Collections.unmodifiableList(copy);
+    this.executor = executor;
+  }
+
+  /**
+   * Crea un repositorio con {@code count} particiones nuevas, consultadas en el pool común.
+   *
+   * @param count   el número de particiones
+   * @param factory crea la partición de cada índice, por ejemplo un archivo por índice
+   * @return el repositorio particionado
+   * @throws IllegalArgumentException si el número de particiones no es positivo
+   */
+  public static ShardedStudentRepository create(
+      int count, IntFunction<? extends StudentRepository> factory) {
+    if (count < 1) {
+      throw new IllegalArgumentException("Shard count must be positive");
+    }
+    List<StudentRepository> shards = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      shards.add(factory.apply(i));
+    }
+    return new ShardedStudentRepository(shards);
+  }
+
+  /**
+   * Obtiene las particiones.
+   *
+   * @return una vista de solo lectura de las particiones
+   */
+  public List<StudentRepository> getShards() {
+    return shards;
+  }
+
+  /**
+   * Obtiene el índice de la partición donde vive un nombre.
+   *
+   * @param name el nombre del estudiante
+   * @return el índice de su partición
+   */
+  public int shardOf(String name) {
+    int hash = NameKey.fold(name).hashCode();
+    return Math.floorMod(hash ^ (hash >>> 16), shards.size());
+  }
+
+  private StudentRepository shardFor(String name) {
+    return shards.get(shardOf(name));
+  }
+
+  @Override
+  public void add(Student student) {
+    if (student == null) {
+      throw new IllegalArgumentException("Student cannot be null");
+    }
+    shardFor(student.getName()).add(student);
+  }
+
+  @Override
+  public void addAll(Collection<Student> students) {
+    if (students == null) {
+      throw new IllegalArgumentException("Students cannot be null");
+    }
+    List<List<Student>> parts = emptyParts();
+    for (Student student : students) {
+      if (student == null) {
+        throw new IllegalArgumentException("Student cannot be null");
+      }
+      parts.get(shardOf(student.getName())).add(student);
+    }
+    scatter(
+        (shard, index) -> {
+          if (!parts.get(index).isEmpty()) {
+            shard.addAll(parts.get(index));
+          }
+          return null;
+        });
+  }
+
+  @Override
+  public List<Student> findAll() {
+    return gather(scatter(StudentRepository::findAll));
+  }
+
+  @Override
+  public Stream<Student> stream() {
+    return shards.stream().flatMap(StudentRepository::stream);
+  }
+
+  @Override
+  public Student findByName(String name) {
+    if (name == null) {
+      return null;
+    }
+    return shardFor(name).findByName(name);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Cada partición resuelve la búsqueda con sus propios índices y los candidatos se vuelven a
+   * ordenar juntos, tomando el orden de las particiones como orden de inserción.
+   */
+  @Override
+  public List<Student> findByNamePrefix(String prefix, int limit) {
+    List<Student> candidates = gather(scatter(shard -> shard.findByNamePrefix(prefix, limit)));
+    return NameSearch.scanPrefix(candidates.stream(), prefix, limit);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Cada partición resuelve la búsqueda con sus propios índices y los candidatos se vuelven a
+   * ordenar juntos, tomando el orden de las particiones como orden de inserción.
+   */
+  @Override
+  public List<Student> findBySimilarName(String name, int maxDistance, int limit) {
+    List<Student> candidates =
+        gather(scatter(shard -> shard.findBySimilarName(name, maxDistance, limit)));
+    return NameSearch.scanSimilar(candidates.stream(), name, maxDistance, limit);
+  }
+
+  @Override
+  public int count() {
+    int total = 0;
+    for (Integer count : scatter(StudentRepository::count)) {
+      total += count;
+    }
+    return total;
+  }
+
+  @Override
+  public boolean remove(String name, double grade) {
+    if (name == null || name.trim().isEmpty()) {
+      return false;
+    }
+    return shardFor(name).remove(name, grade);
+  }
+
+  @Override
+  public Map<StudentKey, Boolean> removeAll(Collection<StudentKey> keys) {
+    KeyMatcher.checkKeys(keys);
+    Map<StudentKey, Boolean> results = KeyMatcher.results(keys);
+    List<List<StudentKey>> parts = emptyParts();
+    for (StudentKey key : results.keySet()) {
+      parts.get(shardOf(key.getName())).add(key);
+    }
+    List<Map<StudentKey, Boolean>> partial =
+        scatter(
+            (shard, index) ->
+                parts.get(index).isEmpty()
+                    ? Collections.<StudentKey, Boolean>emptyMap()
+                    : shard.removeAll(parts.get(index)));
+    for (Map<StudentKey, Boolean> part : partial) {
+      results.putAll(part);
+    }
+    return results;
+  }
+
+  @Override
+  public boolean updateGrade(String name, double oldGrade, double newGrade) {
+    Student.checkGrade(newGrade);
+    if (name == null || name.trim().isEmpty()) {
+      return false;
+    }
+    return shardFor(name).updateGrade(name, oldGrade, newGrade);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Las claves que coinciden con un mismo estudiante tienen el mismo nombre plegado y van a la
+   * misma partición, que las recibe en el orden de iteración del lote.
+   */
+  @Override
+  public Map<StudentKey, Boolean> updateGrades(Map<StudentKey, Double> updates) {
+    KeyMatcher.checkUpdates(updates);
+    Map<StudentKey, Boolean> results = KeyMatcher.results(updates.keySet());
+    List<Map<StudentKey, Double>> parts = new ArrayList<>(shards.size());
+    for (int i = 0; i < shards.size(); i++) {
+      parts.add(new LinkedHashMap<>());
+    }
+    for (Map.Entry<StudentKey, Double> update : updates.entrySet()) {
+      parts.get(shardOf(update.getKey().getName())).put(update.getKey(), update.getValue());
+    }
+    List<Map<StudentKey, Boolean>> partial =
+        scatter(
+            (shard, index) ->
+                parts.get(index).isEmpty()
+                    ? Collections.<StudentKey, Boolean>emptyMap()
+                    : shard.updateGrades(parts.get(index)));
+    for (Map<StudentKey, Boolean> part : partial) {
+      results.putAll(part);
+    }
+    return results;
+  }
+
+  @Override
+  public GradeSummary statistics() {
+    GradeSummary total = GradeSummary.EMPTY;
+    for (GradeSummary summary : scatter(StudentRepository::statistics)) {
+      total = total.combine(summary);
+    }
+    return total;
+  }
+
+  @Override
+  public List<Student> findByGradeRange(double min, double max) {
+    return merge(scatter(shard -> shard.findByGradeRange(min, max)), Integer.MAX_VALUE);
+  }
+
+  @Override
+  public List<Student> findTopByGrade(int k) {
+    if (k < 0) {
+      throw new IllegalArgumentException("k cannot be negative");
+    }
+    return merge(scatter(shard -> shard.findTopByGrade(k)), k);
+  }
+
+  @Override
+  public int rankOf(double grade) {
+    return countAbove(grade) + 1;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Busca por bisección, entre la mínima y la máxima del conjunto, la menor calificación que
+   * deja a su altura o por debajo la cantidad pedida de estudiantes, contando en cada paso con
+   * {@link #rankOf(double)} de las particiones. Así no copia ni ordena todas las calificaciones,
+   * pero el resultado solo es exacto si nadie escribe en el repositorio durante la consulta.
+   */
+  @Override
+  public double gradePercentile(double percentile) {
+    GradeSummary summary = statistics();
+    int count = (int) summary.getCount();
+    int position = GradeRanking.percentilePosition(percentile, count);
+    if (position < 0) {
+      return Double.NaN;
+    }
+    // Grades are finite and not negative, so their bit patterns sort like their values
+    long low = Double.doubleToLongBits(Math.max(0.0, summary.getMin()));
+    long high = Double.doubleToLongBits(summary.getMax());
+    while (low < high) {
+      long middle = (low + high) >>> 1;
+      if (countAbove(Double.longBitsToDouble(middle)) < count - position) {
+        high = middle;
+      } else {
+        low = middle + 1;
+      }
+    }
+    return Double.longBitsToDouble(low);
+  }
+
+  private int countAbove(double grade) {
+    int above = 0;
+    for (Integer rank : scatter(shard -> shard.rankOf(grade))) {
+      above += rank - 1;
+    }
+    return above;
+  }
+
+  /** Consulta de una partición que también recibe su índice. */
+  private interface ShardCall<T> {
+    T apply(StudentRepository shard, int index);
+  }
+
+  private <T> List<T> scatter(Function<StudentRepository, T> call) {
+    return scatter((shard, index) -> call.apply(shard));
+  }
+
+  /**
+   * Consulta todas las particiones en paralelo. La primera se consulta en el hilo que llama
+   * mientras las demás corren en el ejecutor.
+   *
+   * @param call la consulta de cada partición
+   * @param <T>  el tipo del resultado
+   * @return los resultados, en el orden de las particiones
+   */
+  private <T> List<T> scatter(ShardCall<T> call) {
+    List<CompletableFuture<T>> pending = new ArrayList<>(shards.size() - 1);
+    for (int i = 1; i < shards.size(); i++) {
+      int index = i;
+      pending.add(
+          CompletableFuture.supplyAsync(() -> call.apply(shards.get(index), index), executor));
+    }
+    List<T> results = new ArrayList<>(shards.size());
+    results.add(call.apply(shards.get(0), 0));
+    try {
+      for (CompletableFuture<T> future : pending) {
+        results.add(future.join());
+      }
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new RepositoryException("Shard query failed", e);
+    }
+    return results;
+  }
+
+  private static List<Student> gather(List<List<Student>> parts) {
+    List<Student> all = new ArrayList<>();
+    for (List<Student> part : parts) {
+      all.addAll(part);
+    }
+    return all;
+  }
+
+  /**
+   * Mezcla los resultados de las particiones, cada uno ya ordenado por {@link GradeRanking#ORDER},
+   * sin volver a ordenarlos. Los empates entre particiones se resuelven por el orden de estas.
+   *
+   * @param parts los resultados ordenados de cada partición
+   * @param limit el número máximo de estudiantes a devolver
+   * @return los primeros {@code limit} estudiantes de la mezcla
+   */
+  private static List<Student> merge(List<List<Student>> parts, int limit) {
+    PriorityQueue<Cursor> heads = new PriorityQueue<>(parts.size(), Cursor.ORDER);
+    int total = 0;
+    for (int i = 0; i < parts.size(); i++) {
+      if (!parts.get(i).isEmpty()) {
+        heads.add(new Cursor(parts.get(i), i));
+        total += parts.get(i).size();
+      }
+    }
+    List<Student> merged = new ArrayList<>(Math.min(limit, total));
+    while (merged.size() < limit && !heads.isEmpty()) {
+      Cursor head = heads.poll();
+      merged.add(head.current());
+      if (head.advance()) {
+        heads.add(head);
+      }
+    }
+    return merged;
+  }
+
+  /** Posición de lectura dentro del resultado ordenado de una partición. */
+  private static final class Cursor {
+    static final Comparator<Cursor> ORDER =
+        Comparator.comparing(Cursor::current, GradeRanking.ORDER)
+            .thenComparingInt(cursor -> cursor.shard);
+
+    private final List<Student> students;
+    private final int shard;
+    private int next;
+
+    Cursor(List<Student> students, int shard) {
+      this.students = students;
+      this.shard = shard;
+    }
+
+    Student current() {
+      return students.get(next);
+    }
+
+    boolean advance() {
+      next++;
+      return next < students.size();
+    }
+  }
+
+  private <T> List<List<T>> emptyParts() {
+    List<List<T>> parts = new ArrayList<>(shards.size());
+    for (int i = 0; i < shards.size(); i++) {
+      parts.add(new ArrayList<>());
+    }
+    return parts;
+  }
+}
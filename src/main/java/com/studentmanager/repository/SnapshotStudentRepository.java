@@ -0,0 +1,322 @@
+package com.studentmanager.repository;
+
+import com.studentmanager.model.NamePool;
+import com.studentmanager.model.Student;
+import com.studentmanager.model.StudentRecord;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Implementación de StudentRepository segura para hilos pensada para cargas con muchas más
+ * lecturas que escrituras. Las escrituras se serializan con un {@link ReentrantLock} y cada una
+ * termina publicando su resultado en campos volátiles; las lecturas nunca toman el bloqueo ni
+ * esperan a un escritor, porque solo leen estado inmutable ya publicado:
+ *
+ * <ul>
+ *   <li>{@link #findAll()} y {@link #stream()} devuelven la instantánea inmutable que publicó la
+ *       última escritura, compartida por todos los lectores. Es una vista de las primeras
+ *       posiciones de un arreglo que ninguna escritura vuelve a modificar: las altas escriben en
+ *       posiciones posteriores, que ninguna instantánea publicada incluye, y crean un arreglo más
+ *       grande solo cuando el actual se llena, así que agregar no copia la lista; las bajas y los
+ *       cambios de calificación escriben un arreglo nuevo.
+ *   <li>{@link #findByName(String)} consulta un {@link ConcurrentHashMap} cuyos grupos de nombres
+ *       son arreglos que nunca se modifican: cada escritura publica un arreglo nuevo, así que un
+ *       lector ve un grupo anterior o posterior a la escritura, nunca uno a medias.
+ *   <li>{@link #count()} lee el tamaño de la instantánea publicada.
+ * </ul>
+ *
+ * <p>Los estudiantes conservan el orden de inserción, y una instantánea refleja siempre escrituras
+ * completas: un lote de {@link #addAll(Collection)}, {@link #removeAll(Collection)} o {@link
+ * #updateGrades(Map)} se aplica con una sola adquisición del bloqueo y se publica una sola vez,
+ * así que aparece entero o no aparece. Recorrer {@link #stream()} mientras otros hilos escriben es
+ * seguro y refleja la versión del momento en que se pidió el flujo.
+ *
+ * <p>El repositorio guarda y devuelve {@link StudentRecord}, que es inmutable, así que los
+ * estudiantes de una instantánea pueden usarse desde cualquier hilo sin copiarlos. Al agregar, el
+ * nombre pasa por el {@link NamePool} del repositorio, de modo que todos los estudiantes con el
+ * mismo nombre comparten una sola cadena.
+ */
+@SuppressWarnings("PMD.GodClass")
+public class SnapshotStudentRepository implements StudentRepository {
+  private static final Student[] EMPTY = new Student[0];
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Map<String, Student[]> buckets = new ConcurrentHashMap<>();
+  private final NamePool names;
+  // Guarded by lock; slots from length on were never published in this array
+  private Student[] students = EMPTY;
+  private int length;
+  private volatile List<Student> snapshot = Collections.emptyList();
+
+  /** Crea un repositorio vacío con su propio conjunto de nombres. */
+  public SnapshotStudentRepository() {
+    this(new NamePool());
+  }
+
+  /**
+   * Crea un repositorio vacío que deduplica los nombres con el conjunto indicado, que puede
+   * compartirse con otros repositorios o con un importador.
+   *
+   * @param names el conjunto de nombres canónicos
+   * @throws IllegalArgumentException si el conjunto es nulo
+   */
+  public SnapshotStudentRepository(NamePool names) {
+    if (names == null) {
+      throw new IllegalArgumentException("Name pool cannot be null");
+    }
+    this.names = names;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Se guarda una versión inmutable del estudiante con el nombre canónico, no el objeto
+   * recibido.
+   */
+  @Override
+  public void add(Student student) {
+    if (student == null) {
+      throw new IllegalArgumentException("Student cannot be null");
+    }
+    lock.lock();
+    try {
+      append(student);
+      publish();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>El lote se agrega con una sola adquisición del bloqueo, así que los lectores lo ven
+   * completo o no lo ven.
+   */
+  @Override
+  public void addAll(Collection<Student> students) {
+    if (students == null) {
+      throw new IllegalArgumentException("Students cannot be null");
+    }
+    Student[] batch = students.toArray(EMPTY);
+    for (Student student : batch) {
+      if (student == null) {
+        throw new IllegalArgumentException("Student cannot be null");
+      }
+    }
+    lock.lock();
+    try {
+      for (Student student : batch) {
+        append(student);
+      }
+      publish();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>La lista devuelta es una instantánea inmutable compartida; no refleja escrituras
+   * posteriores.
+   */
+  @Override
+  public List<Student> findAll() {
+    return snapshot;
+  }
+
+  @Override
+  public Stream<Student> stream() {
+    return snapshot.stream();
+  }
+
+  @Override
+  public Student findByName(String name) {
+    if (name == null) {
+      return null;
+    }
+    Student[] bucket = buckets.get(NameKey.fold(name));
+    if (bucket == null) {
+      return null;
+    }
+    for (Student student : bucket) {
+      if (student.getName().equals(name)) {
+        return student;
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public int count() {
+    return snapshot.size();
+  }
+
+  @Override
+  public boolean remove(String name, double grade) {
+    if (name == null || name.trim().isEmpty()) {
+      return false;
+    }
+    StudentKey key = StudentKey.of(name, grade);
+    return removeAll(Collections.singletonList(key)).get(key);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Solo se recorren los grupos de los nombres del lote, y todas las bajas se publican juntas
+   * en una sola escritura.
+   */
+  @Override
+  public Map<StudentKey, Boolean> removeAll(Collection<StudentKey> keys) {
+    KeyMatcher.checkKeys(keys);
+    Map<StudentKey, Boolean> results = KeyMatcher.results(keys);
+    KeyMatcher matcher = new KeyMatcher(results.keySet());
+    Map<Student, Student> removed = new IdentityHashMap<>();
+    lock.lock();
+    try {
+      for (String key : foldedNames(results.keySet())) {
+        Student[] bucket = buckets.get(key);
+        if (bucket == null) {
+          continue;
+        }
+        Student[] kept = new Student[bucket.length];
+        int keptCount = 0;
+        for (Student student : bucket) {
+          StudentKey match = matcher.match(student.getName(), student.getGrade());
+          if (match == null) {
+            kept[keptCount++] = student;
+          } else {
+            results.put(match, Boolean.TRUE);
+            removed.put(student, null);
+          }
+        }
+        if (keptCount == 0) {
+          buckets.remove(key);
+        } else if (keptCount < bucket.length) {
+          buckets.put(key, Arrays.copyOf(kept, keptCount));
+        }
+      }
+      if (!removed.isEmpty()) {
+        replace(removed);
+        publish();
+      }
+    } finally {
+      lock.unlock();
+    }
+    return results;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Los estudiantes coincidentes se reemplazan por copias con la calificación nueva en su misma
+   * posición; solo se recorren los grupos de los nombres del lote y todos los cambios se publican
+   * juntos en una sola escritura.
+   */
+  @Override
+  public Map<StudentKey, Boolean> updateGrades(Map<StudentKey, Double> updates) {
+    KeyMatcher.checkUpdates(updates);
+    Map<StudentKey, Boolean> results = KeyMatcher.results(updates.keySet());
+    KeyMatcher matcher = new KeyMatcher(updates.keySet());
+    Map<Student, Student> replacements = new IdentityHashMap<>();
+    lock.lock();
+    try {
+      for (String key : foldedNames(updates.keySet())) {
+        Student[] bucket = buckets.get(key);
+        if (bucket == null) {
+          continue;
+        }
+        Student[] next = null;
+        for (int i = 0; i < bucket.length; i++) {
+          Student student = bucket[i];
+          StudentKey match = matcher.match(student.getName(), student.getGrade());
+          if (match != null) {
+            if (next == null) {
+              next = bucket.clone();
+            }
+            next[i] = new StudentRecord(student.getName(), updates.get(match));
+            results.put(match, Boolean.TRUE);
+            replacements.put(student, next[i]);
+          }
+        }
+        if (next != null) {
+          buckets.put(key, next);
+        }
+      }
+      if (!replacements.isEmpty()) {
+        replace(replacements);
+        publish();
+      }
+    } finally {
+      lock.unlock();
+    }
+    return results;
+  }
+
+  /**
+   * Agrega una versión inmutable de un estudiante, con el nombre canónico, al final del arreglo y a
+   * su grupo. Cada llamada crea un objeto distinto, del que depende {@link #replace(Map)}; requiere
+   * el bloqueo.
+   */
+  private void append(Student original) {
+    Student student = new StudentRecord(names.intern(original.getName()), original.getGrade());
+    if (length == students.length) {
+      // Published snapshots keep viewing the old array
+      students = Arrays.copyOf(students, Math.max(16, length + (length >> 1)));
+    }
+    students[length++] = student;
+    String key = NameKey.fold(student.getName());
+    Student[] bucket = buckets.get(key);
+    if (bucket == null) {
+      buckets.put(key, new Student[] {student});
+    } else {
+      Student[] next = Arrays.copyOf(bucket, bucket.length + 1);
+      next[bucket.length] = student;
+      buckets.put(key, next);
+    }
+  }
+
+  /**
+   * Escribe un arreglo nuevo en el que los estudiantes indicados, comparados por identidad, se
+   * reemplazan por los que les corresponden en el mapa, o se quitan si les corresponde null. El
+   * arreglo anterior no se modifica porque puede estar publicado; requiere el bloqueo.
+   *
+   * @param replacements los estudiantes a reemplazar, tomados del índice, con sus reemplazos
+   */
+  private void replace(Map<Student, Student> replacements) {
+    Student[] next = new Student[students.length];
+    int nextLength = 0;
+    for (int i = 0; i < length; i++) {
+      Student student = replacements.getOrDefault(students[i], students[i]);
+      if (student != null) {
+        next[nextLength++] = student;
+      }
+    }
+    students = next;
+    length = nextLength;
+  }
+
+  /** Publica la instantánea al final de una escritura; requiere el bloqueo. */
+  private void publish() {
+    snapshot = Collections.unmodifiableList(Arrays.asList(students).subList(0, length));
+  }
+
+  private static Set<String> foldedNames(Collection<StudentKey> keys) {
+    Set<String> names = new LinkedHashSet<>();
+    for (StudentKey key : keys) {
+      names.add(NameKey.fold(key.getName()));
+    }
+    return names;
+  }
+}
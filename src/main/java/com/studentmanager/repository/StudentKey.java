@@ -0,0 +1,85 @@
+package com.studentmanager.repository;
+
+import java.util.Objects;
+
+/**
+ * Clave que identifica estudiantes por nombre y calificación, usada por las operaciones por lote
+ * del repositorio. Una clave coincide con los mismos estudiantes que {@link
+ * StudentRepository#remove(String, double)}: nombre igual sin distinguir mayúsculas y calificación
+ * igual. Dos claves son iguales solo si su nombre y su calificación son idénticos.
+ */
+public final class StudentKey {
+  private final String name;
+  private final double grade;
+
+  private StudentKey(String name, double grade) {
+    this.name = name;
+    this.grade = grade;
+  }
+
+  /**
+   * Crea una clave.
+   *
+   * @param name  el nombre del estudiante
+   * @param grade la calificación del estudiante
+   * @return la clave
+   * @throws IllegalArgumentException si el nombre es nulo
+   */
+  public static StudentKey of(String name, double grade) {
+    if (name == null) {
+      throw new IllegalArgumentException("Name cannot be null");
+    }
+    return new StudentKey(name, grade);
+  }
+
+  /**
+   * Obtiene el nombre.
+   *
+   * @return el nombre
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Obtiene la calificación.
+   *
+   * @return la calificación
+   */
+  public double getGrade() {
+    return grade;
+  }
+
+  /**
+   * Indica si la clave coincide con un estudiante de ese nombre y calificación.
+   *
+   * @param studentName  el nombre del estudiante
+   * @param studentGrade la calificación del estudiante
+   * @return true si coinciden
+   */
+  public boolean matches(String studentName, double studentGrade) {
+    return grade == studentGrade && name.equalsIgnoreCase(studentName);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof StudentKey)) {
+      return false;
+    }
+    StudentKey other = (StudentKey) o;
+    return name.equals(other.name) && Double.compare(grade, other.grade) == 0;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(name, grade);
+  }
+
+  @Override
+  public String toString() {
+    return "StudentKey{name=" + name + ", grade=" + grade + "}";
+  }
+}
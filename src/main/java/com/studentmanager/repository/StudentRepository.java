@@ -1,7 +1,14 @@
 package com.studentmanager.repository;
 
 import com.studentmanager.model.Student;
+import com.studentmanager.stats.GradeSummary;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * Interfaz de repositorio para operaciones de almacenamiento de Student. Esta
@@ -17,12 +24,49 @@ public interface StudentRepository {
   void add(Student student);
 
   /**
-   * Recupera todos los estudiantes.
+   * Agrega un lote de estudiantes en orden. Si algún elemento es nulo no se agrega ninguno. Las
+   * implementaciones pueden sobrescribir este método para evitar el costo por registro de {@link
+   * #add(Student)}.
+   *
+   * @param students los estudiantes a agregar
+   * @throws IllegalArgumentException si el lote o alguno de sus elementos es nulo
+   */
+  default void addAll(Collection<Student> students) {
+    if (students == null) {
+      throw new IllegalArgumentException("Students cannot be null");
+    }
+    for (Student student : students) {
+      if (student == null) {
+        throw new IllegalArgumentException("Student cannot be null");
+      }
+    }
+    for (Student student : students) {
+      add(student);
+    }
+  }
+
+  /**
+   * Recupera todos los estudiantes. La lista devuelta puede ser una vista de solo lectura
+   * compartida entre llamadas; los llamadores no deben modificarla.
    *
    * @return lista de todos los estudiantes
    */
   List<Student> findAll();
 
+  /**
+   * Recorre los estudiantes de forma perezosa, en el mismo orden que {@link #findAll()}, sin
+   * materializar una copia del conjunto completo. La implementación por defecto recorre {@link
+   * #findAll()}; las implementaciones que pueden producir los estudiantes uno a uno la
+   * sobrescriben para que recorrer el repositorio use memoria constante. El repositorio no debe
+   * modificarse mientras el flujo se consume, salvo en implementaciones que documenten lo
+   * contrario.
+   *
+   * @return un flujo secuencial de los estudiantes
+   */
+  default Stream<Student> stream() {
+    return findAll().stream();
+  }
+
   /**
    * Busca un estudiante por nombre.
    *
@@ -31,6 +75,39 @@ public interface StudentRepository {
    */
   Student findByName(String name);
 
+  /**
+   * Busca los estudiantes cuyo nombre, o alguna de sus palabras desde el comienzo de una, empieza
+   * con un prefijo, ignorando mayúsculas, tildes y espacios repetidos. Los resultados se ordenan
+   * por el sufijo del nombre que coincide y luego por orden de inserción. La implementación por
+   * defecto recorre todos los estudiantes; las implementaciones con índice de nombres la
+   * sobrescriben.
+   *
+   * @param prefix el prefijo buscado; vacío coincide con todos
+   * @param limit  el número máximo de resultados
+   * @return los estudiantes encontrados
+   * @throws IllegalArgumentException si el prefijo es nulo o el límite es negativo
+   */
+  default List<Student> findByNamePrefix(String prefix, int limit) {
+    return NameSearch.scanPrefix(stream(), prefix, limit);
+  }
+
+  /**
+   * Busca los estudiantes cuyo nombre, o alguna de sus palabras desde el comienzo de una hasta el
+   * final, está a una distancia de edición (Levenshtein) no mayor que la indicada, con la misma
+   * normalización que {@link #findByNamePrefix(String, int)}. Los resultados se ordenan por
+   * distancia, luego por el sufijo que coincide y luego por orden de inserción.
+   *
+   * @param name        el nombre buscado
+   * @param maxDistance la distancia de edición máxima
+   * @param limit       el número máximo de resultados
+   * @return los estudiantes encontrados
+   * @throws IllegalArgumentException si el nombre es nulo o la distancia o el límite son
+   *                                  negativos
+   */
+  default List<Student> findBySimilarName(String name, int maxDistance, int limit) {
+    return NameSearch.scanSimilar(stream(), name, maxDistance, limit);
+  }
+
   /**
    * Retorna el número total de estudiantes.
    *
@@ -46,4 +123,165 @@ public interface StudentRepository {
    * @return true si fue removido, false en caso contrario
    */
   boolean remove(String name, double grade);
+
+  /**
+   * Remueve un lote de estudiantes. Cada clave remueve todos los estudiantes con los que coincide,
+   * igual que {@link #remove(String, double)}, y las claves se aplican en orden. La implementación
+   * por defecto llama a {@code remove} por cada clave; las implementaciones en las que {@code
+   * remove} recorre todo el repositorio la sobrescriben para resolver el lote en una sola pasada.
+   *
+   * @param keys las claves de los estudiantes a remover
+   * @return por cada clave distinta, en orden, si removió al menos un estudiante
+   * @throws IllegalArgumentException si el lote o alguna clave es nulo; en ese caso no se remueve
+   *                                  ninguno
+   */
+  default Map<StudentKey, Boolean> removeAll(Collection<StudentKey> keys) {
+    KeyMatcher.checkKeys(keys);
+    Map<StudentKey, Boolean> results = KeyMatcher.results(keys);
+    for (StudentKey key : results.keySet()) {
+      results.put(key, remove(key.getName(), key.getGrade()));
+    }
+    return results;
+  }
+
+  /**
+   * Cambia la calificación de los estudiantes que coinciden con un nombre y una calificación,
+   * con la misma coincidencia que {@link #remove(String, double)}. Es equivalente a {@link
+   * #updateGrades(Map)} con una sola clave; las implementaciones con índices la sobrescriben para
+   * reubicar solo a los estudiantes afectados en lugar de removerlos y volver a agregarlos.
+   *
+   * @param name     el nombre del estudiante
+   * @param oldGrade la calificación actual del estudiante
+   * @param newGrade la calificación nueva
+   * @return true si se actualizó al menos un estudiante, false en caso contrario
+   * @throws IllegalArgumentException si la calificación nueva es negativa
+   */
+  default boolean updateGrade(String name, double oldGrade, double newGrade) {
+    Student.checkGrade(newGrade);
+    if (name == null || name.trim().isEmpty()) {
+      return false;
+    }
+    StudentKey key = StudentKey.of(name, oldGrade);
+    return updateGrades(Collections.singletonMap(key, newGrade)).get(key);
+  }
+
+  /**
+   * Cambia la calificación de un lote de estudiantes. Cada clave actualiza todos los estudiantes
+   * con los que coincide según el estado previo al lote, de modo que un cambio no encadena con
+   * otro; si varias claves coinciden con un estudiante se aplica la primera en el orden de
+   * iteración del mapa.
+   *
+   * <p>La implementación por defecto recorre {@link #findAll()} una vez y reemplaza los
+   * estudiantes afectados con {@code remove} y {@link #addAll(Collection)}, por lo que pasan al
+   * final del orden de inserción; las implementaciones que pueden modificar la calificación en su
+   * lugar la sobrescriben y conservan el orden.
+   *
+   * @param updates la calificación nueva por clave
+   * @return por cada clave, en orden, si actualizó al menos un estudiante
+   * @throws IllegalArgumentException si el lote, una clave o una calificación es nula, o alguna
+   *                                  calificación es negativa; en ese caso no se actualiza ninguno
+   */
+  default Map<StudentKey, Boolean> updateGrades(Map<StudentKey, Double> updates) {
+    KeyMatcher.checkUpdates(updates);
+    Map<StudentKey, Boolean> results = KeyMatcher.results(updates.keySet());
+    KeyMatcher matcher = new KeyMatcher(updates.keySet());
+    List<Student> replacements = new ArrayList<>();
+    for (Student student : findAll()) {
+      StudentKey key = matcher.match(student.getName(), student.getGrade());
+      if (key != null) {
+        results.put(key, Boolean.TRUE);
+        replacements.add(new Student(student.getName(), updates.get(key)));
+      }
+    }
+    for (Map.Entry<StudentKey, Boolean> result : results.entrySet()) {
+      if (result.getValue()) {
+        remove(result.getKey().getName(), result.getKey().getGrade());
+      }
+    }
+    addAll(replacements);
+    return results;
+  }
+
+  /**
+   * Obtiene estadísticas de las calificaciones (cantidad, promedio, varianza, mínimo y máximo). La
+   * implementación por defecto recorre {@link #findAll()}; las implementaciones que mantienen
+   * agregados incrementales la sobrescriben para responder en tiempo constante.
+   *
+   * @return el resumen de calificaciones
+   */
+  default GradeSummary statistics() {
+    return GradeSummary.of(findAll());
+  }
+
+  /**
+   * Busca los estudiantes con calificación dentro del rango cerrado {@code [min, max]}.
+   *
+   * @param min la calificación mínima
+   * @param max la calificación máxima
+   * @return los estudiantes ordenados de mayor a menor calificación y luego por nombre
+   */
+  default List<Student> findByGradeRange(double min, double max) {
+    List<Student> result = new ArrayList<>();
+    for (Student student : findAll()) {
+      if (Double.compare(student.getGrade(), min) >= 0
+          && Double.compare(student.getGrade(), max) <= 0) {
+        result.add(student);
+      }
+    }
+    result.sort(GradeRanking.ORDER);
+    return result;
+  }
+
+  /**
+   * Obtiene los {@code k} estudiantes con mayor calificación.
+   *
+   * @param k cuántos estudiantes devolver
+   * @return hasta k estudiantes ordenados de mayor a menor calificación y luego por nombre
+   * @throws IllegalArgumentException si k es negativo
+   */
+  default List<Student> findTopByGrade(int k) {
+    if (k < 0) {
+      throw new IllegalArgumentException("k cannot be negative");
+    }
+    List<Student> sorted = new ArrayList<>(findAll());
+    sorted.sort(GradeRanking.ORDER);
+    return new ArrayList<>(sorted.subList(0, Math.min(k, sorted.size())));
+  }
+
+  /**
+   * Calcula la posición que ocuparía una calificación en el ranking (1 para la mejor).
+   *
+   * @param grade la calificación
+   * @return uno más el número de estudiantes con calificación estrictamente mayor
+   */
+  default int rankOf(double grade) {
+    int above = 0;
+    for (Student student : findAll()) {
+      if (Double.compare(student.getGrade(), grade) > 0) {
+        above++;
+      }
+    }
+    return above + 1;
+  }
+
+  /**
+   * Obtiene la calificación en el percentil dado por el método del rango más cercano.
+   *
+   * @param percentile el percentil, entre 0 y 100
+   * @return la calificación del percentil, o NaN si el repositorio está vacío
+   * @throws IllegalArgumentException si el percentil está fuera de rango
+   */
+  default double gradePercentile(double percentile) {
+    List<Student> students = findAll();
+    int position = GradeRanking.percentilePosition(percentile, students.size());
+    if (position < 0) {
+      return Double.NaN;
+    }
+    double[] grades = new double[students.size()];
+    for (int i = 0; i < grades.length; i++) {
+      grades[i] = students.get(i).getGrade();
+    }
+    Arrays.sort(grades);
+    return grades[position];
+  }
 }
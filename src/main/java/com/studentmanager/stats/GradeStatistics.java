@@ -0,0 +1,98 @@
+package com.studentmanager.stats;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Acumulador incremental de estadísticas de calificaciones. Mantiene promedio y varianza con el
+ * algoritmo de Welford, que admite tanto agregar como quitar valores, y un multiconjunto ordenado
+ * de calificaciones para conocer el mínimo y el máximo aun después de eliminaciones.
+ *
+ * <p>Cada mutación cuesta O(log d), donde d es el número de calificaciones distintas. Leer el
+ * resumen con {@link #summary()} cuesta O(1), salvo la primera lectura tras una mutación, que
+ * cuesta O(log d). Esta clase no es segura para hilos.
+ */
+public class GradeStatistics {
+  private final TreeMap<Double, Integer> grades;
+  private long count;
+  private double mean;
+  private double m2;
+  private GradeSummary summary;
+
+  /** Crea un acumulador vacío. */
+  public GradeStatistics() {
+    this.grades = new TreeMap<>();
+    this.summary = GradeSummary.EMPTY;
+  }
+
+  /**
+   * Registra una calificación.
+   *
+   * @param grade la calificación agregada
+   */
+  public void add(double grade) {
+    count++;
+    double delta = grade - mean;
+    mean += delta / count;
+    m2 += delta * (grade - mean);
+    grades.merge(grade, 1, Integer::sum);
+    summary = null;
+  }
+
+  /**
+   * Quita una calificación registrada previamente.
+   *
+   * @param grade la calificación eliminada
+   * @throws IllegalArgumentException si la calificación no estaba registrada
+   */
+  public void remove(double grade) {
+    Integer occurrences = grades.get(grade);
+    if (occurrences == null) {
+      throw new IllegalArgumentException("Grade was not recorded: " + grade);
+    }
+    if (occurrences == 1) {
+      grades.remove(grade);
+    } else {
+      grades.put(grade, occurrences - 1);
+    }
+    count--;
+    if (count == 0) {
+      mean = 0;
+      m2 = 0;
+    } else {
+      double oldMean = mean;
+      mean -= (grade - mean) / count;
+      m2 = Math.max(0, m2 - (grade - oldMean) * (grade - mean));
+    }
+    summary = null;
+  }
+
+  /**
+   * Reemplaza una calificación registrada por otra.
+   *
+   * @param oldGrade la calificación anterior
+   * @param newGrade la calificación nueva
+   */
+  public void replace(double oldGrade, double newGrade) {
+    remove(oldGrade);
+    add(newGrade);
+  }
+
+  /**
+   * Obtiene el resumen actual. El resumen se reutiliza mientras no haya mutaciones.
+   *
+   * @return el resumen de las calificaciones registradas
+   */
+  public GradeSummary summary() {
+    if (summary == null) {
+      if (count == 0) {
+        summary = GradeSummary.EMPTY;
+      } else {
+        Map.Entry<Double, Integer> first = grades.firstEntry();
+        Map.Entry<Double, Integer> last = grades.lastEntry();
+        summary = new GradeSummary(count, mean, m2 / count, first.getKey(), last.getKey());
+      }
+    }
+    return summary;
+  }
+}
@@ -0,0 +1,178 @@
+package com.studentmanager.stats;
+
+import com.studentmanager.model.Student;
+
+/**
+ * Resumen inmutable de las calificaciones de un conjunto de estudiantes: cantidad, promedio,
+ * varianza poblacional, mínimo y máximo.
+ */
+public final class GradeSummary {
+  /** Resumen de un conjunto vacío. */
+  public static final GradeSummary EMPTY = new GradeSummary(0, 0, 0, Double.NaN, Double.NaN);
+
+  private final long count;
+  private final double mean;
+  private final double variance;
+  private final double min;
+  private final double max;
+
+  /**
+   * Crea un resumen con los valores dados.
+   *
+   * @param count    la cantidad de calificaciones
+   * @param mean     el promedio
+   * @param variance la varianza poblacional
+   * @param min      la calificación mínima
+   * @param max      la calificación máxima
+   */
+  public GradeSummary(long count, double mean, double variance, double min, double max) {
+    this.count = count;
+    this.mean = mean;
+    this.variance = variance;
+    this.min = min;
+    this.max = max;
+  }
+
+  /**
+   * Calcula el resumen de los estudiantes en una sola pasada (algoritmo de Welford).
+   *
+   * @param students los estudiantes a resumir
+   * @return el resumen de sus calificaciones
+   */
+  public static GradeSummary of(Iterable<Student> students) {
+    long n = 0;
+    double mean = 0;
+    double m2 = 0;
+    double min = Double.NaN;
+    double max = Double.NaN;
+    for (Student student : students) {
+      double grade = student.getGrade();
+      n++;
+      double delta = grade - mean;
+      mean += delta / n;
+      m2 += delta * (grade - mean);
+      min = n == 1 ? grade : Math.min(min, grade);
+      max = n == 1 ? grade : Math.max(max, grade);
+    }
+    return n == 0 ? EMPTY : new GradeSummary(n, mean, m2 / n, min, max);
+  }
+
+  /**
+   * Calcula el resumen de las primeras {@code size} calificaciones de un arreglo en una sola
+   * pasada.
+   *
+   * @param grades el arreglo de calificaciones
+   * @param size   cuántas posiciones del arreglo son válidas
+   * @return el resumen de las calificaciones
+   */
+  public static GradeSummary of(double[] grades, int size) {
+    if (size == 0) {
+      return EMPTY;
+    }
+    double mean = 0;
+    double m2 = 0;
+    double min = grades[0];
+    double max = grades[0];
+    for (int i = 0; i < size; i++) {
+      double grade = grades[i];
+      double delta = grade - mean;
+      mean += delta / (i + 1);
+      m2 += delta * (grade - mean);
+      min = Math.min(min, grade);
+      max = Math.max(max, grade);
+    }
+    return new GradeSummary(size, mean, m2 / size, min, max);
+  }
+
+  /**
+   * Combina este resumen con el de otro conjunto disjunto de calificaciones, como si se hubieran
+   * resumido juntas, sin volver a recorrerlas (fórmula de Chan para la varianza).
+   *
+   * @param other el resumen del otro conjunto
+   * @return el resumen de la unión
+   */
+  public GradeSummary combine(GradeSummary other) {
+    if (other.count == 0) {
+      return this;
+    }
+    if (count == 0) {
+      return other;
+    }
+    long n = count + other.count;
+    double delta = other.mean - mean;
+    double combinedMean = mean + delta * other.count / n;
+    double m2 =
+        variance * count + other.variance * other.count + delta * delta * count * other.count / n;
+    return new GradeSummary(
+        n, combinedMean, m2 / n, Math.min(min, other.min), Math.max(max, other.max));
+  }
+
+  /**
+   * Obtiene la cantidad de calificaciones.
+   *
+   * @return la cantidad
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Obtiene el promedio.
+   *
+   * @return el promedio, o 0 si no hay calificaciones
+   */
+  public double getMean() {
+    return mean;
+  }
+
+  /**
+   * Obtiene la varianza poblacional.
+   *
+   * @return la varianza, o 0 si no hay calificaciones
+   */
+  public double getVariance() {
+    return variance;
+  }
+
+  /**
+   * Obtiene la desviación estándar poblacional.
+   *
+   * @return la desviación estándar
+   */
+  public double getStandardDeviation() {
+    return Math.sqrt(variance);
+  }
+
+  /**
+   * Obtiene la calificación mínima.
+   *
+   * @return el mínimo, o NaN si no hay calificaciones
+   */
+  public double getMin() {
+    return min;
+  }
+
+  /**
+   * Obtiene la calificación máxima.
+   *
+   * @return el máximo, o NaN si no hay calificaciones
+   */
+  public double getMax() {
+    return max;
+  }
+
+  @Override
+  public String toString() {
+    return "GradeSummary{count="
+        + count
+        + ", mean="
+        + mean
+        + ", variance="
+        + variance
+        + ", min="
+        + min
+        + ", max="
+        + max
+        + "}";
+  }
+}
@@ -244,16 +244,30 @@ public class ConsoleApp {
   /**
    * Punto de entrada principal de la aplicación.
    *
-   * @param args argumentos de línea de comandos (no utilizados)
+   * @param args argumentos de línea de comandos; si se indica una ruta de archivo, los estudiantes
+   *     se guardan en ese archivo y se recargan en la siguiente ejecución
    */
   public static void main(String[] args) {
     com.studentmanager.repository.StudentRepository repository =
-        new com.studentmanager.repository.InMemoryStudentRepository();
+        args.length > 0
+            ? new com.studentmanager.repository.MappedFileStudentRepository(
+                java.nio.file.Paths.get(args[0]))
+            : new com.studentmanager.repository.InMemoryStudentRepository();
     com.studentmanager.report.ReportGenerator reportGenerator =
         new com.studentmanager.report.ConsoleReportGenerator();
     StudentManager manager = new StudentManager(repository, reportGenerator);
 
     ConsoleApp app = new ConsoleApp(manager);
-    app.start();
+    try {
+      app.start();
+    } finally {
+      if (repository instanceof java.io.Closeable) {
+        try {
+          ((java.io.Closeable) repository).close();
+        } catch (java.io.IOException e) {
+          System.out.println("\n✗ ERROR: " + e.getMessage());
+        }
+      }
+    }
   }
 }
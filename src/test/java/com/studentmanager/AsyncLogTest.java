@@ -0,0 +1,103 @@
+package com.studentmanager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class AsyncLogTest {
+
+    @Test
+    void testWritesMessagesInOrderBeforeClosing() {
+        StringWriter out = new StringWriter();
+        AsyncLog log = new AsyncLog(out);
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            log.log("Message " + i);
+            expected.append("Message ").append(i).append(System.lineSeparator());
+        }
+        log.close();
+
+        assertEquals(expected.toString(), out.toString());
+    }
+
+    @Test
+    void testRejectsMessagesAfterClose() {
+        AsyncLog log = new AsyncLog(new StringWriter());
+        log.close();
+        log.close();
+
+        assertThrows(IllegalStateException.class, () -> log.log("late"));
+        assertThrows(IllegalArgumentException.class, () -> new AsyncLog(null));
+    }
+
+    @Test
+    void testKeepsLoggingAfterAWriteFailure() throws Exception {
+        CountDownLatch failed = new CountDownLatch(1);
+        StringWriter written = new StringWriter();
+        Writer flaky = new Writer() {
+            @Override
+            public void write(char[] chars, int offset, int length) throws IOException {
+                if (new String(chars, offset, length).equals("fail")) {
+                    failed.countDown();
+                    throw new IOException("Broken pipe");
+                }
+                written.write(chars, offset, length);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        AsyncLog log = new AsyncLog(flaky);
+        log.log("fail");
+        assertTrue(failed.await(5, TimeUnit.SECONDS));
+        log.log("after");
+        log.close();
+
+        assertEquals("after" + System.lineSeparator(), written.toString());
+    }
+
+    @Test
+    void testEveryAcceptedMessageIsWrittenWhenClosingConcurrently() throws Exception {
+        StringWriter out = new StringWriter();
+        AsyncLog log = new AsyncLog(out);
+        AtomicInteger accepted = new AtomicInteger();
+        List<Thread> writers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread writer = new Thread(() -> {
+                try {
+                    for (int i = 0; i < 100_000; i++) {
+                        log.log("m");
+                        accepted.incrementAndGet();
+                    }
+                } catch (IllegalStateException closed) {
+                    // Expected once the log is closed
+                }
+            });
+            writers.add(writer);
+            writer.start();
+        }
+        Thread.sleep(5);
+        log.close();
+        for (Thread writer : writers) {
+            writer.join();
+        }
+
+        String[] lines = out.toString().split(System.lineSeparator());
+        assertEquals(accepted.get(), out.toString().isEmpty() ? 0 : lines.length);
+    }
+}
@@ -0,0 +1,201 @@
+package com.studentmanager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.studentmanager.model.Student;
+import com.studentmanager.report.ConsoleReportGenerator;
+import com.studentmanager.repository.ConcurrentStudentRepository;
+import com.studentmanager.repository.RepositoryException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AsyncStudentManagerTest {
+    private ExecutorService executor;
+    private StringWriter logOutput;
+    private AsyncLog log;
+    private StringWriter report;
+    private BlockingRepository repository;
+    private AsyncStudentManager manager;
+
+    /** Repositorio cuyas altas de un nombre dado esperan hasta que se libere el cerrojo. */
+    private static final class BlockingRepository extends ConcurrentStudentRepository {
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private volatile String blockedName;
+
+        @Override
+        public void add(Student student) {
+            if (student.getName().equals(blockedName)) {
+                blocked.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (student.getName().equals("Broken")) {
+                throw new RepositoryException("Disk full");
+            }
+            super.add(student);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        logOutput = new StringWriter();
+        log = new AsyncLog(logOutput);
+        report = new StringWriter();
+        repository = new BlockingRepository();
+        manager = new AsyncStudentManager(repository, new ConsoleReportGenerator(report), executor, log);
+    }
+
+    @AfterEach
+    void tearDown() {
+        manager.close();
+        log.close();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testAddStudentAsyncAddsAndLogsOffThread() throws Exception {
+        manager.addStudentAsync("Ana", 90.0).get();
+        manager.addStudentAsync("Luis", 70.0).get();
+        log.close();
+
+        assertEquals(2, repository.count());
+        assertEquals("Student added." + System.lineSeparator() + "Student added." + System.lineSeparator(),
+                logOutput.toString());
+    }
+
+    @Test
+    void testOperationsOnTheSameStudentRunInOrder() throws Exception {
+        repository.blockedName = "Ana";
+        CompletableFuture<Void> added = manager.addStudentAsync("Ana", 90.0);
+        CompletableFuture<Boolean> removed = manager.removeStudentAsync("ANA", 90.0);
+        assertTrue(repository.blocked.await(5, TimeUnit.SECONDS));
+
+        Thread.sleep(50);
+        assertFalse(removed.isDone());
+        repository.release.countDown();
+
+        added.get();
+        assertTrue(removed.get());
+        assertEquals(0, repository.count());
+    }
+
+    @Test
+    void testIndependentOperationsRunInParallel() throws Exception {
+        repository.blockedName = "Ana";
+        CompletableFuture<Void> slow = manager.addStudentAsync("Ana", 90.0);
+        assertTrue(repository.blocked.await(5, TimeUnit.SECONDS));
+
+        manager.addStudentAsync("Luis", 70.0).get(5, TimeUnit.SECONDS);
+        manager.listStudentsAsync().get(5, TimeUnit.SECONDS);
+
+        assertFalse(slow.isDone());
+        assertTrue(report.toString().contains("Luis"));
+        repository.release.countDown();
+        slow.get();
+        assertEquals(2, repository.count());
+    }
+
+    @Test
+    void testManyUpdatesToOneStudentKeepTheirOrder() throws Exception {
+        manager.addStudentAsync("Ana", 0.0);
+        List<CompletableFuture<Boolean>> updates = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            updates.add(manager.updateGradeAsync("Ana", i, i + 1));
+        }
+        for (CompletableFuture<Boolean> update : updates) {
+            assertTrue(update.get());
+        }
+
+        assertEquals(200.0, repository.findByName("Ana").getGrade());
+    }
+
+    @Test
+    void testFailureCompletesExceptionallyAndReleasesTheLane() throws Exception {
+        CompletableFuture<Void> failed = manager.addStudentAsync("Broken", 1.0);
+        CompletableFuture<Boolean> next = manager.removeStudentAsync("broken", 1.0);
+
+        ExecutionException e = assertThrows(ExecutionException.class, failed::get);
+        assertTrue(e.getCause() instanceof RepositoryException);
+        assertFalse(next.get());
+    }
+
+    @Test
+    void testListStudentsAsyncPagesTheReport() throws Exception {
+        List<CompletableFuture<Void>> added = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            added.add(manager.addStudentAsync("Student " + i, i));
+        }
+        CompletableFuture.allOf(added.toArray(new CompletableFuture<?>[0])).get();
+
+        manager.listStudentsAsync(0, 3).get();
+
+        assertTrue(report.toString().contains("Total students: 3"));
+        assertThrows(IllegalArgumentException.class, () -> manager.listStudentsAsync(-1, 3));
+    }
+
+    @Test
+    void testRejectedOperationsFailWithoutBlockingLaterOnes() throws Exception {
+        ExecutorService closed = Executors.newSingleThreadExecutor();
+        closed.shutdown();
+        AsyncStudentManager rejecting =
+                new AsyncStudentManager(repository, new ConsoleReportGenerator(report), closed, log);
+
+        ExecutionException e =
+                assertThrows(ExecutionException.class, () -> rejecting.addStudentAsync("Ana", 90.0).get());
+        assertTrue(e.getCause() instanceof RejectedExecutionException);
+        assertThrows(ExecutionException.class, () -> rejecting.removeStudentAsync("Ana", 90.0).get());
+    }
+
+    @Test
+    void testInvalidArgumentsAreThrownImmediately() {
+        assertThrows(IllegalArgumentException.class, () -> manager.addStudentAsync("", 90.0));
+        assertThrows(IllegalArgumentException.class, () -> manager.addStudentAsync("Ana", -1.0));
+        assertThrows(IllegalArgumentException.class, () -> manager.removeStudentAsync(null, 90.0));
+        assertThrows(IllegalArgumentException.class, () -> manager.updateGradeAsync(null, 1.0, 2.0));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new AsyncStudentManager(repository, new ConsoleReportGenerator(report), null, log));
+    }
+
+    @Test
+    void testOperationsAfterCloseAreRejectedBeforeTouchingTheRepository() throws Exception {
+        repository.blockedName = "Ana";
+        CompletableFuture<Void> running = manager.addStudentAsync("Ana", 90.0);
+        assertTrue(repository.blocked.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Void> queued = manager.addStudentAsync("ANA", 80.0);
+
+        Thread closer = new Thread(manager::close);
+        closer.start();
+        while (closer.getState() != Thread.State.WAITING) {
+            Thread.onSpinWait();
+        }
+        repository.release.countDown();
+        closer.join(5000);
+
+        running.get(5, TimeUnit.SECONDS);
+        ExecutionException e = assertThrows(ExecutionException.class, () -> queued.get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof IllegalStateException);
+        assertEquals(1, repository.count());
+        assertThrows(IllegalStateException.class, () -> manager.addStudentAsync("Luis", 70.0));
+        assertThrows(IllegalStateException.class, () -> manager.listStudentsAsync());
+    }
+}
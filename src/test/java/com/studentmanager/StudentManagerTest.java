@@ -3,12 +3,25 @@ package com.studentmanager;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.studentmanager.importer.ImportResult;
+import com.studentmanager.model.Student;
 import com.studentmanager.report.ConsoleReportGenerator;
 import com.studentmanager.repository.InMemoryStudentRepository;
+import com.studentmanager.repository.StudentKey;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class StudentManagerTest {
     private StudentManager studentManager;
@@ -59,4 +72,93 @@ class StudentManagerTest {
         // Test that main method executes without exceptions
         StudentManager.main(new String[] {});
     }
+
+    @Test
+    void testImportStudents(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("students.csv");
+        Files.write(file, Arrays.asList("name,grade", "John Doe,85.5", "Jane Smith,abc"));
+
+        ImportResult result = studentManager.importStudents(file);
+
+        assertEquals(1, result.getAccepted());
+        assertEquals(1, result.getRejected().size());
+        assertEquals(1, repository.count());
+    }
+
+    @Test
+    void testGetStatistics() {
+        studentManager.addStudent("John Doe", 80.0);
+        studentManager.addStudent("Jane Smith", 90.0);
+
+        assertEquals(2, studentManager.getStatistics().getCount());
+        assertEquals(85.0, studentManager.getStatistics().getMean());
+    }
+
+    @Test
+    void testListStudentsPage() {
+        StringWriter writer = new StringWriter();
+        StudentManager paged = new StudentManager(repository, new ConsoleReportGenerator(writer));
+        for (int i = 0; i < 10; i++) {
+            repository.add(new Student("Student " + i, 50.0 + i));
+        }
+
+        paged.listStudents(3, 2);
+
+        String output = writer.toString();
+        assertTrue(output.contains("Student: Student 3, Grade: 53.0"));
+        assertTrue(output.contains("Student: Student 4, Grade: 54.0"));
+        assertFalse(output.contains("Student 5"));
+        assertTrue(output.contains("Total students: 2"));
+    }
+
+    @Test
+    void testListStudentsPageOutOfRange() {
+        StringWriter writer = new StringWriter();
+        StudentManager paged = new StudentManager(repository, new ConsoleReportGenerator(writer));
+        repository.add(new Student("John Doe", 85.5));
+
+        paged.listStudents(5, 10);
+
+        assertTrue(writer.toString().contains("No students to display"));
+        assertThrows(IllegalArgumentException.class, () -> paged.listStudents(-1, 10));
+        assertThrows(IllegalArgumentException.class, () -> paged.listStudents(0, -1));
+    }
+
+    @Test
+    void testListStudentsWithListOnlyGenerator() {
+        List<List<Student>> reports = new ArrayList<>();
+        StudentManager listOnly = new StudentManager(repository, reports::add);
+        studentManager.addStudent("John Doe", 85.5);
+
+        listOnly.listStudents();
+
+        assertEquals(1, reports.size());
+        assertEquals("John Doe", reports.get(0).get(0).getName());
+    }
+
+    @Test
+    void testBatchOperations() {
+        studentManager.addStudents(List.of(
+                new Student("John Doe", 85.5), new Student("Jane Smith", 90.0)));
+
+        Map<StudentKey, Boolean> updated =
+                studentManager.updateGrades(Map.of(StudentKey.of("John Doe", 85.5), 87.0));
+        Map<StudentKey, Boolean> removed = studentManager.removeStudents(
+                List.of(StudentKey.of("Jane Smith", 90.0), StudentKey.of("Nobody", 1.0)));
+
+        assertTrue(updated.get(StudentKey.of("John Doe", 85.5)));
+        assertEquals(List.of(true, false), new ArrayList<>(removed.values()));
+        assertEquals(1, repository.count());
+        assertEquals(87.0, repository.findByName("John Doe").getGrade());
+    }
+
+    @Test
+    void testUpdateGrade() {
+        studentManager.addStudent("John Doe", 85.5);
+
+        assertTrue(studentManager.updateGrade("john doe", 85.5, 90.0));
+        assertFalse(studentManager.updateGrade("Jane Smith", 90.0, 95.0));
+        assertEquals(90.0, repository.findByName("John Doe").getGrade());
+        assertEquals(90.0, studentManager.getStatistics().getMean());
+    }
 }
@@ -0,0 +1,316 @@
+package com.studentmanager.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.studentmanager.model.Student;
+import com.studentmanager.repository.ConcurrentStudentRepository;
+import com.studentmanager.repository.RepositoryException;
+import com.studentmanager.repository.StudentRepository;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class StudentHttpServerTest {
+    private final HttpClient client = HttpClient.newHttpClient();
+    private StudentRepository repository;
+    private StudentHttpServer server;
+
+    @BeforeEach
+    void setUp() {
+        repository = new ConcurrentStudentRepository();
+        start(repository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    private void start(StudentRepository backend) {
+        server = new StudentHttpServer(backend, new InetSocketAddress("localhost", 0), 4);
+        server.start();
+    }
+
+    private HttpResponse<String> send(String method, String pathAndQuery, String body) throws Exception {
+        HttpRequest request =
+                HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + pathAndQuery))
+                        .method(
+                                method,
+                                body == null
+                                        ? HttpRequest.BodyPublishers.noBody()
+                                        : HttpRequest.BodyPublishers.ofString(body))
+                        .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static List<String> sortedLines(String body) {
+        List<String> lines = new ArrayList<>(Arrays.asList(body.split("\n")));
+        lines.removeIf(String::isEmpty);
+        Collections.sort(lines);
+        return lines;
+    }
+
+    @Test
+    void testPostAddsAllLinesAsOneBatch() throws Exception {
+        HttpResponse<String> response =
+                send("POST", "/students", "{\"name\":\"Ana\",\"grade\":90}\n\n{\"name\":\"Luis\",\"grade\":70.5}\n");
+
+        assertEquals(201, response.statusCode());
+        assertEquals("{\"added\":2}\n", response.body());
+        assertEquals(2, repository.count());
+        assertEquals(70.5, repository.findByName("Luis").getGrade());
+    }
+
+    @Test
+    void testPostRejectsTheWholeBodyOnABadLine() throws Exception {
+        HttpResponse<String> response =
+                send("POST", "/students", "{\"name\":\"Ana\",\"grade\":90}\n{\"name\":\"Luis\"}\n");
+
+        assertEquals(400, response.statusCode());
+        assertTrue(response.body().startsWith("Line 2: "));
+        assertEquals(0, repository.count());
+    }
+
+    @Test
+    void testGetStreamsJsonLines() throws Exception {
+        repository.add(new Student("Ana", 90.0));
+        repository.add(new Student("Luis \"Lu\"", 70.0));
+
+        HttpResponse<String> response = send("GET", "/students", null);
+
+        assertEquals(200, response.statusCode());
+        assertEquals("application/x-ndjson; charset=utf-8", response.headers().firstValue("Content-Type").get());
+        assertEquals(
+                Arrays.asList("{\"name\":\"Ana\",\"grade\":90.0}", "{\"name\":\"Luis \\\"Lu\\\"\",\"grade\":70.0}"),
+                sortedLines(response.body()));
+    }
+
+    @Test
+    void testGetPagesWithOffsetAndLimit() throws Exception {
+        for (int i = 0; i < 50; i++) {
+            repository.add(new Student("Student " + i, i));
+        }
+
+        assertEquals(10, sortedLines(send("GET", "/students?offset=5&limit=10", null).body()).size());
+        assertEquals(5, sortedLines(send("GET", "/students?offset=45", null).body()).size());
+        assertEquals(400, send("GET", "/students?limit=-1", null).statusCode());
+        assertEquals(400, send("GET", "/students?offset=x", null).statusCode());
+    }
+
+    @Test
+    void testLargeListIsStreamedCompletely() throws Exception {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            students.add(new Student("Student " + i, i % 100));
+        }
+        repository.addAll(students);
+
+        assertEquals(20_000, sortedLines(send("GET", "/students", null).body()).size());
+    }
+
+    @Test
+    void testDeleteRemovesMatchingStudents() throws Exception {
+        repository.add(new Student("José García", 90.0));
+
+        assertEquals(404, send("DELETE", "/students?name=Jos%C3%A9+Garc%C3%ADa&grade=80", null).statusCode());
+        assertEquals(204, send("DELETE", "/students?name=JOS%C3%89%20GARC%C3%8DA&grade=90", null).statusCode());
+        assertEquals(0, repository.count());
+        assertEquals(400, send("DELETE", "/students?name=Ana", null).statusCode());
+        assertEquals(400, send("DELETE", "/students?name=Ana&grade=high", null).statusCode());
+        assertEquals(400, send("DELETE", "/students?grade=90", null).statusCode());
+    }
+
+    @Test
+    void testUnknownRoutesAndMethods() throws Exception {
+        assertEquals(404, send("GET", "/students/1", null).statusCode());
+        HttpResponse<String> response = send("PUT", "/students", "");
+        assertEquals(405, response.statusCode());
+        assertEquals("GET, POST, DELETE", response.headers().firstValue("Allow").get());
+    }
+
+    @Test
+    void testStorageFailuresAreReportedAs500() throws Exception {
+        server.close();
+        start(
+                new ConcurrentStudentRepository() {
+                    @Override
+                    public boolean remove(String name, double grade) {
+                        throw new RepositoryException("Disk full");
+                    }
+                });
+
+        HttpResponse<String> response = send("DELETE", "/students?name=Ana&grade=1", null);
+
+        assertEquals(500, response.statusCode());
+        assertEquals("Disk full\n", response.body());
+    }
+
+    @Test
+    void testConcurrentClients() throws Exception {
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            HttpRequest request =
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + "/students"))
+                            .POST(HttpRequest.BodyPublishers.ofString("{\"name\":\"S" + i + "\",\"grade\":" + i + "}"))
+                            .build();
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+        }
+        for (CompletableFuture<HttpResponse<String>> response : responses) {
+            assertEquals(201, response.get().statusCode());
+        }
+
+        assertEquals(200, repository.count());
+    }
+
+    @Test
+    void testRejectsInvalidConfiguration() {
+        InetSocketAddress address = new InetSocketAddress("localhost", 0);
+        assertThrows(IllegalArgumentException.class, () -> new StudentHttpServer(null, address, 1));
+        assertThrows(IllegalArgumentException.class, () -> new StudentHttpServer(repository, null, 1));
+        assertThrows(IllegalArgumentException.class, () -> new StudentHttpServer(repository, address, 0));
+        assertThrows(IllegalArgumentException.class, () -> new StudentHttpServer(repository, address, 1, 0));
+    }
+
+    @Test
+    void testNoContentKeepsTheConnectionAlive() throws Exception {
+        repository.add(new Student("Ana", 90.0));
+        repository.add(new Student("Luis", 70.0));
+
+        try (Socket socket = new Socket("localhost", server.getPort())) {
+            socket.setSoTimeout(5000);
+            BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            for (String query : Arrays.asList("name=Ana&grade=90", "name=Luis&grade=70")) {
+                socket.getOutputStream().write(
+                        ("DELETE /students?" + query + " HTTP/1.1\r\nHost: localhost\r\n\r\n")
+                                .getBytes(StandardCharsets.US_ASCII));
+                assertEquals("HTTP/1.1 204 No Content", reader.readLine());
+                String header;
+                do {
+                    header = reader.readLine();
+                } while (header != null && !header.isEmpty());
+            }
+        }
+        assertEquals(0, repository.count());
+    }
+
+    @Test
+    void testBodiesOverTheLimitAreRejectedWith413() throws Exception {
+        server.close();
+        server = new StudentHttpServer(repository, new InetSocketAddress("localhost", 0), 2, 64);
+        server.start();
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 10; i++) {
+            body.append("{\"name\":\"S").append(i).append("\",\"grade\":").append(i).append("}\n");
+        }
+
+        HttpResponse<String> declared = send("POST", "/students", body.toString());
+        assertEquals(413, declared.statusCode());
+        assertEquals("Request body exceeds 64 bytes\n", declared.body());
+
+        byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+        HttpRequest chunked =
+                HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + "/students"))
+                        .POST(HttpRequest.BodyPublishers.ofInputStream(() -> new ByteArrayInputStream(bytes)))
+                        .build();
+        assertEquals(413, client.send(chunked, HttpResponse.BodyHandlers.ofString()).statusCode());
+        assertEquals(0, repository.count());
+        assertEquals(201, send("POST", "/students", "{\"name\":\"Ana\",\"grade\":90}").statusCode());
+    }
+
+    @Test
+    void testBatchesBeforeABadLineAreKept() throws Exception {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < StudentHttpServer.BATCH_SIZE + 5; i++) {
+            body.append("{\"name\":\"S").append(i).append("\",\"grade\":").append(i).append("}\n");
+        }
+        body.append("{\"name\":\"Bad\"}\n");
+
+        HttpResponse<String> response = send("POST", "/students", body.toString());
+
+        assertEquals(400, response.statusCode());
+        assertTrue(response.body().startsWith("Line " + (StudentHttpServer.BATCH_SIZE + 6) + ": "));
+        assertTrue(response.body().contains(StudentHttpServer.BATCH_SIZE + " students before it were added"));
+        assertEquals(StudentHttpServer.BATCH_SIZE, repository.count());
+    }
+
+    @Test
+    void testOverloadIsRejectedWith503() throws Exception {
+        server.close();
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        StudentRepository blocking = new ConcurrentStudentRepository() {
+            @Override
+            public void addAll(Collection<Student> students) {
+                entered.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.addAll(students);
+            }
+        };
+        server = new StudentHttpServer(blocking, new InetSocketAddress("localhost", 0), 1);
+        server.start();
+
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        responses.add(sendAsync("{\"name\":\"First\",\"grade\":1}"));
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        // One request runs and at most 64 wait in the queue, so some of these are turned away
+        for (int i = 0; i < 80; i++) {
+            responses.add(sendAsync("{\"name\":\"S" + i + "\",\"grade\":" + i + "}"));
+        }
+        CompletableFuture<HttpResponse<String>> firstAnswered = new CompletableFuture<>();
+        for (CompletableFuture<HttpResponse<String>> response : responses.subList(1, responses.size())) {
+            response.thenAccept(firstAnswered::complete);
+        }
+        HttpResponse<String> rejected = firstAnswered.get(10, TimeUnit.SECONDS);
+        assertEquals(503, rejected.statusCode());
+        assertEquals("1", rejected.headers().firstValue("Retry-After").get());
+        release.countDown();
+
+        int created = 0;
+        int busy = 0;
+        for (CompletableFuture<HttpResponse<String>> response : responses) {
+            int status = response.get(10, TimeUnit.SECONDS).statusCode();
+            if (status == 201) {
+                created++;
+            } else {
+                assertEquals(503, status);
+                busy++;
+            }
+        }
+        assertTrue(busy > 0);
+        assertEquals(responses.size(), created + busy);
+        assertEquals(created, blocking.count());
+    }
+
+    private CompletableFuture<HttpResponse<String>> sendAsync(String body) {
+        HttpRequest request =
+                HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + "/students"))
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,209 @@
+package com.studentmanager.importer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.studentmanager.model.NamePool;
+import com.studentmanager.model.Student;
+import com.studentmanager.repository.InMemoryStudentRepository;
+import com.studentmanager.repository.MappedFileStudentRepository;
+import com.studentmanager.repository.RepositoryException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class StudentImporterTest {
+    @TempDir
+    Path dir;
+
+    private InMemoryStudentRepository repository;
+    private StudentImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryStudentRepository();
+        importer = new StudentImporter(repository, 2);
+    }
+
+    @Test
+    void testImportCsv() throws IOException {
+        Path file = write("students.csv",
+                "name,grade",
+                "John Doe,85.5",
+                "",
+                "\"Smith, Jane\",90",
+                "José García , 70.25");
+
+        ImportResult result = importer.importFile(file);
+
+        assertEquals(3, result.getAccepted());
+        assertEquals(0, result.getRejected().size());
+        List<Student> students = repository.findAll();
+        assertEquals("John Doe", students.get(0).getName());
+        assertEquals("Smith, Jane", students.get(1).getName());
+        assertEquals("José García", students.get(2).getName());
+        assertEquals(70.25, students.get(2).getGrade());
+    }
+
+    @Test
+    void testCsvRejectedRows() throws IOException {
+        Path file = write("students.csv",
+                "John Doe,85.5",
+                ",90",
+                "Jane Smith,-1",
+                "Eva,abc",
+                "Luis",
+                "Ana,1,2",
+                "Pedro,NaN",
+                "\"Open quote,80");
+
+        ImportResult result = importer.importCsv(file);
+
+        assertEquals(1, result.getAccepted());
+        assertEquals(7, result.getRejected().size());
+        assertEquals(2, result.getRejected().get(0).getLineNumber());
+        assertEquals("Name cannot be null or empty", result.getRejected().get(0).getReason());
+        assertEquals("Grade cannot be negative", result.getRejected().get(1).getReason());
+        assertEquals(1, repository.count());
+    }
+
+    @Test
+    void testImportJsonLines() throws IOException {
+        Path file = write("students.jsonl",
+                "{\"name\": \"John Doe\", \"grade\": 85.5}",
+                "{\"grade\": 90, \"name\": \"Jos\\u00e9 \\\"Pepe\\\"\", \"active\": true}",
+                "{\"name\": \"Eva\"}",
+                "{\"name\": \"Ana\", \"grade\": \"x\"}",
+                "not json",
+                "{\"name\": \"Luis\", \"grade\": 70} extra");
+
+        ImportResult result = importer.importFile(file);
+
+        assertEquals(2, result.getAccepted());
+        assertEquals(4, result.getRejected().size());
+        assertEquals("José \"Pepe\"", repository.findAll().get(1).getName());
+        assertEquals("Missing grade", result.getRejected().get(0).getReason());
+    }
+
+    @Test
+    void testLargeImportUsesBatches() throws IOException {
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            csv.append("Student ").append(i).append(',').append(i % 100).append('\n');
+        }
+        Path file = dir.resolve("large.csv");
+        Files.write(file, csv.toString().getBytes(StandardCharsets.UTF_8));
+
+        ImportResult result = new StudentImporter(repository).importFile(file);
+
+        assertEquals(1000, result.getAccepted());
+        assertEquals(1000, repository.count());
+    }
+
+    @Test
+    void testMissingFile() {
+        assertThrows(RepositoryException.class, () -> importer.importFile(dir.resolve("none.csv")));
+    }
+
+    @Test
+    void testInvalidConstruction() {
+        assertThrows(IllegalArgumentException.class, () -> new StudentImporter(null));
+        assertThrows(IllegalArgumentException.class, () -> new StudentImporter(repository, 0));
+    }
+
+    private Path write(String name, String... lines) throws IOException {
+        Path file = dir.resolve(name);
+        Files.write(file, Arrays.asList(lines), StandardCharsets.UTF_8);
+        return file;
+    }
+
+    @Test
+    void testRepeatedNamesShareOneInstance() throws IOException {
+        Path csv = write("students.csv", "Ana,50", "Luis,60", "Ana,70");
+        Path jsonl = write("students.jsonl", "{\"name\": \"Ana\", \"grade\": 80}");
+        NamePool names = new NamePool();
+        StudentImporter shared = new StudentImporter(repository, 2, names);
+
+        shared.importFile(csv);
+        shared.importFile(jsonl);
+
+        List<Student> students = repository.findAll();
+        assertEquals(4, students.size());
+        assertSame(students.get(0).getName(), students.get(2).getName());
+        assertSame(students.get(0).getName(), students.get(3).getName());
+        assertEquals(2, names.size());
+        assertThrows(IllegalArgumentException.class, () -> new StudentImporter(repository, 1, null));
+    }
+
+    @Test
+    void testUnicodeEscapesRequireFourHexDigits() {
+        NamePool names = new NamePool();
+
+        assertEquals("Añа", StudentImporter.parseJson("{\"name\": \"A\\u00F1\\u0430\", \"grade\": 1}", names).getName());
+        for (String escape : new String[] {"+abc", "-123", "12g4", "0x12", "12"}) {
+            String line = "{\"name\": \"A\\u" + escape + "\", \"grade\": 1}";
+            assertThrows(IllegalArgumentException.class, () -> StudentImporter.parseJson(line, names));
+        }
+    }
+
+    @Test
+    void testGradeErrorsKeepTheParseFailureAsCause() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> StudentImporter.parseCsv("Ana,abc", new NamePool()));
+
+        assertTrue(e.getCause() instanceof NumberFormatException);
+    }
+
+    @Test
+    void testRowsRejectedByTheRepositoryAreReportedPerRow() throws IOException {
+        String longName = "N".repeat(MappedFileStudentRepository.MAX_NAME_BYTES + 1);
+        Path file = write("students.csv",
+                "Ana,50",
+                longName + ",60",
+                "Luis,70",
+                "Eva,x",
+                "Pedro,80",
+                longName + ",90",
+                "Sofía,65");
+
+        try (MappedFileStudentRepository mapped = new MappedFileStudentRepository(dir.resolve("students.dat"))) {
+            ImportResult result = new StudentImporter(mapped, 3).importFile(file);
+
+            assertEquals(4, result.getAccepted());
+            assertEquals(4, mapped.count());
+            assertEquals(Arrays.asList(2L, 4L, 6L), result.getRejected().stream()
+                    .map(ImportResult.RejectedRow::getLineNumber)
+                    .collect(Collectors.toList()));
+            assertEquals(Arrays.asList("Ana", "Luis", "Pedro", "Sofía"), mapped.findAll().stream()
+                    .map(Student::getName)
+                    .collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void testQuotedNamesMaySpanLines() throws IOException {
+        Path file = dir.resolve("students.csv");
+        Files.writeString(file, "name,grade\r\n\"Ana\r\nGarcía\",80\r\n\"Luis\nPérez\n\",abc\n"
+                + "\"Eva\rRuiz\",70\rO\"Brien,60\n,1");
+
+        ImportResult result = importer.importCsv(file);
+
+        assertEquals(3, result.getAccepted());
+        List<Student> students = repository.findAll();
+        assertEquals("Ana\r\nGarcía", students.get(0).getName());
+        assertEquals("Eva\rRuiz", students.get(1).getName());
+        assertEquals("O\"Brien", students.get(2).getName());
+        assertEquals(2, result.getRejected().size());
+        assertEquals(4, result.getRejected().get(0).getLineNumber());
+        assertEquals(10, result.getRejected().get(1).getLineNumber());
+    }
+}
@@ -0,0 +1,66 @@
+package com.studentmanager.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+class NamePoolTest {
+
+    @Test
+    void testInternReturnsCanonicalInstance() {
+        NamePool pool = new NamePool();
+        String first = new String("Ana");
+        String second = new String("Ana");
+        assertNotSame(first, second);
+
+        assertSame(first, pool.intern(first));
+        assertSame(first, pool.intern(second));
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    void testInternIsCaseSensitive() {
+        NamePool pool = new NamePool();
+        pool.intern("Ana");
+        pool.intern("ANA");
+
+        assertEquals(2, pool.size());
+        assertNull(pool.intern(null));
+    }
+
+    @Test
+    void testConcurrentInternAgreesOnOneInstance() throws Exception {
+        NamePool pool = new NamePool();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String[]>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    String[] interned = new String[100];
+                    for (int i = 0; i < interned.length; i++) {
+                        interned[i] = pool.intern(new String("Student " + i));
+                    }
+                    return interned;
+                }));
+            }
+            String[] expected = futures.get(0).get();
+            for (Future<String[]> future : futures) {
+                String[] interned = future.get();
+                for (int i = 0; i < interned.length; i++) {
+                    assertSame(expected[i], interned[i]);
+                }
+            }
+            assertEquals(100, pool.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
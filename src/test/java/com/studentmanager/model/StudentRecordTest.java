@@ -0,0 +1,78 @@
+package com.studentmanager.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class StudentRecordTest {
+
+    @Test
+    void testRecordCreation() {
+        StudentRecord record = new StudentRecord("John Doe", 85.5);
+        assertEquals("John Doe", record.getName());
+        assertEquals(85.5, record.getGrade());
+        assertEquals("StudentRecord{name='John Doe', grade=85.5}", record.toString());
+    }
+
+    @Test
+    void testInvalidValues() {
+        assertThrows(IllegalArgumentException.class, () -> new StudentRecord(null, 85.5));
+        assertThrows(IllegalArgumentException.class, () -> new StudentRecord(" ", 85.5));
+        assertThrows(IllegalArgumentException.class, () -> new StudentRecord("John", -1));
+        assertThrows(IllegalArgumentException.class, () -> StudentRecord.of(null));
+    }
+
+    @Test
+    void testValueEquality() {
+        StudentRecord record = new StudentRecord("Ana", 70.0);
+        assertEquals(new StudentRecord("Ana", 70.0), record);
+        assertEquals(new StudentRecord("Ana", 70.0).hashCode(), record.hashCode());
+        assertNotEquals(new StudentRecord("ANA", 70.0), record);
+        assertNotEquals(new StudentRecord("Ana", 70.5), record);
+    }
+
+    @Test
+    void testWithGradeReturnsCopy() {
+        StudentRecord record = new StudentRecord("Ana", 70.0);
+        StudentRecord changed = record.withGrade(80.0);
+
+        assertEquals(70.0, record.getGrade());
+        assertEquals(80.0, changed.getGrade());
+        assertSame(record.getName(), changed.getName());
+        assertSame(record, record.withGrade(70.0));
+        assertThrows(IllegalArgumentException.class, () -> record.withGrade(-1));
+        assertThrows(IllegalArgumentException.class, () -> record.withGrade(Double.NaN));
+    }
+
+    @Test
+    void testConversionToAndFromStudent() {
+        Student student = new Student("Ana", 70.0);
+        StudentRecord record = StudentRecord.of(student);
+        student.setGrade(90.0);
+
+        assertEquals(70.0, record.getGrade());
+        Student copy = record.toStudent();
+        assertSame(student.getName(), copy.getName());
+        assertEquals(70.0, copy.getGrade());
+    }
+
+    @Test
+    void testRecordIsAnImmutableStudent() {
+        Student record = new StudentRecord("Ana", 70.0);
+
+        assertThrows(UnsupportedOperationException.class, () -> record.setGrade(80.0));
+        assertEquals(70.0, record.getGrade());
+        assertSame(record, StudentRecord.of(record));
+        assertNotEquals(record, new Student("Ana", 70.0));
+    }
+
+    @Test
+    void testSharedGradeCheck() {
+        assertEquals(0.0, Student.checkGrade(0.0));
+        assertThrows(IllegalArgumentException.class, () -> Student.checkGrade(-0.5));
+        assertThrows(IllegalArgumentException.class, () -> Student.checkGrade(Double.POSITIVE_INFINITY));
+    }
+}
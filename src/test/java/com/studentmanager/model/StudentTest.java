@@ -46,4 +46,16 @@ class StudentTest {
         assertTrue(result.contains("John Doe"));
         assertTrue(result.contains("85.5"));
     }
+
+    @Test
+    void testNonFiniteGradesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new Student("John", Double.NaN));
+        assertThrows(IllegalArgumentException.class,
+                () -> new Student("John", Double.POSITIVE_INFINITY));
+        Student student = new Student("John Doe", 85.5);
+        assertThrows(IllegalArgumentException.class, () -> student.setGrade(Double.NaN));
+        assertThrows(IllegalArgumentException.class,
+                () -> student.setGrade(Double.POSITIVE_INFINITY));
+        assertEquals(85.5, student.getGrade());
+    }
 }
@@ -0,0 +1,88 @@
+package com.studentmanager.report;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.studentmanager.model.Student;
+import com.studentmanager.stats.GradeDistribution;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class AnalyticsReportGeneratorTest {
+    private static String report(List<Student> students) {
+        StringWriter writer = new StringWriter();
+        new AnalyticsReportGenerator(writer).generate(students);
+        return writer.toString();
+    }
+
+    @Test
+    void testGenerateSummarizesGrades() {
+        String output = report(List.of(
+                new Student("Ana", 95.0), new Student("Luis", 85.0), new Student("Eva", 75.0),
+                new Student("Juan", 65.0), new Student("Sara", 40.0)));
+
+        assertTrue(output.contains("Students: 5"));
+        assertTrue(output.contains("Mean: 72.00, Min: 40.0, Max: 95.0"));
+        assertTrue(output.contains("Quartiles: Q1 65.0, Median 75.0, Q3 85.0"));
+        assertTrue(output.contains("Passed (>= 60.0): 4, Failed: 1"));
+        for (String letter : new String[] {"A", "B", "C", "D", "F"}) {
+            assertTrue(output.contains("  " + letter + ": 1"), letter);
+        }
+        assertTrue(output.contains(" 90-100 ######################################## 1"));
+        assertTrue(output.contains(" 50-60   0"));
+    }
+
+    @Test
+    void testCustomPassMark() {
+        StringWriter writer = new StringWriter();
+        new AnalyticsReportGenerator(writer, 70.0).generate(List.of(
+                new Student("Ana", 95.0), new Student("Juan", 65.0)));
+
+        assertTrue(writer.toString().contains("Passed (>= 70.0): 1, Failed: 1"));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AnalyticsReportGenerator(writer, 101.0));
+    }
+
+    @Test
+    void testEmptyReports() {
+        StringWriter writer = new StringWriter();
+        AnalyticsReportGenerator generator = new AnalyticsReportGenerator(writer);
+
+        generator.generate(null);
+        generator.generate(List.of());
+        generator.generateStream(null);
+
+        String line = "No students to display." + System.lineSeparator();
+        assertEquals(line + line + line, writer.toString());
+    }
+
+    @Test
+    void testParallelPathMatchesSequential() {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < AnalyticsReportGenerator.PARALLEL_THRESHOLD + 1; i++) {
+            students.add(new Student("Student " + i, (i * 7919L) % 10001 / 100.0));
+        }
+        StringWriter sequential = new StringWriter();
+
+        new AnalyticsReportGenerator(sequential).generateStream(students.stream());
+
+        assertEquals(sequential.toString(), report(students));
+    }
+
+    @Test
+    void testDistributionOfParallelStream() {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            students.add(new Student("Student " + i, i % 101));
+        }
+
+        GradeDistribution distribution =
+                AnalyticsReportGenerator.distribution(students.parallelStream());
+
+        assertEquals(10_000, distribution.getCount());
+        assertEquals(50.0, distribution.percentile(50));
+    }
+}
@@ -1,12 +1,21 @@
 package com.studentmanager.report;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.studentmanager.model.Student;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.PrintStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -73,4 +82,124 @@ class ConsoleReportGeneratorTest {
         assert output.contains("95.0");
         assert output.contains("Total students: 1");
     }
+
+    @Test
+    void testGenerateToWriterProducesExactReport() {
+        StringWriter writer = new StringWriter();
+        ConsoleReportGenerator toWriter = new ConsoleReportGenerator(writer);
+        String nl = System.lineSeparator();
+
+        toWriter.generate(List.of(new Student("John Doe", 85.5), new Student("Jane Smith", 92.0)));
+
+        assertEquals(
+                "=== Student Report ===" + nl
+                        + "Student: John Doe, Grade: 85.5" + nl
+                        + "Student: Jane Smith, Grade: 92.0" + nl
+                        + "Total students: 2" + nl,
+                writer.toString());
+    }
+
+    @Test
+    void testGenerateLargeReportSpansSeveralChunks() {
+        StringWriter writer = new StringWriter();
+        ConsoleReportGenerator toWriter = new ConsoleReportGenerator(writer);
+        List<Student> students = new ArrayList<>();
+        StringBuilder expected = new StringBuilder("=== Student Report ===")
+                .append(System.lineSeparator());
+        for (int i = 0; i < 20_000; i++) {
+            Student student = new Student("Student " + i, i % 101);
+            students.add(student);
+            expected.append("Student: ").append(student.getName())
+                    .append(", Grade: ").append(student.getGrade())
+                    .append(System.lineSeparator());
+        }
+        expected.append("Total students: 20000").append(System.lineSeparator());
+
+        toWriter.generate(students);
+
+        assertTrue(expected.length() > 2 * ConsoleReportGenerator.FLUSH_THRESHOLD);
+        assertEquals(expected.toString(), writer.toString());
+    }
+
+    @Test
+    void testGeneratorIsReusableAndDoesNotCloseWriter() {
+        FlushCountingWriter writer = new FlushCountingWriter();
+        ConsoleReportGenerator toWriter = new ConsoleReportGenerator(writer);
+
+        toWriter.generate(List.of(new Student("Alice Johnson", 95.0)));
+        toWriter.generate(null);
+
+        assertEquals(2, writer.flushes);
+        assertFalse(writer.closed);
+        assertTrue(writer.content.toString().endsWith(
+                "No students to display." + System.lineSeparator()));
+    }
+
+    @Test
+    void testGenerateWrapsWriteFailure() {
+        Writer failing = new Writer() {
+            @Override
+            public void write(char[] cbuf, int off, int len) throws IOException {
+                throw new IOException("disk full");
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        ConsoleReportGenerator toWriter = new ConsoleReportGenerator(failing);
+
+        assertThrows(UncheckedIOException.class,
+                () -> toWriter.generate(List.of(new Student("John Doe", 85.5))));
+    }
+
+    @Test
+    void testGenerateStreamMatchesListReport() {
+        List<Student> students = List.of(
+                new Student("John Doe", 85.5), new Student("Jane Smith", 92.0));
+        StringWriter fromList = new StringWriter();
+        StringWriter fromStream = new StringWriter();
+
+        new ConsoleReportGenerator(fromList).generate(students);
+        new ConsoleReportGenerator(fromStream).generateStream(students.stream());
+
+        assertEquals(fromList.toString(), fromStream.toString());
+    }
+
+    @Test
+    void testGenerateStreamWithNoStudents() {
+        StringWriter writer = new StringWriter();
+        ConsoleReportGenerator toWriter = new ConsoleReportGenerator(writer);
+
+        toWriter.generateStream(Stream.empty());
+        toWriter.generateStream(null);
+
+        String line = "No students to display." + System.lineSeparator();
+        assertEquals(line + line, writer.toString());
+    }
+
+    private static final class FlushCountingWriter extends Writer {
+        private final StringBuilder content = new StringBuilder();
+        private int flushes;
+        private boolean closed;
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            content.append(cbuf, off, len);
+        }
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
 }
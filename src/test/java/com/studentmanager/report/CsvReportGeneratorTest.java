@@ -0,0 +1,95 @@
+package com.studentmanager.report;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.studentmanager.importer.ImportResult;
+import com.studentmanager.importer.StudentImporter;
+import com.studentmanager.model.Student;
+import com.studentmanager.repository.InMemoryStudentRepository;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CsvReportGeneratorTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void testGenerateWritesHeaderAndRows() throws IOException {
+        Path file = dir.resolve("report.csv");
+
+        new CsvReportGenerator(ReportDestination.file(file)).generate(List.of(
+                new Student("John Doe", 85.5), new Student("Doe, Jane", 92.0),
+                new Student("Say \"Hi\"", 70.0)));
+
+        assertEquals(
+                "name,grade\n"
+                        + "John Doe,85.5\n"
+                        + "\"Doe, Jane\",92.0\n"
+                        + "\"Say \"\"Hi\"\"\",70.0\n",
+                Files.readString(file));
+    }
+
+    @Test
+    void testGenerateWithNoStudentsWritesHeaderOnly() throws IOException {
+        Path file = dir.resolve("report.csv");
+        CsvReportGenerator generator = new CsvReportGenerator(ReportDestination.file(file));
+
+        generator.generate(null);
+        assertEquals("name,grade\n", Files.readString(file));
+
+        generator.generateStream(null);
+        assertEquals("name,grade\n", Files.readString(file));
+    }
+
+    @Test
+    void testLargeReportRoundTripsThroughImporter() throws IOException {
+        Path file = dir.resolve("report.csv");
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            students.add(new Student("José, Nº " + i + " 学生", i % 101));
+        }
+
+        new CsvReportGenerator(ReportDestination.file(file)).generateStream(students.stream());
+
+        InMemoryStudentRepository repository = new InMemoryStudentRepository();
+        ImportResult result = new StudentImporter(repository).importFile(file);
+        assertEquals(20_000, result.getAccepted());
+        assertEquals(0, result.getRejected().size());
+        assertEquals("José, Nº 12345 学生", repository.findAll().get(12_345).getName());
+        assertEquals(23.0, repository.findAll().get(12_345).getGrade());
+        assertEquals(Files.size(file),
+                Files.readString(file).getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    void testNullDestination() {
+        assertThrows(IllegalArgumentException.class, () -> new CsvReportGenerator(null));
+    }
+
+    @Test
+    void testNamesWithLineBreaksRoundTripThroughImporter() throws IOException {
+        Path file = dir.resolve("report.csv");
+        List<Student> students = List.of(
+                new Student("Ana\nGarcía", 80.0), new Student("Luis\r\nPérez", 70.0),
+                new Student("Eva\r", 60.0), new Student(" \"Sofía\"\n, Ruiz ", 50.0));
+
+        new CsvReportGenerator(ReportDestination.file(file)).generate(students);
+
+        InMemoryStudentRepository repository = new InMemoryStudentRepository();
+        ImportResult result = new StudentImporter(repository).importFile(file);
+        assertEquals(0, result.getRejected().size());
+        List<Student> imported = repository.findAll();
+        assertEquals(students.size(), imported.size());
+        for (int i = 0; i < students.size(); i++) {
+            assertEquals(students.get(i).getName(), imported.get(i).getName());
+            assertEquals(students.get(i).getGrade(), imported.get(i).getGrade());
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.studentmanager.report;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.studentmanager.model.Student;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class HtmlReportGeneratorTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void testGenerateWritesTable() throws IOException {
+        Path file = dir.resolve("report.html");
+
+        new HtmlReportGenerator(ReportDestination.file(file)).generate(List.of(
+                new Student("John Doe", 85.5), new Student("Jane Smith", 92.0)));
+
+        String html = Files.readString(file);
+        assertTrue(html.startsWith("<!DOCTYPE html>"));
+        assertTrue(html.contains("<tr><td>John Doe</td><td>85.5</td></tr>"));
+        assertTrue(html.contains("<tr><td>Jane Smith</td><td>92.0</td></tr>"));
+        assertTrue(html.contains("<p>Total students: 2</p>"));
+        assertTrue(html.trim().endsWith("</html>"));
+    }
+
+    @Test
+    void testNamesAreEscaped() throws IOException {
+        Path file = dir.resolve("report.html");
+
+        new HtmlReportGenerator(ReportDestination.file(file))
+                .generate(List.of(new Student("<script>alert('x') & \"y\"</script>", 50.0)));
+
+        String html = Files.readString(file);
+        assertFalse(html.contains("<script>"));
+        assertTrue(html.contains(
+                "&lt;script&gt;alert(&#39;x&#39;) &amp; &quot;y&quot;&lt;/script&gt;"));
+    }
+
+    @Test
+    void testEmptyReportHasEmptyTable() throws IOException {
+        Path file = dir.resolve("report.html");
+
+        new HtmlReportGenerator(ReportDestination.file(file)).generate(List.of());
+
+        String html = Files.readString(file);
+        assertTrue(html.contains("<tbody>\n</tbody>"));
+        assertTrue(html.contains("<p>Total students: 0</p>"));
+    }
+}
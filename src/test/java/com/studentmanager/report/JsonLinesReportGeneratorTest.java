@@ -0,0 +1,56 @@
+package com.studentmanager.report;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.studentmanager.importer.ImportResult;
+import com.studentmanager.importer.StudentImporter;
+import com.studentmanager.model.Student;
+import com.studentmanager.repository.InMemoryStudentRepository;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JsonLinesReportGeneratorTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void testGenerateEscapesNames() throws IOException {
+        Path file = dir.resolve("report.jsonl");
+
+        new JsonLinesReportGenerator(ReportDestination.file(file)).generate(List.of(
+                new Student("John Doe", 85.5),
+                new Student("Say \"Hi\" \\ now\n\u0001", 90.0)));
+
+        assertEquals(
+                "{\"name\":\"John Doe\",\"grade\":85.5}\n"
+                        + "{\"name\":\"Say \\\"Hi\\\" \\\\ now\\n\\u0001\",\"grade\":90.0}\n",
+                Files.readString(file));
+    }
+
+    @Test
+    void testEmptyReportIsEmptyFile() throws IOException {
+        Path file = dir.resolve("report.jsonl");
+
+        new JsonLinesReportGenerator(ReportDestination.file(file)).generate(null);
+
+        assertEquals(0, Files.size(file));
+    }
+
+    @Test
+    void testRoundTripsThroughImporter() {
+        Path file = dir.resolve("report.jsonl");
+        List<Student> students = List.of(
+                new Student("José \"Pepe\" García", 91.25), new Student("Ana", 60.0));
+
+        new JsonLinesReportGenerator(ReportDestination.file(file)).generate(students);
+
+        InMemoryStudentRepository repository = new InMemoryStudentRepository();
+        ImportResult result = new StudentImporter(repository).importFile(file);
+        assertEquals(2, result.getAccepted());
+        assertEquals(91.25, repository.findByName("José \"Pepe\" García").getGrade());
+    }
+}
@@ -0,0 +1,112 @@
+package com.studentmanager.report;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.studentmanager.model.Student;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ParallelReportGeneratorTest {
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    private static List<Student> roster(int size) {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            students.add(new Student("Student " + i, (i * 7) % 101 + 0.5));
+        }
+        return students;
+    }
+
+    private static String consoleReport(List<Student> students) {
+        StringWriter writer = new StringWriter();
+        new ConsoleReportGenerator(writer).generate(students);
+        return writer.toString();
+    }
+
+    @Test
+    void testOutputMatchesConsoleReportInOrder() {
+        for (int size : new int[] {1, 7, 8, 100, 1000}) {
+            List<Student> students = roster(size);
+            StringWriter writer = new StringWriter();
+
+            new ParallelReportGenerator(writer, pool, 7).generate(students);
+
+            assertEquals(consoleReport(students), writer.toString(), "size " + size);
+        }
+    }
+
+    @Test
+    void testGenerateStreamMatchesConsoleReport() {
+        List<Student> students = roster(500);
+        StringWriter writer = new StringWriter();
+
+        new ParallelReportGenerator(writer, pool, 16).generateStream(students.stream());
+
+        assertEquals(consoleReport(students), writer.toString());
+    }
+
+    @Test
+    void testEmptyAndNullReports() {
+        StringWriter writer = new StringWriter();
+        ParallelReportGenerator generator = new ParallelReportGenerator(writer, pool, 16);
+
+        generator.generate(null);
+        generator.generate(new ArrayList<>());
+        generator.generateStream(null);
+
+        String line = "No students to display." + System.lineSeparator();
+        assertEquals(line + line + line, writer.toString());
+    }
+
+    @Test
+    void testDefaultPoolProducesSameReport() {
+        List<Student> students = roster(20_000);
+        StringWriter writer = new StringWriter();
+
+        new ParallelReportGenerator(writer).generate(students);
+
+        assertEquals(consoleReport(students), writer.toString());
+    }
+
+    @Test
+    void testFormattingFailureIsRethrown() {
+        List<Student> students = roster(100);
+        students.add(50, new Student("Broken", 1.0) {
+            @Override
+            public String getName() {
+                throw new IllegalStateException("broken student");
+            }
+        });
+        ParallelReportGenerator generator =
+                new ParallelReportGenerator(new StringWriter(), pool, 10);
+
+        IllegalStateException error =
+                assertThrows(IllegalStateException.class, () -> generator.generate(students));
+        assertTrue(error.getMessage().contains("broken student"));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ParallelReportGenerator(new StringWriter(), null, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ParallelReportGenerator(new StringWriter(), pool, 0));
+    }
+}
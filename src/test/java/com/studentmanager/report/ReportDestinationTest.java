@@ -0,0 +1,76 @@
+package com.studentmanager.report;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.studentmanager.model.Student;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ReportDestinationTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void testGzipFileDecompressesToPlainReport() throws IOException {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            students.add(new Student("Student " + i, i % 101));
+        }
+        Path plain = dir.resolve("report.csv");
+        Path gzip = dir.resolve("report.csv.gz");
+
+        new CsvReportGenerator(ReportDestination.file(plain)).generate(students);
+        new CsvReportGenerator(ReportDestination.file(gzip, true)).generate(students);
+
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(gzip))) {
+            assertEquals(Files.readString(plain),
+                    new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertTrue(Files.size(gzip) < Files.size(plain));
+    }
+
+    @Test
+    void testFileIsReplacedOnEachReport() throws IOException {
+        Path file = dir.resolve("report.csv");
+        CsvReportGenerator generator = new CsvReportGenerator(ReportDestination.file(file));
+
+        generator.generate(List.of(new Student("John Doe", 85.5), new Student("Ana", 60.0)));
+        generator.generate(List.of(new Student("Eva", 70.0)));
+
+        assertEquals("name,grade\nEva,70.0\n", Files.readString(file));
+    }
+
+    @Test
+    void testChannelIsLeftOpen() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        WritableByteChannel channel = Channels.newChannel(bytes);
+        CsvReportGenerator generator =
+                new CsvReportGenerator(ReportDestination.channel(channel));
+
+        generator.generate(List.of(new Student("John Doe", 85.5)));
+        generator.generate(List.of(new Student("Ana", 60.0)));
+
+        assertTrue(channel.isOpen());
+        assertEquals("name,grade\nJohn Doe,85.5\nname,grade\nAna,60.0\n",
+                bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testNullArguments() {
+        assertThrows(IllegalArgumentException.class, () -> ReportDestination.file(null));
+        assertThrows(IllegalArgumentException.class, () -> ReportDestination.channel(null));
+    }
+}
@@ -0,0 +1,108 @@
+package com.studentmanager.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class BoundedCacheTest {
+
+    @Test
+    void testLruEvictsLeastRecentlyUsed() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(2, EvictionPolicy.LRU);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+        cache.put("c", 3);
+
+        assertEquals(1, cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(3, cache.get("c"));
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.evictionCount());
+    }
+
+    @Test
+    void testInvalidateAndClear() {
+        for (EvictionPolicy policy : EvictionPolicy.values()) {
+            BoundedCache<String, Integer> cache = new BoundedCache<>(10, policy);
+            for (int i = 0; i < 10; i++) {
+                cache.put("k" + i, i);
+            }
+            cache.get("k3");
+            cache.get("k3");
+            cache.invalidate("k3");
+            cache.invalidate("missing");
+
+            assertNull(cache.get("k3"));
+            assertEquals(9, cache.size());
+            cache.clear();
+            assertEquals(0, cache.size());
+            assertNull(cache.get("k1"));
+        }
+    }
+
+    @Test
+    void testSizeNeverExceedsMaximum() {
+        for (EvictionPolicy policy : EvictionPolicy.values()) {
+            for (int maximum : new int[] {1, 2, 7, 100}) {
+                BoundedCache<Integer, Integer> cache = new BoundedCache<>(maximum, policy);
+                for (int i = 0; i < 1000; i++) {
+                    cache.put(i % 150, i);
+                    cache.get((i * 7) % 150);
+                    assertTrue(cache.size() <= maximum);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testTinyLfuResistsScans() {
+        BoundedCache<Integer, Integer> lru = new BoundedCache<>(100, EvictionPolicy.LRU);
+        BoundedCache<Integer, Integer> tinyLfu = new BoundedCache<>(100, EvictionPolicy.TINY_LFU);
+        for (int round = 0; round < 5; round++) {
+            for (int hot = 0; hot < 50; hot++) {
+                touch(lru, hot);
+                touch(tinyLfu, hot);
+            }
+        }
+        for (int scan = 1000; scan < 2000; scan++) {
+            touch(lru, scan);
+            touch(tinyLfu, scan);
+        }
+
+        int lruHot = 0;
+        int tinyLfuHot = 0;
+        for (int hot = 0; hot < 50; hot++) {
+            lruHot += lru.get(hot) == null ? 0 : 1;
+            tinyLfuHot += tinyLfu.get(hot) == null ? 0 : 1;
+        }
+        assertEquals(0, lruHot);
+        assertTrue(tinyLfuHot >= 45, "hot entries kept: " + tinyLfuHot);
+    }
+
+    @Test
+    void testFrequencySketchEstimatesAndAges() {
+        FrequencySketch sketch = new FrequencySketch(16);
+        for (int i = 0; i < 5; i++) {
+            sketch.increment("hot");
+        }
+        sketch.increment("warm");
+
+        assertTrue(sketch.frequency("hot") >= 5);
+        assertTrue(sketch.frequency("warm") >= 1);
+        assertTrue(sketch.frequency("hot") > sketch.frequency("cold"));
+
+        for (int i = 0; i < 200; i++) {
+            sketch.increment("other" + i);
+        }
+        assertTrue(sketch.frequency("hot") < 5);
+    }
+
+    private static void touch(BoundedCache<Integer, Integer> cache, int key) {
+        if (cache.get(key) == null) {
+            cache.put(key, key);
+        }
+    }
+}
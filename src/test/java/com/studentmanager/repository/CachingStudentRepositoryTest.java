@@ -0,0 +1,162 @@
+package com.studentmanager.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.studentmanager.model.Student;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CachingStudentRepositoryTest {
+    private CountingRepository delegate;
+    private CachingStudentRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new CountingRepository();
+        repository = new CachingStudentRepository(delegate, 100);
+    }
+
+    @Test
+    void testRepeatedLookupsHitTheCache() {
+        repository.add(new Student("Ana", 50.0));
+
+        assertEquals(50.0, repository.findByName("Ana").getGrade());
+        assertEquals(50.0, repository.findByName("Ana").getGrade());
+        assertNull(repository.findByName("Luis"));
+        assertNull(repository.findByName("Luis"));
+
+        assertEquals(2, delegate.lookups);
+        CacheStats stats = repository.stats();
+        assertEquals(2, stats.getHitCount());
+        assertEquals(2, stats.getMissCount());
+        assertEquals(0.5, stats.getHitRate());
+        assertEquals(2, stats.getSize());
+    }
+
+    @Test
+    void testLookupsAreCaseSensitive() {
+        repository.add(new Student("Ana", 50.0));
+
+        assertNull(repository.findByName("ANA"));
+        assertEquals("Ana", repository.findByName("Ana").getName());
+        assertNull(repository.findByName("ANA"));
+        assertEquals(1, repository.stats().getSize());
+    }
+
+    @Test
+    void testHitsReturnCopies() {
+        repository.add(new Student("Ana", 50.0));
+        repository.findByName("Ana");
+
+        Student first = repository.findByName("Ana");
+        first.setGrade(99.0);
+
+        Student second = repository.findByName("Ana");
+        assertNotSame(first, second);
+        assertEquals(50.0, second.getGrade());
+    }
+
+    @Test
+    void testMutationsInvalidateEveryCaseVariant() {
+        repository.add(new Student("Ana", 50.0));
+        repository.add(new Student("ANA", 60.0));
+        assertNull(repository.findByName("Luis"));
+        repository.findByName("Ana");
+        repository.findByName("ANA");
+
+        repository.add(new Student("Luis", 70.0));
+        assertEquals(70.0, repository.findByName("Luis").getGrade());
+
+        assertTrue(repository.updateGrade("ana", 50.0, 55.0));
+        assertEquals(55.0, repository.findByName("Ana").getGrade());
+
+        assertTrue(repository.remove("ana", 55.0));
+        assertNull(repository.findByName("Ana"));
+        assertEquals(60.0, repository.findByName("ANA").getGrade());
+
+        repository.updateGrades(Map.of(StudentKey.of("ANA", 60.0), 65.0));
+        assertEquals(65.0, repository.findByName("ANA").getGrade());
+
+        repository.removeAll(List.of(StudentKey.of("luis", 70.0)));
+        assertNull(repository.findByName("Luis"));
+
+        repository.addAll(List.of(new Student("Luis", 80.0)));
+        assertEquals(80.0, repository.findByName("Luis").getGrade());
+    }
+
+    @Test
+    void testFailedMutationStillInvalidates() {
+        repository.findByName("Ana");
+        delegate.failNextAdd = true;
+
+        assertThrows(RepositoryException.class, () -> repository.add(new Student("Ana", 50.0)));
+        assertEquals(50.0, repository.findByName("Ana").getGrade());
+    }
+
+    @Test
+    void testEvictionsAreCounted() {
+        CachingStudentRepository small =
+                new CachingStudentRepository(delegate, 2, EvictionPolicy.LRU);
+        for (int i = 0; i < 5; i++) {
+            small.findByName("Student " + i);
+        }
+
+        assertEquals(3, small.stats().getEvictionCount());
+        assertEquals(2, small.stats().getSize());
+        small.invalidateAll();
+        assertEquals(0, small.stats().getSize());
+        assertEquals(5, small.stats().getMissCount());
+    }
+
+    @Test
+    void testQueriesAreDelegated() {
+        repository.addAll(List.of(new Student("Ana", 50.0), new Student("Luis", 70.0)));
+
+        assertEquals(2, repository.count());
+        assertEquals(2, repository.findAll().size());
+        assertEquals(2, repository.stream().count());
+        assertEquals(60.0, repository.statistics().getMean());
+        assertEquals("Luis", repository.findTopByGrade(1).get(0).getName());
+        assertEquals(1, repository.findByGradeRange(60.0, 80.0).size());
+        assertEquals(2, repository.rankOf(60.0));
+        assertEquals(70.0, repository.gradePercentile(100));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new CachingStudentRepository(null, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> new CachingStudentRepository(delegate, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new CachingStudentRepository(delegate, 10, null));
+        assertNull(repository.findByName(null));
+    }
+
+    /** Repositorio en memoria que cuenta las búsquedas por nombre y puede fallar a pedido. */
+    private static final class CountingRepository extends InMemoryStudentRepository {
+        private int lookups;
+        private boolean failNextAdd;
+
+        @Override
+        public void add(Student student) {
+            super.add(student);
+            if (failNextAdd) {
+                failNextAdd = false;
+                throw new RepositoryException("Simulated failure");
+            }
+        }
+
+        @Override
+        public Student findByName(String name) {
+            lookups++;
+            return super.findByName(name);
+        }
+    }
+}
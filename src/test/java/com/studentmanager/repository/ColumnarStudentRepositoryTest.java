@@ -0,0 +1,207 @@
+package com.studentmanager.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.studentmanager.model.Student;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ColumnarStudentRepositoryTest {
+    private ColumnarStudentRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new ColumnarStudentRepository();
+    }
+
+    @Test
+    void testAddAndFindAllPreservesOrder() {
+        for (int i = 0; i < 100; i++) {
+            repository.add(new Student("Student " + (i % 7), i));
+        }
+
+        List<Student> students = repository.findAll();
+        assertEquals(100, repository.count());
+        assertEquals(100, students.size());
+        assertEquals("Student 3", students.get(10).getName());
+        assertEquals(10.0, students.get(10).getGrade());
+    }
+
+    @Test
+    void testAddNullStudent() {
+        assertThrows(IllegalArgumentException.class, () -> repository.add(null));
+    }
+
+    @Test
+    void testNamesAreDictionaryEncoded() {
+        repository.add(new Student(new String("John Doe"), 85.5));
+        repository.add(new Student(new String("John Doe"), 90.0));
+
+        List<Student> students = repository.findAll();
+        assertSame(students.get(0).getName(), students.get(1).getName());
+    }
+
+    @Test
+    void testFindByName() {
+        repository.add(new Student("Jane Smith", 70.0));
+        repository.add(new Student("John Doe", 85.5));
+
+        assertEquals(85.5, repository.findByName("John Doe").getGrade());
+        assertNull(repository.findByName("john doe"));
+        assertNull(repository.findByName("Nobody"));
+        assertNull(repository.findByName(null));
+    }
+
+    @Test
+    void testRemoveIsCaseInsensitiveAndKeepsOrder() {
+        repository.add(new Student("Ana", 80.0));
+        repository.add(new Student("John Doe", 85.5));
+        repository.add(new Student("JOHN DOE", 85.5));
+        repository.add(new Student("Eva", 60.0));
+
+        assertTrue(repository.remove("john doe", 85.5));
+        List<Student> students = repository.findAll();
+        assertEquals(2, students.size());
+        assertEquals("Ana", students.get(0).getName());
+        assertEquals("Eva", students.get(1).getName());
+    }
+
+    @Test
+    void testRemoveNonExistent() {
+        repository.add(new Student("John Doe", 85.5));
+
+        assertFalse(repository.remove("John Doe", 90.0));
+        assertFalse(repository.remove("Jane Smith", 85.5));
+        assertFalse(repository.remove(null, 85.5));
+        assertFalse(repository.remove(" ", 85.5));
+        assertEquals(1, repository.count());
+    }
+
+    @Test
+    void testMaterializedStudentsAreCopies() {
+        repository.add(new Student("John Doe", 85.5));
+
+        repository.findByName("John Doe").setGrade(10.0);
+        assertEquals(85.5, repository.findByName("John Doe").getGrade());
+    }
+
+    @Test
+    void testAggregates() {
+        assertEquals(0.0, repository.averageGrade());
+        assertTrue(Double.isNaN(repository.minGrade()));
+        assertTrue(Double.isNaN(repository.maxGrade()));
+        assertEquals(repository.statistics().getMean(), repository.averageGrade());
+
+        repository.add(new Student("Ana", 80.0));
+        repository.add(new Student("Luis", 70.0));
+        repository.add(new Student("Eva", 90.0));
+
+        assertEquals(80.0, repository.averageGrade());
+        assertEquals(70.0, repository.minGrade());
+        assertEquals(90.0, repository.maxGrade());
+
+        repository.remove("Ana", 80.0);
+        repository.remove("Luis", 70.0);
+        repository.remove("Eva", 90.0);
+        assertEquals(0.0, repository.averageGrade());
+        assertTrue(Double.isNaN(repository.minGrade()));
+        assertEquals(0, repository.statistics().getCount());
+    }
+
+    @Test
+    void testAddAll() {
+        List<Student> batch = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            batch.add(new Student("Student " + i, i));
+        }
+        repository.add(new Student("Ana", 80.0));
+        repository.addAll(batch);
+
+        assertEquals(51, repository.count());
+        assertEquals(49.0, repository.findByName("Student 49").getGrade());
+        assertThrows(IllegalArgumentException.class, () -> repository.addAll(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> repository.addAll(Arrays.asList(new Student("Eva", 1.0), null)));
+        assertEquals(51, repository.count());
+    }
+
+    @Test
+    void testStreamMatchesFindAll() {
+        for (int i = 0; i < 10; i++) {
+            repository.add(new Student("Student " + (i % 3), i));
+        }
+        repository.remove("Student 1", 4);
+
+        List<Student> streamed = repository.stream().collect(Collectors.toList());
+        List<Student> all = repository.findAll();
+        assertEquals(all.size(), streamed.size());
+        for (int i = 0; i < all.size(); i++) {
+            assertEquals(all.get(i).getName(), streamed.get(i).getName());
+            assertEquals(all.get(i).getGrade(), streamed.get(i).getGrade());
+        }
+    }
+
+    @Test
+    void testRemoveAllInSinglePass() {
+        for (int i = 0; i < 10; i++) {
+            repository.add(new Student("Student " + (i % 3), i));
+        }
+
+        Map<StudentKey, Boolean> results = repository.removeAll(List.of(
+                StudentKey.of("student 0", 0), StudentKey.of("Student 1", 4),
+                StudentKey.of("Student 2", 4)));
+
+        assertEquals(List.of(true, true, false), new ArrayList<>(results.values()));
+        assertEquals(8, repository.count());
+        assertEquals("Student 1", repository.findAll().get(0).getName());
+        assertEquals(5.0, repository.findAll().get(3).getGrade());
+    }
+
+    @Test
+    void testUpdateGradesKeepsOrder() {
+        repository.add(new Student("Ana", 50.0));
+        repository.add(new Student("Luis", 70.0));
+        repository.add(new Student("ANA", 50.0));
+        Map<StudentKey, Double> updates = new LinkedHashMap<>();
+        updates.put(StudentKey.of("ana", 50.0), 70.0);
+        updates.put(StudentKey.of("Luis", 70.0), 80.0);
+
+        repository.updateGrades(updates);
+
+        List<Student> students = repository.findAll();
+        assertEquals(70.0, students.get(0).getGrade());
+        assertEquals(80.0, students.get(1).getGrade());
+        assertEquals("ANA", students.get(2).getName());
+        assertEquals(70.0, students.get(2).getGrade());
+        assertEquals(220.0, repository.averageGrade() * 3, 1e-9);
+    }
+
+    @Test
+    void testUpdateGradeInPlace() {
+        repository.add(new Student("Ana", 50.0));
+        repository.add(new Student("Luis", 50.0));
+        repository.add(new Student("ANA", 50.0));
+
+        assertTrue(repository.updateGrade("ana", 50.0, 90.0));
+        assertFalse(repository.updateGrade("Eva", 50.0, 90.0));
+        assertFalse(repository.updateGrade("Ana", 50.0, 10.0));
+        assertThrows(IllegalArgumentException.class, () -> repository.updateGrade("Ana", 90.0, -1.0));
+
+        List<Student> students = repository.findAll();
+        assertEquals(90.0, students.get(0).getGrade());
+        assertEquals(50.0, students.get(1).getGrade());
+        assertEquals("ANA", students.get(2).getName());
+        assertEquals(90.0, students.get(2).getGrade());
+    }
+}
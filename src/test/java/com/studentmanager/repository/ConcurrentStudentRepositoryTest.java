@@ -0,0 +1,262 @@
+package com.studentmanager.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.studentmanager.model.NamePool;
+import com.studentmanager.model.Student;
+import com.studentmanager.model.StudentRecord;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentStudentRepositoryTest {
+    private static final int THREADS = 8;
+    private static final int STUDENTS_PER_THREAD = 5_000;
+
+    private ConcurrentStudentRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new ConcurrentStudentRepository();
+    }
+
+    @Test
+    void testAddAndFind() {
+        repository.add(new Student("John Doe", 85.5));
+
+        assertEquals(1, repository.count());
+        assertNotNull(repository.findByName("John Doe"));
+        assertNull(repository.findByName("john doe"));
+        assertNull(repository.findByName(null));
+    }
+
+    @Test
+    void testAddNullStudent() {
+        assertThrows(IllegalArgumentException.class, () -> repository.add(null));
+    }
+
+    @Test
+    void testRemoveIsCaseInsensitive() {
+        repository.add(new Student("John Doe", 85.5));
+        repository.add(new Student("John Doe", 90.0));
+
+        assertTrue(repository.remove("JOHN DOE", 85.5));
+        assertEquals(1, repository.count());
+        assertEquals(90.0, repository.findByName("John Doe").getGrade());
+    }
+
+    @Test
+    void testRemoveNonExistent() {
+        repository.add(new Student("John Doe", 85.5));
+
+        assertFalse(repository.remove("Jane Smith", 90.0));
+        assertFalse(repository.remove("John Doe", 90.0));
+        assertFalse(repository.remove(null, 85.5));
+        assertFalse(repository.remove("  ", 85.5));
+        assertEquals(1, repository.count());
+    }
+
+    @Test
+    void testFindAll() {
+        repository.add(new Student("John Doe", 85.5));
+        repository.add(new Student("Jane Smith", 90.0));
+
+        assertEquals(2, repository.findAll().size());
+    }
+
+    @Test
+    void testConcurrentAddAndRemoveKeepsCountConsistent() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writersDone = new AtomicBoolean();
+        List<Future<?>> writers = new ArrayList<>();
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                final double base = t * (double) STUDENTS_PER_THREAD;
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < STUDENTS_PER_THREAD; i++) {
+                        // Shared names force writers onto the same buckets
+                        repository.add(new Student("Student " + (i % 100), base + i));
+                    }
+                    for (int i = 0; i < STUDENTS_PER_THREAD; i += 2) {
+                        assertTrue(repository.remove("STUDENT " + (i % 100), base + i));
+                    }
+                    return null;
+                }));
+            }
+            Future<?> reader = executor.submit(() -> {
+                start.await();
+                while (!writersDone.get()) {
+                    int count = repository.count();
+                    assertTrue(count >= 0 && count <= THREADS * STUDENTS_PER_THREAD);
+                }
+                return null;
+            });
+
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get(60, TimeUnit.SECONDS);
+            }
+            writersDone.set(true);
+            reader.get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int expected = THREADS * (STUDENTS_PER_THREAD / 2);
+        assertEquals(expected, repository.count());
+        assertEquals(expected, repository.findAll().size());
+    }
+
+    @Test
+    void testStreamContainsAllStudents() {
+        repository.add(new Student("John Doe", 85.5));
+        repository.add(new Student("JOHN DOE", 70.0));
+        repository.add(new Student("Jane Smith", 90.0));
+
+        assertEquals(3, repository.stream().count());
+        assertEquals(245.5, repository.stream().mapToDouble(Student::getGrade).sum());
+    }
+
+    @Test
+    void testBatchOperations() {
+        repository.add(new Student("John Doe", 85.5));
+        repository.add(new Student("Jane Smith", 90.0));
+
+        Map<StudentKey, Boolean> updated =
+                repository.updateGrades(Map.of(StudentKey.of("john doe", 85.5), 88.0));
+        Map<StudentKey, Boolean> removed =
+                repository.removeAll(List.of(StudentKey.of("Jane Smith", 90.0)));
+
+        assertTrue(updated.get(StudentKey.of("john doe", 85.5)));
+        assertTrue(removed.get(StudentKey.of("Jane Smith", 90.0)));
+        assertEquals(1, repository.count());
+        assertEquals(88.0, repository.findByName("John Doe").getGrade());
+    }
+
+    @Test
+    void testUpdateGradeReplacesMatchingStudents() {
+        Student original = new Student("Ana", 50.0);
+        repository.add(original);
+        repository.add(new Student("ANA", 60.0));
+
+        assertTrue(repository.updateGrade("ana", 50.0, 75.0));
+        assertFalse(repository.updateGrade("Ana", 50.0, 80.0));
+        assertFalse(repository.updateGrade("Luis", 50.0, 80.0));
+
+        assertEquals(50.0, original.getGrade());
+        assertEquals(75.0, repository.findByName("Ana").getGrade());
+        assertEquals(60.0, repository.findByName("ANA").getGrade());
+        assertEquals(2, repository.count());
+    }
+
+    @Test
+    void testBatchesUnderContentionKeepCountAndConcurrentAdds() throws Exception {
+        Map<StudentKey, Double> raise = new LinkedHashMap<>();
+        Map<StudentKey, Double> lower = new LinkedHashMap<>();
+        for (int i = 0; i < 100; i++) {
+            repository.add(new Student("Student " + i, 1.0));
+            raise.put(StudentKey.of("Student " + i, 1.0), 2.0);
+            lower.put(StudentKey.of("STUDENT " + i, 2.0), 1.0);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writersDone = new AtomicBoolean();
+        try {
+            Future<?> updater = executor.submit(() -> {
+                start.await();
+                for (int round = 0; round < 500; round++) {
+                    repository.updateGrades(raise);
+                    repository.updateGrades(lower);
+                }
+                return null;
+            });
+            Future<?> adder = executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 100; i++) {
+                    repository.add(new Student("Student " + i, 1.0));
+                }
+                return null;
+            });
+            Future<?> reader = executor.submit(() -> {
+                start.await();
+                int previous = 100;
+                while (!writersDone.get()) {
+                    int count = repository.count();
+                    assertTrue(count >= previous && count <= 200);
+                    previous = count;
+                }
+                return null;
+            });
+
+            start.countDown();
+            updater.get(60, TimeUnit.SECONDS);
+            adder.get(60, TimeUnit.SECONDS);
+            writersDone.set(true);
+            reader.get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(200, repository.count());
+        assertEquals(200, repository.findAll().size());
+        Map<StudentKey, Boolean> removed = repository.removeAll(List.of(
+                StudentKey.of("student 0", 1.0), StudentKey.of("Student 0", 1.0), StudentKey.of("Nobody", 1.0)));
+        assertEquals(List.of(true, false, false), new ArrayList<>(removed.values()));
+        assertEquals(198, repository.count());
+        assertNull(repository.findByName("Student 0"));
+    }
+
+    @Test
+    void testUpdateGradesDoesNotChainAndKeepsFirstMatchingKey() {
+        repository.add(new Student("Ana", 50.0));
+        Map<StudentKey, Double> updates = new LinkedHashMap<>();
+        updates.put(StudentKey.of("ana", 50.0), 60.0);
+        updates.put(StudentKey.of("ANA", 50.0), 99.0);
+        updates.put(StudentKey.of("Ana", 60.0), 70.0);
+
+        Map<StudentKey, Boolean> results = repository.updateGrades(updates);
+
+        assertEquals(List.of(true, false, false), new ArrayList<>(results.values()));
+        assertEquals(60.0, repository.findByName("Ana").getGrade());
+        assertThrows(IllegalArgumentException.class,
+                () -> repository.updateGrades(Map.of(StudentKey.of("Ana", 60.0), -1.0)));
+    }
+
+    @Test
+    void testStoresImmutableStudentsWithPooledNames() {
+        NamePool names = new NamePool();
+        ConcurrentStudentRepository shared = new ConcurrentStudentRepository(names);
+        Student original = new Student(new String("Ana García".toCharArray()), 50.0);
+        shared.add(original);
+        shared.add(new Student(new String("Ana García".toCharArray()), 60.0));
+        assertTrue(shared.updateGrade("ana garcía", 60.0, 65.0));
+
+        List<Student> students = shared.findAll();
+        assertTrue(students.get(0) instanceof StudentRecord);
+        assertTrue(students.get(1) instanceof StudentRecord);
+        assertSame(students.get(0).getName(), students.get(1).getName());
+        assertSame(names.intern("Ana García"), shared.findByName("Ana García").getName());
+        assertEquals(1, names.size());
+        assertThrows(UnsupportedOperationException.class, () -> students.get(0).setGrade(90.0));
+        original.setGrade(90.0);
+        assertEquals(50.0, shared.findAll().get(0).getGrade());
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentStudentRepository(null));
+    }
+}
@@ -0,0 +1,86 @@
+package com.studentmanager.repository;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.PreparedStatement;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class ConnectionPoolTest {
+    private static final String URL = "jdbc:h2:mem:pool";
+
+    @Test
+    void testReleasedConnectionIsReusedWithItsStatements() throws Exception {
+        try (ConnectionPool pool = new ConnectionPool(URL, null, null, 2)) {
+            ConnectionPool.Pooled first = pool.borrow();
+            PreparedStatement statement = first.prepare("SELECT 1");
+            assertSame(statement, first.prepare("SELECT 1"));
+            pool.release(first);
+
+            ConnectionPool.Pooled second = pool.borrow();
+
+            assertSame(first, second);
+            assertSame(statement, second.prepare("SELECT 1"));
+            pool.release(second);
+        }
+    }
+
+    @Test
+    void testDiscardedConnectionIsReplaced() throws Exception {
+        try (ConnectionPool pool = new ConnectionPool(URL, null, null, 1)) {
+            ConnectionPool.Pooled first = pool.borrow();
+            pool.discard(first);
+
+            ConnectionPool.Pooled second = pool.borrow();
+
+            assertNotSame(first, second);
+            assertTrue(first.connection().isClosed());
+            pool.release(second);
+        }
+    }
+
+    @Test
+    void testBorrowWaitsForARelease() throws Exception {
+        try (ConnectionPool pool = new ConnectionPool(URL, null, null, 1)) {
+            ConnectionPool.Pooled only = pool.borrow();
+            CountDownLatch borrowed = new CountDownLatch(1);
+            Thread waiter =
+                    new Thread(
+                            () -> {
+                                pool.release(pool.borrow());
+                                borrowed.countDown();
+                            });
+            waiter.start();
+
+            assertFalse(borrowed.await(100, TimeUnit.MILLISECONDS));
+            pool.release(only);
+            assertTrue(borrowed.await(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void testClosedPoolClosesConnectionsAndRejectsBorrows() throws Exception {
+        ConnectionPool pool = new ConnectionPool(URL, null, null, 2);
+        ConnectionPool.Pooled idle = pool.borrow();
+        ConnectionPool.Pooled busy = pool.borrow();
+        pool.release(idle);
+
+        pool.close();
+
+        assertTrue(idle.connection().isClosed());
+        pool.release(busy);
+        assertTrue(busy.connection().isClosed());
+        assertThrows(RepositoryException.class, pool::borrow);
+    }
+
+    @Test
+    void testRejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new ConnectionPool(null, null, null, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ConnectionPool(URL, null, null, 0));
+    }
+}
@@ -0,0 +1,272 @@
+package com.studentmanager.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.studentmanager.model.Student;
+import com.studentmanager.stats.GradeSummary;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DatabaseStudentRepositoryTest {
+    private static final AtomicInteger DATABASES = new AtomicInteger();
+
+    private DatabaseStudentRepository repository;
+
+    private static String newDatabaseUrl() {
+        // Keep the in-memory database alive when a failed connection is discarded
+        return "jdbc:h2:mem:students" + DATABASES.incrementAndGet() + ";DB_CLOSE_DELAY=-1";
+    }
+
+    @BeforeEach
+    void setUp() {
+        repository = new DatabaseStudentRepository(newDatabaseUrl());
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.close();
+    }
+
+    private static List<String> names(List<Student> students) {
+        List<String> names = new ArrayList<>();
+        for (Student student : students) {
+            names.add(student.getName() + "=" + student.getGrade());
+        }
+        return names;
+    }
+
+    @Test
+    void testAddAndFindAllPreservesOrder() {
+        repository.add(new Student("Luis", 70.0));
+        repository.add(new Student("Ana", 90.0));
+        repository.add(new Student("Eva", 80.0));
+
+        assertEquals(Arrays.asList("Luis=70.0", "Ana=90.0", "Eva=80.0"), names(repository.findAll()));
+        assertEquals(3, repository.count());
+        assertThrows(IllegalArgumentException.class, () -> repository.add(null));
+    }
+
+    @Test
+    void testFindByNameIsExactAndReturnsFirstMatch() {
+        repository.add(new Student("Ana", 90.0));
+        repository.add(new Student("Ana", 60.0));
+
+        assertEquals(90.0, repository.findByName("Ana").getGrade());
+        assertNull(repository.findByName("ANA"));
+        assertNull(repository.findByName(null));
+    }
+
+    @Test
+    void testReturnedStudentsAreCopies() {
+        repository.add(new Student("Ana", 90.0));
+
+        repository.findByName("Ana").setGrade(10.0);
+
+        assertEquals(90.0, repository.findByName("Ana").getGrade());
+    }
+
+    @Test
+    void testRemoveIgnoresCaseAndRemovesAllMatches() {
+        repository.add(new Student("Ana", 90.0));
+        repository.add(new Student("ANA", 90.0));
+        repository.add(new Student("Ana", 60.0));
+
+        assertTrue(repository.remove("ana", 90.0));
+        assertFalse(repository.remove("ana", 90.0));
+        assertFalse(repository.remove(null, 60.0));
+        assertFalse(repository.remove("  ", 60.0));
+        assertEquals(Arrays.asList("Ana=60.0"), names(repository.findAll()));
+    }
+
+    @Test
+    void testZeroGradesMatchRegardlessOfSign() {
+        repository.add(new Student("Ana", -0.0));
+
+        assertTrue(repository.remove("Ana", 0.0));
+        assertEquals(0, repository.count());
+    }
+
+    @Test
+    void testAddAllInsertsSeveralBatches() {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            students.add(new Student("Student " + i, i % 100));
+        }
+
+        repository.addAll(students);
+
+        assertEquals(2500, repository.count());
+        assertEquals(names(students), names(repository.findAll()));
+    }
+
+    @Test
+    void testAddAllIsAtomic() {
+        repository.add(new Student("Ana", 90.0));
+        char[] tooLong = new char[2000];
+        Arrays.fill(tooLong, 'x');
+        List<Student> students =
+                Arrays.asList(new Student("Luis", 70.0), new Student(new String(tooLong), 50.0));
+
+        assertThrows(RepositoryException.class, () -> repository.addAll(students));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> repository.addAll(Arrays.asList(new Student("Eva", 80.0), null)));
+        assertEquals(Arrays.asList("Ana=90.0"), names(repository.findAll()));
+    }
+
+    @Test
+    void testRemoveAllReportsEachKey() {
+        repository.add(new Student("Ana", 90.0));
+        repository.add(new Student("Luis", 70.0));
+        List<StudentKey> keys =
+                Arrays.asList(
+                        StudentKey.of("ANA", 90.0), StudentKey.of("Ana", 90.0), StudentKey.of("Eva", 80.0));
+
+        Map<StudentKey, Boolean> results = repository.removeAll(keys);
+
+        assertEquals(Arrays.asList(true, false, false), new ArrayList<>(results.values()));
+        assertEquals(Arrays.asList("Luis=70.0"), names(repository.findAll()));
+    }
+
+    @Test
+    void testUpdateGradesDoesNotChainAndKeepsOrder() {
+        repository.add(new Student("Ana", 50.0));
+        repository.add(new Student("Luis", 60.0));
+        repository.add(new Student("ana", 60.0));
+        Map<StudentKey, Double> updates = new LinkedHashMap<>();
+        updates.put(StudentKey.of("Ana", 50.0), 60.0);
+        updates.put(StudentKey.of("Ana", 60.0), 70.0);
+        updates.put(StudentKey.of("Eva", 10.0), 20.0);
+
+        Map<StudentKey, Boolean> results = repository.updateGrades(updates);
+
+        assertEquals(Arrays.asList(true, true, false), new ArrayList<>(results.values()));
+        assertEquals(Arrays.asList("Ana=60.0", "Luis=60.0", "ana=70.0"), names(repository.findAll()));
+    }
+
+    @Test
+    void testUpdateGrade() {
+        repository.add(new Student("Ana", 50.0));
+
+        assertTrue(repository.updateGrade("ANA", 50.0, 80.0));
+        assertFalse(repository.updateGrade("Ana", 50.0, 80.0));
+        assertFalse(repository.updateGrade(null, 80.0, 90.0));
+        assertThrows(IllegalArgumentException.class, () -> repository.updateGrade("Ana", 80.0, -1.0));
+        assertEquals(80.0, repository.findByName("Ana").getGrade());
+    }
+
+    @Test
+    void testRankingQueriesMatchInMemoryRepository() {
+        StudentRepository reference = new InMemoryStudentRepository();
+        Random random = new Random(11);
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Student student = new Student("Student " + random.nextInt(50), random.nextInt(41) * 2.5);
+            students.add(student);
+            reference.add(new Student(student.getName(), student.getGrade()));
+        }
+        repository.addAll(students);
+
+        assertEquals(names(reference.findByGradeRange(25, 75)), names(repository.findByGradeRange(25, 75)));
+        assertEquals(names(reference.findTopByGrade(20)), names(repository.findTopByGrade(20)));
+        assertTrue(repository.findTopByGrade(0).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> repository.findTopByGrade(-1));
+        for (double grade : new double[] {0, 37.5, 50, 100, 101}) {
+            assertEquals(reference.rankOf(grade), repository.rankOf(grade));
+        }
+        for (double percentile : new double[] {0, 10, 50, 99.9, 100}) {
+            assertEquals(reference.gradePercentile(percentile), repository.gradePercentile(percentile));
+        }
+        GradeSummary expected = reference.statistics();
+        GradeSummary actual = repository.statistics();
+        assertEquals(expected.getCount(), actual.getCount());
+        assertEquals(expected.getMean(), actual.getMean(), 1e-9);
+        assertEquals(expected.getVariance(), actual.getVariance(), 1e-6);
+        assertEquals(expected.getMin(), actual.getMin());
+        assertEquals(expected.getMax(), actual.getMax());
+    }
+
+    @Test
+    void testEmptyRepositoryQueries() {
+        assertEquals(GradeSummary.EMPTY, repository.statistics());
+        assertTrue(Double.isNaN(repository.gradePercentile(50)));
+        assertThrows(IllegalArgumentException.class, () -> repository.gradePercentile(101));
+        assertEquals(1, repository.rankOf(50));
+    }
+
+    @Test
+    void testSearchUsesDefaultImplementation() {
+        repository.add(new Student("José García", 80.0));
+        repository.add(new Student("Luis Pérez", 60.0));
+
+        assertEquals(Arrays.asList("José García=80.0"), names(repository.findByNamePrefix("garc", 10)));
+        assertEquals(Arrays.asList("Luis Pérez=60.0"), names(repository.findBySimilarName("peres", 1, 10)));
+    }
+
+    @Test
+    void testDataSurvivesReopening(@TempDir Path dir) {
+        String url = "jdbc:h2:" + dir.resolve("students").toAbsolutePath();
+        try (DatabaseStudentRepository first = new DatabaseStudentRepository(url)) {
+            first.addAll(Arrays.asList(new Student("Ana", 90.0), new Student("Luis", 70.0)));
+        }
+
+        try (DatabaseStudentRepository second = new DatabaseStudentRepository(url)) {
+            assertEquals(Arrays.asList("Ana=90.0", "Luis=70.0"), names(second.findAll()));
+        }
+    }
+
+    @Test
+    void testConcurrentWritersShareTheSmallPool() throws Exception {
+        String url = newDatabaseUrl();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try (DatabaseStudentRepository shared = new DatabaseStudentRepository(url, null, null, 2)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    for (int i = 0; i < 100; i++) {
+                                        shared.add(new Student("T" + thread + "-" + i, i));
+                                    }
+                                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+            assertEquals(800, shared.count());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testFailuresAreReportedAsRepositoryExceptions() {
+        assertThrows(RepositoryException.class, () -> new DatabaseStudentRepository("jdbc:unknown:db"));
+        assertThrows(IllegalArgumentException.class, () -> new DatabaseStudentRepository(null));
+        repository.close();
+        assertThrows(RepositoryException.class, () -> repository.count());
+        assertThrows(
+                RepositoryException.class,
+                () -> repository.addAll(Collections.singletonList(new Student("Ana", 1))));
+    }
+}
@@ -0,0 +1,83 @@
+package com.studentmanager.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.studentmanager.model.Student;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class GradeIndexTest {
+
+    @Test
+    void testOrderIsGradeDescendingThenName() {
+        GradeIndex index = new GradeIndex();
+        Student bea = new Student("Bea", 80.0);
+        Student ana = new Student("Ana", 80.0);
+        Student eva = new Student("Eva", 95.0);
+        index.insert(bea, 0);
+        index.insert(ana, 1);
+        index.insert(eva, 2);
+
+        assertSame(eva, index.select(0));
+        assertSame(ana, index.select(1));
+        assertSame(bea, index.select(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.select(3));
+    }
+
+    @Test
+    void testDuplicatesAreDistinguishedBySequence() {
+        GradeIndex index = new GradeIndex();
+        Student student = new Student("Ana", 80.0);
+        index.insert(student, 0);
+        index.insert(student, 1);
+
+        index.delete(student, 80.0, 0);
+        assertEquals(1, index.size());
+        index.delete(student, 80.0, 1);
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void testMatchesSortedListUnderRandomMutations() {
+        Random random = new Random(42);
+        GradeIndex index = new GradeIndex();
+        List<Student> students = new ArrayList<>();
+        List<Long> seqs = new ArrayList<>();
+        for (long seq = 0; seq < 2000; seq++) {
+            if (!students.isEmpty() && random.nextInt(3) == 0) {
+                int victim = random.nextInt(students.size());
+                Student removed = students.remove(victim);
+                index.delete(removed, removed.getGrade(), seqs.remove(victim));
+            } else {
+                Student student = new Student("S" + random.nextInt(50), random.nextInt(101));
+                students.add(student);
+                seqs.add(seq);
+                index.insert(student, seq);
+            }
+        }
+
+        List<Student> sorted = new ArrayList<>(students);
+        sorted.sort(GradeRanking.ORDER);
+        assertEquals(sorted.size(), index.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            assertEquals(sorted.get(i).getGrade(), index.select(i).getGrade());
+            assertEquals(sorted.get(i).getName(), index.select(i).getName());
+        }
+
+        List<Student> expectedRange = new ArrayList<>();
+        for (Student student : sorted) {
+            if (student.getGrade() >= 40 && student.getGrade() <= 60) {
+                expectedRange.add(student);
+            }
+        }
+        assertEquals(expectedRange, index.range(40, 60));
+        assertEquals(sorted.subList(0, 25), index.top(25));
+
+        long above = students.stream().filter(s -> s.getGrade() > 50).count();
+        assertEquals(above, index.countAbove(50));
+    }
+}
@@ -3,12 +3,21 @@ package com.studentmanager.repository;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.studentmanager.model.Student;
+import com.studentmanager.model.StudentRecord;
+import com.studentmanager.stats.GradeSummary;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -128,4 +137,463 @@ class InMemoryStudentRepositoryTest {
         assertFalse(removed);
         assertEquals(1, repository.count());
     }
+
+    @Test
+    void testFindByNameIsCaseSensitive() {
+        repository.add(new Student("John Doe", 85.5));
+
+        assertNull(repository.findByName("john doe"));
+        assertNotNull(repository.findByName("John Doe"));
+    }
+
+    @Test
+    void testFindByNameReturnsFirstInserted() {
+        Student first = new Student("John Doe", 85.5);
+        repository.add(new Student("JOHN DOE", 70.0));
+        repository.add(first);
+        repository.add(new Student("John Doe", 90.0));
+
+        assertSame(first, repository.findByName("John Doe"));
+    }
+
+    @Test
+    void testRemoveIsCaseInsensitive() {
+        repository.add(new Student("John Doe", 85.5));
+
+        assertTrue(repository.remove("JOHN DOE", 85.5));
+        assertEquals(0, repository.count());
+        assertNull(repository.findByName("John Doe"));
+    }
+
+    @Test
+    void testRemoveAllMatchingDuplicates() {
+        repository.add(new Student("John Doe", 85.5));
+        repository.add(new Student("john doe", 85.5));
+        repository.add(new Student("John Doe", 90.0));
+
+        assertTrue(repository.remove("John Doe", 85.5));
+        assertEquals(1, repository.count());
+        assertEquals(90.0, repository.findByName("John Doe").getGrade());
+    }
+
+    @Test
+    void testFindAllKeepsInsertionOrderAfterRemove() {
+        repository.add(new Student("Ana", 80.0));
+        repository.add(new Student("Luis", 70.0));
+        repository.add(new Student("Eva", 60.0));
+
+        repository.remove("Luis", 70.0);
+        List<Student> students = repository.findAll();
+
+        assertEquals(2, students.size());
+        assertEquals("Ana", students.get(0).getName());
+        assertEquals("Eva", students.get(1).getName());
+    }
+
+    @Test
+    void testAddSameInstanceTwice() {
+        Student student = new Student("John Doe", 85.5);
+        repository.add(student);
+        repository.add(student);
+
+        assertEquals(2, repository.count());
+        assertTrue(repository.remove("John Doe", 85.5));
+        assertEquals(0, repository.count());
+    }
+
+    @Test
+    void testFindAllReusesSnapshotUntilMutation() {
+        repository.add(new Student("John Doe", 85.5));
+
+        List<Student> first = repository.findAll();
+        assertSame(first, repository.findAll());
+
+        repository.add(new Student("Jane Smith", 90.0));
+        List<Student> second = repository.findAll();
+        assertNotSame(first, second);
+        assertEquals(1, first.size());
+        assertEquals(2, second.size());
+
+        repository.remove("John Doe", 85.5);
+        assertNotSame(second, repository.findAll());
+        assertEquals(1, repository.findAll().size());
+    }
+
+    @Test
+    void testFindAllIsReadOnly() {
+        repository.add(new Student("John Doe", 85.5));
+
+        List<Student> students = repository.findAll();
+        assertThrows(UnsupportedOperationException.class,
+                () -> students.add(new Student("Jane Smith", 90.0)));
+    }
+
+    @Test
+    void testAddAll() {
+        repository.add(new Student("Ana", 80.0));
+        repository.addAll(Arrays.asList(new Student("John Doe", 85.5), new Student("Jane Smith", 90.0)));
+
+        List<Student> students = repository.findAll();
+        assertEquals(3, students.size());
+        assertEquals("Jane Smith", students.get(2).getName());
+        assertNotNull(repository.findByName("John Doe"));
+    }
+
+    @Test
+    void testAddAllRejectsNullsAtomically() {
+        assertThrows(IllegalArgumentException.class, () -> repository.addAll(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> repository.addAll(Arrays.asList(new Student("John Doe", 85.5), null)));
+        assertEquals(0, repository.count());
+    }
+
+    @Test
+    void testStatisticsTrackMutations() {
+        Student john = new Student("John Doe", 70.0);
+        repository.add(john);
+        repository.add(new Student("Jane Smith", 90.0));
+        assertEquals(80.0, repository.statistics().getMean());
+
+        assertTrue(repository.updateGrade("John Doe", 70.0, 100.0));
+        GradeSummary summary = repository.statistics();
+        assertEquals(95.0, summary.getMean());
+        assertEquals(90.0, summary.getMin());
+        assertEquals(100.0, summary.getMax());
+
+        repository.remove("John Doe", 100.0);
+        assertEquals(1, repository.statistics().getCount());
+
+        // Removed students no longer affect the statistics
+        john.setGrade(0.0);
+        assertEquals(90.0, repository.statistics().getMin());
+    }
+
+    @Test
+    void testDirectSetGradeDoesNotCorruptIndexes() {
+        Student john = new Student("John Doe", 70.0);
+        repository.add(john);
+        repository.add(new Student("Jane Smith", 90.0));
+
+        // The repository does not observe the change and keeps the grade it indexed
+        john.setGrade(10.0);
+        assertEquals(80.0, repository.statistics().getMean());
+        assertTrue(repository.remove("John Doe", 10.0));
+        assertEquals(90.0, repository.statistics().getMin());
+        assertEquals(1, repository.findByGradeRange(0, 100).size());
+        assertThrows(IllegalArgumentException.class,
+                () -> repository.updateGrade("Jane Smith", 90.0, Double.NaN));
+    }
+
+    @Test
+    void testGradeQueries() {
+        repository.add(new Student("Ana", 65.0));
+        repository.add(new Student("Luis", 70.0));
+        repository.add(new Student("Eva", 95.0));
+        repository.add(new Student("Bea", 65.0));
+        repository.add(new Student("Juan", 40.0));
+
+        List<Student> range = repository.findByGradeRange(60, 70);
+        assertEquals(3, range.size());
+        assertEquals("Luis", range.get(0).getName());
+        assertEquals("Ana", range.get(1).getName());
+        assertEquals("Bea", range.get(2).getName());
+
+        List<Student> top = repository.findTopByGrade(2);
+        assertEquals("Eva", top.get(0).getName());
+        assertEquals("Luis", top.get(1).getName());
+        assertEquals(5, repository.findTopByGrade(10).size());
+        assertThrows(IllegalArgumentException.class, () -> repository.findTopByGrade(-1));
+
+        assertEquals(1, repository.rankOf(95.0));
+        assertEquals(3, repository.rankOf(65.0));
+        assertEquals(6, repository.rankOf(10.0));
+
+        assertEquals(40.0, repository.gradePercentile(0));
+        assertEquals(65.0, repository.gradePercentile(50));
+        assertEquals(70.0, repository.gradePercentile(80));
+        assertEquals(95.0, repository.gradePercentile(100));
+        assertThrows(IllegalArgumentException.class, () -> repository.gradePercentile(101));
+    }
+
+    @Test
+    void testGradeQueriesFollowUpdateAndRemove() {
+        Student juan = new Student("Juan", 40.0);
+        repository.add(juan);
+        repository.add(new Student("Eva", 95.0));
+
+        repository.updateGrades(Map.of(StudentKey.of("Juan", 40.0), 99.0));
+        assertEquals(99.0, juan.getGrade());
+        assertSame(juan, repository.findTopByGrade(1).get(0));
+        assertEquals(0, repository.findByGradeRange(0, 50).size());
+
+        repository.remove("Juan", 99.0);
+        assertEquals("Eva", repository.findTopByGrade(1).get(0).getName());
+        assertTrue(Double.isNaN(new InMemoryStudentRepository().gradePercentile(50)));
+    }
+
+    @Test
+    void testGradeQueriesMatchDefaultImplementation() {
+        ColumnarStudentRepository reference = new ColumnarStudentRepository();
+        for (int i = 0; i < 300; i++) {
+            Student student = new Student("Student " + (i % 17), (i * 31) % 101);
+            repository.add(student);
+            reference.add(new Student(student.getName(), student.getGrade()));
+        }
+        for (int i = 0; i < 300; i += 3) {
+            repository.remove("Student " + (i % 17), (i * 31) % 101);
+            reference.remove("Student " + (i % 17), (i * 31) % 101);
+        }
+
+        assertEquals(names(reference.findByGradeRange(25, 75)), names(repository.findByGradeRange(25, 75)));
+        assertEquals(names(reference.findTopByGrade(20)), names(repository.findTopByGrade(20)));
+        for (double grade = 0; grade <= 100; grade += 12.5) {
+            assertEquals(reference.rankOf(grade), repository.rankOf(grade));
+            assertEquals(reference.gradePercentile(grade), repository.gradePercentile(grade));
+        }
+    }
+
+    private static List<String> names(List<Student> students) {
+        List<String> names = new ArrayList<>();
+        for (Student student : students) {
+            names.add(student.getName() + "=" + student.getGrade());
+        }
+        return names;
+    }
+
+    @Test
+    void testStreamFollowsInsertionOrder() {
+        repository.add(new Student("Ana", 80.0));
+        repository.add(new Student("Luis", 70.0));
+        repository.add(new Student("Eva", 60.0));
+        repository.remove("Luis", 70.0);
+
+        List<Student> streamed = repository.stream().collect(Collectors.toList());
+        assertEquals(repository.findAll(), streamed);
+        // Same result once the snapshot is cached
+        assertEquals(streamed, repository.stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    void testStreamToleratesRemovingVisitedStudent() {
+        repository.add(new Student("Ana", 80.0));
+        repository.add(new Student("Luis", 70.0));
+        repository.add(new Student("Eva", 60.0));
+
+        List<String> visited = new ArrayList<>();
+        repository.stream().forEach(student -> {
+            visited.add(student.getName());
+            repository.remove(student.getName(), student.getGrade());
+        });
+
+        assertEquals(Arrays.asList("Ana", "Luis", "Eva"), visited);
+        assertEquals(0, repository.count());
+    }
+
+    @Test
+    void testRemoveAllReportsPerKeyResults() {
+        repository.add(new Student("Ana", 80.0));
+        repository.add(new Student("Luis", 70.0));
+        repository.add(new Student("ana", 80.0));
+        repository.add(new Student("Eva", 60.0));
+
+        Map<StudentKey, Boolean> results = repository.removeAll(List.of(
+                StudentKey.of("ANA", 80.0), StudentKey.of("Nobody", 1.0),
+                StudentKey.of("Ana", 80.0), StudentKey.of("Eva", 60.0)));
+
+        assertEquals(List.of(true, false, false, true), new ArrayList<>(results.values()));
+        assertEquals(1, repository.count());
+        assertEquals("Luis", repository.findAll().get(0).getName());
+    }
+
+    @Test
+    void testUpdateGradesInPlaceWithoutChaining() {
+        repository.add(new Student("Ana", 50.0));
+        repository.add(new Student("Luis", 70.0));
+        repository.add(new Student("Ana", 60.0));
+        Map<StudentKey, Double> updates = new LinkedHashMap<>();
+        updates.put(StudentKey.of("ana", 50.0), 60.0);
+        updates.put(StudentKey.of("Ana", 60.0), 70.0);
+        updates.put(StudentKey.of("ANA", 50.0), 99.0);
+        updates.put(StudentKey.of("Nobody", 1.0), 2.0);
+
+        Map<StudentKey, Boolean> results = repository.updateGrades(updates);
+
+        assertEquals(List.of(true, true, false, false), new ArrayList<>(results.values()));
+        List<Student> students = repository.findAll();
+        assertEquals(60.0, students.get(0).getGrade());
+        assertEquals(70.0, students.get(1).getGrade());
+        assertEquals(70.0, students.get(2).getGrade());
+        assertEquals("Ana", repository.findTopByGrade(1).get(0).getName());
+        assertEquals(200.0 / 3, repository.statistics().getMean(), 1e-9);
+    }
+
+    @Test
+    void testBatchArgumentsAreValidatedFirst() {
+        repository.add(new Student("Ana", 50.0));
+        Map<StudentKey, Double> updates = new LinkedHashMap<>();
+        updates.put(StudentKey.of("Ana", 50.0), 60.0);
+        updates.put(StudentKey.of("Luis", 70.0), -1.0);
+
+        assertThrows(IllegalArgumentException.class, () -> repository.updateGrades(updates));
+        assertThrows(IllegalArgumentException.class,
+                () -> repository.removeAll(Arrays.asList(StudentKey.of("Ana", 50.0), null)));
+        assertThrows(IllegalArgumentException.class, () -> repository.removeAll(null));
+        assertThrows(IllegalArgumentException.class, () -> repository.updateGrades(null));
+        assertEquals(50.0, repository.findByName("Ana").getGrade());
+    }
+
+    @Test
+    void testBatchesMatchDefaultImplementation() {
+        StudentRepository reference = new ConcurrentStudentRepository();
+        for (int i = 0; i < 200; i++) {
+            Student student = new Student("Student " + (i % 13), i % 7);
+            repository.add(student);
+            reference.add(new Student(student.getName(), student.getGrade()));
+        }
+        Map<StudentKey, Double> updates = new LinkedHashMap<>();
+        List<StudentKey> removals = new ArrayList<>();
+        for (int i = 0; i < 13; i++) {
+            updates.put(StudentKey.of("STUDENT " + i, i % 7), (double) (i + 1) % 7);
+            removals.add(StudentKey.of("Student " + i, (i + 3) % 7));
+        }
+
+        assertEquals(reference.updateGrades(updates), repository.updateGrades(updates));
+        assertEquals(reference.removeAll(removals), repository.removeAll(removals));
+        List<String> expected = names(reference.findAll());
+        List<String> actual = names(repository.findAll());
+        expected.sort(null);
+        actual.sort(null);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void testUpdateGradeKeepsIndexesConsistent() {
+        Student first = new Student("Ana", 50.0);
+        repository.add(first);
+        repository.add(new Student("Luis", 70.0));
+        repository.add(new Student("ANA", 50.0));
+        repository.add(new Student("Ana", 60.0));
+
+        assertTrue(repository.updateGrade("ana", 50.0, 95.0));
+
+        assertSame(first, repository.findAll().get(0));
+        assertEquals(95.0, first.getGrade());
+        assertEquals(95.0, repository.findAll().get(2).getGrade());
+        assertEquals(60.0, repository.findAll().get(3).getGrade());
+        assertEquals(2, repository.findByGradeRange(90.0, 100.0).size());
+        assertEquals(0, repository.findByGradeRange(0.0, 55.0).size());
+        assertEquals(3, repository.rankOf(70.0));
+        assertEquals(320.0 / 4, repository.statistics().getMean(), 1e-9);
+        assertEquals(60.0, repository.statistics().getMin());
+    }
+
+    @Test
+    void testUpdateGradeWithoutMatch() {
+        repository.add(new Student("Ana", 50.0));
+
+        assertFalse(repository.updateGrade("Ana", 51.0, 60.0));
+        assertFalse(repository.updateGrade("Luis", 50.0, 60.0));
+        assertFalse(repository.updateGrade(null, 50.0, 60.0));
+        assertFalse(repository.updateGrade("  ", 50.0, 60.0));
+        assertThrows(IllegalArgumentException.class, () -> repository.updateGrade("Ana", 50.0, -1.0));
+        assertEquals(50.0, repository.findByName("Ana").getGrade());
+    }
+
+    @Test
+    void testFindByNamePrefixIgnoresCaseAccentsAndMatchesWords() {
+        Student jose = new Student("José García", 80.0);
+        Student maria = new Student("MARÍA  Garcés", 70.0);
+        repository.add(jose);
+        repository.add(maria);
+        repository.add(new Student("Luis Pérez", 60.0));
+
+        assertEquals(Arrays.asList(jose), repository.findByNamePrefix("JOSE", 10));
+        assertEquals(Arrays.asList(jose), repository.findByNamePrefix("garcí", 10));
+        assertEquals(Arrays.asList(maria, jose), repository.findByNamePrefix("Garc", 10));
+        assertEquals(Arrays.asList(maria), repository.findByNamePrefix("maria garces", 10));
+        assertEquals(Arrays.asList(maria), repository.findByNamePrefix("Garc", 1));
+        assertTrue(repository.findByNamePrefix("Garc", 0).isEmpty());
+        assertTrue(repository.findByNamePrefix("Gomez", 10).isEmpty());
+    }
+
+    @Test
+    void testFindBySimilarNameToleratesTypos() {
+        Student jose = new Student("José García", 80.0);
+        Student josefa = new Student("Josefa Garza", 75.0);
+        repository.add(jose);
+        repository.add(josefa);
+
+        assertEquals(Arrays.asList(jose), repository.findBySimilarName("Garsia", 1, 10));
+        assertEquals(Arrays.asList(jose), repository.findBySimilarName("jose garcia", 0, 10));
+        assertEquals(Arrays.asList(jose, josefa), repository.findBySimilarName("Garzia", 1, 10));
+        assertTrue(repository.findBySimilarName("Garsia", 0, 10).isEmpty());
+    }
+
+    @Test
+    void testSearchRejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> repository.findByNamePrefix(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> repository.findByNamePrefix("a", -1));
+        assertThrows(IllegalArgumentException.class, () -> repository.findBySimilarName("a", -1, 1));
+        assertThrows(IllegalArgumentException.class, () -> repository.findBySimilarName(null, 1, 1));
+    }
+
+    @Test
+    void testSearchIndexFollowsAddAndRemove() {
+        repository.add(new Student("Ana Ruiz", 80.0));
+        repository.add(new Student("ANA RUIZ", 70.0));
+
+        assertEquals(2, repository.findByNamePrefix("ruiz", 10).size());
+        repository.remove("ana ruiz", 80.0);
+        assertEquals(
+                Arrays.asList("ANA RUIZ=70.0"), names(repository.findByNamePrefix("ruiz", 10)));
+        repository.remove("Ana Ruiz", 70.0);
+        assertTrue(repository.findByNamePrefix("ruiz", 10).isEmpty());
+        assertTrue(repository.findBySimilarName("ruis", 1, 10).isEmpty());
+        repository.add(new Student("Ana Ruiz", 90.0));
+        assertEquals(1, repository.findBySimilarName("ruis", 1, 10).size());
+    }
+
+    @Test
+    void testSearchMatchesDefaultImplementation() {
+        StudentRepository reference = new ConcurrentStudentRepository();
+        String[] first = {"José", "Jose", "María", "Mario", "Ana", "Ángel"};
+        String[] last = {"García", "Garcés", "Garza", "Pérez", "Peña", "Ruiz"};
+        for (int i = 0; i < 300; i++) {
+            Student student = new Student(first[i % 6] + " " + last[(i / 6) % 6], i % 100);
+            repository.add(student);
+            reference.add(new Student(student.getName(), student.getGrade()));
+        }
+        for (int i = 0; i < 300; i += 7) {
+            String name = first[i % 6] + " " + last[(i / 6) % 6];
+            repository.remove(name, i % 100);
+            reference.remove(name, i % 100);
+        }
+
+        for (String prefix : Arrays.asList("", "gar", "JOSE", "pe", "angel r", "x")) {
+            assertEquals(
+                    names(reference.findByNamePrefix(prefix, 25)),
+                    names(repository.findByNamePrefix(prefix, 25)));
+        }
+        for (String query : Arrays.asList("garsia", "mari", "jose pena", "ruis")) {
+            assertEquals(
+                    names(reference.findBySimilarName(query, 2, 40)),
+                    names(repository.findBySimilarName(query, 2, 40)));
+        }
+    }
+
+    @Test
+    void testUpdateReplacesStoredImmutableStudents() {
+        repository.add(new StudentRecord("Ana", 50.0));
+        repository.add(new Student("Luis", 70.0));
+        List<Student> before = repository.findAll();
+
+        assertTrue(repository.updateGrade("ana", 50.0, 80.0));
+
+        assertEquals(50.0, before.get(0).getGrade());
+        assertEquals(80.0, repository.findAll().get(0).getGrade());
+        assertTrue(repository.findByName("Ana") instanceof StudentRecord);
+        assertEquals(80.0, repository.findByName("Ana").getGrade());
+        assertEquals("Ana", repository.findTopByGrade(1).get(0).getName());
+        assertEquals(75.0, repository.statistics().getMean());
+    }
 }
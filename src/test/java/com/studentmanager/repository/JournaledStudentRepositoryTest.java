@@ -0,0 +1,317 @@
+package com.studentmanager.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.studentmanager.model.Student;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JournaledStudentRepositoryTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void testMutationsSurviveReopen() {
+        try (JournaledStudentRepository repository = open(1)) {
+            repository.add(new Student("John Doe", 85.5));
+            repository.add(new Student("Jane Smith", 90.0));
+            assertTrue(repository.remove("john doe", 85.5));
+            assertFalse(repository.remove("Nobody", 1.0));
+        }
+
+        try (JournaledStudentRepository repository = open(1)) {
+            List<Student> students = repository.findAll();
+            assertEquals(1, repository.count());
+            assertEquals("Jane Smith", students.get(0).getName());
+            assertNotNull(repository.findByName("Jane Smith"));
+        }
+    }
+
+    @Test
+    void testBatchedSyncFlushesOnClose() {
+        try (JournaledStudentRepository repository = open(1000)) {
+            for (int i = 0; i < 250; i++) {
+                repository.add(new Student("Student " + i, i));
+            }
+        }
+
+        try (JournaledStudentRepository repository = open(1000)) {
+            assertEquals(250, repository.count());
+        }
+    }
+
+    @Test
+    void testCheckpointCompactsJournal() throws IOException {
+        Path journal = dir.resolve(JournaledStudentRepository.JOURNAL_FILE);
+        try (JournaledStudentRepository repository = open(1)) {
+            long empty = Files.size(journal);
+            repository.add(new Student("John Doe", 85.5));
+            repository.add(new Student("José García", 90.0));
+            repository.checkpoint();
+            assertEquals(empty, Files.size(journal));
+            assertTrue(Files.exists(dir.resolve(JournaledStudentRepository.SNAPSHOT_FILE)));
+
+            repository.remove("John Doe", 85.5);
+            repository.add(new Student("Eva", 70.0));
+        }
+
+        try (JournaledStudentRepository repository = open(1)) {
+            List<Student> students = repository.findAll();
+            assertEquals(2, students.size());
+            assertEquals("José García", students.get(0).getName());
+            assertEquals("Eva", students.get(1).getName());
+        }
+    }
+
+    @Test
+    void testAutomaticCheckpoint() throws IOException {
+        try (JournaledStudentRepository repository =
+                new JournaledStudentRepository(new InMemoryStudentRepository(), dir, 1, 10)) {
+            for (int i = 0; i < 25; i++) {
+                repository.add(new Student("Student " + i, i));
+            }
+        }
+        assertTrue(Files.exists(dir.resolve(JournaledStudentRepository.SNAPSHOT_FILE)));
+
+        try (JournaledStudentRepository repository = open(1)) {
+            assertEquals(25, repository.count());
+        }
+    }
+
+    @Test
+    void testTornTailIsDiscarded() throws IOException {
+        try (JournaledStudentRepository repository = open(1)) {
+            repository.add(new Student("John Doe", 85.5));
+        }
+        Path journal = dir.resolve(JournaledStudentRepository.JOURNAL_FILE);
+        long validLength = Files.size(journal);
+        Files.write(journal, new byte[] {0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        try (JournaledStudentRepository repository = open(1)) {
+            assertEquals(1, repository.count());
+            assertEquals(validLength, Files.size(journal));
+            repository.add(new Student("Jane Smith", 90.0));
+        }
+
+        try (JournaledStudentRepository repository = open(1)) {
+            assertEquals(2, repository.count());
+        }
+    }
+
+    @Test
+    void testCorruptSnapshotIsRejected() throws IOException {
+        Files.write(dir.resolve(JournaledStudentRepository.SNAPSHOT_FILE), new byte[] {1, 2, 3, 4});
+
+        assertThrows(RepositoryException.class, () -> open(1));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        InMemoryStudentRepository delegate = new InMemoryStudentRepository();
+        assertThrows(IllegalArgumentException.class,
+                () -> new JournaledStudentRepository(null, dir));
+        assertThrows(IllegalArgumentException.class,
+                () -> new JournaledStudentRepository(delegate, dir, 0, 10));
+        try (JournaledStudentRepository repository = open(1)) {
+            assertThrows(IllegalArgumentException.class, () -> repository.add(null));
+        }
+    }
+
+    private JournaledStudentRepository open(int syncInterval) {
+        return new JournaledStudentRepository(
+                new InMemoryStudentRepository(), dir, syncInterval, 100_000);
+    }
+
+    @Test
+    void testBatchMutationsSurviveReopen() {
+        try (JournaledStudentRepository repository = open(64)) {
+            repository.addAll(List.of(
+                    new Student("Ana", 50.0), new Student("Luis", 70.0), new Student("Ana", 60.0),
+                    new Student("Eva", 40.0)));
+            Map<StudentKey, Double> updates = new LinkedHashMap<>();
+            updates.put(StudentKey.of("ana", 50.0), 60.0);
+            updates.put(StudentKey.of("Ana", 60.0), 70.0);
+            updates.put(StudentKey.of("Nobody", 1.0), 2.0);
+            repository.updateGrades(updates);
+            repository.removeAll(List.of(StudentKey.of("EVA", 40.0), StudentKey.of("Ana", 1.0)));
+        }
+
+        try (JournaledStudentRepository repository = open(64)) {
+            List<Student> students = repository.findAll();
+            assertEquals(3, students.size());
+            assertEquals(60.0, students.get(0).getGrade());
+            assertEquals("Luis", students.get(1).getName());
+            assertEquals(70.0, students.get(2).getGrade());
+        }
+    }
+
+    @Test
+    void testUpdateGradeSurvivesReopen() {
+        try (JournaledStudentRepository repository = open(1)) {
+            repository.add(new Student("Ana", 50.0));
+            repository.add(new Student("Luis", 70.0));
+
+            assertTrue(repository.updateGrade("ANA", 50.0, 65.0));
+            assertFalse(repository.updateGrade("Ana", 50.0, 99.0));
+        }
+
+        try (JournaledStudentRepository repository = open(1)) {
+            assertEquals(65.0, repository.findByName("Ana").getGrade());
+            assertEquals("Ana", repository.findAll().get(0).getName());
+            assertEquals(70.0, repository.findByName("Luis").getGrade());
+        }
+    }
+
+    @Test
+    void testRecoveredNamesAreShared() {
+        try (JournaledStudentRepository repository = open(64)) {
+            repository.add(new Student("Ana", 50.0));
+            repository.add(new Student("Ana", 60.0));
+            repository.checkpoint();
+            repository.add(new Student("Ana", 70.0));
+        }
+
+        try (JournaledStudentRepository repository = open(64)) {
+            List<Student> students = repository.findAll();
+            assertEquals(3, students.size());
+            assertSame(students.get(0).getName(), students.get(1).getName());
+            assertSame(students.get(0).getName(), students.get(2).getName());
+        }
+    }
+
+    @Test
+    void testCrashAfterInstallingSnapshotDoesNotReplayOldJournal() throws IOException {
+        Path journal = dir.resolve(JournaledStudentRepository.JOURNAL_FILE);
+        byte[] staleJournal;
+        try (JournaledStudentRepository repository = open(1)) {
+            repository.add(new Student("Ana", 50.0));
+            repository.add(new Student("Luis", 70.0));
+            staleJournal = Files.readAllBytes(journal);
+            repository.checkpoint();
+        }
+        // Simulates a crash after the snapshot rename but before the journal was reset
+        Files.write(journal, staleJournal);
+
+        try (JournaledStudentRepository repository = open(1)) {
+            assertEquals(2, repository.count());
+            repository.add(new Student("Eva", 60.0));
+        }
+
+        try (JournaledStudentRepository repository = open(1)) {
+            assertEquals(3, repository.count());
+        }
+    }
+
+    @Test
+    void testRecordsAreLoggedBeforeTheyAreApplied() {
+        StudentRepository failing = new InMemoryStudentRepository() {
+            @Override
+            public void add(Student student) {
+                throw new RepositoryException("Delegate failed");
+            }
+        };
+        try (JournaledStudentRepository repository =
+                new JournaledStudentRepository(failing, dir, 1, 100_000)) {
+            assertThrows(RepositoryException.class, () -> repository.add(new Student("Ana", 50.0)));
+            assertEquals(0, repository.count());
+        }
+
+        try (JournaledStudentRepository repository = open(1)) {
+            assertEquals(50.0, repository.findByName("Ana").getGrade());
+        }
+    }
+
+    @Test
+    void testMutationsRejectedByTheDelegateAreSkippedOnReplay() {
+        try (JournaledStudentRepository repository = openRejecting()) {
+            repository.add(new Student("Ana", 50.0));
+            assertThrows(IllegalArgumentException.class, () -> repository.add(new Student("Xavier", 1.0)));
+        }
+
+        try (JournaledStudentRepository repository = openRejecting()) {
+            assertEquals(1, repository.count());
+        }
+    }
+
+    private JournaledStudentRepository openRejecting() {
+        StudentRepository rejecting = new InMemoryStudentRepository() {
+            @Override
+            public void add(Student student) {
+                if (student.getName().startsWith("X")) {
+                    throw new IllegalArgumentException("Rejected");
+                }
+                super.add(student);
+            }
+        };
+        return new JournaledStudentRepository(rejecting, dir, 1, 100_000);
+    }
+
+    @Test
+    void testRecoveryReadsRecordsLargerThanOneChunk() {
+        String longName = "N".repeat(100_000);
+        try (JournaledStudentRepository repository = open(1000)) {
+            for (int i = 0; i < 5000; i++) {
+                repository.add(new Student("Student " + i, i));
+            }
+            repository.add(new Student(longName, 1.0));
+            repository.checkpoint();
+            for (int i = 0; i < 5000; i++) {
+                repository.updateGrade("Student " + i, i, i + 0.5);
+            }
+            repository.add(new Student(longName, 2.0));
+        }
+
+        try (JournaledStudentRepository repository = open(1000)) {
+            assertEquals(5002, repository.count());
+            assertEquals(4999.5, repository.findByName("Student 4999").getGrade());
+            assertTrue(repository.remove(longName, 2.0));
+            assertEquals(1.0, repository.findByName(longName).getGrade());
+        }
+    }
+
+    @Test
+    void testOperationsAfterCloseAreRejected() {
+        JournaledStudentRepository repository = open(1);
+        repository.close();
+        repository.close();
+
+        assertThrows(IllegalStateException.class, () -> repository.add(new Student("Ana", 1.0)));
+    }
+
+    @Test
+    void testBatchRejectedPartwayRecoversTheLiveState() {
+        String tooLong = "N".repeat(MappedFileStudentRepository.MAX_NAME_BYTES + 1);
+        try (JournaledStudentRepository repository = openMapped(0)) {
+            assertThrows(IllegalArgumentException.class, () -> repository.addAll(List.of(
+                    new Student("Ana", 50.0), new Student(tooLong, 60.0), new Student("Eva", 70.0))));
+            assertEquals(1, repository.count());
+            // Retries the rest of the batch one row at a time, as the importer does
+            assertThrows(IllegalArgumentException.class, () -> repository.add(new Student(tooLong, 60.0)));
+            repository.add(new Student("Eva", 70.0));
+        }
+
+        try (JournaledStudentRepository repository = openMapped(1)) {
+            List<Student> students = repository.findAll();
+            assertEquals(2, students.size());
+            assertEquals("Ana", students.get(0).getName());
+            assertEquals("Eva", students.get(1).getName());
+        }
+    }
+
+    private JournaledStudentRepository openMapped(int attempt) {
+        return new JournaledStudentRepository(
+                new MappedFileStudentRepository(dir.resolve("students-" + attempt + ".dat")), dir, 1, 100_000);
+    }
+}
@@ -0,0 +1,227 @@
+package com.studentmanager.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.studentmanager.model.Student;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedFileStudentRepositoryTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void testAddFindAndCount() {
+        try (MappedFileStudentRepository repository = open()) {
+            repository.add(new Student("John Doe", 85.5));
+            repository.add(new Student("José García", 90.0));
+
+            assertEquals(2, repository.count());
+            assertEquals(85.5, repository.findByName("John Doe").getGrade());
+            assertEquals(90.0, repository.findByName("José García").getGrade());
+            assertNull(repository.findByName("john doe"));
+            assertNull(repository.findByName(null));
+        }
+    }
+
+    @Test
+    void testAddNullStudent() {
+        try (MappedFileStudentRepository repository = open()) {
+            assertThrows(IllegalArgumentException.class, () -> repository.add(null));
+        }
+    }
+
+    @Test
+    void testNameTooLong() {
+        String name = "A".repeat(MappedFileStudentRepository.MAX_NAME_BYTES + 1);
+        try (MappedFileStudentRepository repository = open()) {
+            assertThrows(IllegalArgumentException.class, () -> repository.add(new Student(name, 1)));
+            assertNull(repository.findByName(name));
+        }
+    }
+
+    @Test
+    void testDataSurvivesReopen() {
+        try (MappedFileStudentRepository repository = open()) {
+            repository.add(new Student("John Doe", 85.5));
+            repository.add(new Student("Jane Smith", 90.0));
+            repository.remove("JOHN DOE", 85.5);
+        }
+
+        try (MappedFileStudentRepository repository = open()) {
+            List<Student> students = repository.findAll();
+            assertEquals(1, repository.count());
+            assertEquals(1, students.size());
+            assertEquals("Jane Smith", students.get(0).getName());
+
+            repository.add(new Student("Eva", 70.0));
+            assertEquals(2, repository.findAll().size());
+        }
+    }
+
+    @Test
+    void testGrowsAcrossSegments() {
+        int segmentSize = 4 * MappedFileStudentRepository.RECORD_SIZE;
+        Path file = dir.resolve("segmented.dat");
+        try (MappedFileStudentRepository repository = new MappedFileStudentRepository(file, segmentSize)) {
+            for (int i = 0; i < 500; i++) {
+                repository.add(new Student("Student " + i, i));
+            }
+        }
+
+        try (MappedFileStudentRepository repository = new MappedFileStudentRepository(file, segmentSize)) {
+            assertEquals(500, repository.count());
+            assertEquals(499.0, repository.findByName("Student 499").getGrade());
+            assertTrue(repository.remove("student 250", 250));
+            assertEquals(499, repository.findAll().size());
+        }
+    }
+
+    @Test
+    void testRemoveNonExistent() {
+        try (MappedFileStudentRepository repository = open()) {
+            repository.add(new Student("John Doe", 85.5));
+
+            assertFalse(repository.remove("John Doe", 90.0));
+            assertFalse(repository.remove("Jane Smith", 85.5));
+            assertFalse(repository.remove(null, 85.5));
+            assertFalse(repository.remove(" ", 85.5));
+            assertEquals(1, repository.count());
+        }
+    }
+
+    @Test
+    void testRejectsForeignFile() throws IOException {
+        Path file = dir.resolve("foreign.dat");
+        Files.write(file, "not a student file".getBytes());
+
+        assertThrows(RepositoryException.class, () -> new MappedFileStudentRepository(file));
+    }
+
+    @Test
+    void testInvalidSegmentSize() {
+        Path file = dir.resolve("invalid.dat");
+        assertThrows(IllegalArgumentException.class, () -> new MappedFileStudentRepository(file, 100));
+    }
+
+    private MappedFileStudentRepository open() {
+        return new MappedFileStudentRepository(dir.resolve("students.dat"));
+    }
+
+    @Test
+    void testStreamSkipsRemovedRecords() {
+        try (MappedFileStudentRepository repository = open()) {
+            repository.add(new Student("Ana", 80.0));
+            repository.add(new Student("Luis", 70.0));
+            repository.add(new Student("Eva", 60.0));
+            repository.remove("Luis", 70.0);
+
+            List<String> names = repository.stream()
+                    .map(Student::getName)
+                    .collect(Collectors.toList());
+
+            assertEquals(List.of("Ana", "Eva"), names);
+        }
+    }
+
+    @Test
+    void testBatchMutationsArePersisted() {
+        try (MappedFileStudentRepository repository = open()) {
+            repository.add(new Student("Ana", 50.0));
+            repository.add(new Student("Luis", 70.0));
+            repository.add(new Student("Eva", 60.0));
+
+            Map<StudentKey, Boolean> removed = repository.removeAll(List.of(
+                    StudentKey.of("LUIS", 70.0), StudentKey.of("Nobody", 1.0)));
+            Map<StudentKey, Boolean> updated =
+                    repository.updateGrades(Map.of(StudentKey.of("eva", 60.0), 65.0));
+
+            assertEquals(List.of(true, false), new ArrayList<>(removed.values()));
+            assertTrue(updated.get(StudentKey.of("eva", 60.0)));
+        }
+
+        try (MappedFileStudentRepository repository = open()) {
+            assertEquals(2, repository.count());
+            assertEquals(50.0, repository.findByName("Ana").getGrade());
+            assertEquals(65.0, repository.findByName("Eva").getGrade());
+            assertNull(repository.findByName("Luis"));
+        }
+    }
+
+    @Test
+    void testRemovedSlotsAreReusedSoChurnDoesNotGrowTheFile() throws IOException {
+        Path file = dir.resolve("students.dat");
+        try (MappedFileStudentRepository repository = open()) {
+            for (int i = 0; i < 100; i++) {
+                repository.add(new Student("Student " + i, i));
+            }
+        }
+        long size = Files.size(file);
+
+        try (MappedFileStudentRepository repository = open()) {
+            for (int round = 0; round < 50; round++) {
+                for (int i = 0; i < 100; i += 2) {
+                    assertTrue(repository.remove("Student " + i, i));
+                }
+                for (int i = 0; i < 100; i += 2) {
+                    repository.add(new Student("Student " + i, i));
+                }
+            }
+            for (int i = 0; i < 10; i++) {
+                repository.remove("Student " + i, i);
+            }
+        }
+
+        try (MappedFileStudentRepository repository = open()) {
+            assertEquals(90, repository.count());
+            for (int i = 0; i < 10; i++) {
+                repository.add(new Student("Returning " + i, i));
+            }
+            assertEquals(100, repository.count());
+            assertEquals(100, repository.findAll().size());
+            assertEquals(3.0, repository.findByName("Returning 3").getGrade());
+        }
+        assertEquals(size, Files.size(file));
+    }
+
+    @Test
+    void testRejectsHeaderInconsistentWithFileSize() throws IOException {
+        Path file = dir.resolve("students.dat");
+        try (MappedFileStudentRepository repository = open()) {
+            repository.add(new Student("Ana", 80.0));
+        }
+        try (RandomAccessFile raw = new RandomAccessFile(file.toFile(), "rw")) {
+            raw.seek(8);
+            raw.writeInt(1_000_000);
+        }
+
+        assertThrows(RepositoryException.class, this::open);
+    }
+
+    @Test
+    void testOperationsAfterCloseAreRejected() {
+        MappedFileStudentRepository repository = open();
+        repository.add(new Student("Ana", 80.0));
+        repository.close();
+        repository.close();
+
+        assertThrows(IllegalStateException.class, () -> repository.add(new Student("Luis", 70.0)));
+        assertThrows(IllegalStateException.class, repository::findAll);
+        assertThrows(IllegalStateException.class, repository::count);
+        assertThrows(IllegalStateException.class, () -> repository.findByName("Ana"));
+        assertThrows(IllegalStateException.class, () -> repository.remove("Ana", 80.0));
+        assertThrows(IllegalStateException.class, repository::flush);
+    }
+}
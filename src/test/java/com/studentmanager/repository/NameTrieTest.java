@@ -0,0 +1,141 @@
+package com.studentmanager.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import org.junit.jupiter.api.Test;
+
+class NameTrieTest {
+
+    private static List<String> prefixed(NameTrie trie, String prefix) {
+        List<String> visited = new ArrayList<>();
+        trie.visitPrefix(prefix, (key, value, distance) -> visited.add(key + "=" + value));
+        return visited;
+    }
+
+    private static List<String> similar(NameTrie trie, String query, int maxDistance) {
+        List<String> visited = new ArrayList<>();
+        trie.visitSimilar(
+                query, maxDistance, (key, value, distance) -> visited.add(key + ":" + distance));
+        return visited;
+    }
+
+    @Test
+    void testPrefixVisitsKeysInOrder() {
+        NameTrie trie = new NameTrie();
+        trie.add("garcia", "b");
+        trie.add("garcia", "a");
+        trie.add("gomez", "c");
+        trie.add("gar", "d");
+        trie.add("ana", "e");
+
+        assertEquals(Arrays.asList("gar=d", "garcia=a", "garcia=b", "gomez=c"), prefixed(trie, "g"));
+        assertEquals(Arrays.asList("garcia=a", "garcia=b"), prefixed(trie, "garc"));
+        assertEquals(Arrays.asList("gar=d", "garcia=a", "garcia=b"), prefixed(trie, "gar"));
+        assertEquals(5, prefixed(trie, "").size());
+        assertTrue(prefixed(trie, "garx").isEmpty());
+        assertTrue(prefixed(trie, "garcias").isEmpty());
+    }
+
+    @Test
+    void testAddingTheSamePairTwiceHasNoEffect() {
+        NameTrie trie = new NameTrie();
+        trie.add("ana", "ana");
+        trie.add("ana", "ana");
+
+        assertEquals(Arrays.asList("ana=ana"), prefixed(trie, "an"));
+    }
+
+    @Test
+    void testVisitorCanStop() {
+        NameTrie trie = new NameTrie();
+        trie.add("ana", "1");
+        trie.add("andres", "2");
+        trie.add("angel", "3");
+        List<String> visited = new ArrayList<>();
+
+        trie.visitPrefix("an", (key, value, distance) -> visited.add(key) && visited.size() < 2);
+
+        assertEquals(Arrays.asList("ana", "andres"), visited);
+    }
+
+    @Test
+    void testRemoveMergesAndPrunesNodes() {
+        NameTrie trie = new NameTrie();
+        trie.add("garcia", "1");
+        trie.add("garza", "2");
+        trie.add("gomez", "3");
+
+        trie.remove("garza", "2");
+        trie.remove("garza", "missing");
+        trie.remove("garcias", "1");
+
+        assertEquals(Arrays.asList("garcia=1"), prefixed(trie, "gar"));
+        trie.remove("garcia", "1");
+        assertEquals(Arrays.asList("gomez=3"), prefixed(trie, ""));
+        trie.remove("gomez", "3");
+        assertTrue(prefixed(trie, "").isEmpty());
+        trie.add("gar", "4");
+        assertEquals(Arrays.asList("gar=4"), prefixed(trie, "ga"));
+    }
+
+    @Test
+    void testSimilarFindsKeysWithinDistance() {
+        NameTrie trie = new NameTrie();
+        trie.add("garcia", "1");
+        trie.add("garza", "2");
+        trie.add("gomez", "3");
+
+        assertEquals(Arrays.asList("garcia:1"), similar(trie, "garsia", 1));
+        assertEquals(Arrays.asList("garcia:0"), similar(trie, "garcia", 0));
+        assertEquals(Arrays.asList("garcia:1", "garza:1"), similar(trie, "garzia", 1));
+        assertTrue(similar(trie, "lopez", 1).isEmpty());
+    }
+
+    @Test
+    void testRandomOperationsMatchReference() {
+        Random random = new Random(7);
+        NameTrie trie = new NameTrie();
+        TreeSet<String> reference = new TreeSet<>();
+        for (int i = 0; i < 2000; i++) {
+            StringBuilder key = new StringBuilder();
+            int length = random.nextInt(6);
+            for (int j = 0; j < length; j++) {
+                key.append((char) ('a' + random.nextInt(3)));
+            }
+            String k = key.toString();
+            if (random.nextInt(3) == 0) {
+                trie.remove(k, k);
+                reference.remove(k);
+            } else {
+                trie.add(k, k);
+                reference.add(k);
+            }
+        }
+
+        for (String prefix : Arrays.asList("", "a", "ab", "cba", "bbbbb")) {
+            List<String> expected = new ArrayList<>();
+            for (String key : reference) {
+                if (key.startsWith(prefix)) {
+                    expected.add(key + "=" + key);
+                }
+            }
+            assertEquals(expected, prefixed(trie, prefix));
+        }
+        for (String query : Arrays.asList("", "abc", "ccaab")) {
+            List<String> expected = new ArrayList<>();
+            for (String key : reference) {
+                int distance = NameSearch.distance(key, query, 2);
+                if (distance <= 2) {
+                    expected.add(key + ":" + distance);
+                }
+            }
+            assertEquals(expected, similar(trie, query, 2));
+        }
+    }
+}
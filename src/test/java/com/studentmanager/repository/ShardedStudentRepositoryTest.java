@@ -0,0 +1,248 @@
+package com.studentmanager.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.studentmanager.model.Student;
+import com.studentmanager.stats.GradeSummary;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ShardedStudentRepositoryTest {
+    private static final int SHARDS = 4;
+    private static final String[] FIRST = {"Ana", "Luis", "José", "María", "Pedro", "Lucía", "Juan", "Sofía"};
+    private static final String[] LAST = {"García", "López", "Pérez", "Gómez", "Díaz", "Ruiz"};
+
+    private ExecutorService executor;
+    private ShardedStudentRepository repository;
+    private InMemoryStudentRepository reference;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(SHARDS);
+        List<StudentRepository> shards = new ArrayList<>();
+        for (int i = 0; i < SHARDS; i++) {
+            shards.add(new InMemoryStudentRepository());
+        }
+        repository = new ShardedStudentRepository(shards, executor);
+        reference = new InMemoryStudentRepository();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private void fill(int size) {
+        Random random = new Random(42);
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            String name = FIRST[random.nextInt(FIRST.length)] + " " + LAST[random.nextInt(LAST.length)];
+            students.add(new Student(i % 3 == 0 ? name.toUpperCase() : name, random.nextInt(41) * 2.5));
+        }
+        repository.addAll(students);
+        for (Student student : students) {
+            reference.add(new Student(student.getName(), student.getGrade()));
+        }
+    }
+
+    private static Set<String> keys(List<Student> students) {
+        return students.stream().map(s -> s.getName() + "|" + s.getGrade()).collect(Collectors.toSet());
+    }
+
+    @Test
+    void testNamesAreRoutedToOneShardIgnoringCase() {
+        fill(500);
+
+        for (StudentRepository shard : repository.getShards()) {
+            assertTrue(shard.count() > 0);
+            for (Student student : shard.findAll()) {
+                assertEquals(shard, repository.getShards().get(repository.shardOf(student.getName())));
+            }
+        }
+        assertEquals(repository.shardOf("josé garcía"), repository.shardOf("JOSÉ GARCÍA"));
+        assertEquals(500, repository.count());
+        assertEquals(500, repository.findAll().size());
+        assertEquals(500, repository.stream().count());
+        assertEquals(keys(reference.findAll()), keys(repository.findAll()));
+    }
+
+    @Test
+    void testSingleKeyOperations() {
+        repository.add(new Student("Ana García", 90.0));
+        repository.add(new Student("ANA GARCÍA", 80.0));
+
+        assertEquals(90.0, repository.findByName("Ana García").getGrade());
+        assertNull(repository.findByName("ana garcía"));
+        assertNull(repository.findByName(null));
+        assertTrue(repository.updateGrade("ana garcía", 80.0, 85.0));
+        assertEquals(85.0, repository.findByName("ANA GARCÍA").getGrade());
+        assertTrue(repository.remove("ana GARCÍA", 90.0));
+        assertFalse(repository.remove("Ana García", 90.0));
+        assertFalse(repository.remove(null, 90.0));
+        assertFalse(repository.updateGrade(" ", 1.0, 2.0));
+        assertEquals(1, repository.count());
+    }
+
+    @Test
+    void testAggregatesMatchASingleRepository() {
+        fill(2000);
+
+        GradeSummary expected = reference.statistics();
+        GradeSummary actual = repository.statistics();
+        assertEquals(expected.getCount(), actual.getCount());
+        assertEquals(expected.getMean(), actual.getMean(), 1e-9);
+        assertEquals(expected.getVariance(), actual.getVariance(), 1e-6);
+        assertEquals(expected.getMin(), actual.getMin());
+        assertEquals(expected.getMax(), actual.getMax());
+        for (double grade : new double[] {-1.0, 0.0, 37.5, 50.0, 100.0, 101.0}) {
+            assertEquals(reference.rankOf(grade), repository.rankOf(grade));
+        }
+        assertEquals(reference.gradePercentile(90), repository.gradePercentile(90));
+        assertEquals(
+                keys(reference.findByGradeRange(40.0, 60.0)), keys(repository.findByGradeRange(40.0, 60.0)));
+        List<Student> top = repository.findTopByGrade(25);
+        assertEquals(25, top.size());
+        for (int i = 0; i < top.size(); i++) {
+            assertEquals(0, GradeRanking.ORDER.compare(reference.findTopByGrade(25).get(i), top.get(i)));
+        }
+        assertThrows(IllegalArgumentException.class, () -> repository.findTopByGrade(-1));
+        assertEquals(0, new ShardedStudentRepository(Arrays.asList(new InMemoryStudentRepository()))
+                .statistics().getCount());
+    }
+
+    @Test
+    void testNameSearchesMergeShardResults() {
+        fill(1000);
+
+        for (String prefix : new String[] {"ana", "garc", "jose g", "", "zz"}) {
+            assertEquals(
+                    NameSearch.scanPrefix(repository.stream(), prefix, 20),
+                    repository.findByNamePrefix(prefix, 20));
+        }
+        assertEquals(
+                NameSearch.scanSimilar(repository.stream(), "lopes", 1, 15),
+                repository.findBySimilarName("lopes", 1, 15));
+        assertThrows(IllegalArgumentException.class, () -> repository.findByNamePrefix(null, 5));
+    }
+
+    @Test
+    void testBatchesAreSplitByShardAndKeepResultOrder() {
+        fill(300);
+        Student first = reference.findAll().get(0);
+        Student second = reference.findAll().get(1);
+        List<StudentKey> keys = Arrays.asList(
+                StudentKey.of("Nobody", 1.0),
+                StudentKey.of(second.getName().toLowerCase(), second.getGrade()),
+                StudentKey.of(first.getName(), first.getGrade()));
+
+        Map<StudentKey, Boolean> removed = repository.removeAll(keys);
+
+        assertEquals(keys, new ArrayList<>(removed.keySet()));
+        assertEquals(reference.removeAll(keys), removed);
+        assertEquals(reference.count(), repository.count());
+
+        Student third = reference.findAll().get(2);
+        Map<StudentKey, Double> updates = new LinkedHashMap<>();
+        updates.put(StudentKey.of(third.getName(), third.getGrade()), 99.5);
+        updates.put(StudentKey.of("Nobody", 1.0), 2.0);
+        Map<StudentKey, Boolean> updated = repository.updateGrades(updates);
+
+        assertEquals(new ArrayList<>(updates.keySet()), new ArrayList<>(updated.keySet()));
+        assertEquals(reference.updateGrades(updates), updated);
+        assertEquals(keys(reference.findAll()), keys(repository.findAll()));
+        assertThrows(IllegalArgumentException.class, () -> repository.removeAll(null));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> repository.addAll(Arrays.asList(new Student("Ana", 1.0), null)));
+        assertEquals(reference.count(), repository.count());
+    }
+
+    @Test
+    void testShardFailuresPropagate() {
+        StudentRepository broken = new InMemoryStudentRepository() {
+            @Override
+            public int count() {
+                throw new RepositoryException("Shard offline");
+            }
+        };
+        ShardedStudentRepository sharded = new ShardedStudentRepository(
+                Arrays.asList(new InMemoryStudentRepository(), broken), executor);
+
+        RepositoryException e = assertThrows(RepositoryException.class, sharded::count);
+        assertEquals("Shard offline", e.getMessage());
+    }
+
+    @Test
+    void testFileBackedShards(@TempDir Path dir) {
+        ShardedStudentRepository files = ShardedStudentRepository.create(
+                3, i -> new MappedFileStudentRepository(dir.resolve("shard-" + i + ".dat")));
+        files.addAll(Arrays.asList(new Student("Ana", 90.0), new Student("Luis", 70.0), new Student("Sofía", 80.0)));
+
+        ShardedStudentRepository reopened = ShardedStudentRepository.create(
+                3, i -> new MappedFileStudentRepository(dir.resolve("shard-" + i + ".dat")));
+
+        assertEquals(3, reopened.count());
+        assertEquals(70.0, reopened.findByName("Luis").getGrade());
+        assertEquals(new HashSet<>(Arrays.asList("Ana|90.0", "Luis|70.0", "Sofía|80.0")), keys(reopened.findAll()));
+        for (ShardedStudentRepository sharded : Arrays.asList(files, reopened)) {
+            for (StudentRepository shard : sharded.getShards()) {
+                ((MappedFileStudentRepository) shard).close();
+            }
+        }
+    }
+
+    @Test
+    void testRejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new ShardedStudentRepository(null));
+        assertThrows(IllegalArgumentException.class, () -> new ShardedStudentRepository(Collections.emptyList()));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new ShardedStudentRepository(Arrays.asList(new InMemoryStudentRepository(), null)));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new ShardedStudentRepository(Arrays.asList(new InMemoryStudentRepository()), null));
+        assertThrows(IllegalArgumentException.class, () -> ShardedStudentRepository.create(0, i -> null));
+        assertThrows(UnsupportedOperationException.class, () -> repository.getShards().clear());
+    }
+
+    @Test
+    void testMergedRankingsAndPercentilesMatchASingleRepository() {
+        fill(3000);
+        repository.add(new Student("Zero", 0.0));
+        reference.add(new Student("Zero", 0.0));
+
+        for (double percentile : new double[] {0.0, 0.01, 1.0, 25.0, 50.0, 73.3, 99.9, 100.0}) {
+            assertEquals(reference.gradePercentile(percentile), repository.gradePercentile(percentile));
+        }
+        List<Student> expected = reference.findByGradeRange(0.0, 100.0);
+        List<Student> actual = repository.findByGradeRange(0.0, 100.0);
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < actual.size(); i++) {
+            assertEquals(0, GradeRanking.ORDER.compare(expected.get(i), actual.get(i)));
+        }
+        assertTrue(repository.findByGradeRange(60.0, 40.0).isEmpty());
+        assertTrue(repository.findTopByGrade(0).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> repository.gradePercentile(101));
+        assertTrue(Double.isNaN(new ShardedStudentRepository(Arrays.asList(new InMemoryStudentRepository()))
+                .gradePercentile(50)));
+    }
+}
@@ -0,0 +1,413 @@
+package com.studentmanager.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.studentmanager.model.NamePool;
+import com.studentmanager.model.Student;
+import com.studentmanager.model.StudentRecord;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SnapshotStudentRepositoryTest {
+    private static final int THREADS = 8;
+    private static final int STUDENTS_PER_THREAD = 5_000;
+    private static final int BATCH = 500;
+
+    private SnapshotStudentRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new SnapshotStudentRepository();
+    }
+
+    private static List<String> names(List<Student> students) {
+        return students.stream().map(Student::getName).collect(Collectors.toList());
+    }
+
+    private static List<Double> grades(List<Student> students) {
+        return students.stream().map(Student::getGrade).collect(Collectors.toList());
+    }
+
+    @Test
+    void testAddAndFind() {
+        repository.add(new Student("John Doe", 85.5));
+
+        assertEquals(1, repository.count());
+        assertNotNull(repository.findByName("John Doe"));
+        assertNull(repository.findByName("john doe"));
+        assertNull(repository.findByName("Jane"));
+        assertNull(repository.findByName(null));
+        assertThrows(IllegalArgumentException.class, () -> repository.add(null));
+        assertThrows(IllegalArgumentException.class, () -> repository.addAll(null));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> repository.addAll(Arrays.asList(new Student("Ana", 1.0), null)));
+        assertEquals(1, repository.count());
+    }
+
+    @Test
+    void testRemoveIsCaseInsensitiveAndKeepsOrder() {
+        repository.add(new Student("John Doe", 85.5));
+        repository.add(new Student("Jane Smith", 70.0));
+        repository.add(new Student("JOHN DOE", 85.5));
+        repository.add(new Student("John Doe", 90.0));
+
+        assertTrue(repository.remove("john doe", 85.5));
+        assertFalse(repository.remove("john doe", 85.5));
+        assertFalse(repository.remove("Nobody", 85.5));
+        assertFalse(repository.remove(null, 85.5));
+        assertFalse(repository.remove("  ", 85.5));
+
+        assertEquals(Arrays.asList("Jane Smith", "John Doe"), names(repository.findAll()));
+        assertEquals(90.0, repository.findByName("John Doe").getGrade());
+        assertEquals(2, repository.count());
+    }
+
+    @Test
+    void testFindAllSharesAnImmutableSnapshotUntilTheNextWrite() {
+        repository.add(new Student("Ana", 90.0));
+        List<Student> first = repository.findAll();
+
+        assertSame(first, repository.findAll());
+        assertThrows(UnsupportedOperationException.class, () -> first.add(new Student("Luis", 1.0)));
+
+        repository.add(new Student("Luis", 70.0));
+        List<Student> second = repository.findAll();
+
+        assertEquals(1, first.size());
+        assertEquals(Arrays.asList("Ana", "Luis"), names(second));
+        assertEquals(2, repository.stream().count());
+        assertFalse(repository.remove("Ana", 1.0));
+        assertSame(second, repository.findAll());
+    }
+
+    @Test
+    void testUpdateGradeReplacesMatchingStudentsInPlace() {
+        Student original = new Student("Ana", 50.0);
+        repository.add(original);
+        repository.add(new Student("Luis", 60.0));
+        repository.add(new Student("ANA", 50.0));
+
+        assertTrue(repository.updateGrade("ana", 50.0, 75.0));
+        assertFalse(repository.updateGrade("Ana", 50.0, 80.0));
+        assertFalse(repository.updateGrade("Pedro", 50.0, 80.0));
+        assertThrows(IllegalArgumentException.class, () -> repository.updateGrade("Ana", 75.0, -1.0));
+
+        assertEquals(50.0, original.getGrade());
+        assertEquals(Arrays.asList("Ana", "Luis", "ANA"), names(repository.findAll()));
+        assertEquals(75.0, repository.findByName("Ana").getGrade());
+        assertEquals(75.0, repository.findByName("ANA").getGrade());
+
+        assertTrue(repository.remove("Ana", 75.0));
+        assertEquals(Arrays.asList("Luis"), names(repository.findAll()));
+        assertNull(repository.findByName("Ana"));
+    }
+
+    @Test
+    void testBatchOperations() {
+        repository.add(new Student("John Doe", 85.5));
+        repository.add(new Student("Jane Smith", 90.0));
+
+        Map<StudentKey, Boolean> updated =
+                repository.updateGrades(Map.of(StudentKey.of("john doe", 85.5), 88.0));
+        Map<StudentKey, Boolean> removed =
+                repository.removeAll(List.of(StudentKey.of("Jane Smith", 90.0)));
+
+        assertTrue(updated.get(StudentKey.of("john doe", 85.5)));
+        assertTrue(removed.get(StudentKey.of("Jane Smith", 90.0)));
+        assertEquals(1, repository.count());
+        assertEquals(88.0, repository.findByName("John Doe").getGrade());
+    }
+
+    @Test
+    void testReadersNeverSeePartialBatches() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        AtomicBoolean done = new AtomicBoolean();
+        try {
+            Future<?> writer = executor.submit(() -> {
+                for (int b = 0; b < 40; b++) {
+                    List<Student> batch = new ArrayList<>();
+                    for (int i = 0; i < BATCH; i++) {
+                        batch.add(new Student("Student " + i, b));
+                    }
+                    repository.addAll(batch);
+                }
+                done.set(true);
+                return null;
+            });
+            List<Future<?>> readers = new ArrayList<>();
+            for (int r = 0; r < 2; r++) {
+                readers.add(executor.submit(() -> {
+                    while (!done.get()) {
+                        assertEquals(0, repository.count() % BATCH);
+                        assertEquals(0, repository.findAll().size() % BATCH);
+                        Student found = repository.findByName("Student 7");
+                        assertTrue(found == null || found.getGrade() == 0.0);
+                    }
+                    return null;
+                }));
+            }
+            writer.get(60, TimeUnit.SECONDS);
+            for (Future<?> reader : readers) {
+                reader.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(40 * BATCH, repository.findAll().size());
+    }
+
+    @Test
+    void testConcurrentAddAndRemoveKeepsCountConsistent() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writersDone = new AtomicBoolean();
+        List<Future<?>> writers = new ArrayList<>();
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                final double base = t * (double) STUDENTS_PER_THREAD;
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < STUDENTS_PER_THREAD; i++) {
+                        repository.add(new Student("Student " + (i % 100), base + i));
+                    }
+                    for (int i = 0; i < STUDENTS_PER_THREAD; i += 2) {
+                        assertTrue(repository.remove("STUDENT " + (i % 100), base + i));
+                    }
+                    return null;
+                }));
+            }
+            Future<?> reader = executor.submit(() -> {
+                start.await();
+                while (!writersDone.get()) {
+                    List<Student> all = repository.findAll();
+                    assertTrue(all.size() <= THREADS * STUDENTS_PER_THREAD);
+                    repository.findByName("Student 42");
+                }
+                return null;
+            });
+
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get(60, TimeUnit.SECONDS);
+            }
+            writersDone.set(true);
+            reader.get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int expected = THREADS * (STUDENTS_PER_THREAD / 2);
+        assertEquals(expected, repository.count());
+        assertEquals(expected, repository.findAll().size());
+    }
+
+    @Test
+    void testFindByNameSeesWholeGroupsDuringUpdates() throws Exception {
+        repository.add(new Student("Ana", 1.0));
+        repository.add(new Student("ana", 5.0));
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        AtomicBoolean done = new AtomicBoolean();
+        try {
+            Future<?> writer = executor.submit(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    assertTrue(repository.updateGrade("Ana", 1.0 + i % 2, 2.0 - i % 2));
+                    repository.add(new Student("Other " + (i % 50), i));
+                }
+                done.set(true);
+                return null;
+            });
+            List<Future<?>> readers = new ArrayList<>();
+            for (int r = 0; r < 2; r++) {
+                readers.add(executor.submit(() -> {
+                    while (!done.get()) {
+                        Student found = repository.findByName("Ana");
+                        assertTrue(found.getGrade() == 1.0 || found.getGrade() == 2.0);
+                        assertEquals(5.0, repository.findByName("ana").getGrade());
+                    }
+                    return null;
+                }));
+            }
+            writer.get(60, TimeUnit.SECONDS);
+            for (Future<?> reader : readers) {
+                reader.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(20_002, repository.count());
+    }
+
+    @Test
+    void testStoresImmutableStudentsWithPooledNames() {
+        NamePool names = new NamePool();
+        SnapshotStudentRepository shared = new SnapshotStudentRepository(names);
+        Student original = new Student(new String("Ana García".toCharArray()), 50.0);
+        shared.add(original);
+        shared.add(new Student(new String("Ana García".toCharArray()), 60.0));
+        assertTrue(shared.updateGrade("ana garcía", 60.0, 65.0));
+
+        List<Student> students = shared.findAll();
+        assertTrue(students.get(0) instanceof StudentRecord);
+        assertTrue(students.get(1) instanceof StudentRecord);
+        assertSame(students.get(0).getName(), students.get(1).getName());
+        assertSame(names.intern("Ana García"), shared.findByName("Ana García").getName());
+        assertEquals(1, names.size());
+        assertThrows(UnsupportedOperationException.class, () -> students.get(0).setGrade(90.0));
+        original.setGrade(90.0);
+        assertEquals(50.0, shared.findAll().get(0).getGrade());
+        assertThrows(IllegalArgumentException.class, () -> new SnapshotStudentRepository(null));
+    }
+
+    @Test
+    void testBatchesResolveEveryKeyInOneWrite() {
+        repository.add(new Student("Ana", 50.0));
+        repository.add(new Student("Luis", 60.0));
+        repository.add(new Student("ANA", 50.0));
+        repository.add(new Student("Pedro", 70.0));
+        List<Student> before = repository.findAll();
+
+        Map<StudentKey, Boolean> untouched =
+                repository.removeAll(List.of(StudentKey.of("Nobody", 50.0), StudentKey.of("Ana", 1.0)));
+        assertFalse(untouched.containsValue(Boolean.TRUE));
+        assertSame(before, repository.findAll());
+
+        Map<StudentKey, Double> updates = new LinkedHashMap<>();
+        updates.put(StudentKey.of("ana", 50.0), 60.0);
+        updates.put(StudentKey.of("Ana", 60.0), 90.0);
+        updates.put(StudentKey.of("luis", 60.0), 65.0);
+        Map<StudentKey, Boolean> updated = repository.updateGrades(updates);
+
+        assertEquals(List.of(true, false, true), new ArrayList<>(updated.values()));
+        assertEquals(Arrays.asList(60.0, 65.0, 60.0, 70.0), grades(repository.findAll()));
+        assertEquals(Arrays.asList(50.0, 60.0, 50.0, 70.0), grades(before));
+
+        Map<StudentKey, Boolean> removed = repository.removeAll(
+                List.of(StudentKey.of("ANA", 60.0), StudentKey.of("Pedro", 70.0), StudentKey.of("Pedro", 1.0)));
+
+        assertEquals(List.of(true, true, false), new ArrayList<>(removed.values()));
+        assertEquals(Arrays.asList("Luis"), names(repository.findAll()));
+        assertNull(repository.findByName("Ana"));
+        assertNull(repository.findByName("Pedro"));
+        assertEquals(1, repository.count());
+        assertEquals(4, before.size());
+    }
+
+    @Test
+    void testReadersNeverSeePartialBatchUpdatesOrRemovals() throws Exception {
+        List<Student> seed = new ArrayList<>();
+        for (int i = 0; i < BATCH; i++) {
+            seed.add(new Student("Student " + i, 0.0));
+        }
+        repository.addAll(seed);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        AtomicBoolean done = new AtomicBoolean();
+        try {
+            Future<?> writer = executor.submit(() -> {
+                for (int round = 0; round < 200; round++) {
+                    Map<StudentKey, Double> updates = new HashMap<>();
+                    List<StudentKey> keys = new ArrayList<>();
+                    for (int i = 0; i < BATCH; i++) {
+                        updates.put(StudentKey.of("Student " + i, round), round + 1.0);
+                        keys.add(StudentKey.of("Student " + i, round + 1.0));
+                    }
+                    assertFalse(repository.updateGrades(updates).containsValue(Boolean.FALSE));
+                    if (round % 2 == 1) {
+                        assertFalse(repository.removeAll(keys).containsValue(Boolean.FALSE));
+                        List<Student> batch = new ArrayList<>();
+                        for (int i = 0; i < BATCH; i++) {
+                            batch.add(new Student("Student " + i, round + 1.0));
+                        }
+                        repository.addAll(batch);
+                    }
+                }
+                done.set(true);
+                return null;
+            });
+            List<Future<?>> readers = new ArrayList<>();
+            for (int r = 0; r < 2; r++) {
+                readers.add(executor.submit(() -> {
+                    while (!done.get()) {
+                        List<Student> all = repository.findAll();
+                        int count = repository.count();
+                        assertTrue(count == 0 || count == BATCH);
+                        assertTrue(all.isEmpty() || all.size() == BATCH);
+                        assertTrue(all.stream().mapToDouble(Student::getGrade).distinct().count() <= 1);
+                    }
+                    return null;
+                }));
+            }
+            writer.get(60, TimeUnit.SECONDS);
+            for (Future<?> reader : readers) {
+                reader.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(BATCH, repository.count());
+        assertEquals(200.0, repository.findByName("Student 7").getGrade());
+    }
+
+    @Test
+    void testReadsDoNotWaitForAWriterInProgress() throws Exception {
+        repository.add(new Student("Ana", 90.0));
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Student slow = new Student("Luis", 70.0) {
+            @Override
+            public String getName() {
+                // Called while the writer holds the lock
+                writing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.getName();
+            }
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> writer = executor.submit(() -> repository.add(slow));
+            assertTrue(writing.await(10, TimeUnit.SECONDS));
+
+            Future<List<Student>> read = executor.submit(() -> {
+                assertEquals(1, repository.count());
+                assertEquals(90.0, repository.findByName("Ana").getGrade());
+                assertEquals(1, repository.stream().count());
+                return repository.findAll();
+            });
+            assertEquals(Arrays.asList("Ana"), names(read.get(10, TimeUnit.SECONDS)));
+
+            release.countDown();
+            writer.get(10, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+
+        assertEquals(Arrays.asList("Ana", "Luis"), names(repository.findAll()));
+    }
+}
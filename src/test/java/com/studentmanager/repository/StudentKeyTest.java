@@ -0,0 +1,34 @@
+package com.studentmanager.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class StudentKeyTest {
+    @Test
+    void testMatchesLikeRemove() {
+        StudentKey key = StudentKey.of("John Doe", 85.5);
+
+        assertTrue(key.matches("JOHN DOE", 85.5));
+        assertFalse(key.matches("John Doe", 85.0));
+        assertFalse(key.matches("Jane", 85.5));
+    }
+
+    @Test
+    void testEqualityIsExact() {
+        assertEquals(StudentKey.of("Ana", 80.0), StudentKey.of("Ana", 80.0));
+        assertEquals(StudentKey.of("Ana", 80.0).hashCode(), StudentKey.of("Ana", 80.0).hashCode());
+        assertNotEquals(StudentKey.of("Ana", 80.0), StudentKey.of("ANA", 80.0));
+        assertNotEquals(StudentKey.of("Ana", 80.0), StudentKey.of("Ana", 81.0));
+        assertEquals("StudentKey{name=Ana, grade=80.0}", StudentKey.of("Ana", 80.0).toString());
+    }
+
+    @Test
+    void testNullName() {
+        assertThrows(IllegalArgumentException.class, () -> StudentKey.of(null, 1.0));
+    }
+}
@@ -0,0 +1,99 @@
+package com.studentmanager.stats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class GradeDistributionTest {
+    @Test
+    void testEmptyDistribution() {
+        GradeDistribution distribution = new GradeDistribution();
+
+        assertEquals(0, distribution.getCount());
+        assertTrue(Double.isNaN(distribution.getMean()));
+        assertTrue(Double.isNaN(distribution.getMin()));
+        assertTrue(Double.isNaN(distribution.percentile(50)));
+        assertEquals(0, distribution.countAtLeast(60));
+    }
+
+    @Test
+    void testExactAggregatesAndCounts() {
+        GradeDistribution distribution = new GradeDistribution();
+        for (double grade : new double[] {55.0, 60.0, 72.5, 85.57, 90.0, 100.0}) {
+            distribution.add(grade);
+        }
+
+        assertEquals(6, distribution.getCount());
+        assertEquals(463.07 / 6, distribution.getMean(), 1e-9);
+        assertEquals(55.0, distribution.getMin());
+        assertEquals(100.0, distribution.getMax());
+        assertEquals(5, distribution.countAtLeast(60));
+        assertEquals(1, distribution.countBetween(85.57, 85.58));
+        assertEquals(2, distribution.countBetween(90, Double.POSITIVE_INFINITY));
+        assertEquals(1, distribution.countBetween(0, 60));
+    }
+
+    @Test
+    void testPercentilesUseNearestRank() {
+        GradeDistribution distribution = new GradeDistribution();
+        for (int i = 1; i <= 100; i++) {
+            distribution.add(i);
+        }
+
+        assertEquals(1.0, distribution.percentile(0));
+        assertEquals(25.0, distribution.percentile(25));
+        assertEquals(50.0, distribution.percentile(50));
+        assertEquals(100.0, distribution.percentile(100));
+        assertThrows(IllegalArgumentException.class, () -> distribution.percentile(101));
+        assertThrows(IllegalArgumentException.class, () -> distribution.percentile(Double.NaN));
+    }
+
+    @Test
+    void testHundredthsAreBinnedExactly() {
+        GradeDistribution distribution = new GradeDistribution();
+        distribution.add(85.57);
+        distribution.add(0.07);
+
+        assertEquals(85.57, distribution.percentile(100));
+        assertEquals(0.07, distribution.percentile(0));
+    }
+
+    @Test
+    void testOutOfScaleAndNaNGrades() {
+        GradeDistribution distribution = new GradeDistribution();
+        distribution.add(150.0);
+        distribution.add(Double.NaN);
+
+        assertEquals(1, distribution.getCount());
+        assertEquals(150.0, distribution.getMax());
+        assertEquals(100.0, distribution.percentile(50));
+        assertEquals(1, distribution.countAtLeast(100));
+    }
+
+    @Test
+    void testCombineMatchesSingleAccumulation() {
+        GradeDistribution whole = new GradeDistribution();
+        GradeDistribution left = new GradeDistribution();
+        GradeDistribution right = new GradeDistribution();
+        for (int i = 0; i < 1000; i++) {
+            double grade = (i * 37) % 10001 / 100.0;
+            whole.add(grade);
+            (i % 2 == 0 ? left : right).add(grade);
+        }
+
+        assertSame(left, left.combine(right).combine(new GradeDistribution()));
+        assertEquals(whole.getCount(), left.getCount());
+        assertEquals(whole.getMean(), left.getMean(), 1e-9);
+        assertEquals(whole.getMin(), left.getMin());
+        assertEquals(whole.getMax(), left.getMax());
+        assertEquals(whole.percentile(75), left.percentile(75));
+        assertEquals(whole.countAtLeast(60), left.countAtLeast(60));
+
+        GradeDistribution empty = new GradeDistribution();
+        empty.combine(whole);
+        assertEquals(whole.getMin(), empty.getMin());
+    }
+}
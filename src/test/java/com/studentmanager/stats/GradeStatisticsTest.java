@@ -0,0 +1,113 @@
+package com.studentmanager.stats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GradeStatisticsTest {
+    private static final double DELTA = 1e-9;
+
+    private GradeStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = new GradeStatistics();
+    }
+
+    @Test
+    void testEmpty() {
+        assertSame(GradeSummary.EMPTY, statistics.summary());
+    }
+
+    @Test
+    void testAdd() {
+        statistics.add(70.0);
+        statistics.add(80.0);
+        statistics.add(90.0);
+
+        GradeSummary summary = statistics.summary();
+        assertEquals(3, summary.getCount());
+        assertEquals(80.0, summary.getMean(), DELTA);
+        assertEquals(200.0 / 3, summary.getVariance(), DELTA);
+        assertEquals(70.0, summary.getMin());
+        assertEquals(90.0, summary.getMax());
+    }
+
+    @Test
+    void testRemoveUpdatesMinMaxAndVariance() {
+        statistics.add(70.0);
+        statistics.add(80.0);
+        statistics.add(90.0);
+        statistics.add(90.0);
+
+        statistics.remove(90.0);
+        assertEquals(90.0, statistics.summary().getMax());
+        statistics.remove(90.0);
+        statistics.remove(70.0);
+
+        GradeSummary summary = statistics.summary();
+        assertEquals(1, summary.getCount());
+        assertEquals(80.0, summary.getMean(), DELTA);
+        assertEquals(0.0, summary.getVariance(), DELTA);
+        assertEquals(80.0, summary.getMin());
+        assertEquals(80.0, summary.getMax());
+
+        statistics.remove(80.0);
+        assertSame(GradeSummary.EMPTY, statistics.summary());
+    }
+
+    @Test
+    void testRemoveUnknownGrade() {
+        statistics.add(70.0);
+        assertThrows(IllegalArgumentException.class, () -> statistics.remove(75.0));
+    }
+
+    @Test
+    void testReplace() {
+        statistics.add(70.0);
+        statistics.add(80.0);
+
+        statistics.replace(70.0, 100.0);
+
+        GradeSummary summary = statistics.summary();
+        assertEquals(90.0, summary.getMean(), DELTA);
+        assertEquals(100.0, summary.getVariance(), DELTA);
+        assertEquals(10.0, summary.getStandardDeviation(), DELTA);
+        assertEquals(80.0, summary.getMin());
+    }
+
+    @Test
+    void testSummaryIsReusedUntilMutation() {
+        statistics.add(70.0);
+        GradeSummary first = statistics.summary();
+
+        assertSame(first, statistics.summary());
+        statistics.add(80.0);
+        assertEquals(2, statistics.summary().getCount());
+    }
+
+    @Test
+    void testIncrementalMatchesBatch() {
+        double[] grades = new double[1000];
+        for (int i = 0; i < grades.length; i++) {
+            grades[i] = (i * 37) % 101;
+            statistics.add(grades[i]);
+        }
+        for (int i = 0; i < 500; i++) {
+            statistics.remove(grades[i]);
+        }
+
+        double[] remaining = new double[500];
+        System.arraycopy(grades, 500, remaining, 0, 500);
+        GradeSummary expected = GradeSummary.of(remaining, remaining.length);
+        GradeSummary actual = statistics.summary();
+        assertEquals(expected.getCount(), actual.getCount());
+        assertEquals(expected.getMean(), actual.getMean(), 1e-6);
+        assertEquals(expected.getVariance(), actual.getVariance(), 1e-6);
+        assertEquals(expected.getMin(), actual.getMin());
+        assertEquals(expected.getMax(), actual.getMax());
+    }
+}
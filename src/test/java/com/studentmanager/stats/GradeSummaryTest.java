@@ -0,0 +1,64 @@
+package com.studentmanager.stats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.studentmanager.model.Student;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+class GradeSummaryTest {
+
+    @Test
+    void testOfStudents() {
+        GradeSummary summary = GradeSummary.of(Arrays.asList(
+                new Student("Ana", 70.0), new Student("Luis", 90.0)));
+
+        assertEquals(2, summary.getCount());
+        assertEquals(80.0, summary.getMean());
+        assertEquals(100.0, summary.getVariance());
+        assertEquals(70.0, summary.getMin());
+        assertEquals(90.0, summary.getMax());
+    }
+
+    @Test
+    void testOfEmpty() {
+        assertSame(GradeSummary.EMPTY, GradeSummary.of(Collections.<Student>emptyList()));
+        assertSame(GradeSummary.EMPTY, GradeSummary.of(new double[4], 0));
+        assertTrue(Double.isNaN(GradeSummary.EMPTY.getMin()));
+    }
+
+    @Test
+    void testOfArrayUsesOnlyValidPrefix() {
+        GradeSummary summary = GradeSummary.of(new double[] {60.0, 80.0, 1000.0}, 2);
+
+        assertEquals(2, summary.getCount());
+        assertEquals(70.0, summary.getMean());
+        assertEquals(80.0, summary.getMax());
+    }
+
+    @Test
+    void testToString() {
+        assertTrue(GradeSummary.of(new double[] {85.5}, 1).toString().contains("85.5"));
+    }
+
+    @Test
+    void testCombineMatchesSummarizingTogether() {
+        double[] left = {70.0, 90.0, 55.5};
+        double[] right = {100.0, 0.0};
+        double[] all = {70.0, 90.0, 55.5, 100.0, 0.0};
+
+        GradeSummary combined = GradeSummary.of(left, 3).combine(GradeSummary.of(right, 2));
+        GradeSummary expected = GradeSummary.of(all, 5);
+
+        assertEquals(expected.getCount(), combined.getCount());
+        assertEquals(expected.getMean(), combined.getMean(), 1e-9);
+        assertEquals(expected.getVariance(), combined.getVariance(), 1e-9);
+        assertEquals(0.0, combined.getMin());
+        assertEquals(100.0, combined.getMax());
+        assertSame(combined, combined.combine(GradeSummary.EMPTY));
+        assertSame(combined, GradeSummary.EMPTY.combine(combined));
+    }
+}
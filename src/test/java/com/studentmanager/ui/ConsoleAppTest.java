@@ -1,5 +1,7 @@
 package com.studentmanager.ui;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import com.studentmanager.StudentManager;
 import com.studentmanager.model.Student;
 import com.studentmanager.report.ConsoleReportGenerator;
@@ -9,10 +11,12 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.PrintStream;
+import java.nio.file.Path;
 import java.util.List;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 /**
  * Suite completa de tests para ConsoleApp - apuntando a 100% de cobertura.
@@ -327,4 +331,15 @@ class ConsoleAppTest {
     System.setIn(new ByteArrayInputStream(input.getBytes()));
     ConsoleApp.main(new String[]{});
   }
+
+  @Test
+  void testMainMethodWithDataFile(@TempDir Path dir) {
+    Path file = dir.resolve("students.dat");
+    System.setIn(new ByteArrayInputStream("1\nJuan Perez\n85.5\n4\n".getBytes()));
+    ConsoleApp.main(new String[]{file.toString()});
+
+    System.setIn(new ByteArrayInputStream("2\n4\n".getBytes()));
+    ConsoleApp.main(new String[]{file.toString()});
+    assertTrue(outputStream.toString().contains("Student: Juan Perez, Grade: 85.5"));
+  }
 }